@@ -1,5 +1,13 @@
 package io.weaviate.client;
 
+import io.weaviate.client.base.http.Compression;
+import io.weaviate.client.base.http.HostPool;
+import io.weaviate.client.base.http.ShardRouter;
+import io.weaviate.client.base.util.SchemaCache;
+import io.weaviate.client.base.util.TenantActivityManager;
+import io.weaviate.client.base.http.async.AsyncHttpClientConfig;
+import io.weaviate.client.base.util.HedgingPolicy;
+import java.util.List;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -30,6 +38,64 @@ public class Config {
   private boolean gRPCSecured;
   @Getter @Setter
   private String gRPCHost;
+  /**
+   * When enabled identical GraphQL queries running concurrently are sent to Weaviate only once,
+   * all callers receive the same (shared) response.
+   */
+  @Getter @Setter
+  private boolean coalesceQueries;
+  /**
+   * When set, reads (GET and HEAD requests, GraphQL queries) of the async client are hedged:
+   * slow requests are sent once more and the first response is used.
+   */
+  @Getter @Setter
+  private HedgingPolicy hedgingPolicy;
+  /**
+   * REST hosts requests are balanced across, see {@link #setHosts(List)}.
+   */
+  @Getter
+  private List<String> hosts;
+  @Getter
+  private HostPool hostPool;
+  /**
+   * gRPC hosts requests are balanced across (round robin), takes precedence over gRPCHost.
+   */
+  @Getter @Setter
+  private List<String> gRPCHosts;
+  /**
+   * Hosts of the cluster nodes by node name, see {@link #setNodeHosts(Map)}.
+   */
+  @Getter
+  private Map<String, String> nodeHosts;
+  @Getter
+  private ShardRouter shardRouter;
+  /**
+   * When set, request bodies above the threshold are compressed and compressed responses are accepted.
+   * gRPC requests are compressed only with gzip.
+   */
+  @Getter @Setter
+  private Compression compression;
+  /**
+   * Transport settings of the async client (HTTP/2 negotiated over TLS, I/O reactor), defaults are used if not set.
+   */
+  @Getter @Setter
+  private AsyncHttpClientConfig asyncHttpClientConfig;
+  /**
+   * Fraction of the access token lifetime after which the token is renewed (0.8 if not set).
+   */
+  @Getter @Setter
+  private double tokenRefreshFraction;
+  /**
+   * When set, tenants targeted by queries and batches are activated first if they are not active,
+   * and, if enabled, tenants idle for long are deactivated.
+   */
+  @Getter @Setter
+  private TenantActivityManager tenantActivityManager;
+  /**
+   * When set, classes and schema are read from the cache instead of being fetched every time.
+   */
+  @Getter @Setter
+  private SchemaCache schemaCache;
 
   public Config(String scheme, String host) {
     this(scheme, host, null, DEFAULT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS);
@@ -74,9 +140,62 @@ public class Config {
   }
 
   public String getBaseURL() {
+    return getBaseURL(host);
+  }
+
+  public String getBaseURL(String host) {
     return scheme + "://" + host + "/" + version;
   }
 
+  /**
+   * Balances requests across given hosts, instead of sending all of them to the host.
+   * Hosts failing consecutive requests are ejected and re-admitted once they report to be ready.
+   *
+   * @param hosts hosts, e.g. node1:8080, node2:8080
+   */
+  public void setHosts(List<String> hosts) {
+    this.hosts = hosts;
+    this.hostPool = hosts != null && !hosts.isEmpty()
+      ? new HostPool(hosts, this::getBaseURL)
+      : null;
+  }
+
+  /**
+   * Sends requests scoped to a single shard (tenant) directly to a node holding the shard.
+   * Shards held by nodes are taken from the nodes status, refreshed periodically.
+   * If the node can not be connected to, the request is sent to the configured host(s) instead.
+   * Only REST requests are routed, gRPC requests (e.g. batches on newer servers) go to the configured gRPC host(s),
+   * as the hosts are REST hosts of the nodes.
+   *
+   * @param nodeHosts hosts of the nodes by node name, e.g. weaviate-0 -> weaviate-0.weaviate:8080
+   */
+  public void setNodeHosts(Map<String, String> nodeHosts) {
+    if (this.shardRouter != null) {
+      this.shardRouter.shutdown();
+    }
+    this.nodeHosts = nodeHosts;
+    this.shardRouter = nodeHosts != null && !nodeHosts.isEmpty()
+      ? new ShardRouter(nodeHosts)
+      : null;
+  }
+
+  /**
+   * Creates copy of the config sending all requests to the given host.
+   */
+  public Config forHost(String host) {
+    Config config = new Config(scheme, host, headers, connectionTimeout, connectionRequestTimeout, socketTimeout);
+    config.setProxy(proxyHost, proxyPort, proxyScheme);
+    config.gRPCSecured = gRPCSecured;
+    config.gRPCHost = gRPCHost;
+    config.gRPCHosts = gRPCHosts;
+    config.coalesceQueries = coalesceQueries;
+    config.hedgingPolicy = hedgingPolicy;
+    config.compression = compression;
+    config.asyncHttpClientConfig = asyncHttpClientConfig;
+    config.tokenRefreshFraction = tokenRefreshFraction;
+    return config;
+  }
+
   public void setProxy(String proxyHost, int proxyPort, String proxyScheme) {
     this.proxyHost = proxyHost;
     this.proxyPort = proxyPort;
@@ -84,6 +203,7 @@ public class Config {
   }
 
   public boolean useGRPC() {
-    return this.gRPCHost != null && !this.gRPCHost.trim().isEmpty();
+    return (this.gRPCHost != null && !this.gRPCHost.trim().isEmpty())
+      || (this.gRPCHosts != null && !this.gRPCHosts.isEmpty());
   }
 }
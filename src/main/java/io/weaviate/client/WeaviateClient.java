@@ -1,39 +1,58 @@
 package io.weaviate.client;
 
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HostPool;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.builder.HttpApacheClientBuilder;
 import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
 import io.weaviate.client.base.util.DbVersionProvider;
 import io.weaviate.client.base.util.DbVersionSupport;
 import io.weaviate.client.base.util.GrpcVersionSupport;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.base.util.TenantActivityManager;
 import io.weaviate.client.v1.async.WeaviateAsyncClient;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.backup.Backup;
 import io.weaviate.client.v1.batch.Batch;
 import io.weaviate.client.v1.classifications.Classifications;
 import io.weaviate.client.v1.cluster.Cluster;
+import io.weaviate.client.v1.cluster.model.NodeStatusOutput;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
 import io.weaviate.client.v1.contextionary.Contextionary;
 import io.weaviate.client.v1.data.Data;
 import io.weaviate.client.v1.graphql.GraphQL;
 import io.weaviate.client.v1.misc.Misc;
 import io.weaviate.client.v1.misc.api.MetaGetter;
 import io.weaviate.client.v1.schema.Schema;
+import io.weaviate.client.v1.schema.model.Tenant;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
-public class WeaviateClient {
+public class WeaviateClient implements Closeable {
   private final Config config;
   private final DbVersionProvider dbVersionProvider;
   private final DbVersionSupport dbVersionSupport;
   private final GrpcVersionSupport grpcVersionSupport;
   private final HttpClient httpClient;
   private final AccessTokenProvider tokenProvider;
+  private final SingleFlight singleFlight;
+  // sources registered by this client
+  private final Predicate<HostPool.Host> readyProbe;
+  private final Supplier<NodesStatusResponse> nodesStatusSource;
+  private final TenantActivityManager.TenantsSource tenantsSource;
+  private final Supplier<io.weaviate.client.v1.schema.model.Schema> schemaSource;
+  private volatile SharedAsyncClient sharedAsyncClient;
 
   public WeaviateClient(Config config) {
-    this(config, new CommonsHttpClientImpl(config.getHeaders(), null, HttpApacheClientBuilder.build(config)), null);
+    this(config, new CommonsHttpClientImpl(config.getHeaders(), null, HttpApacheClientBuilder.build(config), config.getCompression()), null);
   }
 
   public WeaviateClient(Config config, AccessTokenProvider tokenProvider) {
-    this(config, new CommonsHttpClientImpl(config.getHeaders(), tokenProvider, HttpApacheClientBuilder.build(config)), tokenProvider);
+    this(config, new CommonsHttpClientImpl(config.getHeaders(), tokenProvider, HttpApacheClientBuilder.build(config), config.getCompression()), tokenProvider);
   }
 
   public WeaviateClient(Config config, HttpClient httpClient, AccessTokenProvider tokenProvider) {
@@ -43,10 +62,71 @@ public class WeaviateClient {
     dbVersionSupport = new DbVersionSupport(dbVersionProvider);
     grpcVersionSupport = new GrpcVersionSupport(dbVersionProvider);
     this.tokenProvider = tokenProvider;
+    this.singleFlight = new SingleFlight();
+    this.readyProbe = config.getHostPool() != null
+      ? host -> isReady(config.forHost(host.getHost()))
+      : null;
+    this.nodesStatusSource = config.getShardRouter() != null
+      ? this::getNodesStatus
+      : null;
+    this.tenantsSource = config.getTenantActivityManager() != null
+      ? new TenantActivityManager.TenantsSource() {
+        @Override
+        public Tenant[] getTenants(String className) {
+          Result<List<Tenant>> tenants = schema().tenantsGetter().withClassName(className).run();
+          return tenants.hasErrors() || tenants.getResult() == null ? null : tenants.getResult().toArray(new Tenant[0]);
+        }
+
+        @Override
+        public boolean updateTenants(String className, Tenant[] tenants) {
+          Result<Boolean> updated = schema().tenantsUpdater().withClassName(className).withTenants(tenants).run();
+          return !updated.hasErrors() && Boolean.TRUE.equals(updated.getResult());
+        }
+      }
+      : null;
+    this.schemaSource = config.getSchemaCache() != null
+      ? () -> {
+        Result<io.weaviate.client.v1.schema.model.Schema> schema = schema().getter().withoutCache().run();
+        return schema.hasErrors() ? null : schema.getResult();
+      }
+      : null;
+    if (readyProbe != null) {
+      config.getHostPool().setReadyProbe(readyProbe);
+    }
+    if (nodesStatusSource != null) {
+      config.getShardRouter().setNodesStatusSource(nodesStatusSource);
+    }
+    if (tenantsSource != null) {
+      config.getTenantActivityManager().setTenantsSource(tenantsSource);
+    }
+    if (schemaSource != null) {
+      config.getSchemaCache().setSchemaSource(schemaSource);
+    }
   }
 
+  /**
+   * @return new async client owned by the caller, sharing the db version with this client.
+   */
   public WeaviateAsyncClient async() {
-    return new WeaviateAsyncClient(config, tokenProvider);
+    return new WeaviateAsyncClient(config, tokenProvider, dbVersionProvider);
+  }
+
+  /**
+   * @return async client shared by all callers, sharing also the db version with this client.
+   * Closing it is a no-op, so it can be used in try-with-resources just like {@link #async()}.
+   */
+  public WeaviateAsyncClient sharedAsync() {
+    SharedAsyncClient client = sharedAsyncClient;
+    if (client == null) {
+      synchronized (this) {
+        client = sharedAsyncClient;
+        if (client == null) {
+          client = new SharedAsyncClient(config, tokenProvider, dbVersionProvider);
+          sharedAsyncClient = client;
+        }
+      }
+    }
+    return client;
   }
 
   public Misc misc() {
@@ -58,12 +138,10 @@ public class WeaviateClient {
   }
 
   public Data data() {
-    dbVersionProvider.refresh();
     return new Data(httpClient, config, dbVersionSupport);
   }
 
   public Batch batch() {
-    dbVersionProvider.refresh();
     return new Batch(httpClient, config, dbVersionSupport, grpcVersionSupport, tokenProvider, data());
   }
 
@@ -84,7 +162,50 @@ public class WeaviateClient {
   }
 
   public GraphQL graphQL() {
-    return new GraphQL(httpClient, config);
+    return new GraphQL(httpClient, config, config.isCoalesceQueries() ? singleFlight : null);
+  }
+
+  /**
+   * Stops background work registered by this client (host probes, topology, schema and tenant activity
+   * tasks, token refresh) and closes the shared async client. Components of the config used by other clients
+   * keep running.
+   */
+  @Override
+  public void close() throws IOException {
+    if (readyProbe != null) {
+      config.getHostPool().removeReadyProbe(readyProbe);
+    }
+    if (nodesStatusSource != null) {
+      config.getShardRouter().removeNodesStatusSource(nodesStatusSource);
+    }
+    if (tenantsSource != null) {
+      config.getTenantActivityManager().removeTenantsSource(tenantsSource);
+    }
+    if (schemaSource != null) {
+      config.getSchemaCache().removeSchemaSource(schemaSource);
+    }
+    synchronized (this) {
+      if (sharedAsyncClient != null) {
+        sharedAsyncClient.release();
+        sharedAsyncClient = null;
+      }
+    }
+    if (tokenProvider != null) {
+      tokenProvider.shutdown();
+    }
+    if (httpClient instanceof Closeable) {
+      ((Closeable) httpClient).close();
+    }
+  }
+
+  private boolean isReady(Config hostConfig) {
+    Result<Boolean> ready = new Misc(httpClient, hostConfig, dbVersionProvider).readyChecker().run();
+    return !ready.hasErrors() && Boolean.TRUE.equals(ready.getResult());
+  }
+
+  private NodesStatusResponse getNodesStatus() {
+    Result<NodesStatusResponse> nodesStatus = cluster().nodesStatusGetter().withOutput(NodeStatusOutput.VERBOSE).run();
+    return nodesStatus.hasErrors() ? null : nodesStatus.getResult();
   }
 
   private DbVersionProvider initDbVersionProvider() {
@@ -96,4 +217,20 @@ public class WeaviateClient {
 
     return new DbVersionProvider(getter);
   }
+
+  private static class SharedAsyncClient extends WeaviateAsyncClient {
+
+    private SharedAsyncClient(Config config, AccessTokenProvider tokenProvider, DbVersionProvider dbVersionProvider) {
+      super(config, tokenProvider, dbVersionProvider);
+    }
+
+    @Override
+    public void close() {
+      // shared with other callers, lives as long as the sync client
+    }
+
+    private void release() {
+      super.close();
+    }
+  }
 }
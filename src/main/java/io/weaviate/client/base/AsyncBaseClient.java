@@ -1,11 +1,23 @@
 package io.weaviate.client.base;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.http.Compression;
+import io.weaviate.client.base.http.HostPool;
+import io.weaviate.client.base.http.ShardRouter;
 import io.weaviate.client.base.http.async.ResponseParser;
 import io.weaviate.client.base.http.async.WeaviateResponseConsumer;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.HedgingPolicy;
+import io.weaviate.client.base.util.SchemaCache;
+import io.weaviate.client.base.util.TenantActivityManager;
+import io.weaviate.client.base.util.TransientErrors;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
@@ -75,11 +87,157 @@ public abstract class AsyncBaseClient<T> {
   }
 
   private Future<Result<T>> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT, FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
-    return client.execute(SimpleRequestProducer.create(getRequest(endpoint, payload, method)), new WeaviateResponseConsumer<>(classOfT, parser), callback);
+    return sendRequestTo(null, endpoint, payload, method, classOfT, callback, parser);
+  }
+
+  /**
+   * Sends request directly to the given host, e.g. node holding the requested shard.
+   *
+   * @param targetHost host, if null request is sent to the configured host(s)
+   */
+  protected Future<Result<T>> sendRequestTo(String targetHost, String endpoint, Object payload, String method, Class<T> classOfT,
+                                            FutureCallback<Result<T>> callback, ResponseParser<T> parser) {
+    boolean read = "GET".equals(method) || "HEAD".equals(method);
+    return execute(read, targetHost, (baseURL, requestCallback) -> client.execute(SimpleRequestProducer.create(getRequest(baseURL, endpoint, payload, method)),
+      new WeaviateResponseConsumer<>(classOfT, parser), requestCallback), callback);
+  }
+
+  /**
+   * Executes the request, reads are hedged if {@link Config#getHedgingPolicy()} is set.
+   * Requests are balanced across hosts if {@link Config#getHostPool()} is set.
+   *
+   * @param read     whether the request is an idempotent read
+   * @param request  starts the request to given base url with given callback
+   * @param callback callback of the caller
+   */
+  protected <R> Future<R> execute(boolean read, BiFunction<String, FutureCallback<R>, Future<R>> request, FutureCallback<R> callback) {
+    return execute(read, null, request, callback);
+  }
+
+  /**
+   * @param targetHost host the request is sent to directly, if null (or if it can not be connected to)
+   *                   request is sent to the configured host(s)
+   */
+  protected <R> Future<R> execute(boolean read, String targetHost, BiFunction<String, FutureCallback<R>, Future<R>> request,
+                                  FutureCallback<R> callback) {
+    HedgingPolicy hedgingPolicy = config.getHedgingPolicy();
+    if (!read || hedgingPolicy == null) {
+      return send(targetHost, request, callback);
+    }
+    // result of a server error does not win over the other request, which could still succeed
+    return Futures.notifying(hedgingPolicy.execute(() -> Futures.fromCallback(hedgeCallback -> send(targetHost, request, hedgeCallback)),
+      response -> response instanceof Result && TransientErrors.isTransient((Result<?>) response)), callback);
+  }
+
+  private <R> Future<R> send(String targetHost, BiFunction<String, FutureCallback<R>, Future<R>> request, FutureCallback<R> callback) {
+    if (targetHost != null) {
+      return sendRouted(targetHost, request, callback);
+    }
+    HostPool hostPool = config.getHostPool();
+    if (hostPool == null) {
+      return request.apply(config.getBaseURL(), callback);
+    }
+
+    HostPool.Host host = hostPool.acquire();
+    return request.apply(host.getBaseURL(), new FutureCallback<R>() {
+      @Override
+      public void completed(R result) {
+        boolean serverError = result instanceof Result && ((Result<?>) result).hasErrors()
+          && ((Result<?>) result).getError().getStatusCode() >= 500;
+        hostPool.release(host, !serverError);
+        if (callback != null) {
+          callback.completed(result);
+        }
+      }
+
+      @Override
+      public void failed(Exception ex) {
+        hostPool.release(host, false);
+        if (callback != null) {
+          callback.failed(ex);
+        }
+      }
+
+      @Override
+      public void cancelled() {
+        hostPool.release(host);
+        if (callback != null) {
+          callback.cancelled();
+        }
+      }
+    });
+  }
+
+  private <R> Future<R> sendRouted(String targetHost, BiFunction<String, FutureCallback<R>, Future<R>> request,
+                                   FutureCallback<R> callback) {
+    CompletableFuture<R> routed = Futures.fromCallback(routedCallback -> request.apply(config.getBaseURL(targetHost), routedCallback));
+    CompletableFuture<R> response = routed.handle((result, throwable) -> {
+      // node is down or the topology is stale, the request did not reach it and goes to the configured host(s)
+      if (throwable != null && TransientErrors.isConnectionFailure(throwable)) {
+        return Futures.<R>fromCallback(fallbackCallback -> send(null, request, fallbackCallback));
+      }
+      return routed;
+    }).thenCompose(future -> future);
+    response.whenComplete((result, throwable) -> {
+      if (response.isCancelled()) {
+        routed.cancel(true);
+      }
+    });
+    return Futures.notifying(response, callback);
+  }
+
+  /**
+   * @return host of a node holding data of the given tenant (or class) if shard routing is enabled, otherwise null
+   */
+  protected String shardHost(String className, String tenant) {
+    ShardRouter shardRouter = config.getShardRouter();
+    return shardRouter != null ? shardRouter.hostOf(className, tenant) : null;
+  }
+
+  /**
+   * @return future completed once the tenant is active if tenant activity is managed, otherwise completed future
+   */
+  protected CompletableFuture<Void> activateTenant(String className, String tenant) {
+    TenantActivityManager tenantActivityManager = config.getTenantActivityManager();
+    return tenantActivityManager != null
+      ? tenantActivityManager.activate(className, tenant)
+      : CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Starts the request once the tenant is active, right away if tenant activity is not managed.
+   */
+  protected <R> Future<R> whenTenantActive(String className, String tenant, FutureCallback<R> callback,
+                                           Function<FutureCallback<R>, Future<R>> request) {
+    if (config.getTenantActivityManager() == null) {
+      return request.apply(callback);
+    }
+    return Futures.notifying(activateTenant(className, tenant).thenCompose(ignored -> Futures.fromCallback(request)), callback);
+  }
+
+  /**
+   * @return schema cache if enabled, otherwise null
+   */
+  protected SchemaCache schemaCache() {
+    return config.getSchemaCache();
+  }
+
+  /**
+   * Invalidates cached schema (if enabled), to be called once the schema was changed.
+   */
+  protected void invalidateSchema() {
+    SchemaCache schemaCache = config.getSchemaCache();
+    if (schemaCache != null) {
+      schemaCache.invalidate();
+    }
   }
 
   protected SimpleHttpRequest getRequest(String endpoint, Object payload, String method) {
-    SimpleHttpRequest req = new SimpleHttpRequest(method, String.format("%s%s", config.getBaseURL(), endpoint));
+    return getRequest(config.getBaseURL(), endpoint, payload, method);
+  }
+
+  protected SimpleHttpRequest getRequest(String baseURL, String endpoint, Object payload, String method) {
+    SimpleHttpRequest req = new SimpleHttpRequest(method, String.format("%s%s", baseURL, endpoint));
     req.addHeader(HttpHeaders.ACCEPT, "*/*");
     req.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
     if (config.getHeaders() != null) {
@@ -90,8 +248,17 @@ public abstract class AsyncBaseClient<T> {
     if (tokenProvider != null) {
       req.addHeader("Authorization", String.format("Bearer %s", tokenProvider.getAccessToken()));
     }
+    Compression compression = config.getCompression();
+    if (compression != null) {
+      req.addHeader(HttpHeaders.ACCEPT_ENCODING, Compression.ACCEPT_ENCODING);
+    }
     if (payload != null) {
-      req.setBody(serializer.toJsonString(payload), ContentType.APPLICATION_JSON);
+      byte[] body = serializer.toJsonString(payload).getBytes(StandardCharsets.UTF_8);
+      if (compression != null && compression.shouldCompress(body)) {
+        req.addHeader(HttpHeaders.CONTENT_ENCODING, compression.getEncoding());
+        body = compression.compress(body);
+      }
+      req.setBody(body, ContentType.APPLICATION_JSON);
     }
     return req;
   }
@@ -1,21 +1,169 @@
 package io.weaviate.client.base;
 
+import com.google.gson.JsonObject;
 import io.weaviate.client.Config;
+import io.weaviate.client.base.http.async.WeaviateAggregateGroupsResponseConsumer;
+import io.weaviate.client.base.http.async.WeaviateGraphQLMappedResponseConsumer;
 import io.weaviate.client.base.http.async.WeaviateGraphQLTypedResponseConsumer;
+import io.weaviate.client.base.http.async.ResponseParser;
+import io.weaviate.client.base.http.async.WeaviateResponseConsumer;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLQuery;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
 
 public class AsyncBaseGraphQLClient<T> extends AsyncBaseClient<T> {
+  private final SingleFlight singleFlight;
+
   public AsyncBaseGraphQLClient(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
+    this(client, config, tokenProvider, null);
+  }
+
+  /**
+   * @param singleFlight if not null, identical queries running concurrently are sent to the server only once
+   *                     and all callers share the same response
+   */
+  public AsyncBaseGraphQLClient(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+                                SingleFlight singleFlight) {
     super(client, config, tokenProvider);
+    this.singleFlight = singleFlight;
+  }
+
+  protected Future<Result<T>> sendGraphQLRequest(GraphQLQuery query, Class<T> classOfT, FutureCallback<Result<T>> callback) {
+    return sendGraphQLRequest(query, classOfT, null, callback);
+  }
+
+  /**
+   * @param targetHost host the query is sent to directly, if null query is sent to the configured host(s)
+   */
+  protected Future<Result<T>> sendGraphQLRequest(GraphQLQuery query, Class<T> classOfT, String targetHost,
+                                                 FutureCallback<Result<T>> callback) {
+    if (singleFlight == null) {
+      return doSendGraphQLRequest(query, classOfT, targetHost, callback);
+    }
+    CompletableFuture<Result<T>> future = singleFlight.executeAsync(Arrays.asList(classOfT, query), () -> {
+      CompletableFuture<Result<T>> call = new CompletableFuture<>();
+      doSendGraphQLRequest(query, classOfT, targetHost, Futures.completing(call));
+      return call;
+    });
+    return Futures.notifying(future, callback);
+  }
+
+  /**
+   * Sends query keeping data of the response as JSON tree, parts of which can be then deserialized directly.
+   */
+  protected Future<Result<GraphQLResponse<JsonObject>>> sendGraphQLTreeRequest(GraphQLQuery query,
+    FutureCallback<Result<GraphQLResponse<JsonObject>>> callback) {
+    return sendGraphQLTreeRequest(query, null, callback);
+  }
+
+  /**
+   * @param targetHost host the query is sent to directly, if null query is sent to the configured host(s)
+   * @see #sendGraphQLTreeRequest(GraphQLQuery, FutureCallback)
+   */
+  protected Future<Result<GraphQLResponse<JsonObject>>> sendGraphQLTreeRequest(GraphQLQuery query, String targetHost,
+    FutureCallback<Result<GraphQLResponse<JsonObject>>> callback) {
+    if (singleFlight == null) {
+      return doSendGraphQLTreeRequest(query, targetHost, callback);
+    }
+    CompletableFuture<Result<GraphQLResponse<JsonObject>>> future = singleFlight.executeAsync(
+      Arrays.asList(JsonObject.class, query), () -> {
+        CompletableFuture<Result<GraphQLResponse<JsonObject>>> call = new CompletableFuture<>();
+        doSendGraphQLTreeRequest(query, targetHost, Futures.completing(call));
+        return call;
+      });
+    return Futures.notifying(future, callback);
   }
 
   protected <C> Future<Result<GraphQLTypedResponse<C>>> sendGraphQLTypedRequest(Object payload, Class<C> classOfC,
     FutureCallback<Result<GraphQLTypedResponse<C>>> callback) {
-    return client.execute(SimpleRequestProducer.create(getRequest("/graphql", payload, "POST")), new WeaviateGraphQLTypedResponseConsumer<>(classOfC), callback);
+    return sendGraphQLTypedRequest(payload, classOfC, null, callback);
+  }
+
+  protected <C> Future<Result<GraphQLTypedResponse<C>>> sendGraphQLTypedRequest(Object payload, Class<C> classOfC, String targetHost,
+    FutureCallback<Result<GraphQLTypedResponse<C>>> callback) {
+    if (singleFlight == null) {
+      return doSendGraphQLTypedRequest(payload, classOfC, targetHost, callback);
+    }
+    CompletableFuture<Result<GraphQLTypedResponse<C>>> future = singleFlight.executeAsync(
+      Arrays.asList(GraphQLTypedResponse.class, classOfC, payload), () -> {
+        CompletableFuture<Result<GraphQLTypedResponse<C>>> call = new CompletableFuture<>();
+        doSendGraphQLTypedRequest(payload, classOfC, targetHost, Futures.completing(call));
+        return call;
+      });
+    return Futures.notifying(future, callback);
+  }
+
+  /**
+   * Sends Get query mapping returned objects with the mapper.
+   */
+  protected <C> Future<Result<GraphQLMappedResponse<C>>> sendGraphQLMappedRequest(Object payload, GraphQLResultMapper<C> mapper,
+    String targetHost, FutureCallback<Result<GraphQLMappedResponse<C>>> callback) {
+    if (singleFlight == null) {
+      return doSendGraphQLMappedRequest(payload, mapper, targetHost, callback);
+    }
+    CompletableFuture<Result<GraphQLMappedResponse<C>>> future = singleFlight.executeAsync(
+      Arrays.asList(GraphQLMappedResponse.class, mapper, payload), () -> {
+        CompletableFuture<Result<GraphQLMappedResponse<C>>> call = new CompletableFuture<>();
+        doSendGraphQLMappedRequest(payload, mapper, targetHost, Futures.completing(call));
+        return call;
+      });
+    return Futures.notifying(future, callback);
+  }
+
+  /**
+   * Sends Aggregate query passing its groups to the consumer one by one, on the thread completing the request.
+   * Streamed requests are neither hedged nor shared by single flight, so every group is consumed once.
+   */
+  protected Future<Result<GraphQLStreamedResponse>> sendGraphQLAggregateStreamingRequest(Object payload, Consumer<AggregateGroup> consumer,
+    String targetHost, FutureCallback<Result<GraphQLStreamedResponse>> callback) {
+    return execute(false, targetHost, (baseURL, requestCallback) -> client.execute(SimpleRequestProducer.create(getRequest(baseURL, "/graphql", payload, "POST")),
+      new WeaviateAggregateGroupsResponseConsumer(consumer), requestCallback), callback);
+  }
+
+  private Future<Result<T>> doSendGraphQLRequest(GraphQLQuery query, Class<T> classOfT, String targetHost,
+                                                 FutureCallback<Result<T>> callback) {
+    // queries do not modify any data, so they can be hedged as any other read
+    return execute(true, targetHost, (baseURL, requestCallback) -> client.execute(SimpleRequestProducer.create(getRequest(baseURL, "/graphql", query, "POST")),
+      new WeaviateResponseConsumer<>(classOfT, null), requestCallback), callback);
+  }
+
+  private Future<Result<GraphQLResponse<JsonObject>>> doSendGraphQLTreeRequest(GraphQLQuery query, String targetHost,
+    FutureCallback<Result<GraphQLResponse<JsonObject>>> callback) {
+    ResponseParser<GraphQLResponse<JsonObject>> parser = new ResponseParser<GraphQLResponse<JsonObject>>() {
+      @Override
+      public Result<GraphQLResponse<JsonObject>> parse(HttpResponse response, String body, ContentType contentType) {
+        return serializer.toGraphQLTreeResult(response.getCode(), body);
+      }
+    };
+    return execute(true, targetHost, (baseURL, requestCallback) -> client.execute(SimpleRequestProducer.create(getRequest(baseURL, "/graphql", query, "POST")),
+      new WeaviateResponseConsumer<>(null, parser), requestCallback), callback);
+  }
+
+  private <C> Future<Result<GraphQLTypedResponse<C>>> doSendGraphQLTypedRequest(Object payload, Class<C> classOfC, String targetHost,
+    FutureCallback<Result<GraphQLTypedResponse<C>>> callback) {
+    return execute(true, targetHost, (baseURL, requestCallback) -> client.execute(SimpleRequestProducer.create(getRequest(baseURL, "/graphql", payload, "POST")),
+      new WeaviateGraphQLTypedResponseConsumer<>(classOfC), requestCallback), callback);
+  }
+
+  private <C> Future<Result<GraphQLMappedResponse<C>>> doSendGraphQLMappedRequest(Object payload, GraphQLResultMapper<C> mapper,
+    String targetHost, FutureCallback<Result<GraphQLMappedResponse<C>>> callback) {
+    return execute(true, targetHost, (baseURL, requestCallback) -> client.execute(SimpleRequestProducer.create(getRequest(baseURL, "/graphql", payload, "POST")),
+      new WeaviateGraphQLMappedResponseConsumer<>(mapper), requestCallback), callback);
   }
 }
@@ -1,7 +1,9 @@
 package io.weaviate.client.base;
 
+import io.weaviate.client.base.util.Futures;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 public interface AsyncClientResult<T> {
@@ -10,4 +12,12 @@ public interface AsyncClientResult<T> {
   }
 
   Future<Result<T>> run(FutureCallback<Result<T>> callback);
+
+  /**
+   * Runs the request, returned future can be composed with other requests (thenCompose, thenCombine, ...)
+   * without blocking any thread. Cancelling returned future cancels the request.
+   */
+  default CompletableFuture<Result<T>> runAsync() {
+    return Futures.fromCallback(this::run);
+  }
 }
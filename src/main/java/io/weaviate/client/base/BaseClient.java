@@ -1,8 +1,14 @@
 package io.weaviate.client.base;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HostPool;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.HttpResponseReader;
+import io.weaviate.client.base.http.ShardRouter;
+import io.weaviate.client.base.util.SchemaCache;
+import io.weaviate.client.base.util.TenantActivityManager;
+import io.weaviate.client.base.util.TransientErrors;
 import java.util.Collections;
 
 public abstract class BaseClient<T> {
@@ -41,8 +47,18 @@ public abstract class BaseClient<T> {
   }
 
   private Response<T> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT) {
+    return sendRequestTo(null, endpoint, payload, method, classOfT);
+  }
+
+  /**
+   * Sends request directly to the given host, e.g. node holding the requested shard.
+   * If the host can not be connected to, the request is sent to the configured host(s) instead.
+   *
+   * @param targetHost host, if null request is sent to the configured host(s)
+   */
+  protected Response<T> sendRequestTo(String targetHost, String endpoint, Object payload, String method, Class<T> classOfT) {
     try {
-      HttpResponse response = this.sendHttpRequest(endpoint, payload, method);
+      HttpResponse response = this.sendHttpRequest(targetHost, endpoint, payload, method);
       int statusCode = response.getStatusCode();
       String responseBody = response.getBody();
 
@@ -60,8 +76,68 @@ public abstract class BaseClient<T> {
   }
 
   protected HttpResponse sendHttpRequest(String endpoint, Object payload, String method) throws Exception {
-    String address = config.getBaseURL() + endpoint;
-    String json = toJsonString(payload);
+    return sendHttpRequest(null, endpoint, payload, method);
+  }
+
+  protected HttpResponse sendHttpRequest(String targetHost, String endpoint, Object payload, String method) throws Exception {
+    if (targetHost != null) {
+      try {
+        return sendHttpRequestTo(config.getBaseURL(targetHost) + endpoint, toJsonString(payload), method);
+      } catch (Exception e) {
+        // node is down or the topology is stale, the request did not reach it and goes to the configured host(s)
+        if (!TransientErrors.isConnectionFailure(e)) {
+          throw e;
+        }
+      }
+    }
+    HostPool hostPool = config.getHostPool();
+    if (hostPool == null) {
+      return sendHttpRequestTo(config.getBaseURL() + endpoint, toJsonString(payload), method);
+    }
+
+    HostPool.Host host = hostPool.acquire();
+    boolean success = false;
+    try {
+      HttpResponse response = sendHttpRequestTo(host.getBaseURL() + endpoint, toJsonString(payload), method);
+      success = response.getStatusCode() < 500;
+      return response;
+    } finally {
+      hostPool.release(host, success);
+    }
+  }
+
+  /**
+   * Sends POST request, passing body of the response to the reader as it arrives.
+   */
+  protected <R> R sendStreamingRequest(String targetHost, String endpoint, Object payload, HttpResponseReader<R> reader) throws Exception {
+    if (targetHost != null) {
+      try {
+        return client.sendPostRequest(config.getBaseURL(targetHost) + endpoint, toJsonString(payload), reader);
+      } catch (Exception e) {
+        // same fallback as for other requests
+        if (!TransientErrors.isConnectionFailure(e)) {
+          throw e;
+        }
+      }
+    }
+    HostPool hostPool = config.getHostPool();
+    if (hostPool == null) {
+      return client.sendPostRequest(config.getBaseURL() + endpoint, toJsonString(payload), reader);
+    }
+
+    HostPool.Host host = hostPool.acquire();
+    int[] statusCode = {0};
+    try {
+      return client.sendPostRequest(host.getBaseURL() + endpoint, toJsonString(payload), (code, body) -> {
+        statusCode[0] = code;
+        return reader.read(code, body);
+      });
+    } finally {
+      hostPool.release(host, statusCode[0] != 0 && statusCode[0] < 500);
+    }
+  }
+
+  private HttpResponse sendHttpRequestTo(String address, String json, String method) throws Exception {
     if (method.equals("POST")) {
       return client.sendPostRequest(address, json);
     }
@@ -80,6 +156,41 @@ public abstract class BaseClient<T> {
     return client.sendGetRequest(address);
   }
 
+  /**
+   * @return host of a node holding data of the given tenant (or class) if shard routing is enabled, otherwise null
+   */
+  protected String shardHost(String className, String tenant) {
+    ShardRouter shardRouter = config.getShardRouter();
+    return shardRouter != null ? shardRouter.hostOf(className, tenant) : null;
+  }
+
+  /**
+   * Activates the tenant (waiting for it) if tenant activity is managed and the tenant is not active.
+   */
+  protected void activateTenant(String className, String tenant) {
+    TenantActivityManager tenantActivityManager = config.getTenantActivityManager();
+    if (tenantActivityManager != null) {
+      tenantActivityManager.activate(className, tenant).join();
+    }
+  }
+
+  /**
+   * @return schema cache if enabled, otherwise null
+   */
+  protected SchemaCache schemaCache() {
+    return config.getSchemaCache();
+  }
+
+  /**
+   * Invalidates cached schema (if enabled), to be called once the schema was changed.
+   */
+  protected void invalidateSchema() {
+    SchemaCache schemaCache = config.getSchemaCache();
+    if (schemaCache != null) {
+      schemaCache.invalidate();
+    }
+  }
+
   protected <C> C toResponse(String response, Class<C> classOfT) {
     return serializer.toResponse(response, classOfT);
   }
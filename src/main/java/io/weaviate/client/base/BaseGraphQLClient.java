@@ -1,22 +1,115 @@
 package io.weaviate.client.base;
 
+import com.google.gson.JsonObject;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLQuery;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
+import java.util.Arrays;
+import java.util.function.Consumer;
 
 public abstract class BaseGraphQLClient<T> extends BaseClient<T> {
+  private final SingleFlight singleFlight;
+
   public BaseGraphQLClient(HttpClient client, Config config) {
+    this(client, config, null);
+  }
+
+  /**
+   * @param singleFlight if not null, identical queries running concurrently are sent to the server only once
+   *                     and all callers share the same response
+   */
+  public BaseGraphQLClient(HttpClient client, Config config, SingleFlight singleFlight) {
     super(client, config);
+    this.singleFlight = singleFlight;
   }
 
   private <C> GraphQLTypedResponse<C> toResponseTyped(String response, Class<C> classOfC) {
     return serializer.toGraphQLTypedResponse(response, classOfC);
   }
 
+  protected Response<T> sendGraphQLRequest(GraphQLQuery query, Class<T> classOfT) {
+    return sendGraphQLRequest(query, classOfT, null);
+  }
+
+  /**
+   * @param targetHost host the query is sent to directly, if null query is sent to the configured host(s)
+   */
+  protected Response<T> sendGraphQLRequest(GraphQLQuery query, Class<T> classOfT, String targetHost) {
+    if (singleFlight == null) {
+      return sendRequestTo(targetHost, "/graphql", query, "POST", classOfT);
+    }
+    return singleFlight.execute(Arrays.asList(classOfT, query),
+      () -> sendRequestTo(targetHost, "/graphql", query, "POST", classOfT));
+  }
+
+  /**
+   * Sends query keeping data of the response as JSON tree, parts of which can be then deserialized directly.
+   */
+  protected Response<GraphQLResponse<JsonObject>> sendGraphQLTreeRequest(GraphQLQuery query) {
+    return sendGraphQLTreeRequest(query, null);
+  }
+
+  /**
+   * @param targetHost host the query is sent to directly, if null query is sent to the configured host(s)
+   * @see #sendGraphQLTreeRequest(GraphQLQuery)
+   */
+  protected Response<GraphQLResponse<JsonObject>> sendGraphQLTreeRequest(GraphQLQuery query, String targetHost) {
+    if (singleFlight == null) {
+      return doSendGraphQLTreeRequest(query, targetHost);
+    }
+    return singleFlight.execute(Arrays.asList(JsonObject.class, query), () -> doSendGraphQLTreeRequest(query, targetHost));
+  }
+
   protected <C> Response<GraphQLTypedResponse<C>> sendGraphQLTypedRequest(Object payload, Class<C> classOfC) {
+    return sendGraphQLTypedRequest(payload, classOfC, null);
+  }
+
+  protected <C> Response<GraphQLTypedResponse<C>> sendGraphQLTypedRequest(Object payload, Class<C> classOfC, String targetHost) {
+    if (singleFlight == null) {
+      return doSendGraphQLTypedRequest(payload, classOfC, targetHost);
+    }
+    return singleFlight.execute(Arrays.asList(GraphQLTypedResponse.class, classOfC, payload),
+      () -> doSendGraphQLTypedRequest(payload, classOfC, targetHost));
+  }
+
+  /**
+   * Sends Get query mapping returned objects with the mapper.
+   */
+  protected <C> Response<GraphQLMappedResponse<C>> sendGraphQLMappedRequest(Object payload, GraphQLResultMapper<C> mapper,
+                                                                           String targetHost) {
+    if (singleFlight == null) {
+      return doSendGraphQLMappedRequest(payload, mapper, targetHost);
+    }
+    return singleFlight.execute(Arrays.asList(GraphQLMappedResponse.class, mapper, payload),
+      () -> doSendGraphQLMappedRequest(payload, mapper, targetHost));
+  }
+
+  /**
+   * Sends Aggregate query passing its groups to the consumer one by one, as the response arrives.
+   * Streamed responses are never shared by single flight.
+   */
+  protected Response<GraphQLStreamedResponse> sendGraphQLAggregateStreamingRequest(Object payload, Consumer<AggregateGroup> consumer,
+                                                                                  String targetHost) {
+    try {
+      return sendStreamingRequest(targetHost, "/graphql", payload,
+        (statusCode, body) -> serializer.toAggregateGroupsResponse(statusCode, body, consumer));
+    } catch (Exception e) {
+      WeaviateErrorResponse errors = getWeaviateErrorResponse(e);
+      return new Response<>(0, null, errors);
+    }
+  }
+
+  private <C> Response<GraphQLTypedResponse<C>> doSendGraphQLTypedRequest(Object payload, Class<C> classOfC, String targetHost) {
     try {
-      HttpResponse response = this.sendHttpRequest("/graphql", payload, "POST");
+      HttpResponse response = this.sendHttpRequest(targetHost, "/graphql", payload, "POST");
       int statusCode = response.getStatusCode();
       String responseBody = response.getBody();
 
@@ -32,4 +125,33 @@ public abstract class BaseGraphQLClient<T> extends BaseClient<T> {
       return new Response<>(0, null, errors);
     }
   }
+
+  private Response<GraphQLResponse<JsonObject>> doSendGraphQLTreeRequest(GraphQLQuery query, String targetHost) {
+    try {
+      HttpResponse response = this.sendHttpRequest(targetHost, "/graphql", query, "POST");
+      int statusCode = response.getStatusCode();
+      String responseBody = response.getBody();
+
+      if (statusCode < 399) {
+        return new Response<>(statusCode, serializer.toGraphQLTreeResponse(responseBody), null);
+      }
+
+      WeaviateErrorResponse error = toResponse(responseBody, WeaviateErrorResponse.class);
+      return new Response<>(statusCode, null, error);
+    } catch (Exception e) {
+      WeaviateErrorResponse errors = getWeaviateErrorResponse(e);
+      return new Response<>(0, null, errors);
+    }
+  }
+
+  private <C> Response<GraphQLMappedResponse<C>> doSendGraphQLMappedRequest(Object payload, GraphQLResultMapper<C> mapper,
+                                                                             String targetHost) {
+    try {
+      HttpResponse response = this.sendHttpRequest(targetHost, "/graphql", payload, "POST");
+      return serializer.toGraphQLMappedResponse(response.getStatusCode(), response.getBody(), mapper);
+    } catch (Exception e) {
+      WeaviateErrorResponse errors = getWeaviateErrorResponse(e);
+      return new Response<>(0, null, errors);
+    }
+  }
 }
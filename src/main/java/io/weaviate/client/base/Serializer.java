@@ -2,13 +2,31 @@ package io.weaviate.client.base;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import io.weaviate.client.base.util.GroupHitDeserializer;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
 import io.weaviate.client.v1.graphql.model.GraphQLGetBaseObject;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.util.AggregateGroupReader;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Type;
+import java.util.function.Consumer;
 
 public class Serializer {
+  // type adapters are cached per Gson instance, share it not to resolve them for every response
+  private static final Gson GSON_TYPED = new GsonBuilder()
+    .disableHtmlEscaping()
+    .registerTypeAdapter(GraphQLGetBaseObject.Additional.Group.GroupHit.class, new GroupHitDeserializer())
+    .create();
+  private static final Type GRAPHQL_TREE_RESPONSE = TypeToken.getParameterized(GraphQLResponse.class, JsonObject.class).getType();
+
   private Gson gson;
 
   public Serializer() {
@@ -16,14 +34,34 @@ public class Serializer {
   }
 
   public <C> GraphQLTypedResponse<C> toGraphQLTypedResponse(String response, Class<C> classOfT) {
-    Gson gsonTyped = new GsonBuilder()
-      .disableHtmlEscaping()
-      .registerTypeAdapter(GraphQLGetBaseObject.Additional.Group.GroupHit.class, new GroupHitDeserializer())
-      .create();
-    return gsonTyped.fromJson(response,
+    return GSON_TYPED.fromJson(response,
       TypeToken.getParameterized(GraphQLTypedResponse.class, classOfT).getType());
   }
 
+  /**
+   * Converts response whose data is a JSON tree (see {@link #toGraphQLTreeResponse(String)}) into typed one,
+   * the tree is deserialized directly, without serializing it back to string.
+   */
+  public <C> GraphQLTypedResponse<C> toGraphQLTypedResponse(GraphQLResponse<? extends JsonElement> response, Class<C> classOfC) {
+    GraphQLTypedResponse.Operation<C> data = GSON_TYPED.fromJson(response.getData(),
+      TypeToken.getParameterized(GraphQLTypedResponse.Operation.class, classOfC).getType());
+    return new GraphQLTypedResponse<>(data, response.getErrors());
+  }
+
+  /**
+   * Parses GraphQL response keeping its data as JSON tree, so parts of the data can be deserialized separately later on.
+   */
+  public GraphQLResponse<JsonObject> toGraphQLTreeResponse(String response) {
+    return gson.fromJson(response, GRAPHQL_TREE_RESPONSE);
+  }
+
+  public Result<GraphQLResponse<JsonObject>> toGraphQLTreeResult(int statusCode, String body) {
+    if (statusCode < 399) {
+      return new Result<>(new Response<>(statusCode, toGraphQLTreeResponse(body), null));
+    }
+    return new Result<>(statusCode, null, toWeaviateError(body));
+  }
+
   public <C> C toResponse(String response, Type typeOfT) {
     return gson.fromJson(response, typeOfT);
   }
@@ -66,6 +104,34 @@ public class Serializer {
     return new Result<>(statusCode, null, toWeaviateError(body));
   }
 
+  public <C> Response<GraphQLMappedResponse<C>> toGraphQLMappedResponse(int statusCode, String body, GraphQLResultMapper<C> mapper) {
+    if (statusCode < 399) {
+      return new Response<>(statusCode, mapper.readResponse(body), null);
+    }
+    return new Response<>(statusCode, null, toWeaviateError(body));
+  }
+
+  public <C> Result<GraphQLMappedResponse<C>> toGraphQLMappedResult(int statusCode, String body, GraphQLResultMapper<C> mapper) {
+    if (statusCode < 399) {
+      return new Result<>(toGraphQLMappedResponse(statusCode, body, mapper));
+    }
+    return new Result<>(statusCode, null, toWeaviateError(body));
+  }
+
+  public Response<GraphQLStreamedResponse> toAggregateGroupsResponse(int statusCode, Reader body, Consumer<AggregateGroup> consumer) {
+    if (statusCode < 399) {
+      return new Response<>(statusCode, AggregateGroupReader.read(body, consumer), null);
+    }
+    return new Response<>(statusCode, null, gson.fromJson(body, WeaviateErrorResponse.class));
+  }
+
+  public Result<GraphQLStreamedResponse> toAggregateGroupsResult(int statusCode, String body, Consumer<AggregateGroup> consumer) {
+    if (statusCode < 399) {
+      return new Result<>(toAggregateGroupsResponse(statusCode, new StringReader(body), consumer));
+    }
+    return new Result<>(statusCode, null, toWeaviateError(body));
+  }
+
   public WeaviateErrorResponse toWeaviateError(String body) {
     return toResponse(body, WeaviateErrorResponse.class);
   }
@@ -31,9 +31,9 @@ public class AsyncGrpcClient extends BaseGrpcClient {
   }
 
   public static AsyncGrpcClient create(Config config, AccessTokenProvider tokenProvider) {
-    Metadata headers = getHeaders(config, tokenProvider);
+    Metadata headers = getHeaders(config);
     ManagedChannel channel = buildChannel(config);
-    WeaviateGrpc.WeaviateFutureStub stub = WeaviateGrpc.newFutureStub(channel);
+    WeaviateGrpc.WeaviateFutureStub stub = withCredentials(withCompression(WeaviateGrpc.newFutureStub(channel), config), tokenProvider);
     WeaviateGrpc.WeaviateFutureStub client = stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
     return new AsyncGrpcClient(client, channel);
   }
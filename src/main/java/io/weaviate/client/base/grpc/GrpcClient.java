@@ -30,9 +30,9 @@ public class GrpcClient extends BaseGrpcClient {
   }
 
   public static GrpcClient create(Config config, AccessTokenProvider tokenProvider) {
-    Metadata headers = getHeaders(config, tokenProvider);
+    Metadata headers = getHeaders(config);
     ManagedChannel channel = buildChannel(config);
-    WeaviateGrpc.WeaviateBlockingStub blockingStub = WeaviateGrpc.newBlockingStub(channel);
+    WeaviateGrpc.WeaviateBlockingStub blockingStub = withCredentials(withCompression(WeaviateGrpc.newBlockingStub(channel), config), tokenProvider);
     WeaviateGrpc.WeaviateBlockingStub client = blockingStub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
     return new GrpcClient(client, channel);
   }
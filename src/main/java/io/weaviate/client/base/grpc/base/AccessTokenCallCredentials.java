@@ -0,0 +1,26 @@
+package io.weaviate.client.base.grpc.base;
+
+import io.grpc.CallCredentials;
+import io.grpc.Metadata;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import java.util.concurrent.Executor;
+
+/**
+ * Attaches the current access token to every call, so long-lived channels never send a stale token.
+ */
+public class AccessTokenCallCredentials extends CallCredentials {
+  private static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+  private final AccessTokenProvider tokenProvider;
+
+  public AccessTokenCallCredentials(AccessTokenProvider tokenProvider) {
+    this.tokenProvider = tokenProvider;
+  }
+
+  @Override
+  public void applyRequestMetadata(RequestInfo requestInfo, Executor appExecutor, MetadataApplier applier) {
+    Metadata headers = new Metadata();
+    headers.put(AUTHORIZATION, String.format("Bearer %s", tokenProvider.getAccessToken()));
+    applier.apply(headers);
+  }
+}
@@ -3,27 +3,62 @@ package io.weaviate.client.base.grpc.base;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
+import io.grpc.stub.AbstractStub;
 import io.weaviate.client.Config;
+import io.weaviate.client.base.http.Compression;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class BaseGrpcClient {
 
-  protected static Metadata getHeaders(Config config, AccessTokenProvider tokenProvider) {
+  protected static Metadata getHeaders(Config config) {
     Metadata headers = new Metadata();
     if (config.getHeaders() != null) {
       for (Map.Entry<String, String> e : config.getHeaders().entrySet()) {
         headers.put(Metadata.Key.of(e.getKey(), Metadata.ASCII_STRING_MARSHALLER), e.getValue());
       }
     }
+    return headers;
+  }
+
+  /**
+   * Attaches access token to every call, token is read per call so refreshed tokens are used right away.
+   */
+  protected static <S extends AbstractStub<S>> S withCredentials(S stub, AccessTokenProvider tokenProvider) {
     if (tokenProvider != null) {
-      headers.put(Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER), String.format("Bearer %s", tokenProvider.getAccessToken()));
+      return stub.withCallCredentials(new AccessTokenCallCredentials(tokenProvider));
     }
-    return headers;
+    return stub;
   }
 
+  /**
+   * Enables compression of request messages if configured, gRPC supports only gzip.
+   * Compressed responses are decompressed transparently.
+   */
+  protected static <S extends AbstractStub<S>> S withCompression(S stub, Config config) {
+    Compression compression = config.getCompression();
+    if (compression != null && Compression.GZIP.equals(compression.getEncoding())) {
+      return stub.withCompression(Compression.GZIP);
+    }
+    return stub;
+  }
+
+  @SuppressWarnings("deprecation")
   protected static ManagedChannel buildChannel(Config config) {
-    ManagedChannelBuilder<?> channelBuilder = ManagedChannelBuilder.forTarget(getAddress(config));
+    ManagedChannelBuilder<?> channelBuilder;
+    if (config.getGRPCHosts() != null && !config.getGRPCHosts().isEmpty()) {
+      // calls are balanced across all hosts, instead of being pinned to a single connection
+      List<String> hosts = config.getGRPCHosts().stream()
+        .map(host -> getAddress(host, config.isGRPCSecured()))
+        .collect(Collectors.toList());
+      channelBuilder = ManagedChannelBuilder.forTarget(HostsNameResolver.SCHEME + ":///")
+        .nameResolverFactory(new HostsNameResolver.Provider(hosts))
+        .defaultLoadBalancingPolicy("round_robin");
+    } else {
+      channelBuilder = ManagedChannelBuilder.forTarget(getAddress(config));
+    }
     if (config.isGRPCSecured()) {
       channelBuilder = channelBuilder.useTransportSecurity();
     } else {
@@ -34,15 +69,18 @@ public class BaseGrpcClient {
 
   private static String getAddress(Config config) {
     if (config.getGRPCHost() != null) {
-      String host = config.getGRPCHost();
-      if (host.contains(":")) {
-        return host;
-      }
-      if (config.isGRPCSecured()) {
-        return String.format("%s:443", host);
-      }
-      return String.format("%s:80", host);
+      return getAddress(config.getGRPCHost(), config.isGRPCSecured());
     }
     return "";
   }
+
+  private static String getAddress(String host, boolean secured) {
+    if (host.contains(":")) {
+      return host;
+    }
+    if (secured) {
+      return String.format("%s:443", host);
+    }
+    return String.format("%s:80", host);
+  }
 }
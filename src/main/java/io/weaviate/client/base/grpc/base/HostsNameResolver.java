@@ -0,0 +1,117 @@
+package io.weaviate.client.base.grpc.base;
+
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.Status;
+import io.weaviate.client.base.util.Schedulers;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Resolves static list of gRPC hosts (host:port), so the channel can balance calls across all of them.
+ * Host names are resolved on every refresh, e.g. once a connection to a host is lost.
+ * <p>
+ * Every address is given its own host as authority, so with TLS certificate of each node is verified
+ * against name of that node (and not against name of the first host).
+ */
+public class HostsNameResolver extends NameResolver {
+  public static final String SCHEME = "weaviate-hosts";
+
+  private final List<String> hosts;
+  private final String authority;
+  private final Executor executor;
+  private Listener2 listener;
+
+  private HostsNameResolver(List<String> hosts, Executor executor) {
+    this.hosts = hosts;
+    this.authority = hosts.get(0);
+    this.executor = executor;
+  }
+
+  @Override
+  public String getServiceAuthority() {
+    return authority;
+  }
+
+  @Override
+  public void start(Listener2 listener) {
+    this.listener = listener;
+    resolve();
+  }
+
+  @Override
+  public void refresh() {
+    resolve();
+  }
+
+  @Override
+  public void shutdown() {
+  }
+
+  private void resolve() {
+    // resolving host names may block, it must not be done in the caller's thread
+    executor.execute(() -> {
+      List<EquivalentAddressGroup> addresses = new ArrayList<>(hosts.size());
+      for (String host : hosts) {
+        int separator = host.lastIndexOf(':');
+        InetSocketAddress address = new InetSocketAddress(host.substring(0, separator),
+          Integer.parseInt(host.substring(separator + 1)));
+        if (!address.isUnresolved()) {
+          addresses.add(new EquivalentAddressGroup(address, Attributes.newBuilder()
+            .set(EquivalentAddressGroup.ATTR_AUTHORITY_OVERRIDE, host)
+            .build()));
+        }
+      }
+      if (addresses.isEmpty()) {
+        listener.onError(Status.UNAVAILABLE.withDescription(String.format("none of hosts %s could be resolved", hosts)));
+        return;
+      }
+      listener.onResult(ResolutionResult.newBuilder()
+        .setAddresses(addresses)
+        .setAttributes(Attributes.EMPTY)
+        .build());
+    });
+  }
+
+  /**
+   * Creates resolvers of given hosts, each host has to contain port.
+   */
+  public static class Provider extends NameResolverProvider {
+    private final List<String> hosts;
+
+    public Provider(List<String> hosts) {
+      this.hosts = hosts;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+      return true;
+    }
+
+    @Override
+    protected int priority() {
+      return 5;
+    }
+
+    @Override
+    public String getDefaultScheme() {
+      return SCHEME;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, Args args) {
+      if (!SCHEME.equals(targetUri.getScheme())) {
+        return null;
+      }
+      Executor executor = args.getOffloadExecutor() != null
+        ? args.getOffloadExecutor()
+        : Schedulers.background();
+      return new HostsNameResolver(hosts, executor);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package io.weaviate.client.base.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.Getter;
+
+/**
+ * Compression of request bodies (above given size) and negotiation of compressed responses.
+ * Supported encodings are gzip and deflate.
+ */
+@Getter
+public class Compression {
+  public static final String GZIP = "gzip";
+  public static final String DEFLATE = "deflate";
+  public static final String ACCEPT_ENCODING = GZIP + ", " + DEFLATE;
+  public static final int DEFAULT_THRESHOLD_BYTES = 1024;
+
+  private final String encoding;
+  private final int thresholdBytes;
+
+  public Compression(String encoding) {
+    this(encoding, DEFAULT_THRESHOLD_BYTES);
+  }
+
+  /**
+   * @param encoding       encoding of request bodies, gzip or deflate
+   * @param thresholdBytes request bodies smaller than that are sent uncompressed
+   */
+  public Compression(String encoding, int thresholdBytes) {
+    if (!GZIP.equals(encoding) && !DEFLATE.equals(encoding)) {
+      throw new IllegalArgumentException(String.format("unsupported encoding %s, supported are %s", encoding, ACCEPT_ENCODING));
+    }
+    this.encoding = encoding;
+    this.thresholdBytes = thresholdBytes;
+  }
+
+  public boolean shouldCompress(byte[] body) {
+    return body != null && body.length >= thresholdBytes;
+  }
+
+  public byte[] compress(byte[] body) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, body.length / 4));
+    try (OutputStream out = GZIP.equals(encoding) ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed)) {
+      out.write(body);
+    } catch (IOException e) {
+      // writing to memory does not fail
+      throw new IllegalStateException(e);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Decompresses the body according to its content encoding.
+   *
+   * @param body            body of the response
+   * @param contentEncoding value of Content-Encoding header, may be null
+   * @return decompressed body, or the body as is if not compressed
+   */
+  public static byte[] decompress(byte[] body, String contentEncoding) throws IOException {
+    if (body == null || body.length == 0 || contentEncoding == null) {
+      return body;
+    }
+    String encoding = contentEncoding.trim().toLowerCase();
+    InputStream in;
+    if (GZIP.equals(encoding) || "x-gzip".equals(encoding)) {
+      in = new GZIPInputStream(new ByteArrayInputStream(body));
+    } else if (DEFLATE.equals(encoding)) {
+      in = new InflaterInputStream(new ByteArrayInputStream(body));
+    } else {
+      return body;
+    }
+
+    ByteArrayOutputStream decompressed = new ByteArrayOutputStream(body.length * 4);
+    try (InputStream input = in) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        decompressed.write(buffer, 0, read);
+      }
+    }
+    return decompressed.toByteArray();
+  }
+}
@@ -0,0 +1,179 @@
+package io.weaviate.client.base.http;
+
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.Schedulers;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Balances requests across several Weaviate hosts.
+ * <p>
+ * Every request goes to the less loaded (by number of outstanding requests) of two randomly chosen hosts
+ * (power of two choices). Host failing given number of consecutive requests is ejected from the pool and probed
+ * periodically with the ready probe, it is re-admitted once the probe succeeds. If all hosts are ejected,
+ * requests are sent to all of them anyway.
+ */
+public class HostPool {
+  public static final int DEFAULT_MAX_FAILURES = 3;
+  public static final long DEFAULT_PROBE_INTERVAL_MILLIS = 5000;
+
+  private final List<Host> hosts;
+  private final int maxFailures;
+  private final long probeIntervalMillis;
+  private volatile Predicate<Host> readyProbe;
+
+  /**
+   * @param hosts   hosts, e.g. localhost:8080
+   * @param baseURL creates base url of the host
+   */
+  public HostPool(List<String> hosts, Function<String, String> baseURL) {
+    this(hosts, baseURL, DEFAULT_MAX_FAILURES, DEFAULT_PROBE_INTERVAL_MILLIS);
+  }
+
+  /**
+   * @param hosts               hosts, e.g. localhost:8080
+   * @param baseURL             creates base url of the host
+   * @param maxFailures         number of consecutive failures after which host is ejected
+   * @param probeIntervalMillis interval of probing ejected hosts
+   */
+  public HostPool(List<String> hosts, Function<String, String> baseURL, int maxFailures, long probeIntervalMillis) {
+    Assert.requireGreater(hosts.size(), 0, "hosts");
+    Assert.requireGreater(maxFailures, 0, "maxFailures");
+    List<Host> list = new ArrayList<>(hosts.size());
+    for (String host : hosts) {
+      list.add(new Host(host, baseURL.apply(host)));
+    }
+    this.hosts = Collections.unmodifiableList(list);
+    this.maxFailures = maxFailures;
+    this.probeIntervalMillis = probeIntervalMillis;
+  }
+
+  public List<Host> getHosts() {
+    return hosts;
+  }
+
+  /**
+   * Sets the probe checking whether ejected host is ready to be re-admitted.
+   * Without the probe ejected hosts are re-admitted after the probe interval.
+   */
+  public synchronized void setReadyProbe(Predicate<Host> readyProbe) {
+    this.readyProbe = readyProbe;
+  }
+
+  /**
+   * Clears the ready probe, unless another probe was set meanwhile.
+   *
+   * @param readyProbe probe set before, e.g. by the client being closed
+   */
+  public synchronized void removeReadyProbe(Predicate<Host> readyProbe) {
+    if (this.readyProbe == readyProbe) {
+      this.readyProbe = null;
+    }
+  }
+
+  /**
+   * Chooses host for the next request. Every acquired host has to be released once the request completes.
+   */
+  public Host acquire() {
+    List<Host> candidates = new ArrayList<>(hosts.size());
+    for (Host host : hosts) {
+      if (!host.ejected.get()) {
+        candidates.add(host);
+      }
+    }
+    if (candidates.isEmpty()) {
+      candidates = hosts;
+    }
+
+    Host host = candidates.get(0);
+    if (candidates.size() > 1) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int first = random.nextInt(candidates.size());
+      int second = random.nextInt(candidates.size() - 1);
+      if (second >= first) {
+        second++;
+      }
+      Host a = candidates.get(first);
+      Host b = candidates.get(second);
+      host = a.outstanding.get() <= b.outstanding.get() ? a : b;
+    }
+    host.outstanding.incrementAndGet();
+    return host;
+  }
+
+  /**
+   * Releases host after the request completed.
+   *
+   * @param success false if the request failed because of the host (connection error, server error)
+   */
+  public void release(Host host, boolean success) {
+    host.outstanding.decrementAndGet();
+    if (success) {
+      host.failures.set(0);
+    } else if (host.failures.incrementAndGet() >= maxFailures && hosts.size() > 1
+      && host.ejected.compareAndSet(false, true)) {
+      scheduleProbe(host);
+    }
+  }
+
+  /**
+   * Releases host after the request was cancelled, i.e. without telling anything about the host's health.
+   */
+  public void release(Host host) {
+    host.outstanding.decrementAndGet();
+  }
+
+  private void scheduleProbe(Host host) {
+    Schedulers.background().schedule(() -> {
+      Predicate<Host> probe = readyProbe;
+      boolean ready;
+      try {
+        ready = probe == null || probe.test(host);
+      } catch (RuntimeException e) {
+        ready = false;
+      }
+      if (ready) {
+        host.failures.set(0);
+        host.ejected.set(false);
+      } else {
+        scheduleProbe(host);
+      }
+    }, probeIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Getter
+  @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+  public static class Host {
+    String host;
+    String baseURL;
+    @Getter(AccessLevel.NONE)
+    AtomicInteger outstanding = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    AtomicInteger failures = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    AtomicBoolean ejected = new AtomicBoolean();
+
+    private Host(String host, String baseURL) {
+      this.host = host;
+      this.baseURL = baseURL;
+    }
+
+    public int getOutstandingRequests() {
+      return outstanding.get();
+    }
+
+    public boolean isEjected() {
+      return ejected.get();
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package io.weaviate.client.base.http;
 
+import java.io.StringReader;
+
 public interface HttpClient {
   HttpResponse sendGetRequest(String url) throws Exception;
   HttpResponse sendPostRequest(String url, String json) throws Exception;
@@ -7,4 +9,13 @@ public interface HttpClient {
   HttpResponse sendPatchRequest(String url, String json) throws Exception;
   HttpResponse sendDeleteRequest(String url, String json) throws Exception;
   HttpResponse sendHeadRequest(String url) throws Exception;
+
+  /**
+   * Sends POST request, passing body of the response to the reader as it arrives, without buffering it.
+   * Implementations not able to stream the response pass the buffered body instead.
+   */
+  default <R> R sendPostRequest(String url, String json, HttpResponseReader<R> reader) throws Exception {
+    HttpResponse response = sendPostRequest(url, json);
+    return reader.read(response.getStatusCode(), new StringReader(response.getBody()));
+  }
 }
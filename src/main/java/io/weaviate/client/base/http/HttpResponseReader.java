@@ -0,0 +1,12 @@
+package io.weaviate.client.base.http;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads body of a response as it arrives, see {@link HttpClient#sendPostRequest(String, String, HttpResponseReader)}.
+ */
+@FunctionalInterface
+public interface HttpResponseReader<R> {
+  R read(int statusCode, Reader body) throws IOException;
+}
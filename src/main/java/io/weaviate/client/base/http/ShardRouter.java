@@ -0,0 +1,140 @@
+package io.weaviate.client.base.http;
+
+import io.weaviate.client.base.util.Schedulers;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Keeps track of shards held by cluster nodes, so requests scoped to a single shard (tenant) can be sent
+ * directly to a node holding it, saving the hop of forwarding the request within the cluster.
+ * <p>
+ * Topology is taken from verbose nodes status, refreshed periodically in the background.
+ * Node names are mapped to hosts the client can reach with the given mapping, only healthy nodes are used.
+ * Until the topology is known (or if the shard is not known) requests are sent as usual.
+ */
+public class ShardRouter {
+  public static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 30_000;
+
+  private final Map<String, String> nodeHosts;
+  private final long refreshIntervalMillis;
+  // class name -> shard name -> hosts holding the shard
+  private volatile Map<String, Map<String, List<String>>> shards;
+  private Supplier<NodesStatusResponse> source;
+  private ScheduledFuture<?> refresh;
+
+  /**
+   * @param nodeHosts hosts of the nodes, by node name, e.g. weaviate-0 -> weaviate-0.weaviate:8080
+   */
+  public ShardRouter(Map<String, String> nodeHosts) {
+    this(nodeHosts, DEFAULT_REFRESH_INTERVAL_MILLIS);
+  }
+
+  /**
+   * @param nodeHosts             hosts of the nodes, by node name, e.g. weaviate-0 -> weaviate-0.weaviate:8080
+   * @param refreshIntervalMillis interval of refreshing the topology
+   */
+  public ShardRouter(Map<String, String> nodeHosts, long refreshIntervalMillis) {
+    this.nodeHosts = nodeHosts;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+    this.shards = Collections.emptyMap();
+  }
+
+  /**
+   * Sets the source of verbose nodes status and starts refreshing the topology periodically.
+   */
+  public synchronized void setNodesStatusSource(Supplier<NodesStatusResponse> source) {
+    this.source = source;
+    if (refresh != null) {
+      refresh.cancel(false);
+    }
+    refresh = Schedulers.background().scheduleWithFixedDelay(() -> {
+      try {
+        NodesStatusResponse nodesStatus = source.get();
+        if (nodesStatus != null) {
+          update(nodesStatus);
+        }
+      } catch (RuntimeException e) {
+        // keep the last known topology
+      }
+    }, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops refreshing the topology, unless another source was set meanwhile.
+   * The last known topology is kept.
+   *
+   * @param source source set before, e.g. by the client being closed
+   */
+  public synchronized void removeNodesStatusSource(Supplier<NodesStatusResponse> source) {
+    if (this.source == source) {
+      this.source = null;
+      shutdown();
+    }
+  }
+
+  /**
+   * Stops refreshing the topology.
+   */
+  public synchronized void shutdown() {
+    if (refresh != null) {
+      refresh.cancel(false);
+      refresh = null;
+    }
+  }
+
+  public void update(NodesStatusResponse nodesStatus) {
+    Map<String, Map<String, List<String>>> topology = new HashMap<>();
+    if (nodesStatus.getNodes() != null) {
+      for (NodesStatusResponse.NodeStatus node : nodesStatus.getNodes()) {
+        String host = nodeHosts.get(node.getName());
+        if (host == null || node.getShards() == null || !NodesStatusResponse.Status.HEALTHY.equals(node.getStatus())) {
+          continue;
+        }
+        for (NodesStatusResponse.ShardStatus shard : node.getShards()) {
+          topology.computeIfAbsent(StringUtils.capitalize(shard.getClassName()), className -> new HashMap<>())
+            .computeIfAbsent(shard.getName(), shardName -> new ArrayList<>())
+            .add(host);
+        }
+      }
+    }
+    shards = topology;
+  }
+
+  /**
+   * Finds host holding the data of the given tenant, or of the given class if it is not multi-tenant
+   * (in that case only if the class has a single shard).
+   *
+   * @param className name of the class
+   * @param tenant    name of the tenant, may be null
+   * @return host or null if not known
+   */
+  public String hostOf(String className, String tenant) {
+    if (StringUtils.isBlank(className)) {
+      return null;
+    }
+    Map<String, List<String>> classShards = shards.get(StringUtils.capitalize(className));
+    if (classShards == null) {
+      return null;
+    }
+
+    List<String> hosts = null;
+    if (StringUtils.isNotBlank(tenant)) {
+      hosts = classShards.get(tenant);
+    } else if (classShards.size() == 1) {
+      hosts = classShards.values().iterator().next();
+    }
+    if (hosts == null || hosts.isEmpty()) {
+      return null;
+    }
+    return hosts.get(ThreadLocalRandom.current().nextInt(hosts.size()));
+  }
+}
@@ -2,19 +2,71 @@ package io.weaviate.client.base.http.async;
 
 import io.weaviate.client.Config;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
 import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 public class AsyncHttpClient {
 
   public static CloseableHttpAsyncClient create(Config config) {
-    IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+    AsyncHttpClientConfig clientConfig = config.getAsyncHttpClientConfig() != null
+      ? config.getAsyncHttpClientConfig()
+      : AsyncHttpClientConfig.builder().build();
+
+    HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+      .setIOReactorConfig(ioReactorConfig(config, clientConfig))
+      .setConnectionManager(connectionManager(config, clientConfig));
+    if (clientConfig.isHttp2()) {
+      builder.setH2Config(h2Config(clientConfig));
+    }
+    return builder.build();
+  }
+
+  static IOReactorConfig ioReactorConfig(Config config, AsyncHttpClientConfig clientConfig) {
+    return IOReactorConfig.custom()
       .setSoTimeout(Timeout.ofSeconds(config.getSocketTimeout()))
+      .setIoThreadCount(clientConfig.getIoThreadCount())
+      .setTcpNoDelay(clientConfig.isTcpNoDelay())
+      .setSndBufSize(clientConfig.getSendBufferSize())
+      .setRcvBufSize(clientConfig.getReceiveBufferSize())
       .build();
+  }
 
-    return HttpAsyncClients.custom()
-      .setIOReactorConfig(ioReactorConfig)
+  static H2Config h2Config(AsyncHttpClientConfig clientConfig) {
+    return H2Config.custom()
+      .setMaxConcurrentStreams(clientConfig.getHttp2MaxConcurrentStreams())
+      .setPushEnabled(false)
       .build();
   }
+
+  static ConnectionConfig connectionConfig(Config config, AsyncHttpClientConfig clientConfig) {
+    ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
+      .setConnectTimeout(Timeout.ofSeconds(config.getConnectionTimeout()))
+      .setSocketTimeout(Timeout.ofSeconds(config.getSocketTimeout()))
+      .setValidateAfterInactivity(TimeValue.ofMilliseconds(clientConfig.getValidateAfterInactivityMillis()));
+    if (clientConfig.getConnectionTimeToLiveMillis() > 0) {
+      connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(clientConfig.getConnectionTimeToLiveMillis()));
+    }
+    return connectionConfig.build();
+  }
+
+  static PoolingAsyncClientConnectionManager connectionManager(Config config, AsyncHttpClientConfig clientConfig) {
+    PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create()
+      .setMaxConnPerRoute(clientConfig.getMaxConnectionsPerRoute())
+      .setMaxConnTotal(clientConfig.getMaxConnectionsTotal())
+      .setDefaultConnectionConfig(connectionConfig(config, clientConfig));
+    if (clientConfig.isHttp2()) {
+      // HTTP/2 is negotiated with ALPN, HTTP/1.1 is used if the server does not offer it
+      builder.setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build());
+    }
+    return builder.build();
+  }
 }
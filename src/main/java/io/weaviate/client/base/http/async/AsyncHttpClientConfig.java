@@ -0,0 +1,65 @@
+package io.weaviate.client.base.http.async;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Transport settings of the async client.
+ * <p>
+ * With HTTP/2 enabled requests are multiplexed as streams over a single connection per host,
+ * instead of each in-flight request holding its own HTTP/1.1 connection.
+ * HTTP/2 is negotiated with ALPN over TLS only, plain text (h2c) connections and servers not offering HTTP/2
+ * fall back to HTTP/1.1. Connection pool limits and timeouts apply to both protocols.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AsyncHttpClientConfig {
+  /**
+   * Negotiate HTTP/2 (over TLS) instead of using HTTP/1.1.
+   */
+  boolean http2;
+  /**
+   * Max number of concurrent streams per HTTP/2 connection.
+   */
+  @Builder.Default
+  int http2MaxConcurrentStreams = 250;
+  /**
+   * Max number of connections per host.
+   */
+  @Builder.Default
+  int maxConnectionsPerRoute = 100;
+  /**
+   * Max number of connections in total.
+   */
+  @Builder.Default
+  int maxConnectionsTotal = 500;
+  /**
+   * Time to live of a connection in milliseconds, 0 for unlimited.
+   */
+  long connectionTimeToLiveMillis;
+  /**
+   * Pooled connections idle for longer than that are checked before being reused, negative value disables the check.
+   */
+  @Builder.Default
+  long validateAfterInactivityMillis = 2000;
+  /**
+   * Number of I/O dispatch threads, defaults to the number of available processors.
+   */
+  @Builder.Default
+  int ioThreadCount = Runtime.getRuntime().availableProcessors();
+  @Builder.Default
+  boolean tcpNoDelay = true;
+  /**
+   * Size of socket send buffer in bytes, 0 for system default.
+   */
+  int sendBufferSize;
+  /**
+   * Size of socket receive buffer in bytes, 0 for system default.
+   */
+  int receiveBufferSize;
+}
@@ -0,0 +1,37 @@
+package io.weaviate.client.base.http.async;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+public class WeaviateAggregateGroupsResponseConsumer extends AbstractAsyncResponseConsumer<Result<GraphQLStreamedResponse>, byte[]> {
+  private final Serializer serializer;
+  private final Consumer<AggregateGroup> consumer;
+
+  public WeaviateAggregateGroupsResponseConsumer(Consumer<AggregateGroup> consumer) {
+    super(new BasicAsyncEntityConsumer());
+    this.serializer = new Serializer();
+    this.consumer = consumer;
+  }
+
+  @Override
+  protected Result<GraphQLStreamedResponse> buildResult(HttpResponse response, byte[] entity, ContentType contentType) {
+    byte[] decompressed = WeaviateResponseConsumer.decompress(response, entity);
+    String body = (decompressed != null) ? new String(decompressed, StandardCharsets.UTF_8) : "";
+    return serializer.toAggregateGroupsResult(response.getCode(), body, consumer);
+  }
+
+  @Override
+  public void informationResponse(HttpResponse response, HttpContext context) throws HttpException, IOException {
+  }
+}
@@ -0,0 +1,36 @@
+package io.weaviate.client.base.http.async;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+public class WeaviateGraphQLMappedResponseConsumer<C> extends AbstractAsyncResponseConsumer<Result<GraphQLMappedResponse<C>>, byte[]> {
+  private final Serializer serializer;
+  private final GraphQLResultMapper<C> mapper;
+
+  public WeaviateGraphQLMappedResponseConsumer(GraphQLResultMapper<C> mapper) {
+    super(new BasicAsyncEntityConsumer());
+    this.serializer = new Serializer();
+    this.mapper = mapper;
+  }
+
+  @Override
+  protected Result<GraphQLMappedResponse<C>> buildResult(HttpResponse response, byte[] entity, ContentType contentType) {
+    byte[] decompressed = WeaviateResponseConsumer.decompress(response, entity);
+    String body = (decompressed != null) ? new String(decompressed, StandardCharsets.UTF_8) : "";
+    return serializer.toGraphQLMappedResult(response.getCode(), body, mapper);
+  }
+
+  @Override
+  public void informationResponse(HttpResponse response, HttpContext context) throws HttpException, IOException {
+  }
+}
@@ -24,7 +24,8 @@ public class WeaviateGraphQLTypedResponseConsumer<C> extends AbstractAsyncRespon
 
   @Override
   protected Result<GraphQLTypedResponse<C>> buildResult(HttpResponse response, byte[] entity, ContentType contentType) {
-    String body = (entity != null) ? new String(entity, StandardCharsets.UTF_8) : "";
+    byte[] decompressed = WeaviateResponseConsumer.decompress(response, entity);
+    String body = (decompressed != null) ? new String(decompressed, StandardCharsets.UTF_8) : "";
     return serializer.toGraphQLTypedResult(response.getCode(), body, classOfT);
   }
 
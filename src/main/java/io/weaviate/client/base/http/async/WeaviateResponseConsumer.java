@@ -2,10 +2,14 @@ package io.weaviate.client.base.http.async;
 
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.Serializer;
+import io.weaviate.client.base.http.Compression;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
 import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
@@ -25,13 +29,26 @@ public class WeaviateResponseConsumer<T> extends AbstractAsyncResponseConsumer<R
 
   @Override
   protected Result<T> buildResult(HttpResponse response, byte[] entity, ContentType contentType) {
-    String body = (entity != null) ? new String(entity, StandardCharsets.UTF_8) : "";
+    byte[] decompressed = decompress(response, entity);
+    String body = (decompressed != null) ? new String(decompressed, StandardCharsets.UTF_8) : "";
     if (this.parser != null) {
       return this.parser.parse(response, body, contentType);
     }
     return serializer.toResult(response.getCode(), body, classOfT);
   }
 
+  static byte[] decompress(HttpResponse response, byte[] entity) {
+    Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+    if (contentEncoding == null) {
+      return entity;
+    }
+    try {
+      return Compression.decompress(entity, contentEncoding.getValue());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public void informationResponse(HttpResponse response, HttpContext context) throws HttpException, IOException {
   }
@@ -1,10 +1,15 @@
 package io.weaviate.client.base.http.impl;
 
+import io.weaviate.client.base.http.Compression;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.base.http.HttpResponseReader;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -17,24 +22,35 @@ import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.message.BasicClassicHttpRequest;
 
 public class CommonsHttpClientImpl implements HttpClient, Closeable {
   private final Map<String, String> headers;
   private AccessTokenProvider tokenProvider;
   private final CloseableHttpClientBuilder clientBuilder;
+  private final Compression compression;
 
   public CommonsHttpClientImpl(Map<String, String> headers, CloseableHttpClientBuilder clientBuilder) {
     this(headers, null, clientBuilder);
   }
 
   public CommonsHttpClientImpl(Map<String, String> headers, AccessTokenProvider tokenProvider, CloseableHttpClientBuilder clientBuilder) {
+    this(headers, tokenProvider, clientBuilder, null);
+  }
+
+  /**
+   * @param compression if not null, request bodies above the threshold are compressed
+   */
+  public CommonsHttpClientImpl(Map<String, String> headers, AccessTokenProvider tokenProvider, CloseableHttpClientBuilder clientBuilder,
+                               Compression compression) {
     this.headers = headers;
     this.clientBuilder = clientBuilder;
     this.tokenProvider = tokenProvider;
+    this.compression = compression;
   }
 
   @Override
@@ -47,6 +63,23 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
     return sendRequestWithPayload(new HttpPost(url), json);
   }
 
+  @Override
+  public <R> R sendPostRequest(String url, String json, HttpResponseReader<R> reader) throws Exception {
+    HttpPost request = new HttpPost(url);
+    setPayload(request, json);
+    setHeaders(request);
+
+    try (CloseableHttpClient client = clientBuilder.build();
+         CloseableHttpResponse response = client.execute(request)) {
+      Reader body = response.getEntity() != null
+        ? new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8)
+        : new StringReader("");
+      try (Reader in = body) {
+        return reader.read(response.getCode(), in);
+      }
+    }
+  }
+
   @Override
   public HttpResponse sendPutRequest(String url, String json) throws Exception {
     return sendRequestWithPayload(new HttpPut(url), json);
@@ -76,19 +109,32 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
   }
 
   private HttpResponse sendRequestWithPayload(BasicClassicHttpRequest request, String jsonString) throws Exception {
+    setPayload(request, jsonString);
+    return sendRequest(request);
+  }
+
+  private void setPayload(BasicClassicHttpRequest request, String jsonString) {
     request.setHeader(HttpHeaders.ACCEPT, "application/json");
     request.setHeader(HttpHeaders.CONTENT_TYPE, "application/json");
-    request.setEntity(new StringEntity(jsonString, StandardCharsets.UTF_8));
-    return sendRequest(request);
+    byte[] body = jsonString.getBytes(StandardCharsets.UTF_8);
+    if (compression != null && compression.shouldCompress(body)) {
+      request.setEntity(new ByteArrayEntity(compression.compress(body), ContentType.APPLICATION_JSON, compression.getEncoding()));
+    } else {
+      request.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+    }
   }
 
-  private HttpResponse sendRequest(BasicClassicHttpRequest request) throws Exception {
+  private void setHeaders(BasicClassicHttpRequest request) {
     if (headers != null && headers.size() > 0) {
       headers.forEach(request::addHeader);
     }
     if (tokenProvider != null) {
       request.addHeader("Authorization", String.format("Bearer %s", tokenProvider.getAccessToken()));
     }
+  }
+
+  private HttpResponse sendRequest(BasicClassicHttpRequest request) throws Exception {
+    setHeaders(request);
 
     CloseableHttpClient client = clientBuilder.build();
     CloseableHttpResponse response = client.execute(request);
@@ -2,16 +2,23 @@ package io.weaviate.client.base.util;
 
 import java.util.Optional;
 
+/**
+ * Provides version of Weaviate, fetched lazily once first needed and cached afterwards.
+ * Safe to be shared between threads (and clients), concurrent callers share a single request.
+ * If the version could not be fetched, the next call tries again.
+ */
 public class DbVersionProvider {
 
   private static final String EMPTY_VERSION = "";
 
   private final VersionGetter getter;
-  private String version;
+  private final SingleFlight singleFlight;
+  private volatile String version;
 
 
   public DbVersionProvider(VersionGetter getter) {
     this.getter = getter;
+    this.singleFlight = new SingleFlight();
     this.version = EMPTY_VERSION;
   }
 
@@ -27,7 +34,7 @@ public class DbVersionProvider {
 
   public void refresh(boolean force) {
     if (force || EMPTY_VERSION.equals(version)) {
-      this.version = getter.get().orElse(EMPTY_VERSION);
+      this.version = singleFlight.execute(this, () -> getter.get().orElse(EMPTY_VERSION));
     }
   }
 
@@ -0,0 +1,174 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent asynchronous tasks concurrently, with at most given number of tasks running at the same time.
+ * <p>
+ * Optional deadline applies to the whole group. Once it passes, tasks still running are cancelled, tasks not yet
+ * started are skipped and the group completes with partial results: the slot of every unfinished task is filled
+ * with the fallback value. The fallback is also used for tasks completed exceptionally.
+ * Results are returned in the order of tasks.
+ */
+public class FanOut<T> {
+
+  private final List<Supplier<CompletableFuture<T>>> tasks;
+  private final BiFunction<Integer, Throwable, T> fallback;
+  private final AtomicReferenceArray<T> results;
+  private final AtomicReferenceArray<CompletableFuture<T>> running;
+  private final AtomicInteger next;
+  private final AtomicInteger remaining;
+  private final AtomicInteger startRequests;
+  private final AtomicBoolean done;
+  private final CompletableFuture<List<T>> future;
+
+  private FanOut(List<Supplier<CompletableFuture<T>>> tasks, BiFunction<Integer, Throwable, T> fallback) {
+    this.tasks = tasks;
+    this.fallback = fallback;
+    this.results = new AtomicReferenceArray<>(tasks.size());
+    this.running = new AtomicReferenceArray<>(tasks.size());
+    this.next = new AtomicInteger();
+    this.remaining = new AtomicInteger(tasks.size());
+    this.startRequests = new AtomicInteger();
+    this.done = new AtomicBoolean();
+    this.future = new CompletableFuture<>();
+  }
+
+  /**
+   * @param tasks         tasks to be run, each supplier starts a task
+   * @param parallelism   max number of tasks running at the same time
+   * @param timeoutMillis deadline for all tasks, 0 or less means no deadline
+   * @param fallback      creates result for a task that failed or did not finish before the deadline
+   *                      (index of the task, cause - {@link TimeoutException} if deadline passed)
+   * @param <T>           type of the result
+   * @return future completed with results of all tasks, in the order of tasks
+   */
+  public static <T> CompletableFuture<List<T>> run(List<Supplier<CompletableFuture<T>>> tasks, int parallelism,
+                                                   long timeoutMillis, BiFunction<Integer, Throwable, T> fallback) {
+    Assert.requireGreater(parallelism, 0, "parallelism");
+    if (tasks.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+
+    FanOut<T> fanOut = new FanOut<>(tasks, fallback);
+    if (timeoutMillis > 0) {
+      ScheduledFuture<?> deadline = Schedulers.timer().schedule(fanOut::expire, timeoutMillis, TimeUnit.MILLISECONDS);
+      fanOut.future.whenComplete((results, throwable) -> deadline.cancel(false));
+    }
+    for (int i = 0; i < Math.min(parallelism, tasks.size()); i++) {
+      fanOut.startNext();
+    }
+    return fanOut.future;
+  }
+
+  /**
+   * Describes a task that failed or did not finish before the deadline, to be used by fallbacks.
+   *
+   * @param task          name of the task the message starts with, e.g. "search 2"
+   * @param throwable     cause passed to the fallback
+   * @param timeoutMillis deadline the task was run with
+   */
+  public static WeaviateErrorMessage errorOf(String task, Throwable throwable, long timeoutMillis) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    String message = cause instanceof TimeoutException
+      ? String.format("%s did not complete within %sms", task, timeoutMillis)
+      : String.format("%s failed: %s", task, cause.getMessage());
+    return WeaviateErrorMessage.builder().message(message).throwable(cause).build();
+  }
+
+  /**
+   * Result with the error of a task that failed or did not finish before the deadline, see {@link #errorOf}.
+   */
+  public static <R> Result<R> failedResult(String task, Throwable throwable, long timeoutMillis) {
+    WeaviateErrorMessage error = errorOf(task, throwable, timeoutMillis);
+    return new Result<>(0, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+
+  /**
+   * Tasks may complete synchronously, starting the next task straight from the completion callback would then
+   * recurse as deep as the number of tasks. Instead only the first caller starts tasks, in a loop,
+   * other callers just register their request.
+   */
+  private void startNext() {
+    if (startRequests.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      start();
+    } while (startRequests.decrementAndGet() != 0);
+  }
+
+  private void start() {
+    int index = next.getAndIncrement();
+    if (index >= tasks.size() || done.get()) {
+      return;
+    }
+
+    CompletableFuture<T> task;
+    try {
+      task = tasks.get(index).get();
+    } catch (RuntimeException e) {
+      task = new CompletableFuture<>();
+      task.completeExceptionally(e);
+    }
+    running.set(index, task);
+    task.whenComplete((result, throwable) -> {
+      running.set(index, null);
+      if (done.get()) {
+        return;
+      }
+      results.compareAndSet(index, null, throwable != null ? fallback.apply(index, throwable) : result);
+      if (remaining.decrementAndGet() == 0) {
+        complete();
+      } else {
+        startNext();
+      }
+    });
+  }
+
+  private void expire() {
+    if (!done.compareAndSet(false, true)) {
+      return;
+    }
+    TimeoutException timeout = new TimeoutException("deadline exceeded");
+    for (int i = 0; i < tasks.size(); i++) {
+      CompletableFuture<T> task = running.get(i);
+      if (task != null) {
+        task.cancel(true);
+      }
+      results.compareAndSet(i, null, fallback.apply(i, timeout));
+    }
+    future.complete(collect());
+  }
+
+  private void complete() {
+    if (done.compareAndSet(false, true)) {
+      future.complete(collect());
+    }
+  }
+
+  private List<T> collect() {
+    List<T> list = new ArrayList<>(results.length());
+    for (int i = 0; i < results.length(); i++) {
+      list.add(results.get(i));
+    }
+    return list;
+  }
+}
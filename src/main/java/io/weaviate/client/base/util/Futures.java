@@ -1,28 +1,44 @@
 package io.weaviate.client.base.util;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import org.apache.hc.core5.concurrent.FutureCallback;
 
 public class Futures {
-
   private Futures() {
   }
 
+  /**
+   * Supplies future after given delay, without blocking any thread while waiting.
+   * Supplier is run by the executor (common pool if not given).
+   */
   public static <T> CompletableFuture<T> supplyDelayed(Supplier<CompletableFuture<T>> supplier, long millis,
-                                                       Executor executor) throws InterruptedException {
+                                                       Executor executor) {
     if (executor instanceof ScheduledExecutorService) {
       return CompletableFuture.supplyAsync(
         supplier,
         command -> ((ScheduledExecutorService) executor).schedule(command, millis, TimeUnit.MILLISECONDS)
       ).thenCompose(f -> f);
     }
-    Thread.sleep(millis);
-    return supplier.get();
+    Executor target = executor != null ? executor : ForkJoinPool.commonPool();
+    return CompletableFuture.supplyAsync(
+      supplier,
+      command -> Schedulers.timer().schedule(() -> target.execute(command), millis, TimeUnit.MILLISECONDS)
+    ).thenCompose(f -> f);
   }
 
   public static <T, U> CompletableFuture<U> thenComposeAsync(CompletableFuture<T> future, Function<T, CompletableFuture<U>> callback,
@@ -47,4 +63,139 @@ public class Futures {
     }
     return CompletableFuture.supplyAsync(supplier);
   }
+
+  /**
+   * Same as {@link CompletableFuture#supplyAsync(Supplier, Executor)}, but cancelling returned future also interrupts
+   * the thread running the supplier, so blocking calls abandoned (e.g. after a deadline) do not hold shared threads.
+   */
+  public static <T> CompletableFuture<T> supplyInterruptibly(Supplier<T> supplier, ExecutorService executor) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Future<?> task = executor.submit(() -> {
+      try {
+        future.complete(supplier.get());
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+      }
+    });
+    future.whenComplete((result, throwable) -> {
+      if (future.isCancelled()) {
+        task.cancel(true);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Creates callback completing given future, allows bridging http client's callbacks with CompletableFuture.
+   */
+  public static <T> FutureCallback<T> completing(CompletableFuture<T> future) {
+    return new FutureCallback<T>() {
+      @Override
+      public void completed(T result) {
+        future.complete(result);
+      }
+
+      @Override
+      public void failed(Exception ex) {
+        future.completeExceptionally(ex);
+      }
+
+      @Override
+      public void cancelled() {
+        future.cancel(false);
+      }
+    };
+  }
+
+  /**
+   * Starts the call bridging its callback with CompletableFuture. Cancelling returned future cancels the call.
+   */
+  public static <T> CompletableFuture<T> fromCallback(Function<FutureCallback<T>, Future<T>> call) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Future<T> running = call.apply(completing(future));
+    future.whenComplete((result, throwable) -> {
+      if (future.isCancelled()) {
+        running.cancel(true);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Bridges gRPC future with CompletableFuture, without blocking any thread. Cancelling returned future cancels the call.
+   */
+  public static <T> CompletableFuture<T> fromListenable(ListenableFuture<T> listenable) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    listenable.addListener(() -> {
+      try {
+        // already done, does not block
+        future.complete(listenable.get());
+      } catch (ExecutionException e) {
+        future.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+      } catch (CancellationException e) {
+        future.cancel(false);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        future.completeExceptionally(e);
+      }
+    }, MoreExecutors.directExecutor());
+    future.whenComplete((result, throwable) -> {
+      if (future.isCancelled()) {
+        listenable.cancel(true);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Notifies given callback (if any) once future is completed.
+   */
+  public static <T> CompletableFuture<T> notifying(CompletableFuture<T> future, FutureCallback<T> callback) {
+    if (callback == null) {
+      return future;
+    }
+    return future.whenComplete((result, throwable) -> {
+      if (throwable == null) {
+        callback.completed(result);
+        return;
+      }
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+      if (cause instanceof CancellationException) {
+        callback.cancelled();
+      } else if (cause instanceof Exception) {
+        callback.failed((Exception) cause);
+      } else {
+        callback.failed(new CompletionException(cause));
+      }
+    });
+  }
+
+  /**
+   * Runs the attempt, repeating it (after exponentially growing delay) while it fails or its result
+   * should be retried, at most given number of times. Last outcome is returned once retries are exhausted.
+   *
+   * @param attempt            starts an attempt
+   * @param shouldRetry        whether given result should be retried
+   * @param maxRetries         max number of retries, 0 means attempt is run once
+   * @param initialDelayMillis delay before the first retry, doubled for every next one
+   * @param executor           executor running delayed attempts (common pool if not given)
+   */
+  public static <T> CompletableFuture<T> retrying(Supplier<CompletableFuture<T>> attempt, Predicate<T> shouldRetry,
+                                                  int maxRetries, long initialDelayMillis, Executor executor) {
+    return retrying(attempt.get(), attempt, shouldRetry, maxRetries, initialDelayMillis, executor);
+  }
+
+  private static <T> CompletableFuture<T> retrying(CompletableFuture<T> current, Supplier<CompletableFuture<T>> attempt,
+                                                   Predicate<T> shouldRetry, int retriesLeft, long delayMillis,
+                                                   Executor executor) {
+    if (retriesLeft <= 0) {
+      return current;
+    }
+    return current.handle((result, throwable) -> throwable != null || shouldRetry.test(result))
+      .thenCompose(retry -> retry
+        ? retrying(supplyDelayed(attempt, delayMillis, executor), attempt, shouldRetry, retriesLeft - 1, delayMillis * 2, executor)
+        : current);
+  }
 }
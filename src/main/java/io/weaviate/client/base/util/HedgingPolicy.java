@@ -0,0 +1,201 @@
+package io.weaviate.client.base.util;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Getter;
+
+/**
+ * Hedges idempotent reads: if no response arrived within the hedging delay, a second identical request is sent
+ * and whichever successful response comes first is used, the other request is cancelled.
+ * <p>
+ * The delay follows given percentile of latencies observed recently (until enough latencies are observed
+ * the initial delay is used), so only the slowest requests get hedged. Number of hedged requests is limited by
+ * the budget: hedges never exceed given percentage of all requests, so the load grows by at most that much.
+ * <p>
+ * The policy is stateful and should be shared by all requests of a client.
+ */
+public class HedgingPolicy {
+  public static final double DEFAULT_PERCENTILE = 95;
+  public static final long DEFAULT_INITIAL_DELAY_MILLIS = 100;
+  public static final double DEFAULT_BUDGET_PERCENT = 10;
+
+  // latencies of that many recent requests determine the delay
+  private static final int WINDOW_SIZE = 1000;
+  // delay is recalculated every that many requests
+  private static final int RECALCULATE_EVERY = 50;
+  // budget is kept in hundredths of percent of a request, to avoid rounding errors
+  private static final long HEDGE_COST = 100 * 100;
+  // max number of hedges which can be sent in a burst
+  private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+  @Getter
+  private final double percentile;
+  @Getter
+  private final long initialDelayMillis;
+  @Getter
+  private final double budgetPercent;
+  private final long budgetPerRequest;
+
+  private final long[] latencies = new long[WINDOW_SIZE];
+  private int latenciesCount;
+  private int latenciesNext;
+  private volatile long delayMillis;
+  private long budget;
+
+  public HedgingPolicy() {
+    this(DEFAULT_PERCENTILE, DEFAULT_INITIAL_DELAY_MILLIS, DEFAULT_BUDGET_PERCENT);
+  }
+
+  /**
+   * @param percentile         percentile of observed latencies after which request is hedged, e.g. 95
+   * @param initialDelayMillis delay used until enough latencies are observed
+   * @param budgetPercent      max number of hedged requests, as percentage of all requests, e.g. 10
+   */
+  public HedgingPolicy(double percentile, long initialDelayMillis, double budgetPercent) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile should be within (0, 100]");
+    }
+    if (initialDelayMillis < 0) {
+      throw new IllegalArgumentException("initialDelayMillis should be greater than or equal 0");
+    }
+    if (budgetPercent < 0) {
+      throw new IllegalArgumentException("budgetPercent should be greater than or equal 0");
+    }
+    this.percentile = percentile;
+    this.initialDelayMillis = initialDelayMillis;
+    this.budgetPercent = budgetPercent;
+    this.delayMillis = initialDelayMillis;
+    this.budgetPerRequest = Math.round(budgetPercent * 100);
+  }
+
+  /**
+   * @return current delay after which request is hedged
+   */
+  public long getDelayMillis() {
+    return delayMillis;
+  }
+
+  /**
+   * Executes the request, hedging it if needed.
+   *
+   * @param request starts the request, called once more for the hedged request;
+   *                cancelling the returned future should abort the request
+   * @param <T>     type of the response
+   * @return future completed with the first response
+   */
+  public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+    return execute(request, value -> false);
+  }
+
+  /**
+   * Executes the request, hedging it if needed. Responses considered failed (e.g. results of server errors)
+   * are used only if there is no other request which could still succeed.
+   *
+   * @param request   starts the request, called once more for the hedged request;
+   *                  cancelling the returned future should abort the request
+   * @param isFailure tells whether the response is a failure
+   * @param <T>       type of the response
+   * @return future completed with the first successful response, or the last failed one
+   */
+  public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request, Predicate<T> isFailure) {
+    depositBudget();
+
+    CompletableFuture<T> response = new CompletableFuture<>();
+    AtomicInteger running = new AtomicInteger(1);
+    CompletableFuture<T> primary = start(request, isFailure, response, running);
+    if (response.isDone()) {
+      return response;
+    }
+
+    ScheduledFuture<?> hedge = Schedulers.timer().schedule(() -> {
+      if (response.isDone() || !withdrawBudget()) {
+        return;
+      }
+      running.incrementAndGet();
+      CompletableFuture<T> secondary = start(request, isFailure, response, running);
+      response.whenComplete((value, throwable) -> secondary.cancel(true));
+    }, delayMillis, TimeUnit.MILLISECONDS);
+    response.whenComplete((value, throwable) -> {
+      hedge.cancel(false);
+      primary.cancel(true);
+    });
+    return response;
+  }
+
+  private <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> request, Predicate<T> isFailure,
+                                         CompletableFuture<T> response, AtomicInteger running) {
+    long start = System.nanoTime();
+    CompletableFuture<T> attempt;
+    try {
+      attempt = request.get();
+    } catch (RuntimeException e) {
+      attempt = new CompletableFuture<>();
+      attempt.completeExceptionally(e);
+    }
+    attempt.whenComplete((value, throwable) -> {
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      if (throwable == null && !isFailure.test(value)) {
+        recordLatency(elapsedMillis);
+        response.complete(value);
+        return;
+      }
+      if (isCancellation(throwable)) {
+        // request lost to the other one, it would have taken at least that long,
+        // leaving it out would skew the delay towards the fast requests
+        recordLatency(elapsedMillis);
+      }
+      // failure is reported only if there is no other request which could still succeed
+      if (running.decrementAndGet() == 0 && !isCancellation(throwable)) {
+        if (throwable != null) {
+          response.completeExceptionally(throwable);
+        } else {
+          response.complete(value);
+        }
+      }
+    });
+    return attempt;
+  }
+
+  private synchronized void recordLatency(long millis) {
+    latencies[latenciesNext] = millis;
+    latenciesNext = (latenciesNext + 1) % WINDOW_SIZE;
+    if (latenciesCount < WINDOW_SIZE) {
+      latenciesCount++;
+    }
+    if (latenciesCount >= RECALCULATE_EVERY && latenciesNext % RECALCULATE_EVERY == 0) {
+      long[] sorted = Arrays.copyOf(latencies, latenciesCount);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+      delayMillis = sorted[Math.max(0, index)];
+    }
+  }
+
+  private synchronized void depositBudget() {
+    budget = Math.min(MAX_BUDGET, budget + budgetPerRequest);
+  }
+
+  private synchronized boolean withdrawBudget() {
+    if (budget < HEDGE_COST) {
+      return false;
+    }
+    budget -= HEDGE_COST;
+    return true;
+  }
+
+  private static boolean isCancellation(Throwable throwable) {
+    if (throwable == null) {
+      return false;
+    }
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    return cause instanceof CancellationException;
+  }
+}
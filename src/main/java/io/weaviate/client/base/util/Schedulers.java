@@ -0,0 +1,72 @@
+package io.weaviate.client.base.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedulers and executors shared by all clients, running on daemon threads so they never keep the JVM alive.
+ * <p>
+ * Tasks are owned by the components scheduling them, which cancel them once their client is closed.
+ */
+public class Schedulers {
+  private static final ScheduledExecutorService TIMER = create("weaviate-timer", 1);
+  private static final ScheduledExecutorService BACKGROUND = create("weaviate-background", 2);
+  private static final int REQUEST_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+  private static final ExecutorService REQUESTS = createRequests();
+
+  private Schedulers() {
+  }
+
+  /**
+   * @return scheduler for short, non-blocking actions fired after a delay (hedges, deadlines, retry delays)
+   */
+  public static ScheduledExecutorService timer() {
+    return TIMER;
+  }
+
+  /**
+   * @return scheduler for periodic background work which may block on requests to Weaviate
+   * (host probes, topology, schema and token refreshes, tenant activity updates)
+   */
+  public static ScheduledExecutorService background() {
+    return BACKGROUND;
+  }
+
+  /**
+   * @return bounded pool sending blocking requests concurrently on behalf of a single sync call
+   * (e.g. searches of a multi search or chunks of a bulk operation); the call itself limits how many of its
+   * requests run at once, requests above the pool size wait in the queue
+   */
+  public static ExecutorService requests() {
+    return REQUESTS;
+  }
+
+  private static ExecutorService createRequests() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(REQUEST_THREADS, REQUEST_THREADS, 60, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(), daemonThreads("weaviate-requests"));
+    // idle clients hold no threads
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static ScheduledExecutorService create(String name, int threads) {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, daemonThreads(name));
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  static ThreadFactory daemonThreads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
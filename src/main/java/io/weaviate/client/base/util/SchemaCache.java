@@ -0,0 +1,218 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.v1.schema.model.Property;
+import io.weaviate.client.v1.schema.model.Schema;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Keeps the schema fetched from Weaviate, so that reading classes (and data types of their properties)
+ * does not require a request every time.
+ * <p>
+ * Schema is fetched on the first use and once it is older than the TTL (concurrent callers wait for a single fetch),
+ * optionally it is also refreshed periodically in the background. Changes of the schema made through the client
+ * (creating, updating, deleting classes and adding properties) invalidate the cache. Every invalidation bumps
+ * the version of the cache, a schema fetched before the latest invalidation is never considered fresh,
+ * so a fetch racing with a schema change can not bring back the old schema.
+ * Changes made by other clients are noticed once the cached schema expires.
+ */
+public class SchemaCache {
+  public static final long DEFAULT_TTL_MILLIS = 60_000;
+
+  private static final Snapshot EMPTY = new Snapshot(null, Collections.emptyMap(), -1, 0);
+
+  private final long ttlMillis;
+  private final long refreshIntervalMillis;
+  private final SingleFlight singleFlight;
+  private final AtomicLong version;
+  private volatile Snapshot snapshot;
+  private volatile Supplier<Schema> source;
+  private ScheduledFuture<?> refresh;
+
+  public SchemaCache() {
+    this(DEFAULT_TTL_MILLIS, 0);
+  }
+
+  /**
+   * @param ttlMillis             schema older than that is fetched again on the next use
+   * @param refreshIntervalMillis interval of refreshing the schema in the background, 0 or less disables it
+   */
+  public SchemaCache(long ttlMillis, long refreshIntervalMillis) {
+    this.ttlMillis = ttlMillis;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+    this.singleFlight = new SingleFlight();
+    this.version = new AtomicLong();
+    this.snapshot = EMPTY;
+  }
+
+  /**
+   * Sets the source of the schema and starts refreshing it in the background (if enabled).
+   *
+   * @param source fetches the schema, returns null if it could not be fetched
+   */
+  public synchronized void setSchemaSource(Supplier<Schema> source) {
+    this.source = source;
+    if (refresh != null) {
+      refresh.cancel(false);
+      refresh = null;
+    }
+    if (refreshIntervalMillis > 0) {
+      refresh = Schedulers.background().scheduleWithFixedDelay(() -> {
+        try {
+          fetch();
+        } catch (RuntimeException e) {
+          // keep the cached schema until it expires
+        }
+      }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Clears the source and stops refreshing the schema, unless another source was set meanwhile.
+   *
+   * @param source source set before, e.g. by the client being closed
+   */
+  public synchronized void removeSchemaSource(Supplier<Schema> source) {
+    if (this.source == source) {
+      this.source = null;
+      shutdown();
+    }
+  }
+
+  /**
+   * Stops refreshing the schema.
+   */
+  public synchronized void shutdown() {
+    if (refresh != null) {
+      refresh.cancel(false);
+      refresh = null;
+    }
+  }
+
+  /**
+   * Marks the cached schema stale, it is fetched again on the next use.
+   */
+  public void invalidate() {
+    version.incrementAndGet();
+  }
+
+  /**
+   * @return schema, fetched if the cached one is not fresh; null if it could not be fetched
+   */
+  public Schema getSchema() {
+    return current().schema;
+  }
+
+  /**
+   * @return class with the given name, fetched if the cached schema is not fresh; null if not known
+   */
+  public WeaviateClass getClass(String className) {
+    if (StringUtils.isBlank(className)) {
+      return null;
+    }
+    return current().classes.get(StringUtils.capitalize(className));
+  }
+
+  /**
+   * Same as {@link #getClass(String)}, but never fetches the schema, does not block.
+   *
+   * @return class with the given name if the cached schema is fresh, otherwise null
+   */
+  public WeaviateClass getFreshClass(String className) {
+    Snapshot cached = snapshot;
+    if (StringUtils.isBlank(className) || !isFresh(cached)) {
+      return null;
+    }
+    return cached.classes.get(StringUtils.capitalize(className));
+  }
+
+  /**
+   * Same as {@link #getSchema()}, but never fetches the schema, does not block.
+   *
+   * @return schema if the cached one is fresh, otherwise null
+   */
+  public Schema getFreshSchema() {
+    Snapshot cached = snapshot;
+    return isFresh(cached) ? cached.schema : null;
+  }
+
+  /**
+   * @return data type of the property of the class (e.g. int[]), null if the property is not known
+   */
+  public String getDataType(String className, String propertyName) {
+    WeaviateClass weaviateClass = getClass(className);
+    if (weaviateClass == null || weaviateClass.getProperties() == null) {
+      return null;
+    }
+    for (Property property : weaviateClass.getProperties()) {
+      if (property.getName() != null && property.getName().equals(propertyName)) {
+        List<String> dataType = property.getDataType();
+        return dataType != null && !dataType.isEmpty() ? dataType.get(0) : null;
+      }
+    }
+    return null;
+  }
+
+  private Snapshot current() {
+    Snapshot cached = snapshot;
+    if (isFresh(cached)) {
+      return cached;
+    }
+    // callers arriving after an invalidation do not join a fetch started before it
+    return singleFlight.execute(Arrays.asList("schema", version.get()), this::fetch);
+  }
+
+  private Snapshot fetch() {
+    Supplier<Schema> schemaSource = source;
+    if (schemaSource == null) {
+      return EMPTY;
+    }
+    long fetchedVersion = version.get();
+    Schema schema = schemaSource.get();
+    if (schema == null) {
+      return snapshot;
+    }
+
+    Map<String, WeaviateClass> classes = new HashMap<>();
+    if (schema.getClasses() != null) {
+      for (WeaviateClass weaviateClass : schema.getClasses()) {
+        classes.put(StringUtils.capitalize(weaviateClass.getClassName()), weaviateClass);
+      }
+    }
+    Snapshot fetched = new Snapshot(schema, classes, fetchedVersion, System.currentTimeMillis());
+    synchronized (this) {
+      // do not replace schema fetched after this one
+      if (fetched.version >= snapshot.version) {
+        snapshot = fetched;
+      }
+    }
+    return fetched;
+  }
+
+  private boolean isFresh(Snapshot cached) {
+    return cached.version == version.get() && System.currentTimeMillis() - cached.fetchedAtMillis < ttlMillis;
+  }
+
+  private static class Snapshot {
+    final Schema schema;
+    final Map<String, WeaviateClass> classes;
+    final long version;
+    final long fetchedAtMillis;
+
+    Snapshot(Schema schema, Map<String, WeaviateClass> classes, long version, long fetchedAtMillis) {
+      this.schema = schema;
+      this.classes = classes;
+      this.version = version;
+      this.fetchedAtMillis = fetchedAtMillis;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package io.weaviate.client.base.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions sharing the same key into a single call.
+ * <p>
+ * The first caller of a given key (the leader) executes the supplier, every other caller arriving
+ * while the leader's call is still in flight waits for and receives the very same result.
+ * Once the call completes the key is released, so subsequent callers trigger a fresh execution.
+ * Results are shared as is, therefore callers should treat them as read only.
+ */
+public class SingleFlight {
+  private final ConcurrentMap<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Executes the supplier in the calling thread, unless a call with the same key is already running.
+   * In that case waits for the running call and returns its result.
+   *
+   * @param key      identity of the call, has to implement equals/hashCode
+   * @param supplier call to be executed
+   * @param <V>      type of the result
+   * @return result of the call
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V execute(Object key, Supplier<V> supplier) {
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> running = (CompletableFuture<V>) inFlight.putIfAbsent(key, call);
+    if (running != null) {
+      try {
+        return running.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    try {
+      V value = supplier.get();
+      inFlight.remove(key, call);
+      call.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, call);
+      call.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Starts the asynchronous call, unless a call with the same key is already running.
+   * In that case the returned future completes together with the running call.
+   * <p>
+   * Each caller gets its own dependent future, so cancelling it does not affect other callers.
+   *
+   * @param key      identity of the call, has to implement equals/hashCode
+   * @param supplier starts the call
+   * @param <V>      type of the result
+   * @return future completed with the result of the call
+   */
+  @SuppressWarnings("unchecked")
+  public <V> CompletableFuture<V> executeAsync(Object key, Supplier<CompletableFuture<V>> supplier) {
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> running = (CompletableFuture<V>) inFlight.putIfAbsent(key, call);
+    if (running != null) {
+      return running.thenApply(value -> value);
+    }
+
+    try {
+      supplier.get().whenComplete((value, throwable) -> {
+        inFlight.remove(key, call);
+        if (throwable != null) {
+          call.completeExceptionally(throwable);
+        } else {
+          call.complete(value);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.remove(key, call);
+      call.completeExceptionally(e);
+    }
+    return call.thenApply(value -> value);
+  }
+
+  /**
+   * @return number of calls currently in flight
+   */
+  public int size() {
+    return inFlight.size();
+  }
+}
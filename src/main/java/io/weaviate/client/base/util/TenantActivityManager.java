@@ -0,0 +1,326 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.v1.schema.model.ActivityStatus;
+import io.weaviate.client.v1.schema.model.Tenant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Keeps tenants used by the client active, so their data is loaded on the nodes only while being worked with.
+ * <p>
+ * Activity statuses of the tenants are cached, fetched once per class on the first use. A query or batch
+ * targeting a tenant that is not active (e.g. COLD or FROZEN) activates it first. Concurrent requests for the same
+ * tenant wait for a single activation, and tenants of the same class requested within a short window are
+ * activated with a single request.
+ * <p>
+ * Optionally, tenants used by the client and idle for longer than the threshold are deactivated (set COLD)
+ * in the background. This is disabled by default: idleness reflects only the usage of this client, so when
+ * several clients (e.g. instances of a service) work with the same tenants, one of them deactivates tenants
+ * the others are still querying. Enable it only if this client is the only one using the tenants.
+ * <p>
+ * Statuses changed by other clients are not noticed, call {@link #invalidate(String)} to refetch them.
+ * Activation of an offloaded (FROZEN) tenant only starts onloading it, requests may fail until it completes.
+ */
+public class TenantActivityManager {
+  public static final long DEFAULT_ACTIVATION_DELAY_MILLIS = 10;
+
+  private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+  private final long idleThresholdMillis;
+  private final long activationDelayMillis;
+  private final SingleFlight singleFlight;
+  // class name -> tenant name -> state
+  private final ConcurrentMap<String, ConcurrentMap<String, TenantState>> classes;
+  // class name -> tenants waiting for activation
+  private final Map<String, PendingActivation> pending;
+  private volatile TenantsSource source;
+  private ScheduledFuture<?> deactivation;
+
+  /**
+   * Creates manager activating tenants, but never deactivating them.
+   */
+  public TenantActivityManager() {
+    this(0, DEFAULT_ACTIVATION_DELAY_MILLIS);
+  }
+
+  /**
+   * @param idleThresholdMillis   tenants not used by this client for that long are deactivated,
+   *                              0 or less disables deactivation (see the caveat of multiple clients above)
+   * @param activationDelayMillis time activations of tenants of the same class are collected before being sent together
+   */
+  public TenantActivityManager(long idleThresholdMillis, long activationDelayMillis) {
+    this.idleThresholdMillis = idleThresholdMillis;
+    this.activationDelayMillis = activationDelayMillis;
+    this.singleFlight = new SingleFlight();
+    this.classes = new ConcurrentHashMap<>();
+    this.pending = new HashMap<>();
+  }
+
+  /**
+   * Sets the source of tenants and starts deactivating idle tenants periodically.
+   */
+  public synchronized void setTenantsSource(TenantsSource source) {
+    this.source = source;
+    if (deactivation != null) {
+      deactivation.cancel(false);
+      deactivation = null;
+    }
+    if (idleThresholdMillis > 0) {
+      long interval = Math.max(1000, idleThresholdMillis / 4);
+      deactivation = Schedulers.background().scheduleWithFixedDelay(() -> {
+        try {
+          deactivateIdle();
+        } catch (RuntimeException e) {
+          // try again on the next run
+        }
+      }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Clears the source and stops deactivating idle tenants, unless another source was set meanwhile.
+   *
+   * @param source source set before, e.g. by the client being closed
+   */
+  public synchronized void removeTenantsSource(TenantsSource source) {
+    if (this.source == source) {
+      this.source = null;
+      shutdown();
+    }
+  }
+
+  /**
+   * Stops deactivating idle tenants.
+   */
+  public synchronized void shutdown() {
+    if (deactivation != null) {
+      deactivation.cancel(false);
+      deactivation = null;
+    }
+  }
+
+  /**
+   * Forgets cached statuses of tenants of the given class, they are fetched again on the next use.
+   */
+  public void invalidate(String className) {
+    classes.remove(StringUtils.capitalize(className));
+  }
+
+  /**
+   * Marks the tenant as used and activates it if it is not active.
+   * Returned future never fails, requests are expected to be sent even if activation did not succeed.
+   *
+   * @param className name of the class
+   * @param tenant    name of the tenant, may be null
+   * @return future completed once the tenant is active (or activation failed)
+   */
+  public CompletableFuture<Void> activate(String className, String tenant) {
+    TenantsSource tenantsSource = source;
+    if (tenantsSource == null || StringUtils.isBlank(className) || StringUtils.isBlank(tenant)) {
+      return DONE;
+    }
+    String classKey = StringUtils.capitalize(className);
+    ConcurrentMap<String, TenantState> tenants = classes.get(classKey);
+    if (tenants != null) {
+      return activate(classKey, tenants, tenant);
+    }
+    return singleFlight.<ConcurrentMap<String, TenantState>>executeAsync(Arrays.asList("load", classKey),
+        () -> CompletableFuture.supplyAsync(() -> loadTenants(tenantsSource, classKey), Schedulers.background()))
+      .handle((loaded, throwable) -> loaded)
+      .thenCompose(loaded -> loaded != null ? activate(classKey, loaded, tenant) : DONE);
+  }
+
+  private CompletableFuture<Void> activate(String classKey, ConcurrentMap<String, TenantState> tenants, String tenant) {
+    // tenants unknown yet were created after statuses were fetched, new tenants are active
+    TenantState state = tenants.computeIfAbsent(tenant, name -> new TenantState(ActivityStatus.HOT));
+    CompletableFuture<Void> deactivating;
+    synchronized (state) {
+      state.lastUsedMillis = System.currentTimeMillis();
+      if (isActive(state.status)) {
+        return DONE;
+      }
+      deactivating = state.deactivating;
+    }
+    if (deactivating != null) {
+      // activate once the deactivation landed, so it does not override the activation
+      return deactivating.thenCompose(done -> activate(classKey, tenants, tenant));
+    }
+    return singleFlight.<Void>executeAsync(Arrays.asList("activate", classKey, tenant), () -> requestActivation(classKey, tenant))
+      .handle((result, throwable) -> null);
+  }
+
+  private CompletableFuture<Void> requestActivation(String classKey, String tenant) {
+    synchronized (pending) {
+      PendingActivation activation = pending.get(classKey);
+      if (activation == null) {
+        activation = new PendingActivation();
+        pending.put(classKey, activation);
+        Schedulers.background().schedule(() -> flushActivations(classKey), activationDelayMillis, TimeUnit.MILLISECONDS);
+      }
+      activation.tenants.add(tenant);
+      return activation.done;
+    }
+  }
+
+  private void flushActivations(String classKey) {
+    PendingActivation activation;
+    synchronized (pending) {
+      activation = pending.remove(classKey);
+    }
+    if (activation == null) {
+      return;
+    }
+    try {
+      updateStatuses(classKey, activation.tenants, ActivityStatus.HOT);
+    } finally {
+      activation.done.complete(null);
+    }
+  }
+
+  /**
+   * Deactivates tenants used by this client and idle for longer than the threshold.
+   * Every tenant is checked again right before being marked COLD, under the same lock a request marks it used,
+   * so a tenant used meanwhile is kept active and requests arriving later wait for the deactivation
+   * before activating the tenant again.
+   */
+  void deactivateIdle() {
+    if (idleThresholdMillis <= 0) {
+      return;
+    }
+    long idleSince = System.currentTimeMillis() - idleThresholdMillis;
+    classes.forEach((classKey, tenants) -> {
+      Map<String, TenantState> idle = new LinkedHashMap<>();
+      tenants.forEach((name, state) -> {
+        synchronized (state) {
+          if (state.lastUsedMillis > 0 && state.lastUsedMillis < idleSince && isActive(state.status)
+            && state.deactivating == null) {
+            state.previousStatus = state.status;
+            state.status = ActivityStatus.COLD;
+            state.deactivating = new CompletableFuture<>();
+            idle.put(name, state);
+          }
+        }
+      });
+      if (!idle.isEmpty()) {
+        deactivate(classKey, idle);
+      }
+    });
+  }
+
+  private void deactivate(String classKey, Map<String, TenantState> idle) {
+    boolean updated = false;
+    try {
+      TenantsSource tenantsSource = source;
+      if (tenantsSource != null) {
+        List<Tenant> updates = new ArrayList<>();
+        idle.keySet().forEach(name -> updates.add(Tenant.builder().name(name).activityStatus(ActivityStatus.COLD).build()));
+        updated = tenantsSource.updateTenants(classKey, updates.toArray(new Tenant[0]));
+      }
+    } finally {
+      for (TenantState state : idle.values()) {
+        CompletableFuture<Void> deactivating;
+        synchronized (state) {
+          if (!updated) {
+            state.status = state.previousStatus;
+          }
+          deactivating = state.deactivating;
+          state.deactivating = null;
+        }
+        deactivating.complete(null);
+      }
+    }
+  }
+
+  private void updateStatuses(String classKey, Iterable<String> tenantNames, String status) {
+    TenantsSource tenantsSource = source;
+    ConcurrentMap<String, TenantState> tenants = classes.get(classKey);
+    if (tenantsSource == null || tenants == null) {
+      return;
+    }
+    List<Tenant> updates = new ArrayList<>();
+    tenantNames.forEach(name -> updates.add(Tenant.builder().name(name).activityStatus(status).build()));
+    if (tenantsSource.updateTenants(classKey, updates.toArray(new Tenant[0]))) {
+      updates.forEach(update -> tenants.computeIfAbsent(update.getName(), name -> new TenantState(status)).status = status);
+    }
+  }
+
+  private ConcurrentMap<String, TenantState> loadTenants(TenantsSource tenantsSource, String classKey) {
+    Tenant[] tenants = tenantsSource.getTenants(classKey);
+    if (tenants == null) {
+      return null;
+    }
+    ConcurrentMap<String, TenantState> states = new ConcurrentHashMap<>();
+    for (Tenant tenant : tenants) {
+      states.put(tenant.getName(), new TenantState(tenant.getActivityStatus()));
+    }
+    ConcurrentMap<String, TenantState> existing = classes.putIfAbsent(classKey, states);
+    return existing != null ? existing : states;
+  }
+
+  /**
+   * @return states of the tenants of the given class known so far, for inspection
+   */
+  Map<String, String> statuses(String className) {
+    ConcurrentMap<String, TenantState> tenants = classes.get(StringUtils.capitalize(className));
+    if (tenants == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> statuses = new HashMap<>();
+    tenants.forEach((name, state) -> statuses.put(name, state.status));
+    return statuses;
+  }
+
+  private static boolean isActive(String status) {
+    // transitions to active state are already on their way
+    return status == null
+      || ActivityStatus.HOT.equals(status)
+      || ActivityStatus.ACTIVE.equals(status)
+      || ActivityStatus.UNFREEZING.equals(status)
+      || ActivityStatus.ONLOADING.equals(status);
+  }
+
+  /**
+   * Fetches and updates tenants, calls are made from a background thread and may block.
+   */
+  public interface TenantsSource {
+    /**
+     * @return tenants of the class, null if they could not be fetched
+     */
+    Tenant[] getTenants(String className);
+
+    /**
+     * @return whether the tenants were updated
+     */
+    boolean updateTenants(String className, Tenant[] tenants);
+  }
+
+  private static class TenantState {
+    volatile String status;
+    volatile long lastUsedMillis;
+    // guarded by the state itself
+    String previousStatus;
+    CompletableFuture<Void> deactivating;
+
+    TenantState(String status) {
+      this.status = status;
+    }
+  }
+
+  private static class PendingActivation {
+    final Set<String> tenants = new LinkedHashSet<>();
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+  }
+}
@@ -0,0 +1,42 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.base.Result;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.HttpStatus;
+
+public class TransientErrors {
+
+  private TransientErrors() {
+  }
+
+  /**
+   * Connection failures (status 0), throttling and server errors are worth retrying.
+   */
+  public static boolean isTransient(Result<?> result) {
+    if (result == null || !result.hasErrors()) {
+      return false;
+    }
+    int statusCode = result.getError().getStatusCode();
+    return statusCode == 0 || statusCode == HttpStatus.SC_TOO_MANY_REQUESTS || statusCode >= HttpStatus.SC_SERVER_ERROR;
+  }
+
+  /**
+   * Failures to connect to the host mean the request was not sent at all, so it is safe to send it elsewhere,
+   * even if it is not idempotent.
+   */
+  public static boolean isConnectionFailure(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+        || cause instanceof UnknownHostException || cause instanceof ConnectTimeoutException) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+}
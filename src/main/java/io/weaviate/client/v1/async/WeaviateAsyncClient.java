@@ -2,10 +2,13 @@ package io.weaviate.client.v1.async;
 
 import io.weaviate.client.Config;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HostPool;
 import io.weaviate.client.base.http.async.AsyncHttpClient;
 import io.weaviate.client.base.util.DbVersionProvider;
 import io.weaviate.client.base.util.DbVersionSupport;
 import io.weaviate.client.base.util.GrpcVersionSupport;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.base.util.TenantActivityManager;
 import io.weaviate.client.v1.async.backup.Backup;
 import io.weaviate.client.v1.async.batch.Batch;
 import io.weaviate.client.v1.async.classifications.Classifications;
@@ -15,9 +18,15 @@ import io.weaviate.client.v1.async.graphql.GraphQL;
 import io.weaviate.client.v1.async.misc.Misc;
 import io.weaviate.client.v1.async.schema.Schema;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.cluster.model.NodeStatusOutput;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
 import io.weaviate.client.v1.misc.model.Meta;
+import io.weaviate.client.v1.schema.model.Tenant;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.io.CloseMode;
 
@@ -27,17 +36,75 @@ public class WeaviateAsyncClient implements AutoCloseable {
   private final DbVersionSupport dbVersionSupport;
   private final GrpcVersionSupport grpcVersionSupport;
   private final AccessTokenProvider tokenProvider;
+  private final SingleFlight singleFlight;
+  // sources registered by this client, null if left to the sync client
+  private final Predicate<HostPool.Host> readyProbe;
+  private final Supplier<NodesStatusResponse> nodesStatusSource;
+  private final TenantActivityManager.TenantsSource tenantsSource;
+  private final Supplier<io.weaviate.client.v1.schema.model.Schema> schemaSource;
+  private volatile boolean closed;
 
   public WeaviateAsyncClient(Config config, AccessTokenProvider tokenProvider) {
+    this(config, tokenProvider, null);
+  }
+
+  /**
+   * Creates client sharing the db version provider (and thus a single version probe) with the sync client.
+   * Probing hosts and refreshing the shards topology is then left to the sync client.
+   *
+   * @param dbVersionProvider provider of the sync client, null if the client is standalone
+   */
+  public WeaviateAsyncClient(Config config, AccessTokenProvider tokenProvider, DbVersionProvider dbVersionProvider) {
     this.config = config;
     this.client = AsyncHttpClient.create(config);
     // auto start the client
     this.start();
-    // init the db version provider and get the version info
-    DbVersionProvider dbVersionProvider = initDbVersionProvider();
-    this.dbVersionSupport = new DbVersionSupport(dbVersionProvider);
-    this.grpcVersionSupport = new GrpcVersionSupport(dbVersionProvider);
+    // version is fetched lazily, once first needed
+    DbVersionProvider versionProvider = dbVersionProvider != null ? dbVersionProvider : initDbVersionProvider();
+    this.dbVersionSupport = new DbVersionSupport(versionProvider);
+    this.grpcVersionSupport = new GrpcVersionSupport(versionProvider);
     this.tokenProvider = tokenProvider;
+    this.singleFlight = new SingleFlight();
+    boolean ownsBackgroundTasks = dbVersionProvider == null;
+    this.readyProbe = ownsBackgroundTasks && config.getHostPool() != null
+      ? host -> isReady(config.forHost(host.getHost()))
+      : null;
+    this.nodesStatusSource = ownsBackgroundTasks && config.getShardRouter() != null
+      ? this::getNodesStatus
+      : null;
+    this.tenantsSource = ownsBackgroundTasks && config.getTenantActivityManager() != null
+      ? new TenantActivityManager.TenantsSource() {
+        @Override
+        public Tenant[] getTenants(String className) {
+          Result<List<Tenant>> tenants = schema().tenantsGetter().withClassName(className).runAsync().join();
+          return tenants.hasErrors() || tenants.getResult() == null ? null : tenants.getResult().toArray(new Tenant[0]);
+        }
+
+        @Override
+        public boolean updateTenants(String className, Tenant[] tenants) {
+          Result<Boolean> updated = schema().tenantsUpdater().withClassName(className).withTenants(tenants).runAsync().join();
+          return !updated.hasErrors() && Boolean.TRUE.equals(updated.getResult());
+        }
+      }
+      : null;
+    this.schemaSource = ownsBackgroundTasks && config.getSchemaCache() != null
+      ? () -> {
+        Result<io.weaviate.client.v1.schema.model.Schema> schema = schema().getter().withoutCache().runAsync().join();
+        return schema.hasErrors() ? null : schema.getResult();
+      }
+      : null;
+    if (readyProbe != null) {
+      config.getHostPool().setReadyProbe(readyProbe);
+    }
+    if (nodesStatusSource != null) {
+      config.getShardRouter().setNodesStatusSource(nodesStatusSource);
+    }
+    if (tenantsSource != null) {
+      config.getTenantActivityManager().setTenantsSource(tenantsSource);
+    }
+    if (schemaSource != null) {
+      config.getSchemaCache().setSchemaSource(schemaSource);
+    }
   }
 
   public Misc misc() {
@@ -69,7 +136,7 @@ public class WeaviateAsyncClient implements AutoCloseable {
   }
 
   public GraphQL graphQL() {
-    return new GraphQL(client, config, tokenProvider);
+    return new GraphQL(client, config, tokenProvider, config.isCoalesceQueries() ? singleFlight : null);
   }
 
   private DbVersionProvider initDbVersionProvider() {
@@ -90,12 +157,57 @@ public class WeaviateAsyncClient implements AutoCloseable {
     }
   }
 
+  private boolean isReady(Config hostConfig) {
+    try {
+      Result<Boolean> ready = new Misc(client, hostConfig, tokenProvider).readyChecker().run().get();
+      return !ready.hasErrors() && Boolean.TRUE.equals(ready.getResult());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException e) {
+      return false;
+    }
+  }
+
+  private NodesStatusResponse getNodesStatus() {
+    try {
+      Result<NodesStatusResponse> nodesStatus = cluster().nodesStatusGetter().withOutput(NodeStatusOutput.VERBOSE).run().get();
+      return nodesStatus.hasErrors() ? null : nodesStatus.getResult();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException e) {
+      return null;
+    }
+  }
+
   private void start() {
     this.client.start();
   }
 
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Closes the client. Background tasks of the config are stopped only if this client started them
+   * (and no other client replaced its sources since), so other clients built from the same config keep working.
+   */
   @Override
   public void close() {
+    closed = true;
+    if (readyProbe != null) {
+      config.getHostPool().removeReadyProbe(readyProbe);
+    }
+    if (nodesStatusSource != null) {
+      config.getShardRouter().removeNodesStatusSource(nodesStatusSource);
+    }
+    if (tenantsSource != null) {
+      config.getTenantActivityManager().removeTenantsSource(tenantsSource);
+    }
+    if (schemaSource != null) {
+      config.getSchemaCache().removeSchemaSource(schemaSource);
+    }
     this.client.close(CloseMode.GRACEFUL);
   }
 }
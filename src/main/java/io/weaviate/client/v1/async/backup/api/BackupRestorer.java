@@ -23,7 +23,6 @@ import org.apache.hc.core5.http.HttpStatus;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
@@ -180,11 +179,7 @@ public class BackupRestorer extends AsyncBaseClient<BackupRestoreResponse>
         .isPresent();
 
       if (isRunning) {
-        try {
-          return Futures.supplyDelayed(() -> getStatusRecursively(backend, backupId, restoreResult), WAIT_INTERVAL, executor);
-        } catch (InterruptedException e) {
-          throw new CompletionException(e);
-        }
+        return Futures.supplyDelayed(() -> getStatusRecursively(backend, backupId, restoreResult), WAIT_INTERVAL, executor);
       }
       return CompletableFuture.completedFuture(merge(restoreStatusResult, restoreResult));
     }, executor);
@@ -16,13 +16,16 @@ import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
 import io.weaviate.client.v1.async.data.Data;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.batch.grpc.BatchObjectConverter;
+import io.weaviate.client.v1.batch.grpc.PropertyEncoders;
 import io.weaviate.client.v1.batch.model.ObjectGetResponse;
 import io.weaviate.client.v1.batch.model.ObjectGetResponseStatus;
 import io.weaviate.client.v1.batch.model.ObjectsBatchRequestBody;
 import io.weaviate.client.v1.batch.model.ObjectsGetResponseAO2Result;
 import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.batch.util.PojoMapper;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 import io.weaviate.client.v1.data.replication.model.ConsistencyLevel;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -45,11 +48,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
@@ -63,6 +66,7 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
   private final ObjectsPath objectsPath;
   private final AccessTokenProvider tokenProvider;
   private final GrpcVersionSupport grpcVersionSupport;
+  private final PropertyEncoders propertyEncoders;
 
   private final ObjectsBatcher.BatchRetriesConfig batchRetriesConfig;
   private final ObjectsBatcher.AutoBatchConfig autoBatchConfig;
@@ -85,6 +89,7 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
     this.data = data;
     this.objectsPath = objectsPath;
     this.grpcVersionSupport = grpcVersionSupport;
+    this.propertyEncoders = new PropertyEncoders(config.getSchemaCache());
     this.batchRetriesConfig = batchRetriesConfig;
     this.objects = Collections.synchronizedList(new ArrayList<>());
     this.futures = Collections.synchronizedList(new ArrayList<>());
@@ -130,6 +135,32 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
     return this;
   }
 
+  /**
+   * Adds objects of the class named as the type, properties are read from their fields once the batch is sent,
+   * without being copied into maps first. See {@link PojoMapper} for the mapping.
+   */
+  public <T> ObjectsBatcher withPojos(List<T> pojos, Class<T> type) {
+    return withPojos(type.getSimpleName(), pojos, type);
+  }
+
+  /**
+   * Adds objects of the given class, properties are read from their fields once the batch is sent,
+   * without being copied into maps first. See {@link PojoMapper} for the mapping.
+   */
+  public <T> ObjectsBatcher withPojos(String className, List<T> pojos, Class<T> type) {
+    PojoMapper<T> mapper = PojoMapper.of(type);
+    return withObjects(pojos.stream().map(pojo -> mapper.toObject(className, pojo)).toArray(WeaviateObject[]::new));
+  }
+
+  /**
+   * Registers schema of the classes, properties of their objects are encoded with encoders compiled
+   * from the schema when sent over gRPC. Classes not registered use the schema cache (if enabled).
+   */
+  public ObjectsBatcher withClassSchemas(WeaviateClass... classes) {
+    Arrays.stream(classes).forEach(propertyEncoders::register);
+    return this;
+  }
+
   public ObjectsBatcher withConsistencyLevel(String consistencyLevel) {
     this.consistencyLevel = consistencyLevel;
     return this;
@@ -201,13 +232,8 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
       List<WeaviateErrorMessage> allMessages = new ArrayList<>();
       int[] lastErrStatusCode = new int[]{HttpStatus.SC_OK};
 
-      futures.stream().map(resultCompletableFuture -> {
-        try {
-          return resultCompletableFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
-          throw new CompletionException(e);
-        }
-      }).forEach(result -> {
+      // all futures are already completed
+      futures.stream().map(CompletableFuture::join).forEach(result -> {
         Optional.ofNullable(result)
           .map(Result::getResult)
           .map(Arrays::asList)
@@ -242,57 +268,61 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
   private CompletableFuture<Result<ObjectGetResponse[]>> runBatchRecursively(List<WeaviateObject> batch,
                                                                              int connectionErrorCount, int timeoutErrorCount,
                                                                              List<ObjectGetResponse> combinedSingleResponses) {
-    return Futures.handleAsync(internalRun(batch), (result, throwable) -> {
-      List<ObjectGetResponse> tempCombinedSingleResponses = combinedSingleResponses;
-      List<WeaviateObject> tempBatch = batch;
-
-      if (throwable != null) {
-        boolean executeAgain = false;
-        int tempConnCount = connectionErrorCount;
-        int tempTimeCount = timeoutErrorCount;
-        int delay = 0;
-
-        if (throwable instanceof ConnectException) {
-          if (tempConnCount++ < batchRetriesConfig.maxConnectionRetries) {
-            executeAgain = true;
-            delay = tempConnCount * batchRetriesConfig.retriesIntervalMs;
-          }
-        } else if (throwable instanceof SocketTimeoutException) {
-          Pair<List<ObjectGetResponse>, List<WeaviateObject>> pair = fetchCreatedAndBuildBatchToReRun(tempBatch);
-          tempCombinedSingleResponses = combineSingleResponses(tempCombinedSingleResponses, pair.getLeft());
-          tempBatch = pair.getRight();
-
-          if (ObjectUtils.isNotEmpty(tempBatch) && tempTimeCount++ < batchRetriesConfig.maxTimeoutRetries) {
-            executeAgain = true;
-            delay = tempTimeCount * batchRetriesConfig.retriesIntervalMs;
-          }
-        }
-        if (executeAgain) {
-          try {
-            List<ObjectGetResponse> finalCombinedSingleResponses = tempCombinedSingleResponses;
-            List<WeaviateObject> finalBatch = tempBatch;
-            int connCount = tempConnCount;
-            int timeCount = tempTimeCount;
-            return Futures.supplyDelayed(() -> runBatchRecursively(finalBatch, connCount, timeCount, finalCombinedSingleResponses), delay, executor);
-          } catch (InterruptedException e) {
-            throw new CompletionException(e);
+    return Futures.handleAsync(internalRun(batch), (result, failure) -> {
+      // request is composed with tenant activation, so its failure comes wrapped
+      Throwable throwable = failure instanceof CompletionException && failure.getCause() != null
+        ? failure.getCause()
+        : failure;
+      if (throwable == null) {
+        return CompletableFuture.completedFuture(createFinalResultFromLastResultAndCombinedSingleResponses(result,
+          null, combinedSingleResponses, result.hasErrors() ? batch : null));
+      }
+
+      if (throwable instanceof ConnectException && connectionErrorCount < batchRetriesConfig.maxConnectionRetries) {
+        int connCount = connectionErrorCount + 1;
+        return Futures.supplyDelayed(() -> runBatchRecursively(batch, connCount, timeoutErrorCount, combinedSingleResponses),
+          (long) connCount * batchRetriesConfig.retriesIntervalMs, executor);
+      }
+      if (throwable instanceof SocketTimeoutException) {
+        return fetchCreatedAndBuildBatchToReRun(batch).thenCompose(pair -> {
+          List<ObjectGetResponse> tempCombinedSingleResponses = combineSingleResponses(combinedSingleResponses, pair.getLeft());
+          List<WeaviateObject> rerunBatch = pair.getRight();
+
+          if (ObjectUtils.isNotEmpty(rerunBatch) && timeoutErrorCount < batchRetriesConfig.maxTimeoutRetries) {
+            int timeCount = timeoutErrorCount + 1;
+            return Futures.supplyDelayed(() -> runBatchRecursively(rerunBatch, connectionErrorCount, timeCount, tempCombinedSingleResponses),
+              (long) timeCount * batchRetriesConfig.retriesIntervalMs, executor);
           }
-        }
-      } else if (!result.hasErrors()) {
-        tempBatch = null;
+          return CompletableFuture.completedFuture(createFinalResultFromLastResultAndCombinedSingleResponses(null,
+            throwable, tempCombinedSingleResponses, rerunBatch));
+        });
       }
 
       return CompletableFuture.completedFuture(createFinalResultFromLastResultAndCombinedSingleResponses(result,
-        throwable, tempCombinedSingleResponses, tempBatch));
+        throwable, combinedSingleResponses, batch));
     }, executor);
   }
 
   private CompletableFuture<Result<ObjectGetResponse[]>> internalRun(List<WeaviateObject> batch) {
-    return config.useGRPC() ? internalGrpcRun(batch) : internalHttpRun(batch);
+    return activateTenants(batch)
+      .thenCompose(ignored -> config.useGRPC() ? internalGrpcRun(batch) : internalHttpRun(batch));
+  }
+
+  private CompletableFuture<Void> activateTenants(List<WeaviateObject> batch) {
+    if (config.getTenantActivityManager() == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<?>[] activations = batch.stream()
+      .filter(object -> StringUtils.isNotBlank(object.getTenant()))
+      .map(object -> Pair.of(object.getClassName(), object.getTenant()))
+      .distinct()
+      .map(shard -> activateTenant(shard.getLeft(), shard.getRight()))
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(activations);
   }
 
   private CompletableFuture<Result<ObjectGetResponse[]>> internalGrpcRun(List<WeaviateObject> batch) {
-    BatchObjectConverter batchObjectConverter = new BatchObjectConverter(grpcVersionSupport);
+    BatchObjectConverter batchObjectConverter = new BatchObjectConverter(grpcVersionSupport, propertyEncoders);
     List<WeaviateProtoBatch.BatchObject> batchObjects = batch.stream()
       .map(batchObjectConverter::toBatchObject)
       .collect(Collectors.toList());
@@ -312,17 +342,9 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
       }).ifPresent(batchObjectsRequestBuilder::setConsistencyLevel);
     WeaviateProtoBatch.BatchObjectsRequest batchObjectsRequest = batchObjectsRequestBuilder.build();
 
-    // TODO convert ListenableFuture into CompletableFuture?
-    return Futures.supplyAsync(() -> {
-        AsyncGrpcClient grpcClient = AsyncGrpcClient.create(config, tokenProvider);
-        try {
-          return grpcClient.batchObjects(batchObjectsRequest).get();
-        } catch (InterruptedException | ExecutionException e) {
-          throw new CompletionException(e);
-        } finally {
-          grpcClient.shutdown();
-        }
-      }, executor)
+    AsyncGrpcClient grpcClient = AsyncGrpcClient.create(config, tokenProvider);
+    return Futures.fromListenable(grpcClient.batchObjects(batchObjectsRequest))
+      .whenComplete((batchObjectsReply, throwable) -> grpcClient.shutdown())
       .thenApply(batchObjectsReply -> {
         List<WeaviateErrorMessage> weaviateErrorMessages = batchObjectsReply.getErrorsList().stream()
           .map(WeaviateProtoBatch.BatchObjectsReply.BatchError::getError)
@@ -365,7 +387,7 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
     String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
       .consistencyLevel(consistencyLevel)
       .build());
-    sendPostRequest(path, payload, ObjectGetResponse[].class, new FutureCallback<Result<ObjectGetResponse[]>>() {
+    sendRequestTo(shardHostOf(batch), path, payload, "POST", ObjectGetResponse[].class, new FutureCallback<Result<ObjectGetResponse[]>>() {
       @Override
       public void completed(Result<ObjectGetResponse[]> batchResult) {
         future.complete(batchResult);
@@ -379,21 +401,34 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
       @Override
       public void cancelled() {
       }
-    });
+    }, null);
     return future;
   }
 
-  private Pair<List<ObjectGetResponse>, List<WeaviateObject>> fetchCreatedAndBuildBatchToReRun(List<WeaviateObject> batch) {
-    List<WeaviateObject> rerunBatch = new ArrayList<>(batch.size());
-    List<ObjectGetResponse> createdResponses = new ArrayList<>(batch.size());
-    List<CompletableFuture<Result<List<WeaviateObject>>>> futures = new ArrayList<>(batch.size());
+  private String shardHostOf(List<WeaviateObject> batch) {
+    // batch is sent directly to a node only if all its objects belong to the same shard;
+    // only REST batches are routed, gRPC batches go to the configured gRPC host(s)
+    if (batch.isEmpty()) {
+      return null;
+    }
+    WeaviateObject first = batch.get(0);
+    boolean sameShard = batch.stream().allMatch(object -> Objects.equals(object.getClassName(), first.getClassName())
+      && Objects.equals(object.getTenant(), first.getTenant()));
+    return sameShard ? shardHost(first.getClassName(), first.getTenant()) : null;
+  }
 
+
+  private CompletableFuture<Pair<List<ObjectGetResponse>, List<WeaviateObject>>> fetchCreatedAndBuildBatchToReRun(List<WeaviateObject> batch) {
+    List<CompletableFuture<Result<List<WeaviateObject>>>> futures = new ArrayList<>(batch.size());
     for (WeaviateObject batchObject : batch) {
       futures.add(fetchExistingObject(batchObject));
     }
-    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
 
-    try {
+    // objects failed to be fetched are re-run, failures are handled per object
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((v, t) -> {
+      List<WeaviateObject> rerunBatch = new ArrayList<>(batch.size());
+      List<ObjectGetResponse> createdResponses = new ArrayList<>(batch.size());
+
       for (int i = 0; i < batch.size(); i++) {
         CompletableFuture<Result<List<WeaviateObject>>> future = futures.get(i);
         WeaviateObject batchObject = batch.get(i);
@@ -403,7 +438,7 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
           continue;
         }
 
-        Result<List<WeaviateObject>> existingResult = future.get();
+        Result<List<WeaviateObject>> existingResult = future.join();
         if (existingResult.hasErrors() || ObjectUtils.isEmpty(existingResult.getResult())) {
           rerunBatch.add(batchObject);
           continue;
@@ -417,11 +452,9 @@ public class ObjectsBatcher extends AsyncBaseClient<ObjectGetResponse[]>
 
         createdResponses.add(createResponseFromExistingObject(existingObject));
       }
-    } catch (InterruptedException | ExecutionException e) {
-      throw new CompletionException(e);
-    }
 
-    return Pair.of(createdResponses, rerunBatch);
+      return Pair.of(createdResponses, rerunBatch);
+    });
   }
 
   private CompletableFuture<Result<List<WeaviateObject>>> fetchExistingObject(WeaviateObject batchObject) {
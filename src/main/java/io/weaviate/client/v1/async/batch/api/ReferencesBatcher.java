@@ -31,8 +31,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
@@ -141,13 +139,8 @@ public class ReferencesBatcher extends AsyncBaseClient<BatchReferenceResponse[]>
       List<WeaviateErrorMessage> allMessages = new ArrayList<>();
       int[] lastErrStatusCode = new int[]{HttpStatus.SC_OK};
 
-      futures.stream().map(resultCompletableFuture -> {
-        try {
-          return resultCompletableFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
-          throw new CompletionException(e);
-        }
-      }).forEach(result -> {
+      // all futures are already completed
+      futures.stream().map(CompletableFuture::join).forEach(result -> {
         Optional.ofNullable(result)
           .map(Result::getResult)
           .map(Arrays::asList)
@@ -223,11 +216,7 @@ public class ReferencesBatcher extends AsyncBaseClient<BatchReferenceResponse[]>
         if (executeAgain) {
           int finalConnCount = tempConnCount;
           int finalTimeCount = tempTimeCount;
-          try {
-            return Futures.supplyDelayed(() -> runBatchRecursively(batch, finalConnCount, finalTimeCount), delay, executor);
-          } catch (InterruptedException e) {
-            throw new CompletionException(e);
-          }
+          return Futures.supplyDelayed(() -> runBatchRecursively(batch, finalConnCount, finalTimeCount), delay, executor);
         }
       }
 
@@ -15,7 +15,6 @@ import org.apache.hc.core5.concurrent.FutureCallback;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
@@ -181,11 +180,7 @@ public class Scheduler extends AsyncBaseClient<Classification>
         .isPresent();
 
       if (isRunning) {
-        try {
-          return Futures.supplyDelayed(() -> getByIdRecursively(id), WAIT_INTERVAL, executor);
-        } catch (InterruptedException e) {
-          throw new CompletionException(e);
-        }
+        return Futures.supplyDelayed(() -> getByIdRecursively(id), WAIT_INTERVAL, executor);
       }
       return CompletableFuture.completedFuture(classificationResult);
     }, executor);
@@ -92,6 +92,10 @@ public class ObjectsGetter extends AsyncBaseClient<List<WeaviateObject>> impleme
 
   @Override
   public Future<Result<List<WeaviateObject>>> run(FutureCallback<Result<List<WeaviateObject>>> callback) {
+    return whenTenantActive(className, tenant, callback, this::getObjects);
+  }
+
+  private Future<Result<List<WeaviateObject>>> getObjects(FutureCallback<Result<List<WeaviateObject>>> callback) {
     ObjectsPath.Params params = ObjectsPath.Params.builder()
       .id(id)
       .className(className)
@@ -105,7 +109,7 @@ public class ObjectsGetter extends AsyncBaseClient<List<WeaviateObject>> impleme
       .build();
     if (StringUtils.isNotBlank(id)) {
       String path = objectsPath.buildGetOne(params);
-      return sendGetRequest(path, callback, new ResponseParser<List<WeaviateObject>>() {
+      return sendRequestTo(shardHost(className, tenant), path, null, "GET", null, callback, new ResponseParser<List<WeaviateObject>>() {
         @Override
         public Result<List<WeaviateObject>> parse(HttpResponse response, String body, ContentType contentType) {
           Response<WeaviateObject> resp = serializer.toResponse(response.getCode(), body, WeaviateObject.class);
@@ -118,7 +122,7 @@ public class ObjectsGetter extends AsyncBaseClient<List<WeaviateObject>> impleme
       });
     }
     String path = objectsPath.buildGet(params);
-    return sendGetRequest(path, callback, new ResponseParser<List<WeaviateObject>>() {
+    return sendRequestTo(shardHost(className, tenant), path, null, "GET", null, callback, new ResponseParser<List<WeaviateObject>>() {
       @Override
       public Result<List<WeaviateObject>> parse(HttpResponse response, String body, ContentType contentType) {
         Response<ObjectsListResponse> resp = serializer.toResponse(response.getCode(), body, ObjectsListResponse.class);
@@ -1,9 +1,13 @@
 package io.weaviate.client.v1.async.graphql;
 
 import io.weaviate.client.Config;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.async.graphql.api.Aggregate;
 import io.weaviate.client.v1.async.graphql.api.Explore;
+import io.weaviate.client.v1.async.graphql.api.FederatedSearch;
 import io.weaviate.client.v1.async.graphql.api.Get;
+import io.weaviate.client.v1.async.graphql.api.Multi;
+import io.weaviate.client.v1.async.graphql.api.MultiSearch;
 import io.weaviate.client.v1.async.graphql.api.Raw;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
@@ -12,27 +16,45 @@ public class GraphQL {
   private final Config config;
   private final CloseableHttpAsyncClient client;
   private final AccessTokenProvider tokenProvider;
+  private final SingleFlight singleFlight;
 
   public GraphQL(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
+    this(client, config, tokenProvider, null);
+  }
+
+  public GraphQL(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider, SingleFlight singleFlight) {
     this.client = client;
     this.config = config;
     this.tokenProvider = tokenProvider;
+    this.singleFlight = singleFlight;
   }
 
   public Get get() {
-    return new Get(client, config, tokenProvider);
+    return new Get(client, config, tokenProvider, singleFlight);
   }
 
   public Raw raw() {
-    return new Raw(client, config, tokenProvider);
+    return new Raw(client, config, tokenProvider, singleFlight);
   }
 
   public Explore explore() {
-    return new Explore(client, config, tokenProvider);
+    return new Explore(client, config, tokenProvider, singleFlight);
   }
 
   public Aggregate aggregate() {
-    return new Aggregate(client, config, tokenProvider);
+    return new Aggregate(client, config, tokenProvider, singleFlight);
+  }
+
+  public Multi multi() {
+    return new Multi(client, config, tokenProvider, singleFlight);
+  }
+
+  public MultiSearch multiSearch() {
+    return new MultiSearch();
+  }
+
+  public FederatedSearch federatedSearch() {
+    return new FederatedSearch(client, config, tokenProvider);
   }
 
   public io.weaviate.client.v1.graphql.GraphQL.Arguments arguments() {
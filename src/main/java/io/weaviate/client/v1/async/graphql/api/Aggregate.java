@@ -1,13 +1,16 @@
 package io.weaviate.client.v1.async.graphql.api;
 
 import io.weaviate.client.Config;
-import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncBaseGraphQLClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
 import io.weaviate.client.v1.graphql.query.argument.*;
 import io.weaviate.client.v1.graphql.query.builder.AggregateBuilder;
 import io.weaviate.client.v1.graphql.query.fields.Field;
@@ -16,12 +19,18 @@ import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
-public class Aggregate extends AsyncBaseClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
+public class Aggregate extends AsyncBaseGraphQLClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
   private final AggregateBuilder.AggregateBuilderBuilder aggregateBuilder;
 
   public Aggregate(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
-    super(client, config, tokenProvider);
+    this(client, config, tokenProvider, null);
+  }
+
+  public Aggregate(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+                   SingleFlight singleFlight) {
+    super(client, config, tokenProvider, singleFlight);
     aggregateBuilder = AggregateBuilder.builder();
   }
 
@@ -121,7 +130,37 @@ public class Aggregate extends AsyncBaseClient<GraphQLResponse> implements Async
     GraphQLQuery query = GraphQLQuery.builder()
       .query(aggregateQuery)
       .build();
-    return sendPostRequest("/graphql", query, GraphQLResponse.class, callback);
+    return sendGraphQLRequest(query, GraphQLResponse.class, callback);
+  }
+
+  /**
+   * Passes groups of the query (typically grouped by a property of high cardinality) to the consumer one by one.
+   * Groups are not collected nor kept as trees, though the response body is buffered before it is read.
+   *
+   * @param consumer consumer of groups, called on the thread completing the request
+   * @return Result of GraphQLStreamedResponse with number of consumed groups and errors of the query
+   * @see io.weaviate.client.v1.graphql.query.Aggregate#stream(Consumer)
+   */
+  public Future<Result<GraphQLStreamedResponse>> stream(Consumer<AggregateGroup> consumer) {
+    return stream(consumer, null);
+  }
+
+  /**
+   * Passes groups of the query to the consumer one by one.
+   *
+   * @param consumer consumer of groups, called on the thread completing the request
+   * @param callback Result of GraphQLStreamedResponse callback
+   * @return Result of GraphQLStreamedResponse with number of consumed groups and errors of the query
+   * @see #stream(Consumer)
+   */
+  public Future<Result<GraphQLStreamedResponse>> stream(Consumer<AggregateGroup> consumer,
+                                                        FutureCallback<Result<GraphQLStreamedResponse>> callback) {
+    String aggregateQuery = aggregateBuilder.build()
+      .buildQuery();
+    GraphQLQuery query = GraphQLQuery.builder()
+      .query(aggregateQuery)
+      .build();
+    return sendGraphQLAggregateStreamingRequest(query, consumer, null, callback);
   }
 
 }
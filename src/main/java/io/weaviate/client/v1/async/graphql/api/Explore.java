@@ -1,9 +1,10 @@
 package io.weaviate.client.v1.async.graphql.api;
 
 import io.weaviate.client.Config;
-import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncBaseGraphQLClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.graphql.model.ExploreFields;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
@@ -15,11 +16,16 @@ import org.apache.hc.core5.concurrent.FutureCallback;
 
 import java.util.concurrent.Future;
 
-public class Explore extends AsyncBaseClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
+public class Explore extends AsyncBaseGraphQLClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
   private final ExploreBuilder.ExploreBuilderBuilder exploreBuilder;
 
   public Explore(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
-    super(client, config, tokenProvider);
+    this(client, config, tokenProvider, null);
+  }
+
+  public Explore(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+                 SingleFlight singleFlight) {
+    super(client, config, tokenProvider, singleFlight);
     exploreBuilder = ExploreBuilder.builder();
   }
 
@@ -95,6 +101,6 @@ public class Explore extends AsyncBaseClient<GraphQLResponse> implements AsyncCl
     GraphQLQuery query = GraphQLQuery.builder()
       .query(exploreQuery)
       .build();
-    return sendPostRequest("/graphql", query, GraphQLResponse.class, callback);
+    return sendGraphQLRequest(query, GraphQLResponse.class, callback);
   }
 }
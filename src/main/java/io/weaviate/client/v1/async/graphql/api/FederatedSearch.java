@@ -0,0 +1,205 @@
+package io.weaviate.client.v1.async.graphql.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.SearchHit;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
+import io.weaviate.client.v1.graphql.query.builder.FederatedSearchBuilder;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import io.weaviate.client.v1.graphql.query.util.TopKCollector;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * Runs the same nearVector or hybrid search against several tenants of a collection (or several collections)
+ * and merges the results into a global top k, by distance (nearVector) or by score (hybrid).
+ * <p>
+ * Every target is queried for its top k only and its hits are merged into a bounded heap as soon as they arrive,
+ * so memory does not depend on the number of targets. Once k hits are collected, targets queried afterwards only
+ * fetch objects closer than the current k-th hit (nearVector only). Targets that failed or did not complete within
+ * the timeout are reported as errors, along with the hits collected from the other targets.
+ * Every target is run as a Get query, so its tenant is activated and the request is sent to the node holding
+ * the tenant's shard, as configured for the client. Invalid searches are reported as an error Result.
+ * <pre>{@code
+ * Future<Result<List<SearchHit>>> hits = client.graphQL().federatedSearch()
+ *   .withClassName("Document")
+ *   .withTenants("userX-1", "userX-2", "userX-3")
+ *   .withNearVector(NearVectorArgument.builder().vector(vector).build())
+ *   .withFields(Field.builder().name("title").build())
+ *   .withLimit(10)
+ *   .run();
+ * }</pre>
+ *
+ * @see io.weaviate.client.v1.graphql.query.FederatedSearch
+ */
+public class FederatedSearch implements AsyncClientResult<List<SearchHit>> {
+  private final CloseableHttpAsyncClient client;
+  private final Config config;
+  private final AccessTokenProvider tokenProvider;
+  private final FederatedSearchBuilder.FederatedSearchBuilderBuilder federatedSearchBuilder;
+  private int maxConcurrency;
+  private long timeoutMillis;
+
+  public FederatedSearch(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
+    this.client = client;
+    this.config = config;
+    this.tokenProvider = tokenProvider;
+    this.federatedSearchBuilder = FederatedSearchBuilder.builder();
+    this.maxConcurrency = MultiSearch.DEFAULT_MAX_CONCURRENCY;
+  }
+
+  public FederatedSearch withClassName(String className) {
+    federatedSearchBuilder.className(className);
+    return this;
+  }
+
+  /**
+   * Searches given tenants of the collection set with {@link #withClassName(String)}.
+   */
+  public FederatedSearch withTenants(String... tenants) {
+    federatedSearchBuilder.tenants(tenants);
+    return this;
+  }
+
+  /**
+   * Searches given collections (not multi-tenant ones), can not be combined with {@link #withTenants(String...)}.
+   */
+  public FederatedSearch withClassNames(String... classNames) {
+    federatedSearchBuilder.classNames(classNames);
+    return this;
+  }
+
+  public FederatedSearch withFields(Field... fields) {
+    federatedSearchBuilder.fields(Fields.builder().fields(fields).build());
+    return this;
+  }
+
+  public FederatedSearch withNearVector(NearVectorArgument nearVector) {
+    federatedSearchBuilder.withNearVectorFilter(nearVector);
+    return this;
+  }
+
+  public FederatedSearch withHybrid(HybridArgument hybrid) {
+    federatedSearchBuilder.withHybridFilter(hybrid);
+    return this;
+  }
+
+  public FederatedSearch withWhere(WhereArgument where) {
+    federatedSearchBuilder.withWhereFilter(where);
+    return this;
+  }
+
+  /**
+   * Number of hits to be returned (k), defaults to {@value FederatedSearchBuilder#DEFAULT_LIMIT}.
+   */
+  public FederatedSearch withLimit(Integer limit) {
+    federatedSearchBuilder.limit(limit);
+    return this;
+  }
+
+  /**
+   * Autocut applied to every target's results.
+   */
+  public FederatedSearch withAutocut(Integer autocut) {
+    federatedSearchBuilder.autocut(autocut);
+    return this;
+  }
+
+  public FederatedSearch withMaxConcurrency(int maxConcurrency) {
+    Assert.requireGreater(maxConcurrency, 0, "maxConcurrency");
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  public FederatedSearch withTimeout(long timeout, TimeUnit unit) {
+    this.timeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
+
+  @Override
+  public Future<Result<List<SearchHit>>> run(FutureCallback<Result<List<SearchHit>>> callback) {
+    FederatedSearchBuilder search = federatedSearchBuilder.build();
+    TopKCollector collector;
+    try {
+      collector = search.createCollector();
+    } catch (IllegalArgumentException e) {
+      return Futures.notifying(CompletableFuture.completedFuture(invalid(e)), callback);
+    }
+    int targets = search.targetsCount();
+
+    List<Supplier<CompletableFuture<WeaviateErrorMessage>>> tasks = new ArrayList<>(targets);
+    for (int i = 0; i < targets; i++) {
+      int target = i;
+      tasks.add(() -> searchTarget(search, target, collector));
+    }
+
+    CompletableFuture<Result<List<SearchHit>>> future = FanOut.run(tasks, maxConcurrency, timeoutMillis, (target, throwable) -> failed(search, target, throwable))
+      .thenApply(results -> {
+        List<WeaviateErrorMessage> errors = results.stream()
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+        WeaviateErrorResponse errorResponse = errors.isEmpty()
+          ? null
+          : WeaviateErrorResponse.builder().error(errors).build();
+        return new Result<>(200, collector.getHits(), errorResponse);
+      });
+    return Futures.notifying(future, callback);
+  }
+
+  private CompletableFuture<WeaviateErrorMessage> searchTarget(FederatedSearchBuilder search, int target, TopKCollector collector) {
+    // run as Get, so that the tenant is activated and the request sent to the node holding its shard
+    PreparedGet get = new PreparedGet(client, config, tokenProvider, null, search.buildTarget(target, collector.distanceThreshold()));
+    CompletableFuture<Result<GraphQLResponse>> future = Futures.fromCallback(callback -> get.run(Collections.emptyMap(), callback));
+    return future.thenApply(result -> {
+      if (result.hasErrors()) {
+        return failed(search, target, result.getError().getMessages().stream()
+          .map(WeaviateErrorMessage::getMessage)
+          .collect(Collectors.joining(", ")));
+      }
+      collector.offer(TopKCollector.toHits(result.getResult(), search.targetClassName(target), search.targetTenant(target)));
+      return null;
+    });
+  }
+
+  private static <T> Result<T> invalid(IllegalArgumentException e) {
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(e.getMessage()).throwable(e).build();
+    return new Result<>(500, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+
+  private WeaviateErrorMessage failed(FederatedSearchBuilder search, int target, Throwable throwable) {
+    return FanOut.errorOf("search of " + targetName(search, target), throwable, timeoutMillis);
+  }
+
+  private WeaviateErrorMessage failed(FederatedSearchBuilder search, int target, String message) {
+    return WeaviateErrorMessage.builder()
+      .message(String.format("search of %s failed: %s", targetName(search, target), message))
+      .build();
+  }
+
+  private static String targetName(FederatedSearchBuilder search, int target) {
+    String tenant = search.targetTenant(target);
+    return tenant != null
+      ? String.format("%s (tenant %s)", search.targetClassName(target), tenant)
+      : search.targetClassName(target);
+  }
+}
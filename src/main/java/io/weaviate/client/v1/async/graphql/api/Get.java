@@ -4,11 +4,13 @@ import io.weaviate.client.Config;
 import io.weaviate.client.base.AsyncBaseGraphQLClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.filters.WhereFilter;
 import io.weaviate.client.v1.graphql.model.GraphQLGetBaseObject;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
 import io.weaviate.client.v1.graphql.query.argument.AskArgument;
 import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
@@ -26,20 +28,33 @@ import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArguments;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
 import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
 import io.weaviate.client.v1.graphql.query.fields.Field;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
 import io.weaviate.client.v1.graphql.query.fields.GenerativeSearchBuilder;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
 import java.util.concurrent.Future;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
 
 public class Get extends AsyncBaseGraphQLClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
   private final GetBuilder.GetBuilderBuilder getBuilder;
+  private final Config config;
+  private final AccessTokenProvider tokenProvider;
+  private final SingleFlight singleFlight;
 
   public Get(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
-    super(client, config, tokenProvider);
+    this(client, config, tokenProvider, null);
+  }
+
+  public Get(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+             SingleFlight singleFlight) {
+    super(client, config, tokenProvider, singleFlight);
+    this.config = config;
+    this.tokenProvider = tokenProvider;
+    this.singleFlight = singleFlight;
     getBuilder = GetBuilder.builder();
   }
 
@@ -72,11 +87,21 @@ public class Get extends AsyncBaseGraphQLClient<GraphQLResponse> implements Asyn
     return this;
   }
 
+  public Get withLimit(Variable limit) {
+    getBuilder.limit(limit);
+    return this;
+  }
+
   public Get withOffset(Integer offset) {
     getBuilder.offset(offset);
     return this;
   }
 
+  public Get withOffset(Variable offset) {
+    getBuilder.offset(offset);
+    return this;
+  }
+
   public Get withAfter(String after) {
     getBuilder.after(after);
     return this;
@@ -179,6 +204,30 @@ public class Get extends AsyncBaseGraphQLClient<GraphQLResponse> implements Asyn
     return this;
   }
 
+  /**
+   * Builds the query once, so it can be run many times with different values of its variables.
+   * Example:
+   * <pre>{@code
+   * PreparedGet search = client.graphQL().get()
+   *   .withClassName("Soup")
+   *   .withFields(Field.builder().name("name").build())
+   *   .withNearVector(NearVectorArgument.builder().vector(Variable.vector("vector")).build())
+   *   .withLimit(Variable.integer("limit"))
+   *   .prepare();
+   *
+   * Map<String, Object> variables = new HashMap<>();
+   * variables.put("vector", new float[]{0.1f, 0.2f});
+   * variables.put("limit", 10);
+   * Future<Result<GraphQLResponse>> result = search.run(variables);
+   * }</pre>
+   *
+   * @return prepared query
+   * @see Variable
+   */
+  public PreparedGet prepare() {
+    return new PreparedGet(client, config, tokenProvider, singleFlight, getBuilder.build());
+  }
+
   private GraphQLQuery getQuery() {
     String getQuery = getBuilder.build()
       .buildQuery();
@@ -187,9 +236,16 @@ public class Get extends AsyncBaseGraphQLClient<GraphQLResponse> implements Asyn
       .build();
   }
 
+  private String getShardHost() {
+    GetBuilder get = getBuilder.build();
+    return shardHost(get.getClassName(), get.getTenant());
+  }
+
   @Override
   public Future<Result<GraphQLResponse>> run(FutureCallback<Result<GraphQLResponse>> callback) {
-    return sendPostRequest("/graphql", getQuery(), GraphQLResponse.class, callback);
+    GetBuilder get = getBuilder.build();
+    return whenTenantActive(get.getClassName(), get.getTenant(), callback,
+      requestCallback -> sendGraphQLRequest(getQuery(), GraphQLResponse.class, getShardHost(), requestCallback));
   }
 
   /**
@@ -272,6 +328,48 @@ public class Get extends AsyncBaseGraphQLClient<GraphQLResponse> implements Asyn
    * @see GraphQLGetBaseObject
    */
   public <C> Future<Result<GraphQLTypedResponse<C>>> run(final Class<C> classOfC, FutureCallback<Result<GraphQLTypedResponse<C>>> callback) {
-    return sendGraphQLTypedRequest(getQuery(), classOfC, callback);
+    GetBuilder get = getBuilder.build();
+    return whenTenantActive(get.getClassName(), get.getTenant(), callback,
+      requestCallback -> sendGraphQLTypedRequest(getQuery(), classOfC, getShardHost(), requestCallback));
+  }
+
+  /**
+   * Maps returned objects straight into instances of the given class, without intermediate maps.
+   * Unlike {@link #run(Class)} the class describes a single object, its fields are properties
+   * and additional properties of the object, example:
+   * <pre>{@code
+   * public class Soup {
+   *   String id;
+   *   float distance;
+   *   float[] vector;
+   *   String name;
+   *   Float price;
+   * }
+   * }</pre>
+   *
+   * @param classOfT - class describing Weaviate object, example: Soup class
+   * @param <T>      - Class of T
+   * @return Result of GraphQLMappedResponse with objects of a given class
+   * @see GraphQLResultMapper
+   */
+  public <T> Future<Result<GraphQLMappedResponse<T>>> runMapped(final Class<T> classOfT) {
+    return runMapped(classOfT, null);
+  }
+
+  /**
+   * Maps returned objects straight into instances of the given class, without intermediate maps.
+   *
+   * @param classOfT - class describing Weaviate object, example: Soup class
+   * @param callback - Result of GraphQLMappedResponse with objects of a given class callback
+   * @param <T>      - Class of T
+   * @return Result of GraphQLMappedResponse with objects of a given class
+   * @see #runMapped(Class)
+   */
+  public <T> Future<Result<GraphQLMappedResponse<T>>> runMapped(final Class<T> classOfT,
+                                                              FutureCallback<Result<GraphQLMappedResponse<T>>> callback) {
+    GetBuilder get = getBuilder.build();
+    GraphQLResultMapper<T> mapper = GraphQLResultMapper.of(classOfT);
+    return whenTenantActive(get.getClassName(), get.getTenant(), callback,
+      requestCallback -> sendGraphQLMappedRequest(getQuery(), mapper, getShardHost(), requestCallback));
   }
 }
@@ -0,0 +1,155 @@
+package io.weaviate.client.v1.async.graphql.api;
+
+import com.google.gson.JsonObject;
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseGraphQLClient;
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.graphql.model.GraphQLQuery;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.builder.AggregateBuilder;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.builder.MultiQueryBuilder;
+import io.weaviate.client.v1.graphql.query.builder.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * Sends several Get and Aggregate queries to Weaviate in a single request.
+ * Results are returned in the same order the queries were added.
+ * <p>
+ * Tenants of all queries are activated before the request is sent, if tenant activity is managed.
+ * The request is sent directly to the node holding the shard only if all queries target the same tenant
+ * of the same collection, otherwise it goes to the configured host(s).
+ *
+ * @see io.weaviate.client.v1.graphql.query.Multi
+ */
+public class Multi extends AsyncBaseGraphQLClient<GraphQLResponse> implements AsyncClientResult<List<GraphQLResponse>> {
+  private final List<Query> queries;
+  private final List<Pair<String, String>> shards;
+  private final Serializer serializer;
+
+  public Multi(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
+    this(client, config, tokenProvider, null);
+  }
+
+  public Multi(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+               SingleFlight singleFlight) {
+    super(client, config, tokenProvider, singleFlight);
+    queries = new ArrayList<>();
+    shards = new ArrayList<>();
+    serializer = new Serializer();
+  }
+
+  public Multi withGet(GetBuilder get) {
+    queries.add(get);
+    shards.add(Pair.of(get.getClassName(), get.getTenant()));
+    return this;
+  }
+
+  public Multi withAggregate(AggregateBuilder aggregate) {
+    queries.add(aggregate);
+    shards.add(Pair.of(aggregate.getClassName(), aggregate.getTenant()));
+    return this;
+  }
+
+  /**
+   * Responses of every query are shaped as if the query was sent on its own.
+   * GraphQL errors are reported in the errors of the affected query's response,
+   * the returned result holds only errors of the request itself.
+   *
+   * @param callback Result of list of responses callback
+   * @return Result of list of responses, one per query
+   */
+  @Override
+  public Future<Result<List<GraphQLResponse>>> run(FutureCallback<Result<List<GraphQLResponse>>> callback) {
+    MultiQueryBuilder multiQuery = multiQuery();
+    GraphQLQuery query = GraphQLQuery.builder()
+      .query(multiQuery.buildQuery())
+      .build();
+
+    CompletableFuture<Result<GraphQLResponse>> future = activateTenants().thenCompose(ignored -> Futures.fromCallback(
+      requestCallback -> sendGraphQLRequest(query, GraphQLResponse.class, commonShardHost(), requestCallback)));
+    return Futures.notifying(future.thenApply(result -> split(result, () -> multiQuery.splitResponse(result.getResult()))), callback);
+  }
+
+  /**
+   * Same as {@link #run(FutureCallback)}, but every response is deserialized into given class.
+   *
+   * @param classOfC class describing Weaviate objects, common for all queries
+   * @param <C>      Class of C
+   * @return Result of list of GraphQLTypedResponse of a given class, one per query
+   * @see Get#run(Class)
+   */
+  public <C> Future<Result<List<GraphQLTypedResponse<C>>>> run(final Class<C> classOfC) {
+    return run(classOfC, null);
+  }
+
+  /**
+   * Same as {@link #run(FutureCallback)}, but every response is deserialized into given class.
+   *
+   * @param classOfC class describing Weaviate objects, common for all queries
+   * @param callback Result of list of GraphQLTypedResponse of a given class callback
+   * @param <C>      Class of C
+   * @return Result of list of GraphQLTypedResponse of a given class, one per query
+   * @see Get#run(Class, FutureCallback)
+   */
+  public <C> Future<Result<List<GraphQLTypedResponse<C>>>> run(final Class<C> classOfC,
+                                                                FutureCallback<Result<List<GraphQLTypedResponse<C>>>> callback) {
+    MultiQueryBuilder multiQuery = multiQuery();
+    GraphQLQuery query = GraphQLQuery.builder()
+      .query(multiQuery.buildQuery())
+      .build();
+
+    // data of every query is deserialized right from its subtree of the parsed response
+    CompletableFuture<Result<GraphQLResponse<JsonObject>>> future = activateTenants().thenCompose(ignored -> Futures.fromCallback(
+      requestCallback -> sendGraphQLTreeRequest(query, commonShardHost(), requestCallback)));
+    return Futures.notifying(future.thenApply(result -> split(result, () -> multiQuery.splitTreeResponse(result.getResult()).stream()
+      .map(response -> serializer.toGraphQLTypedResponse(response, classOfC))
+      .collect(Collectors.toList()))), callback);
+  }
+
+  private MultiQueryBuilder multiQuery() {
+    return MultiQueryBuilder.builder()
+      .queries(queries.toArray(new Query[0]))
+      .build();
+  }
+
+  private CompletableFuture<Void> activateTenants() {
+    // tenants are activated concurrently, so that they can be activated together
+    CompletableFuture<?>[] activations = shards.stream()
+      .filter(shard -> StringUtils.isNotBlank(shard.getRight()))
+      .distinct()
+      .map(shard -> activateTenant(shard.getLeft(), shard.getRight()))
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(activations);
+  }
+
+  private String commonShardHost() {
+    // request is sent directly to a node only if all its queries target the same shard
+    if (shards.isEmpty() || shards.stream().distinct().count() > 1) {
+      return null;
+    }
+    return shardHost(shards.get(0).getLeft(), shards.get(0).getRight());
+  }
+
+  private static <R> Result<List<R>> split(Result<?> result, Supplier<List<R>> responses) {
+    if (result.getResult() == null && result.hasErrors()) {
+      return result.toErrorResult();
+    }
+    return new Result<>(200, result.getResult() != null ? responses.get() : null, null);
+  }
+}
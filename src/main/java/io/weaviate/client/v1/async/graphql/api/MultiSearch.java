@@ -0,0 +1,89 @@
+package io.weaviate.client.v1.async.graphql.api;
+
+import io.weaviate.client.base.AsyncClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * Runs many independent searches (e.g. per tenant or per target vector) concurrently, each one as a separate request
+ * sharing the client's connection pool.
+ * <p>
+ * At most {@code maxConcurrency} searches are in flight at the same time. If timeout is set and passes before all
+ * searches complete, searches still running are cancelled and partial results are returned: every unfinished search
+ * gets a Result with an error. Results are returned in the order the searches were added.
+ * <pre>{@code
+ * Future<Result<List<Result<GraphQLResponse>>>> results = client.graphQL().multiSearch()
+ *   .withSearch(client.graphQL().get().withClassName("Pizza").withTenant("tenantA").withFields(name))
+ *   .withSearch(client.graphQL().get().withClassName("Pizza").withTenant("tenantB").withFields(name))
+ *   .withMaxConcurrency(4)
+ *   .withTimeout(500, TimeUnit.MILLISECONDS)
+ *   .run();
+ * }</pre>
+ *
+ * @see Multi for sending several queries in a single request
+ */
+public class MultiSearch implements AsyncClientResult<List<Result<GraphQLResponse>>> {
+  public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+  private final List<AsyncClientResult<GraphQLResponse>> searches;
+  private int maxConcurrency;
+  private long timeoutMillis;
+
+  public MultiSearch() {
+    searches = new ArrayList<>();
+    maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+  }
+
+  /**
+   * @param search any of graphQL().get(), aggregate(), explore() or raw() (not yet run)
+   */
+  public MultiSearch withSearch(AsyncClientResult<GraphQLResponse> search) {
+    searches.add(search);
+    return this;
+  }
+
+  public MultiSearch withSearches(List<? extends AsyncClientResult<GraphQLResponse>> searches) {
+    this.searches.addAll(searches);
+    return this;
+  }
+
+  public MultiSearch withMaxConcurrency(int maxConcurrency) {
+    Assert.requireGreater(maxConcurrency, 0, "maxConcurrency");
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  /**
+   * Deadline for all searches, counted from the moment multi search is run.
+   */
+  public MultiSearch withTimeout(long timeout, TimeUnit unit) {
+    this.timeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
+
+  @Override
+  public Future<Result<List<Result<GraphQLResponse>>>> run(FutureCallback<Result<List<Result<GraphQLResponse>>>> callback) {
+    List<Supplier<CompletableFuture<Result<GraphQLResponse>>>> tasks = searches.stream()
+      .map(search -> (Supplier<CompletableFuture<Result<GraphQLResponse>>>) () -> Futures.fromCallback(search::run))
+      .collect(Collectors.toList());
+
+    CompletableFuture<Result<List<Result<GraphQLResponse>>>> future = FanOut.run(tasks, maxConcurrency, timeoutMillis, this::failed)
+      .thenApply(results -> new Result<>(200, results, null));
+    return Futures.notifying(future, callback);
+  }
+
+  private Result<GraphQLResponse> failed(Integer index, Throwable throwable) {
+    return FanOut.failedResult("search " + index, throwable, timeoutMillis);
+  }
+}
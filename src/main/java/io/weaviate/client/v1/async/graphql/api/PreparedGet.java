@@ -0,0 +1,114 @@
+package io.weaviate.client.v1.async.graphql.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.AsyncBaseGraphQLClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLQuery;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+
+/**
+ * Get query built once, run with values of its variables (see {@link Variable}).
+ * Query text is neither rebuilt nor escaped again, only values of variables are serialized with every run.
+ * Can be run concurrently.
+ */
+public class PreparedGet extends AsyncBaseGraphQLClient<GraphQLResponse> {
+  private final String query;
+  private final Set<String> variables;
+  private final String className;
+  private final String tenant;
+
+  public PreparedGet(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+                     SingleFlight singleFlight, GetBuilder get) {
+    super(client, config, tokenProvider, singleFlight);
+    this.query = get.buildQuery();
+    this.variables = Collections.unmodifiableSet(get.getVariables().keySet());
+    this.className = get.getClassName();
+    this.tenant = get.getTenant();
+  }
+
+  /**
+   * @return query with declared variables
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return names of variables of the query
+   */
+  public Set<String> getVariables() {
+    return variables;
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   */
+  public Future<Result<GraphQLResponse>> run(Map<String, Object> variables) {
+    return run(variables, (FutureCallback<Result<GraphQLResponse>>) null);
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   */
+  public Future<Result<GraphQLResponse>> run(Map<String, Object> variables, FutureCallback<Result<GraphQLResponse>> callback) {
+    return whenTenantActive(className, tenant, callback,
+      requestCallback -> sendGraphQLRequest(toQuery(variables), GraphQLResponse.class, shardHost(className, tenant), requestCallback));
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   * @see Get#run(Class)
+   */
+  public <C> Future<Result<GraphQLTypedResponse<C>>> run(Map<String, Object> variables, Class<C> classOfC) {
+    return run(variables, classOfC, null);
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   * @see Get#run(Class, FutureCallback)
+   */
+  public <C> Future<Result<GraphQLTypedResponse<C>>> run(Map<String, Object> variables, Class<C> classOfC,
+                                                         FutureCallback<Result<GraphQLTypedResponse<C>>> callback) {
+    return whenTenantActive(className, tenant, callback,
+      requestCallback -> sendGraphQLTypedRequest(toQuery(variables), classOfC, shardHost(className, tenant), requestCallback));
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   * @see Get#runMapped(Class)
+   */
+  public <T> Future<Result<GraphQLMappedResponse<T>>> runMapped(Map<String, Object> variables, Class<T> classOfT) {
+    return runMapped(variables, classOfT, null);
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   * @see Get#runMapped(Class, FutureCallback)
+   */
+  public <T> Future<Result<GraphQLMappedResponse<T>>> runMapped(Map<String, Object> variables, Class<T> classOfT,
+                                                              FutureCallback<Result<GraphQLMappedResponse<T>>> callback) {
+    GraphQLResultMapper<T> mapper = GraphQLResultMapper.of(classOfT);
+    return whenTenantActive(className, tenant, callback,
+      requestCallback -> sendGraphQLMappedRequest(toQuery(variables), mapper, shardHost(className, tenant), requestCallback));
+  }
+
+  private GraphQLQuery toQuery(Map<String, Object> variables) {
+    return GraphQLQuery.builder()
+      .query(query)
+      .variables(variables)
+      .build();
+  }
+}
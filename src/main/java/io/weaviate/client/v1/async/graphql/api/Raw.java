@@ -1,9 +1,10 @@
 package io.weaviate.client.v1.async.graphql.api;
 
 import io.weaviate.client.Config;
-import io.weaviate.client.base.AsyncBaseClient;
+import io.weaviate.client.base.AsyncBaseGraphQLClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
@@ -12,11 +13,16 @@ import org.apache.hc.core5.concurrent.FutureCallback;
 
 import java.util.concurrent.Future;
 
-public class Raw extends AsyncBaseClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
+public class Raw extends AsyncBaseGraphQLClient<GraphQLResponse> implements AsyncClientResult<GraphQLResponse> {
   private String query;
 
   public Raw(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
-    super(client, config, tokenProvider);
+    this(client, config, tokenProvider, null);
+  }
+
+  public Raw(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider,
+             SingleFlight singleFlight) {
+    super(client, config, tokenProvider, singleFlight);
   }
 
   public Raw withQuery(String query) {
@@ -29,6 +35,6 @@ public class Raw extends AsyncBaseClient<GraphQLResponse> implements AsyncClient
     GraphQLQuery query = GraphQLQuery.builder()
       .query(this.query)
       .build();
-    return sendPostRequest("/graphql", query, GraphQLResponse.class, callback);
+    return sendGraphQLRequest(query, GraphQLResponse.class, callback);
   }
 }
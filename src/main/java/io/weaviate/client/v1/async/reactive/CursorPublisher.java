@@ -0,0 +1,146 @@
+package io.weaviate.client.v1.async.reactive;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.async.data.api.ObjectsGetter;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes all objects of a class, paging through them with the cursor (after).
+ * <p>
+ * Next page is fetched only once the previous one is consumed and the subscriber requests more objects,
+ * so at most a single page is held in memory. Each subscriber scans the class from the beginning.
+ */
+public class CursorPublisher implements Publisher<WeaviateObject> {
+  private final Function<String, CompletableFuture<Result<List<WeaviateObject>>>> pageFetcher;
+
+  /**
+   * @param pageFetcher fetches page of objects following the object of given id (null for the first page)
+   */
+  public CursorPublisher(Function<String, CompletableFuture<Result<List<WeaviateObject>>>> pageFetcher) {
+    this.pageFetcher = pageFetcher;
+  }
+
+  public static CursorPublisher of(WeaviateAsyncClient client, String className, int pageSize) {
+    return of(client, className, null, pageSize);
+  }
+
+  public static CursorPublisher of(WeaviateAsyncClient client, String className, String tenant, int pageSize) {
+    Assert.requireGreaterEqual(pageSize, 1, "pageSize");
+    return new CursorPublisher(after -> {
+      ObjectsGetter getter = client.data().objectsGetter()
+        .withClassName(className)
+        .withTenant(tenant)
+        .withLimit(pageSize)
+        .withAfter(after);
+      return Futures.fromCallback(getter::run);
+    });
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super WeaviateObject> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    subscriber.onSubscribe(new CursorSubscription(subscriber));
+  }
+
+  private class CursorSubscription implements Subscription {
+    private final Subscriber<? super WeaviateObject> subscriber;
+    private final Queue<WeaviateObject> page = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile String after;
+    private volatile boolean fetching;
+    private volatile boolean exhausted;
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+
+    private CursorSubscription(Subscriber<? super WeaviateObject> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        error = new IllegalArgumentException("non-positive request: " + n);
+      } else {
+        requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      // releases the held page, unless signalling is in progress, in which case it is released by that thread
+      drain();
+    }
+
+    // signals subscriber from single thread at a time, whichever thread requested or completed the fetch
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        while (!cancelled && requested.get() > 0 && !page.isEmpty()) {
+          subscriber.onNext(page.poll());
+          requested.decrementAndGet();
+        }
+        if (!cancelled && page.isEmpty()) {
+          if (error != null) {
+            cancelled = true;
+            subscriber.onError(error);
+          } else if (exhausted) {
+            cancelled = true;
+            subscriber.onComplete();
+          } else if (requested.get() > 0 && !fetching) {
+            fetching = true;
+            fetch();
+          }
+        }
+        if (cancelled) {
+          page.clear();
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void fetch() {
+      CompletableFuture<Result<List<WeaviateObject>>> future;
+      try {
+        future = pageFetcher.apply(after);
+      } catch (RuntimeException e) {
+        future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+      }
+      future.whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          error = throwable;
+        } else if (result.hasErrors()) {
+          error = new WeaviateErrorException(result.getError());
+        } else if (result.getResult() == null || result.getResult().isEmpty()) {
+          exhausted = true;
+        } else {
+          List<WeaviateObject> objects = result.getResult();
+          after = objects.get(objects.size() - 1).getId();
+          page.addAll(objects);
+        }
+        fetching = false;
+        drain();
+      });
+    }
+  }
+}
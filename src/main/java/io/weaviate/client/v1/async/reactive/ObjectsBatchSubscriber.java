@@ -0,0 +1,160 @@
+package io.weaviate.client.v1.async.reactive;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Imports received objects in batches.
+ * <p>
+ * Upstream is requested only as many objects as fit in maxInFlightBatches batches,
+ * more objects are requested once a batch is imported.
+ * Results of imported batches (including errors of single objects) are passed to the callback,
+ * failed requests cancel the subscription and complete {@link #getCompletion()} exceptionally.
+ */
+public class ObjectsBatchSubscriber implements Subscriber<WeaviateObject> {
+  private final Function<List<WeaviateObject>, CompletableFuture<Result<ObjectGetResponse[]>>> batchImporter;
+  private final int batchSize;
+  private final int maxInFlightBatches;
+  private final Consumer<Result<ObjectGetResponse[]>> callback;
+  private final CompletableFuture<Void> completion;
+  private final AtomicInteger inFlightBatches;
+  private Subscription subscription;
+  private List<WeaviateObject> objects;
+  private volatile boolean upstreamCompleted;
+
+  /**
+   * @param batchImporter      imports given batch of objects
+   * @param batchSize          number of objects in a batch
+   * @param maxInFlightBatches max number of batches imported concurrently
+   * @param callback           receives results of imported batches, may be null
+   */
+  public ObjectsBatchSubscriber(Function<List<WeaviateObject>, CompletableFuture<Result<ObjectGetResponse[]>>> batchImporter,
+                                int batchSize, int maxInFlightBatches, Consumer<Result<ObjectGetResponse[]>> callback) {
+    Assert.requireGreaterEqual(batchSize, 1, "batchSize");
+    Assert.requireGreaterEqual(maxInFlightBatches, 1, "maxInFlightBatches");
+    this.batchImporter = batchImporter;
+    this.batchSize = batchSize;
+    this.maxInFlightBatches = maxInFlightBatches;
+    this.callback = callback;
+    this.completion = new CompletableFuture<>();
+    this.inFlightBatches = new AtomicInteger();
+  }
+
+  public static ObjectsBatchSubscriber of(WeaviateAsyncClient client, int batchSize, int maxInFlightBatches,
+                                          Consumer<Result<ObjectGetResponse[]>> callback) {
+    return new ObjectsBatchSubscriber(batch -> Futures.fromCallback(
+      client.batch().objectsBatcher().withObjects(batch.toArray(new WeaviateObject[0]))::run
+    ), batchSize, maxInFlightBatches, callback);
+  }
+
+  /**
+   * @return future completed once all received objects are imported
+   */
+  public CompletableFuture<Void> getCompletion() {
+    return completion;
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription");
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    this.objects = new ArrayList<>(batchSize);
+    request((long) batchSize * maxInFlightBatches);
+  }
+
+  @Override
+  public void onNext(WeaviateObject object) {
+    Objects.requireNonNull(object, "object");
+    if (completion.isDone()) {
+      return;
+    }
+    objects.add(object);
+    if (objects.size() >= batchSize) {
+      importBatch();
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    Objects.requireNonNull(throwable, "throwable");
+    completion.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    if (!objects.isEmpty()) {
+      importBatch();
+    }
+    upstreamCompleted = true;
+    if (inFlightBatches.get() == 0) {
+      completion.complete(null);
+    }
+  }
+
+  private void importBatch() {
+    List<WeaviateObject> batch = objects;
+    objects = new ArrayList<>(batchSize);
+    inFlightBatches.incrementAndGet();
+
+    CompletableFuture<Result<ObjectGetResponse[]>> future;
+    try {
+      future = batchImporter.apply(batch);
+    } catch (RuntimeException e) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+    }
+    future.whenComplete((result, throwable) -> {
+      if (throwable == null && callback != null) {
+        try {
+          callback.accept(result);
+        } catch (RuntimeException e) {
+          throwable = e;
+        }
+      }
+      // batch counts as in flight until its callback returns, so completion can not overtake the callback
+      int remaining = inFlightBatches.decrementAndGet();
+      if (throwable != null) {
+        if (completion.completeExceptionally(throwable)) {
+          cancel();
+        }
+        return;
+      }
+      if (upstreamCompleted) {
+        if (remaining == 0) {
+          completion.complete(null);
+        }
+      } else {
+        request(batch.size());
+      }
+    });
+  }
+
+  // calls to the subscription have to be serial, batches may complete concurrently
+  private synchronized void request(long n) {
+    if (upstreamCompleted || completion.isDone()) {
+      return;
+    }
+    subscription.request(n);
+  }
+
+  private synchronized void cancel() {
+    subscription.cancel();
+  }
+}
@@ -0,0 +1,22 @@
+package io.weaviate.client.v1.async.reactive;
+
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Signals error result of a request to the subscriber.
+ */
+@Getter
+public class WeaviateErrorException extends RuntimeException {
+  private final transient WeaviateError error;
+
+  public WeaviateErrorException(WeaviateError error) {
+    super(String.format("status code: %s, error: %s", error.getStatusCode(),
+      error.getMessages() == null ? null : error.getMessages().stream()
+        .map(WeaviateErrorMessage::getMessage)
+        .collect(Collectors.joining(", "))));
+    this.error = error;
+  }
+}
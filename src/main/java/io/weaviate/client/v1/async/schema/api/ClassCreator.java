@@ -33,6 +33,7 @@ public class ClassCreator extends AsyncBaseClient<Boolean> implements AsyncClien
       @Override
       public Result<Boolean> parse(HttpResponse response, String body, ContentType contentType) {
         Response<WeaviateClass> resp = this.serializer.toResponse(response.getCode(), body, WeaviateClass.class);
+        invalidateSchema();
         return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
       }
     });
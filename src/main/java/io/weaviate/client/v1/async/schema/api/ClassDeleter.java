@@ -45,6 +45,7 @@ public class ClassDeleter extends AsyncBaseClient<Boolean> implements AsyncClien
       @Override
       public Result<Boolean> parse(HttpResponse response, String body, ContentType contentType) {
         Response<String> resp = this.serializer.toResponse(response.getCode(), body, String.class);
+        invalidateSchema();
         return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
       }
     });
@@ -6,6 +6,8 @@ import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.SchemaCache;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.schema.model.WeaviateClass;
 import java.util.concurrent.CompletableFuture;
@@ -15,6 +17,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpStatus;
 
 public class ClassGetter extends AsyncBaseClient<WeaviateClass> implements AsyncClientResult<WeaviateClass> {
 
@@ -38,6 +41,11 @@ public class ClassGetter extends AsyncBaseClient<WeaviateClass> implements Async
         .error(Stream.of(errorMessage).collect(Collectors.toList())).build();
       return CompletableFuture.completedFuture(new Result<>(500, null, errors));
     }
+    SchemaCache schemaCache = schemaCache();
+    WeaviateClass cached = schemaCache != null ? schemaCache.getFreshClass(this.className) : null;
+    if (cached != null) {
+      return Futures.notifying(CompletableFuture.completedFuture(new Result<>(HttpStatus.SC_OK, cached, null)), callback);
+    }
     String path = String.format("/schema/%s", this.className);
     return sendGetRequest(path, WeaviateClass.class, callback);
   }
@@ -53,6 +53,7 @@ public class PropertyCreator extends AsyncBaseClient<Boolean> implements AsyncCl
       @Override
       public Result<Boolean> parse(HttpResponse response, String body, ContentType contentType) {
         Response<Property> resp = this.serializer.toResponse(response.getCode(), body, Property.class);
+        invalidateSchema();
         return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
       }
     });
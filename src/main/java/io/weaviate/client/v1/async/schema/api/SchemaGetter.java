@@ -4,20 +4,38 @@ import io.weaviate.client.Config;
 import io.weaviate.client.base.AsyncBaseClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.SchemaCache;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.schema.model.Schema;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpStatus;
 
 public class SchemaGetter extends AsyncBaseClient<Schema> implements AsyncClientResult<Schema> {
+  private boolean useCache = true;
 
   public SchemaGetter(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
     super(client, config, tokenProvider);
   }
 
+  /**
+   * Fetches the schema from Weaviate even if the schema cache is enabled.
+   */
+  public SchemaGetter withoutCache() {
+    this.useCache = false;
+    return this;
+  }
+
   @Override
   public Future<Result<Schema>> run(FutureCallback<Result<Schema>> callback) {
+    SchemaCache schemaCache = useCache ? schemaCache() : null;
+    Schema cached = schemaCache != null ? schemaCache.getFreshSchema() : null;
+    if (cached != null) {
+      return Futures.notifying(CompletableFuture.completedFuture(new Result<>(HttpStatus.SC_OK, cached, null)), callback);
+    }
     return sendGetRequest("/schema", Schema.class, callback);
   }
 }
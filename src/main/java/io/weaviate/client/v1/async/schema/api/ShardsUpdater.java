@@ -5,9 +5,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
@@ -20,20 +21,34 @@ import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.TransientErrors;
+import io.weaviate.client.v1.schema.api.ShardStatusUpdates;
 import io.weaviate.client.v1.schema.model.Shard;
 import io.weaviate.client.v1.schema.model.ShardStatus;
 
+/**
+ * Updates status of all shards of a class. Shards are updated concurrently, transient failures are retried
+ * per shard, and a failure of one shard does not stop updates of the others.
+ * See {@link ShardStatusUpdates#aggregate} for the shape of the result.
+ */
 public class ShardsUpdater extends AsyncBaseClient<ShardStatus> implements AsyncClientResult<ShardStatus[]> {
+  private final Config config;
+  private final AccessTokenProvider tokenProvider;
   private final ShardsGetter shardsGetter;
-  private final ShardUpdater shardUpdater;
 
   private String className;
   private String status;
+  private int parallelism = ShardStatusUpdates.DEFAULT_PARALLELISM;
+  private int maxRetries = ShardStatusUpdates.DEFAULT_MAX_RETRIES;
 
   public ShardsUpdater(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
     super(client, config, tokenProvider);
+    this.config = config;
+    this.tokenProvider = tokenProvider;
     this.shardsGetter = new ShardsGetter(client, config, tokenProvider);
-    this.shardUpdater = new ShardUpdater(client, config, tokenProvider);
   }
 
   public ShardsUpdater withClassName(String className) {
@@ -46,6 +61,24 @@ public class ShardsUpdater extends AsyncBaseClient<ShardStatus> implements Async
     return this;
   }
 
+  /**
+   * Max number of shards updated at the same time.
+   */
+  public ShardsUpdater withParallelism(int parallelism) {
+    Assert.requireGreater(parallelism, 0, "parallelism");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Max number of retries of a shard update failed due to a transient error.
+   */
+  public ShardsUpdater withMaxRetries(int maxRetries) {
+    Assert.requireGreaterEqual(maxRetries, 0, "maxRetries");
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
   @Override
   public Future<Result<ShardStatus[]>> run(FutureCallback<Result<ShardStatus[]>> callback) {
     List<String> emptyFieldNames = new ArrayList<>();
@@ -62,39 +95,32 @@ public class ShardsUpdater extends AsyncBaseClient<ShardStatus> implements Async
       return CompletableFuture.completedFuture(new Result<>(HttpStatus.SC_BAD_REQUEST, null, errors));
     }
 
-    CompletableFuture<Result<ShardStatus[]>> updateAll = CompletableFuture.supplyAsync(() -> {
-      try {
-        Result<Shard[]> shards = this.shardsGetter.withClassName(this.className).run().get();
+    CompletableFuture<Result<ShardStatus[]>> updateAll = this.shardsGetter.withClassName(this.className).runAsync()
+      .thenCompose(shards -> {
         if (shards.hasErrors()) {
-          return shards.toErrorResult();
-        }
-
-        List<ShardStatus> shardStatuses = new ArrayList<>();
-        for (Shard shard : shards.getResult()) {
-          Result<ShardStatus> update = this.shardUpdater
-            .withClassName(this.className)
-            .withShardName(shard.getName())
-            .withStatus(this.status).run().get();
-          if (update.hasErrors()) {
-            return update.toErrorResult();
-          }
-          shardStatuses.add(update.getResult());
+          return CompletableFuture.completedFuture(shards.toErrorResult());
         }
+        return updateShards(shards.getResult());
+      });
+    return Futures.notifying(updateAll, callback);
+  }
 
-        return new Result<>(HttpStatus.SC_OK, shardStatuses.toArray(new ShardStatus[shardStatuses.size()]), null);
-      } catch (ExecutionException | InterruptedException e) {
-        throw new CompletionException(e);
-      }
-    });
+  private CompletableFuture<Result<ShardStatus[]>> updateShards(Shard[] shards) {
+    List<Supplier<CompletableFuture<Result<ShardStatus>>>> updates = Stream.of(shards)
+      .map(shard -> (Supplier<CompletableFuture<Result<ShardStatus>>>) () -> Futures.retrying(
+        () -> updateShard(shard.getName()), TransientErrors::isTransient,
+        maxRetries, ShardStatusUpdates.RETRY_DELAY_MILLIS, null))
+      .collect(Collectors.toList());
+    return FanOut.run(updates, parallelism, 0, (index, throwable) -> ShardStatusUpdates.failed(throwable))
+      .thenApply(results -> ShardStatusUpdates.aggregate(shards, results));
+  }
 
-    if (callback == null) {
-      return updateAll;
-    }
-    return updateAll.whenComplete((statuses, e) -> {
-      callback.completed(statuses);
-      if (e != null) {
-        callback.failed(new Exception(e));
-      }
-    });
+  private CompletableFuture<Result<ShardStatus>> updateShard(String shardName) {
+    // updater per shard, as updates run concurrently
+    return new ShardUpdater(client, config, tokenProvider)
+      .withClassName(this.className)
+      .withShardName(shardName)
+      .withStatus(this.status)
+      .runAsync();
   }
 }
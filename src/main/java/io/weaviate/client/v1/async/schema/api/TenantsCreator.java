@@ -15,12 +15,15 @@ import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.async.ResponseParser;
+import io.weaviate.client.base.util.Futures;
 import io.weaviate.client.base.util.UrlEncoder;
+import io.weaviate.client.v1.schema.api.TenantsBulk;
 import io.weaviate.client.v1.schema.model.Tenant;
 
 public class TenantsCreator extends AsyncBaseClient<Boolean> implements AsyncClientResult<Boolean> {
   private String className;
   private Tenant[] tenants;
+  private TenantsBulk.BulkConfig bulkConfig;
 
   public TenantsCreator(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
     super(client, config, tokenProvider);
@@ -36,8 +39,25 @@ public class TenantsCreator extends AsyncBaseClient<Boolean> implements AsyncCli
     return this;
   }
 
+  /**
+   * Sends tenants in chunks, concurrently, retrying chunks failed due to transient errors.
+   */
+  public TenantsCreator withBulkConfig(TenantsBulk.BulkConfig bulkConfig) {
+    this.bulkConfig = bulkConfig;
+    return this;
+  }
+
   @Override
   public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+    if (bulkConfig != null && tenants != null) {
+      return Futures.notifying(TenantsBulk.run(tenants, bulkConfig, Integer.MAX_VALUE,
+        chunk -> Futures.fromCallback(chunkCallback -> createTenants(chunk.toArray(new Tenant[0]), chunkCallback)),
+        TenantsBulk::alreadyExists), callback);
+    }
+    return createTenants(tenants, callback);
+  }
+
+  private Future<Result<Boolean>> createTenants(Tenant[] tenants, FutureCallback<Result<Boolean>> callback) {
     String path = String.format("/schema/%s/tenants", UrlEncoder.encodePathParam(className));
 
     return sendPostRequest(path, tenants, callback, new ResponseParser<Boolean>() {
@@ -6,7 +6,9 @@ import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.async.ResponseParser;
+import io.weaviate.client.base.util.Futures;
 import io.weaviate.client.base.util.UrlEncoder;
+import io.weaviate.client.v1.schema.api.TenantsBulk;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import java.util.concurrent.Future;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
@@ -18,6 +20,7 @@ import org.apache.hc.core5.http.HttpStatus;
 public class TenantsDeleter extends AsyncBaseClient<Boolean> implements AsyncClientResult<Boolean> {
   private String className;
   private String[] tenants;
+  private TenantsBulk.BulkConfig bulkConfig;
 
   public TenantsDeleter(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider) {
     super(client, config, tokenProvider);
@@ -33,8 +36,24 @@ public class TenantsDeleter extends AsyncBaseClient<Boolean> implements AsyncCli
     return this;
   }
 
+  /**
+   * Sends tenants in chunks, concurrently, retrying chunks failed due to transient errors.
+   */
+  public TenantsDeleter withBulkConfig(TenantsBulk.BulkConfig bulkConfig) {
+    this.bulkConfig = bulkConfig;
+    return this;
+  }
+
   @Override
   public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+    if (bulkConfig != null && tenants != null) {
+      return Futures.notifying(TenantsBulk.run(tenants, bulkConfig, Integer.MAX_VALUE,
+        chunk -> Futures.fromCallback(chunkCallback -> deleteTenants(chunk.toArray(new String[0]), chunkCallback))), callback);
+    }
+    return deleteTenants(tenants, callback);
+  }
+
+  private Future<Result<Boolean>> deleteTenants(String[] tenants, FutureCallback<Result<Boolean>> callback) {
     String path = String.format("/schema/%s/tenants", UrlEncoder.encodePathParam(className));
     return sendDeleteRequest(path, tenants, callback, new ResponseParser<Boolean>() {
       @Override
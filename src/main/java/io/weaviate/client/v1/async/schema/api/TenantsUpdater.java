@@ -5,18 +5,24 @@ import io.weaviate.client.base.AsyncBaseClient;
 import io.weaviate.client.base.AsyncClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.base.http.async.ResponseParser;
 import io.weaviate.client.base.util.DbVersionSupport;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
 import io.weaviate.client.base.util.UrlEncoder;
+import io.weaviate.client.v1.schema.api.TenantsBulk;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.schema.model.Tenant;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
@@ -28,9 +34,11 @@ import org.apache.hc.core5.http.HttpStatus;
 public class TenantsUpdater extends AsyncBaseClient<Boolean> implements AsyncClientResult<Boolean> {
 
   private final static int BATCH_SIZE = 100;
+  private final static int PARALLELISM = 4;
   private final DbVersionSupport dbVersionSupport;
   private String className;
   private Tenant[] tenants;
+  private TenantsBulk.BulkConfig bulkConfig;
 
   public TenantsUpdater(CloseableHttpAsyncClient client, Config config, AccessTokenProvider tokenProvider, DbVersionSupport dbVersionSupport) {
     super(client, config, tokenProvider);
@@ -47,31 +55,33 @@ public class TenantsUpdater extends AsyncBaseClient<Boolean> implements AsyncCli
     return this;
   }
 
+  /**
+   * Sends tenants in chunks, concurrently, retrying chunks failed due to transient errors.
+   */
+  public TenantsUpdater withBulkConfig(TenantsBulk.BulkConfig bulkConfig) {
+    this.bulkConfig = bulkConfig;
+    return this;
+  }
+
   @Override
   public Future<Result<Boolean>> run(FutureCallback<Result<Boolean>> callback) {
+    if (bulkConfig != null && tenants != null) {
+      int maxChunkSize = dbVersionSupport.supportsOnly100TenantsInOneRequest() ? BATCH_SIZE : Integer.MAX_VALUE;
+      return Futures.notifying(TenantsBulk.run(tenants, bulkConfig, maxChunkSize,
+        chunk -> Futures.fromCallback(chunkCallback -> updateTenants(chunk.toArray(new Tenant[0]), chunkCallback))), callback);
+    }
     if (dbVersionSupport.supportsOnly100TenantsInOneRequest() && tenants != null && tenants.length > BATCH_SIZE) {
-      CompletableFuture<Result<Boolean>> updateAll = CompletableFuture.supplyAsync(() -> chunkTenants(tenants, BATCH_SIZE)).thenApplyAsync(tenants -> {
-        for (List<Tenant> batch : tenants) {
-          try {
-            Result<Boolean> resp = updateTenants(batch.toArray(new Tenant[0]), null).get();
-            if (resp.hasErrors()) {
-              return resp;
-            }
-          } catch (InterruptedException | ExecutionException e) {
-            throw new CompletionException(e);
-          }
-        }
-        return new Result<>(200, true, null);
-      });
-      if (callback != null) {
-        return updateAll.whenComplete((booleanResult, e) -> {
-          callback.completed(booleanResult);
-          if (e != null) {
-            callback.failed(new Exception(e));
-          }
-        });
-      }
-      return updateAll;
+      // chunks are sent concurrently, the first error (if any) is returned
+      List<Supplier<CompletableFuture<Result<Boolean>>>> updates = chunkTenants(tenants, BATCH_SIZE).stream()
+        .map(batch -> (Supplier<CompletableFuture<Result<Boolean>>>) () ->
+          Futures.fromCallback(batchCallback -> updateTenants(batch.toArray(new Tenant[0]), batchCallback)))
+        .collect(Collectors.toList());
+      CompletableFuture<Result<Boolean>> updateAll = FanOut.run(updates, PARALLELISM, 0, this::failed)
+        .thenApply(results -> results.stream()
+          .filter(Result::hasErrors)
+          .findFirst()
+          .orElseGet(() -> new Result<>(HttpStatus.SC_OK, true, null)));
+      return Futures.notifying(updateAll, callback);
     }
     return updateTenants(tenants, callback);
   }
@@ -87,6 +97,14 @@ public class TenantsUpdater extends AsyncBaseClient<Boolean> implements AsyncCli
     });
   }
 
+  private Result<Boolean> failed(Integer index, Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(cause.getMessage()).throwable(cause).build();
+    return new Result<>(0, false, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+
   private Collection<List<Tenant>> chunkTenants(Tenant[] tenants, int chunkSize) {
     AtomicInteger counter = new AtomicInteger();
     return Stream.of(tenants).collect(Collectors.groupingBy(it -> counter.getAndIncrement() / chunkSize)).values();
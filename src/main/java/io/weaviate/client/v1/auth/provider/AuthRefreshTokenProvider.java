@@ -1,8 +1,5 @@
 package io.weaviate.client.v1.auth.provider;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import io.weaviate.client.Config;
 import io.weaviate.client.v1.auth.nimbus.BaseAuth;
@@ -10,30 +7,24 @@ import io.weaviate.client.v1.auth.nimbus.NimbusAuth;
 
 public class AuthRefreshTokenProvider implements AccessTokenProvider {
   private final NimbusAuth nimbusAuth;
-  private String accessToken;
-  private ScheduledExecutorService executor;
+  private final TokenRefresher tokenRefresher;
 
   public AuthRefreshTokenProvider(Config config, BaseAuth.AuthResponse authResponse, String accessToken, long lifetimeSeconds, String refreshToken) {
     this.nimbusAuth = new NimbusAuth();
-    this.accessToken = accessToken;
+    this.tokenRefresher = new TokenRefresher(accessToken, lifetimeSeconds, config.getTokenRefreshFraction(),
+      () -> nimbusAuth.refreshToken(config, authResponse, refreshToken));
     if (StringUtils.isNotBlank(refreshToken)) {
-      scheduleRefreshTokenTask(config, authResponse, refreshToken, lifetimeSeconds);
+      tokenRefresher.start();
     }
   }
 
   @Override
   public String getAccessToken() {
-    return accessToken;
+    return tokenRefresher.getAccessToken();
   }
 
   @Override
   public void shutdown() {
-    executor.shutdown();
-  }
-
-  private void scheduleRefreshTokenTask(Config config, BaseAuth.AuthResponse authResponse, String refreshToken, long period) {
-    executor = Executors.newSingleThreadScheduledExecutor();
-    executor.scheduleAtFixedRate(() -> accessToken = nimbusAuth.refreshToken(config, authResponse, refreshToken),
-      period, period, TimeUnit.SECONDS);
+    tokenRefresher.shutdown();
   }
 }
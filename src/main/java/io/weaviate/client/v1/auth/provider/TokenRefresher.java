@@ -0,0 +1,97 @@
+package io.weaviate.client.v1.auth.provider;
+
+import io.weaviate.client.base.util.Schedulers;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Renews access token in the background, before it expires.
+ * <p>
+ * Token is renewed once given fraction of its lifetime passes, minus random jitter (up to 10% of that time),
+ * so clients started together do not renew at the same moment. Failed renewals are retried with backoff
+ * while the current token is still valid. The current token is published through a volatile field,
+ * so reading it never blocks.
+ */
+public class TokenRefresher {
+  public static final double DEFAULT_REFRESH_FRACTION = 0.8;
+  static final double JITTER = 0.1;
+  static final long MIN_RETRY_DELAY_MILLIS = 1000;
+
+  private final Supplier<String> refresh;
+  private final long lifetimeMillis;
+  private final double refreshFraction;
+  private volatile String accessToken;
+  private volatile long expiresAtMillis;
+  private ScheduledFuture<?> scheduled;
+  private boolean stopped;
+
+  /**
+   * @param accessToken     current token
+   * @param lifetimeSeconds lifetime of the token (and the renewed ones)
+   * @param refreshFraction fraction of the lifetime after which the token is renewed, between 0 and 1 (exclusive),
+   *                        otherwise the default is used
+   * @param refresh         fetches new token, blocking
+   */
+  public TokenRefresher(String accessToken, long lifetimeSeconds, double refreshFraction, Supplier<String> refresh) {
+    this.refresh = refresh;
+    this.lifetimeMillis = TimeUnit.SECONDS.toMillis(lifetimeSeconds);
+    this.refreshFraction = refreshFraction > 0 && refreshFraction < 1 ? refreshFraction : DEFAULT_REFRESH_FRACTION;
+    this.accessToken = accessToken;
+    this.expiresAtMillis = System.currentTimeMillis() + lifetimeMillis;
+  }
+
+  public String getAccessToken() {
+    return accessToken;
+  }
+
+  public synchronized void start() {
+    schedule(0, refreshDelayMillis());
+  }
+
+  public synchronized void shutdown() {
+    stopped = true;
+    if (scheduled != null) {
+      scheduled.cancel(false);
+      scheduled = null;
+    }
+  }
+
+  long refreshDelayMillis() {
+    long delay = (long) (lifetimeMillis * refreshFraction);
+    return delay - (long) (delay * JITTER * ThreadLocalRandom.current().nextDouble());
+  }
+
+  long retryDelayMillis(int attempt) {
+    // exponential backoff, but retry at least twice more before the current token expires
+    long remaining = expiresAtMillis - System.currentTimeMillis();
+    long backoff = MIN_RETRY_DELAY_MILLIS << Math.min(attempt, 10);
+    return Math.max(MIN_RETRY_DELAY_MILLIS, Math.min(backoff, remaining / 3));
+  }
+
+  private void renew(int attempt) {
+    String token;
+    try {
+      token = refresh.get();
+    } catch (RuntimeException e) {
+      token = null;
+    }
+
+    synchronized (this) {
+      if (token != null) {
+        accessToken = token;
+        expiresAtMillis = System.currentTimeMillis() + lifetimeMillis;
+        schedule(0, refreshDelayMillis());
+      } else {
+        schedule(attempt + 1, retryDelayMillis(attempt + 1));
+      }
+    }
+  }
+
+  private void schedule(int attempt, long delayMillis) {
+    if (!stopped) {
+      scheduled = Schedulers.background().schedule(() -> renew(attempt), delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+}
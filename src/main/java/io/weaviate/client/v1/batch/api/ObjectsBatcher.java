@@ -11,18 +11,22 @@ import io.weaviate.client.base.grpc.GrpcClient;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.Assert;
 import io.weaviate.client.base.util.GrpcVersionSupport;
+import io.weaviate.client.base.util.TenantActivityManager;
 import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
 import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
 import io.weaviate.client.v1.batch.grpc.BatchObjectConverter;
+import io.weaviate.client.v1.batch.grpc.PropertyEncoders;
 import io.weaviate.client.v1.batch.model.ObjectGetResponse;
 import io.weaviate.client.v1.batch.model.ObjectGetResponseStatus;
 import io.weaviate.client.v1.batch.model.ObjectsBatchRequestBody;
 import io.weaviate.client.v1.batch.model.ObjectsGetResponseAO2Result;
 import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.batch.util.PojoMapper;
 import io.weaviate.client.v1.data.Data;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 import io.weaviate.client.v1.data.replication.model.ConsistencyLevel;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
 import java.io.Closeable;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
@@ -32,11 +36,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -72,6 +78,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   private final AccessTokenProvider tokenProvider;
   private final GrpcVersionSupport grpcVersionSupport;
   private final Config config;
+  private final PropertyEncoders propertyEncoders;
 
 
   private ObjectsBatcher(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
@@ -84,13 +91,16 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     this.data = data;
     this.objectsPath = objectsPath;
     this.grpcVersionSupport = grpcVersionSupport;
+    this.propertyEncoders = new PropertyEncoders(config.getSchemaCache());
     this.objects = new ArrayList<>();
     this.batchRetriesConfig = batchRetriesConfig;
 
     if (autoBatchConfig != null) {
       this.autoRunEnabled = true;
       this.autoBatchConfig = autoBatchConfig;
-      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize);
+      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize, autoBatchConfig.threadFactory != null
+        ? autoBatchConfig.threadFactory
+        : Executors.defaultThreadFactory());
       this.delayedExecutor = new ExecutorServiceDelayedExecutor(executorService);
       this.undoneFutures = Collections.synchronizedList(new ArrayList<>());
     } else {
@@ -129,6 +139,32 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     return this;
   }
 
+  /**
+   * Adds objects of the class named as the type, properties are read from their fields once the batch is sent,
+   * without being copied into maps first. See {@link PojoMapper} for the mapping.
+   */
+  public <T> ObjectsBatcher withPojos(List<T> pojos, Class<T> type) {
+    return withPojos(type.getSimpleName(), pojos, type);
+  }
+
+  /**
+   * Adds objects of the given class, properties are read from their fields once the batch is sent,
+   * without being copied into maps first. See {@link PojoMapper} for the mapping.
+   */
+  public <T> ObjectsBatcher withPojos(String className, List<T> pojos, Class<T> type) {
+    PojoMapper<T> mapper = PojoMapper.of(type);
+    return withObjects(pojos.stream().map(pojo -> mapper.toObject(className, pojo)).toArray(WeaviateObject[]::new));
+  }
+
+  /**
+   * Registers schema of the classes, properties of their objects are encoded with encoders compiled
+   * from the schema when sent over gRPC. Classes not registered use the schema cache (if enabled).
+   */
+  public ObjectsBatcher withClassSchemas(WeaviateClass... classes) {
+    Arrays.stream(classes).forEach(propertyEncoders::register);
+    return this;
+  }
+
   public ObjectsBatcher withConsistencyLevel(String consistencyLevel) {
     this.consistencyLevel = consistencyLevel;
     return this;
@@ -235,6 +271,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
 
   private <T> T runRecursively(List<WeaviateObject> batch, int connectionErrorCount, int timeoutErrorCount,
                                List<ObjectGetResponse> combinedSingleResponses, DelayedExecutor<T> delayedExecutor) {
+    activateTenants(batch);
     Result<ObjectGetResponse[]> result = useGRPC ? internalGrpcRun(batch) : internalRun(batch);
 
     if (result.hasErrors()) {
@@ -280,6 +317,21 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     return delayedExecutor.now(finalResult);
   }
 
+  private void activateTenants(List<WeaviateObject> batch) {
+    TenantActivityManager tenantActivityManager = config.getTenantActivityManager();
+    if (tenantActivityManager == null) {
+      return;
+    }
+    // tenants are activated concurrently, so that they can be activated together
+    CompletableFuture<?>[] activations = batch.stream()
+      .filter(object -> StringUtils.isNotBlank(object.getTenant()))
+      .map(object -> Pair.of(object.getClassName(), object.getTenant()))
+      .distinct()
+      .map(shard -> tenantActivityManager.activate(shard.getLeft(), shard.getRight()))
+      .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(activations).join();
+  }
+
   private Result<ObjectGetResponse[]> internalRun(List<WeaviateObject> batch) {
     ObjectsBatchRequestBody batchRequest = ObjectsBatchRequestBody.builder()
       .objects(batch.toArray(new WeaviateObject[0]))
@@ -288,12 +340,25 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
         .consistencyLevel(consistencyLevel)
         .build());
-    Response<ObjectGetResponse[]> resp = sendPostRequest(path, batchRequest, ObjectGetResponse[].class);
+    Response<ObjectGetResponse[]> resp = sendRequestTo(shardHostOf(batch), path, batchRequest, "POST", ObjectGetResponse[].class);
     return new Result<>(resp);
   }
 
+  private String shardHostOf(List<WeaviateObject> batch) {
+    // batch is sent directly to a node only if all its objects belong to the same shard;
+    // only REST batches are routed, gRPC batches go to the configured gRPC host(s)
+    if (batch.isEmpty()) {
+      return null;
+    }
+    WeaviateObject first = batch.get(0);
+    boolean sameShard = batch.stream().allMatch(object -> Objects.equals(object.getClassName(), first.getClassName())
+      && Objects.equals(object.getTenant(), first.getTenant()));
+    return sameShard ? shardHost(first.getClassName(), first.getTenant()) : null;
+  }
+
+
   private Result<ObjectGetResponse[]> internalGrpcRun(List<WeaviateObject> batch) {
-    BatchObjectConverter batchObjectConverter = new BatchObjectConverter(grpcVersionSupport);
+    BatchObjectConverter batchObjectConverter = new BatchObjectConverter(grpcVersionSupport, propertyEncoders);
     List<WeaviateProtoBatch.BatchObject> batchObjects = batch.stream()
       .map(batchObjectConverter::toBatchObject)
       .collect(Collectors.toList());
@@ -565,9 +630,15 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     int poolSize;
     int awaitTerminationMs;
     Consumer<Result<ObjectGetResponse[]>> callback;
+    /**
+     * Factory of the threads running batches, e.g. Thread.ofVirtual().factory() to run them on virtual threads
+     * (Java 21+). Batches hold no monitor while waiting for a response, retries are scheduled rather than slept,
+     * so virtual threads are not pinned to their carrier threads. Defaults to {@link Executors#defaultThreadFactory()}.
+     */
+    ThreadFactory threadFactory;
 
     private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs,
-                            Consumer<Result<ObjectGetResponse[]>> callback) {
+                            Consumer<Result<ObjectGetResponse[]>> callback, ThreadFactory threadFactory) {
       Assert.requireGreaterEqual(batchSize, 1, "batchSize");
       Assert.requireGreaterEqual(poolSize, 1, "corePoolSize");
       Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
@@ -576,6 +647,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       this.poolSize = poolSize;
       this.awaitTerminationMs = awaitTerminationMs;
       this.callback = callback;
+      this.threadFactory = threadFactory;
     }
 
     public static AutoBatchConfigBuilder defaultConfig() {
@@ -32,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -62,7 +63,9 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     if (autoBatchConfig != null) {
       this.autoRunEnabled = true;
       this.autoBatchConfig = autoBatchConfig;
-      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize);
+      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize, autoBatchConfig.threadFactory != null
+        ? autoBatchConfig.threadFactory
+        : Executors.defaultThreadFactory());
       this.delayedExecutor = new ExecutorServiceDelayedExecutor(executorService);
       this.undoneFutures = Collections.synchronizedList(new ArrayList<>());
     } else {
@@ -368,9 +371,15 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     int poolSize;
     int awaitTerminationMs;
     Consumer<Result<BatchReferenceResponse[]>> callback;
+    /**
+     * Factory of the threads running batches, e.g. Thread.ofVirtual().factory() to run them on virtual threads
+     * (Java 21+). Batches hold no monitor while waiting for a response, retries are scheduled rather than slept,
+     * so virtual threads are not pinned to their carrier threads. Defaults to {@link Executors#defaultThreadFactory()}.
+     */
+    ThreadFactory threadFactory;
 
     private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs,
-                            Consumer<Result<BatchReferenceResponse[]>> callback) {
+                            Consumer<Result<BatchReferenceResponse[]>> callback, ThreadFactory threadFactory) {
       Assert.requireGreaterEqual(batchSize, 1, "batchSize");
       Assert.requireGreaterEqual(poolSize, 1, "corePoolSize");
       Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
@@ -379,6 +388,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       this.poolSize = poolSize;
       this.awaitTerminationMs = awaitTerminationMs;
       this.callback = callback;
+      this.threadFactory = threadFactory;
     }
 
     public static AutoBatchConfigBuilder defaultConfig() {
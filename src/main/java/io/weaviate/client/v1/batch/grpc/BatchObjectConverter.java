@@ -10,7 +10,6 @@ import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 
@@ -23,10 +22,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 public class BatchObjectConverter {
 
   private final GrpcVersionSupport grpcVersionSupport;
+  private final PropertyEncoders propertyEncoders;
+
+  public BatchObjectConverter(GrpcVersionSupport grpcVersionSupport) {
+    this(grpcVersionSupport, null);
+  }
+
+  /**
+   * @param propertyEncoders if given, properties of classes with known schema are encoded as data types
+   *                         defined in the schema (e.g. Integer[] value of number[] property), otherwise
+   *                         types are derived from the values
+   */
+  public BatchObjectConverter(GrpcVersionSupport grpcVersionSupport, PropertyEncoders propertyEncoders) {
+    this.grpcVersionSupport = grpcVersionSupport;
+    this.propertyEncoders = propertyEncoders;
+  }
 
   public WeaviateProtoBatch.BatchObject toBatchObject(WeaviateObject obj) {
     WeaviateProtoBatch.BatchObject.Builder builder = WeaviateProtoBatch.BatchObject.newBuilder();
@@ -41,7 +54,12 @@ public class BatchObjectConverter {
       builder.setTenant(obj.getTenant());
     }
     if (obj.getProperties() != null) {
-      builder.setProperties(buildProperties(obj.getProperties()));
+      PropertyEncoders.ClassEncoder encoder = propertyEncoders != null
+        ? propertyEncoders.forClass(obj.getClassName())
+        : null;
+      builder.setProperties(encoder != null
+        ? buildProperties(obj.getProperties(), encoder)
+        : buildProperties(obj.getProperties()));
     }
 
     Float[] vector = obj.getVector();
@@ -88,11 +106,30 @@ public class BatchObjectConverter {
     List<WeaviateProtoBatch.BatchObject.MultiTargetRefProps> multiTargetRefProps;
   }
 
+  private WeaviateProtoBatch.BatchObject.Properties buildProperties(Map<String, Object> properties,
+                                                                   PropertyEncoders.ClassEncoder encoder) {
+    WeaviateProtoBatch.BatchObject.Properties.Builder builder = WeaviateProtoBatch.BatchObject.Properties.newBuilder();
+    Struct.Builder nonRefProperties = Struct.newBuilder();
+
+    Map<String, Object> rest = encoder.encode(properties, builder, nonRefProperties, grpcVersionSupport.supportsVectorBytesField());
+    if (rest != null) {
+      // properties not matching the schema
+      addProperties(builder, nonRefProperties, extractProperties(rest, true));
+    }
+    return builder.setNonRefProperties(nonRefProperties.build()).build();
+  }
+
   private static WeaviateProtoBatch.BatchObject.Properties buildProperties(Map<String, Object> properties) {
     WeaviateProtoBatch.BatchObject.Properties.Builder builder = WeaviateProtoBatch.BatchObject.Properties.newBuilder();
+    Struct.Builder nonRefProperties = Struct.newBuilder();
+
+    addProperties(builder, nonRefProperties, extractProperties(properties, true));
+    return builder.setNonRefProperties(nonRefProperties.build()).build();
+  }
 
-    Properties props = extractProperties(properties, true);
-    builder.setNonRefProperties(Struct.newBuilder().putAllFields(props.nonRefProperties).build());
+  private static void addProperties(WeaviateProtoBatch.BatchObject.Properties.Builder builder,
+                                    Struct.Builder nonRefProperties, Properties props) {
+    nonRefProperties.putAllFields(props.nonRefProperties);
     props.numberArrayProperties.forEach(builder::addNumberArrayProperties);
     props.intArrayProperties.forEach(builder::addIntArrayProperties);
     props.textArrayProperties.forEach(builder::addTextArrayProperties);
@@ -101,8 +138,6 @@ public class BatchObjectConverter {
     props.objectArrayProperties.forEach(builder::addObjectArrayProperties);
     props.singleTargetRefProps.forEach(builder::addSingleTargetRefProps);
     props.multiTargetRefProps.forEach(builder::addMultiTargetRefProps);
-
-    return builder.build();
   }
 
   private static Properties extractProperties(Map<String, Object> properties, boolean rootLevel) {
@@ -0,0 +1,487 @@
+package io.weaviate.client.v1.batch.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import io.weaviate.client.base.util.CrossReference;
+import io.weaviate.client.base.util.SchemaCache;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.v1.schema.model.DataType;
+import io.weaviate.client.v1.schema.model.Property;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Encodes properties of batched objects with encoders compiled once per class from its schema.
+ * <p>
+ * Every property defined in the schema gets a writer specialized for its data type, so encoding an object
+ * does not test its values against all supported types. Properties not defined in the schema, or with values
+ * not matching their data type, are left to the generic conversion.
+ * Classes are either registered explicitly or read from the schema cache (if enabled).
+ */
+public class PropertyEncoders {
+
+  private final SchemaCache schemaCache;
+  private final ConcurrentMap<String, ClassEncoder> registered;
+  private final ConcurrentMap<String, ClassEncoder> cached;
+
+  /**
+   * @param schemaCache cache to compile encoders of classes not registered explicitly from, may be null
+   */
+  public PropertyEncoders(SchemaCache schemaCache) {
+    this.schemaCache = schemaCache;
+    this.registered = new ConcurrentHashMap<>();
+    this.cached = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Compiles encoder of the class, used instead of the schema cache for objects of that class.
+   */
+  public void register(WeaviateClass weaviateClass) {
+    registered.put(StringUtils.capitalize(weaviateClass.getClassName()), new ClassEncoder(weaviateClass));
+  }
+
+  /**
+   * @return encoder of the class, null if its schema is not known
+   */
+  ClassEncoder forClass(String className) {
+    if (StringUtils.isBlank(className)) {
+      return null;
+    }
+    String key = StringUtils.capitalize(className);
+    ClassEncoder encoder = registered.get(key);
+    if (encoder != null || schemaCache == null) {
+      return encoder;
+    }
+    WeaviateClass weaviateClass = schemaCache.getClass(className);
+    if (weaviateClass == null) {
+      return null;
+    }
+    encoder = cached.get(key);
+    // cached schema is replaced once changed, recompile then
+    if (encoder == null || encoder.weaviateClass != weaviateClass) {
+      encoder = new ClassEncoder(weaviateClass);
+      cached.put(key, encoder);
+    }
+    return encoder;
+  }
+
+  static class ClassEncoder {
+    private final WeaviateClass weaviateClass;
+    private final Map<String, Writer> writers;
+
+    ClassEncoder(WeaviateClass weaviateClass) {
+      this.weaviateClass = weaviateClass;
+      this.writers = new HashMap<>();
+      if (weaviateClass.getProperties() != null) {
+        for (Property property : weaviateClass.getProperties()) {
+          Writer writer = writer(property.getDataType(), property.getNestedProperties(), true);
+          if (writer != null) {
+            writers.put(property.getName(), writer);
+          }
+        }
+      }
+    }
+
+    /**
+     * Writes properties matching the schema to the builders.
+     *
+     * @return properties not written, null if all of them were
+     */
+    Map<String, Object> encode(Map<String, Object> properties, WeaviateProtoBatch.BatchObject.Properties.Builder builder,
+                               Struct.Builder nonRefProperties, boolean numbersAsBytes) {
+      Sink sink = new RootSink(builder, nonRefProperties, numbersAsBytes);
+      Map<String, Object> rest = null;
+      for (Map.Entry<String, Object> e : properties.entrySet()) {
+        Writer writer = writers.get(e.getKey());
+        if (writer == null || !writer.write(e.getKey(), e.getValue(), sink)) {
+          if (rest == null) {
+            rest = new HashMap<>();
+          }
+          rest.put(e.getKey(), e.getValue());
+        }
+      }
+      return rest;
+    }
+  }
+
+  private static Writer writer(List<String> dataType, List<Property.NestedProperty> nestedProperties, boolean rootLevel) {
+    if (dataType == null || dataType.isEmpty()) {
+      return null;
+    }
+    switch (dataType.get(0)) {
+      case DataType.TEXT:
+      case DataType.DATE:
+      case DataType.UUID:
+      case DataType.BLOB:
+        return PropertyEncoders::writeText;
+      case DataType.INT:
+        return PropertyEncoders::writeInt;
+      case DataType.NUMBER:
+        return PropertyEncoders::writeNumber;
+      case DataType.BOOLEAN:
+        return PropertyEncoders::writeBoolean;
+      case DataType.TEXT_ARRAY:
+      case DataType.DATE_ARRAY:
+      case DataType.UUID_ARRAY:
+        return PropertyEncoders::writeTextArray;
+      case DataType.INT_ARRAY:
+        return PropertyEncoders::writeIntArray;
+      case DataType.NUMBER_ARRAY:
+        return PropertyEncoders::writeNumberArray;
+      case DataType.BOOLEAN_ARRAY:
+        return PropertyEncoders::writeBooleanArray;
+      case DataType.OBJECT: {
+        Map<String, Writer> nested = nestedWriters(nestedProperties);
+        return nested != null ? (name, value, sink) -> writeObject(name, value, sink, nested) : null;
+      }
+      case DataType.OBJECT_ARRAY: {
+        Map<String, Writer> nested = nestedWriters(nestedProperties);
+        return nested != null ? (name, value, sink) -> writeObjectArray(name, value, sink, nested) : null;
+      }
+      case DataType.GEO_COORDINATES:
+      case DataType.PHONE_NUMBER:
+        return null;
+      default:
+        // cross-references have names of target classes as data type
+        return rootLevel ? PropertyEncoders::writeReference : null;
+    }
+  }
+
+  private static Map<String, Writer> nestedWriters(List<Property.NestedProperty> nestedProperties) {
+    if (nestedProperties == null) {
+      return null;
+    }
+    Map<String, Writer> writers = new HashMap<>();
+    for (Property.NestedProperty nestedProperty : nestedProperties) {
+      Writer writer = writer(nestedProperty.getDataType(), nestedProperty.getNestedProperties(), false);
+      if (writer == null) {
+        // object would have to be converted the generic way anyway
+        return null;
+      }
+      writers.put(nestedProperty.getName(), writer);
+    }
+    return writers;
+  }
+
+  private static boolean writeText(String name, Object value, Sink sink) {
+    if (!(value instanceof String)) {
+      return false;
+    }
+    sink.putValue(name, Value.newBuilder().setStringValue((String) value).build());
+    return true;
+  }
+
+  private static boolean writeNumber(String name, Object value, Sink sink) {
+    if (!(value instanceof Number)) {
+      return false;
+    }
+    sink.putValue(name, Value.newBuilder().setNumberValue(((Number) value).doubleValue()).build());
+    return true;
+  }
+
+  private static boolean writeInt(String name, Object value, Sink sink) {
+    // fractions are left to the server to reject, not truncated
+    if (!isIntegral(value)) {
+      return false;
+    }
+    return writeNumber(name, value, sink);
+  }
+
+  private static boolean writeBoolean(String name, Object value, Sink sink) {
+    if (!(value instanceof Boolean)) {
+      return false;
+    }
+    sink.putValue(name, Value.newBuilder().setBoolValue((Boolean) value).build());
+    return true;
+  }
+
+  private static boolean writeTextArray(String name, Object value, Sink sink) {
+    if (!(value instanceof String[])) {
+      return false;
+    }
+    sink.addTextArray(WeaviateProtoBase.TextArrayProperties.newBuilder()
+      .setPropName(name).addAllValues(Arrays.asList((String[]) value)).build());
+    return true;
+  }
+
+  private static boolean writeIntArray(String name, Object value, Sink sink) {
+    if (!(value instanceof Number[])) {
+      return false;
+    }
+    for (Number number : (Number[]) value) {
+      if (!isIntegral(number)) {
+        return false;
+      }
+    }
+    WeaviateProtoBase.IntArrayProperties.Builder builder = WeaviateProtoBase.IntArrayProperties.newBuilder().setPropName(name);
+    for (Number number : (Number[]) value) {
+      builder.addValues(number.longValue());
+    }
+    sink.addIntArray(builder.build());
+    return true;
+  }
+
+  private static boolean isIntegral(Object value) {
+    return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+  }
+
+  private static boolean writeNumberArray(String name, Object value, Sink sink) {
+    if (!(value instanceof Number[])) {
+      return false;
+    }
+    Number[] numbers = (Number[]) value;
+    WeaviateProtoBase.NumberArrayProperties.Builder builder = WeaviateProtoBase.NumberArrayProperties.newBuilder().setPropName(name);
+    if (sink.numbersAsBytes) {
+      ByteBuffer buffer = ByteBuffer.allocate(numbers.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      for (Number number : numbers) {
+        buffer.putDouble(number.doubleValue());
+      }
+      builder.setValuesBytes(ByteString.copyFrom(buffer.array()));
+    } else {
+      for (Number number : numbers) {
+        builder.addValues(number.doubleValue());
+      }
+    }
+    sink.addNumberArray(builder.build());
+    return true;
+  }
+
+  private static boolean writeBooleanArray(String name, Object value, Sink sink) {
+    if (!(value instanceof Boolean[])) {
+      return false;
+    }
+    sink.addBooleanArray(WeaviateProtoBase.BooleanArrayProperties.newBuilder()
+      .setPropName(name).addAllValues(Arrays.asList((Boolean[]) value)).build());
+    return true;
+  }
+
+  private static boolean writeObject(String name, Object value, Sink sink, Map<String, Writer> writers) {
+    if (!(value instanceof Map)) {
+      return false;
+    }
+    WeaviateProtoBase.ObjectPropertiesValue objectValue = encodeNested((Map<?, ?>) value, writers, sink.numbersAsBytes);
+    if (objectValue == null) {
+      return false;
+    }
+    sink.addObject(WeaviateProtoBase.ObjectProperties.newBuilder().setPropName(name).setValue(objectValue).build());
+    return true;
+  }
+
+  private static boolean writeObjectArray(String name, Object value, Sink sink, Map<String, Writer> writers) {
+    if (!(value instanceof List)) {
+      return false;
+    }
+    WeaviateProtoBase.ObjectArrayProperties.Builder builder = WeaviateProtoBase.ObjectArrayProperties.newBuilder().setPropName(name);
+    for (Object element : (List<?>) value) {
+      if (!(element instanceof Map)) {
+        return false;
+      }
+      WeaviateProtoBase.ObjectPropertiesValue objectValue = encodeNested((Map<?, ?>) element, writers, sink.numbersAsBytes);
+      if (objectValue == null) {
+        return false;
+      }
+      builder.addValues(objectValue);
+    }
+    sink.addObjectArray(builder.build());
+    return true;
+  }
+
+  /**
+   * @return encoded object, null if any of its properties does not match the schema
+   */
+  private static WeaviateProtoBase.ObjectPropertiesValue encodeNested(Map<?, ?> properties, Map<String, Writer> writers,
+                                                                      boolean numbersAsBytes) {
+    WeaviateProtoBase.ObjectPropertiesValue.Builder builder = WeaviateProtoBase.ObjectPropertiesValue.newBuilder();
+    Struct.Builder nonRefProperties = Struct.newBuilder();
+    Sink sink = new NestedSink(builder, nonRefProperties, numbersAsBytes);
+    for (Map.Entry<?, ?> e : properties.entrySet()) {
+      String name = String.valueOf(e.getKey());
+      Writer writer = writers.get(name);
+      if (writer == null || !writer.write(name, e.getValue(), sink)) {
+        return null;
+      }
+    }
+    return builder.setNonRefProperties(nonRefProperties.build()).build();
+  }
+
+  private static boolean writeReference(String name, Object value, Sink sink) {
+    if (!(value instanceof List)) {
+      return false;
+    }
+    Map<String, List<String>> uuidsByClass = new LinkedHashMap<>();
+    for (Object element : (List<?>) value) {
+      if (!(element instanceof Map) || ((Map<?, ?>) element).size() != 1
+        || !(((Map<?, ?>) element).get("beacon") instanceof String)) {
+        return false;
+      }
+      CrossReference crossReference = CrossReference.fromBeacon((String) ((Map<?, ?>) element).get("beacon"));
+      uuidsByClass.computeIfAbsent(crossReference.getClassName(), className -> new ArrayList<>())
+        .add(crossReference.getTargetID());
+    }
+    if (uuidsByClass.size() == 1) {
+      sink.addSingleTargetRef(WeaviateProtoBatch.BatchObject.SingleTargetRefProps.newBuilder()
+        .setPropName(name).addAllUuids(uuidsByClass.values().iterator().next()).build());
+    } else {
+      uuidsByClass.forEach((className, uuids) -> sink.addMultiTargetRef(WeaviateProtoBatch.BatchObject.MultiTargetRefProps.newBuilder()
+        .setPropName(name).addAllUuids(uuids).setTargetCollection(className).build()));
+    }
+    return true;
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    /**
+     * @return whether the value was written, false if it does not match the data type
+     */
+    boolean write(String name, Object value, Sink sink);
+  }
+
+  /**
+   * Target of the writers, properties of an object or of a nested object.
+   */
+  private abstract static class Sink {
+    final boolean numbersAsBytes;
+
+    Sink(boolean numbersAsBytes) {
+      this.numbersAsBytes = numbersAsBytes;
+    }
+
+    abstract void putValue(String name, Value value);
+
+    abstract void addNumberArray(WeaviateProtoBase.NumberArrayProperties properties);
+
+    abstract void addIntArray(WeaviateProtoBase.IntArrayProperties properties);
+
+    abstract void addTextArray(WeaviateProtoBase.TextArrayProperties properties);
+
+    abstract void addBooleanArray(WeaviateProtoBase.BooleanArrayProperties properties);
+
+    abstract void addObject(WeaviateProtoBase.ObjectProperties properties);
+
+    abstract void addObjectArray(WeaviateProtoBase.ObjectArrayProperties properties);
+
+    void addSingleTargetRef(WeaviateProtoBatch.BatchObject.SingleTargetRefProps properties) {
+      throw new IllegalStateException("references are not supported in nested objects");
+    }
+
+    void addMultiTargetRef(WeaviateProtoBatch.BatchObject.MultiTargetRefProps properties) {
+      throw new IllegalStateException("references are not supported in nested objects");
+    }
+  }
+
+  private static class RootSink extends Sink {
+    private final WeaviateProtoBatch.BatchObject.Properties.Builder builder;
+    private final Struct.Builder nonRefProperties;
+
+    RootSink(WeaviateProtoBatch.BatchObject.Properties.Builder builder, Struct.Builder nonRefProperties,
+             boolean numbersAsBytes) {
+      super(numbersAsBytes);
+      this.builder = builder;
+      this.nonRefProperties = nonRefProperties;
+    }
+
+    @Override
+    void putValue(String name, Value value) {
+      nonRefProperties.putFields(name, value);
+    }
+
+    @Override
+    void addNumberArray(WeaviateProtoBase.NumberArrayProperties properties) {
+      builder.addNumberArrayProperties(properties);
+    }
+
+    @Override
+    void addIntArray(WeaviateProtoBase.IntArrayProperties properties) {
+      builder.addIntArrayProperties(properties);
+    }
+
+    @Override
+    void addTextArray(WeaviateProtoBase.TextArrayProperties properties) {
+      builder.addTextArrayProperties(properties);
+    }
+
+    @Override
+    void addBooleanArray(WeaviateProtoBase.BooleanArrayProperties properties) {
+      builder.addBooleanArrayProperties(properties);
+    }
+
+    @Override
+    void addObject(WeaviateProtoBase.ObjectProperties properties) {
+      builder.addObjectProperties(properties);
+    }
+
+    @Override
+    void addObjectArray(WeaviateProtoBase.ObjectArrayProperties properties) {
+      builder.addObjectArrayProperties(properties);
+    }
+
+    @Override
+    void addSingleTargetRef(WeaviateProtoBatch.BatchObject.SingleTargetRefProps properties) {
+      builder.addSingleTargetRefProps(properties);
+    }
+
+    @Override
+    void addMultiTargetRef(WeaviateProtoBatch.BatchObject.MultiTargetRefProps properties) {
+      builder.addMultiTargetRefProps(properties);
+    }
+  }
+
+  private static class NestedSink extends Sink {
+    private final WeaviateProtoBase.ObjectPropertiesValue.Builder builder;
+    private final Struct.Builder nonRefProperties;
+
+    NestedSink(WeaviateProtoBase.ObjectPropertiesValue.Builder builder, Struct.Builder nonRefProperties,
+               boolean numbersAsBytes) {
+      super(numbersAsBytes);
+      this.builder = builder;
+      this.nonRefProperties = nonRefProperties;
+    }
+
+    @Override
+    void putValue(String name, Value value) {
+      nonRefProperties.putFields(name, value);
+    }
+
+    @Override
+    void addNumberArray(WeaviateProtoBase.NumberArrayProperties properties) {
+      builder.addNumberArrayProperties(properties);
+    }
+
+    @Override
+    void addIntArray(WeaviateProtoBase.IntArrayProperties properties) {
+      builder.addIntArrayProperties(properties);
+    }
+
+    @Override
+    void addTextArray(WeaviateProtoBase.TextArrayProperties properties) {
+      builder.addTextArrayProperties(properties);
+    }
+
+    @Override
+    void addBooleanArray(WeaviateProtoBase.BooleanArrayProperties properties) {
+      builder.addBooleanArrayProperties(properties);
+    }
+
+    @Override
+    void addObject(WeaviateProtoBase.ObjectProperties properties) {
+      builder.addObjectProperties(properties);
+    }
+
+    @Override
+    void addObjectArray(WeaviateProtoBase.ObjectArrayProperties properties) {
+      builder.addObjectArrayProperties(properties);
+    }
+  }
+}
@@ -0,0 +1,332 @@
+package io.weaviate.client.v1.batch.util;
+
+import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Maps objects of a class (POJOs) to objects imported with batch, without copying their fields into a map.
+ * <p>
+ * Fields of the class, their getters and conversions of their values are resolved once per class and cached.
+ * Properties of a mapped object are a read-only view over its fields, read once the object is sent
+ * (encoded into gRPC message or written as JSON).
+ * <ul>
+ *   <li>non-static, non-transient fields are properties, named as the field or by {@link SerializedName}</li>
+ *   <li>field named {@code id} (String or UUID) is the id of the object, not a property</li>
+ *   <li>primitive arrays and collections of strings, numbers or booleans are sent as arrays</li>
+ *   <li>UUIDs and enums are sent as text, {@link Date}, {@link Instant}, {@link OffsetDateTime}
+ *   and {@link ZonedDateTime} as RFC 3339 dates</li>
+ *   <li>other types (and collections of them) are sent as nested objects, mapped the same way</li>
+ * </ul>
+ */
+public class PojoMapper<T> {
+  private static final ConcurrentMap<Class<?>, PojoMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private final Accessor id;
+  private final List<Accessor> properties;
+
+  private PojoMapper(Class<T> type) {
+    Accessor idAccessor = null;
+    List<Accessor> accessors = new ArrayList<>();
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+          continue;
+        }
+        if (idAccessor == null && "id".equals(field.getName())
+          && (field.getType() == String.class || field.getType() == UUID.class)) {
+          idAccessor = new Accessor("id", getter(field), String::valueOf);
+          continue;
+        }
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        String name = serializedName != null ? serializedName.value() : field.getName();
+        accessors.add(new Accessor(name, getter(field), converter(field.getType(), field.getGenericType())));
+      }
+    }
+    this.id = idAccessor;
+    this.properties = Collections.unmodifiableList(accessors);
+  }
+
+  /**
+   * @return mapper of the class, created on the first use
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> PojoMapper<T> of(Class<T> type) {
+    PojoMapper<T> mapper = (PojoMapper<T>) MAPPERS.get(type);
+    if (mapper == null) {
+      // mappers of nested types are resolved once their values are read, never during creation
+      mapper = new PojoMapper<>(type);
+      PojoMapper<T> existing = (PojoMapper<T>) MAPPERS.putIfAbsent(type, mapper);
+      return existing != null ? existing : mapper;
+    }
+    return mapper;
+  }
+
+  public WeaviateObject toObject(String className, T pojo) {
+    Object idValue = id != null ? id.get(pojo) : null;
+    return WeaviateObject.builder()
+      .className(className)
+      .id(idValue != null ? (String) idValue : null)
+      .properties(properties(pojo))
+      .build();
+  }
+
+  /**
+   * @return read-only view of properties of the object, null fields are omitted
+   */
+  public Map<String, Object> properties(T pojo) {
+    return new PojoProperties(properties, pojo);
+  }
+
+  private static MethodHandle getter(Field field) {
+    try {
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException(String.format("field %s of %s can not be read",
+        field.getName(), field.getDeclaringClass().getName()), e);
+    }
+  }
+
+  private static Function<Object, Object> converter(Class<?> type, Type genericType) {
+    if (type == String.class || type == Boolean.class || type == Integer.class || type == Long.class
+      || type == Float.class || type == Double.class
+      || type == boolean.class || type == int.class || type == long.class || type == float.class || type == double.class
+      || type == String[].class || type == Boolean[].class || type == Integer[].class || type == Long[].class
+      || type == Float[].class || type == Double[].class
+      || Map.class.isAssignableFrom(type)) {
+      return Function.identity();
+    }
+    if (type == short.class || type == byte.class || type == Short.class || type == Byte.class) {
+      return value -> ((Number) value).intValue();
+    }
+    if (Number.class.isAssignableFrom(type)) {
+      return value -> ((Number) value).doubleValue();
+    }
+    if (type == char.class || type == Character.class || type == UUID.class) {
+      return String::valueOf;
+    }
+    if (type.isEnum()) {
+      return value -> ((Enum<?>) value).name();
+    }
+    if (type == Date.class) {
+      return value -> DateTimeFormatter.ISO_INSTANT.format(((Date) value).toInstant());
+    }
+    if (type == Instant.class) {
+      return value -> DateTimeFormatter.ISO_INSTANT.format((Instant) value);
+    }
+    if (type == OffsetDateTime.class || type == ZonedDateTime.class) {
+      return value -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((TemporalAccessor) value);
+    }
+    if (type == int[].class) {
+      return value -> boxed(value, Integer.class);
+    }
+    if (type == long[].class) {
+      return value -> boxed(value, Long.class);
+    }
+    if (type == float[].class) {
+      return value -> boxed(value, Float.class);
+    }
+    if (type == double[].class) {
+      return value -> boxed(value, Double.class);
+    }
+    if (type == boolean[].class) {
+      return value -> boxed(value, Boolean.class);
+    }
+    if (type.isArray()) {
+      return elementsConverter(type.getComponentType(), type.getComponentType(), value -> Arrays.asList((Object[]) value));
+    }
+    if (Collection.class.isAssignableFrom(type)) {
+      Type elementType = genericType instanceof ParameterizedType
+        ? ((ParameterizedType) genericType).getActualTypeArguments()[0]
+        : Object.class;
+      Class<?> elementClass = elementType instanceof Class ? (Class<?>) elementType
+        : elementType instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) elementType).getRawType()
+        : Object.class;
+      return elementsConverter(elementClass, elementType, value -> (Collection<?>) value);
+    }
+    if (type == Object.class) {
+      return PojoMapper::nested;
+    }
+    if (type.getName().startsWith("java.")) {
+      // not a POJO
+      return String::valueOf;
+    }
+    return PojoMapper::nested;
+  }
+
+  private static Function<Object, Object> elementsConverter(Class<?> elementClass, Type elementType,
+                                                            Function<Object, Collection<?>> elements) {
+    Class<?> arrayType = elementClass == String.class || elementClass == UUID.class || elementClass.isEnum() ? String.class
+      : elementClass == Boolean.class ? Boolean.class
+      : elementClass == Integer.class || elementClass == Short.class || elementClass == Byte.class ? Integer.class
+      : elementClass == Long.class ? Long.class
+      : elementClass == Float.class ? Float.class
+      : elementClass == Double.class ? Double.class
+      : null;
+    Function<Object, Object> elementConverter = elementClass == Object.class
+      ? PojoMapper::nested
+      : converter(elementClass, elementType);
+    if (arrayType == null) {
+      // objects
+      return value -> {
+        List<Object> converted = new ArrayList<>();
+        for (Object element : elements.apply(value)) {
+          if (element != null) {
+            converted.add(elementConverter.apply(element));
+          }
+        }
+        return converted;
+      };
+    }
+    return value -> {
+      Collection<?> collection = elements.apply(value);
+      Object array = Array.newInstance(arrayType, collection.size());
+      int i = 0;
+      for (Object element : collection) {
+        Array.set(array, i++, element != null ? elementConverter.apply(element) : null);
+      }
+      return array;
+    };
+  }
+
+  private static Object boxed(Object primitives, Class<?> boxedType) {
+    int length = Array.getLength(primitives);
+    Object boxed = Array.newInstance(boxedType, length);
+    for (int i = 0; i < length; i++) {
+      Array.set(boxed, i, Array.get(primitives, i));
+    }
+    return boxed;
+  }
+
+  /**
+   * Converts value of a type known only at runtime.
+   */
+  @SuppressWarnings("unchecked")
+  private static Object nested(Object value) {
+    if (value instanceof Map) {
+      return value;
+    }
+    Class<?> type = value.getClass();
+    if (type.isArray() || type.getName().startsWith("java.")) {
+      return converter(type, type).apply(value);
+    }
+    return PojoMapper.of((Class<Object>) value.getClass()).properties(value);
+  }
+
+  private static class Accessor {
+    final String name;
+    final MethodHandle getter;
+    final Function<Object, Object> converter;
+
+    Accessor(String name, MethodHandle getter, Function<Object, Object> converter) {
+      this.name = name;
+      this.getter = getter;
+      this.converter = converter;
+    }
+
+    Object get(Object pojo) {
+      Object value;
+      try {
+        value = (Object) getter.invokeExact(pojo);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+      return value != null ? converter.apply(value) : null;
+    }
+  }
+
+  private static class PojoProperties extends AbstractMap<String, Object> {
+    private final List<Accessor> accessors;
+    private final Object pojo;
+
+    PojoProperties(List<Accessor> accessors, Object pojo) {
+      this.accessors = accessors;
+      this.pojo = pojo;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      return new AbstractSet<Entry<String, Object>>() {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          return new PropertiesIterator(accessors.iterator(), pojo);
+        }
+
+        @Override
+        public int size() {
+          int size = 0;
+          for (Iterator<Entry<String, Object>> it = iterator(); it.hasNext(); it.next()) {
+            size++;
+          }
+          return size;
+        }
+      };
+    }
+  }
+
+  private static class PropertiesIterator implements Iterator<Map.Entry<String, Object>> {
+    private final Iterator<Accessor> accessors;
+    private final Object pojo;
+    private Map.Entry<String, Object> next;
+
+    PropertiesIterator(Iterator<Accessor> accessors, Object pojo) {
+      this.accessors = accessors;
+      this.pojo = pojo;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && accessors.hasNext()) {
+        Accessor accessor = accessors.next();
+        Object value = accessor.get(pojo);
+        if (value != null) {
+          next = new AbstractMap.SimpleImmutableEntry<>(accessor.name, value);
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public Map.Entry<String, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Map.Entry<String, Object> entry = next;
+      next = null;
+      return entry;
+    }
+  }
+}
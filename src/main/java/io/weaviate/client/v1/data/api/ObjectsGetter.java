@@ -43,7 +43,7 @@ public class ObjectsGetter extends BaseClient<ObjectsListResponse> implements Cl
 
     @Override
     public Result<List<WeaviateObject>> run() {
-      Response<WeaviateObject> resp = sendGetRequest(path, WeaviateObject.class);
+      Response<WeaviateObject> resp = sendRequestTo(shardHost(className, tenant), path, null, "GET", WeaviateObject.class);
       WeaviateObject object = resp.getBody();
       List<WeaviateObject> objects = object == null
         ? null
@@ -124,10 +124,11 @@ public class ObjectsGetter extends BaseClient<ObjectsListResponse> implements Cl
             .tenant(tenant)
             .nodeName(nodeName)
             .build();
+    activateTenant(className, tenant);
     if (StringUtils.isNotBlank(id)) {
       return this.objectGetter.withPath(objectsPath.buildGetOne(params)).run();
     }
-    Response<ObjectsListResponse> resp = sendGetRequest(objectsPath.buildGet(params), ObjectsListResponse.class);
+    Response<ObjectsListResponse> resp = sendRequestTo(shardHost(className, tenant), objectsPath.buildGet(params), null, "GET", ObjectsListResponse.class);
     List<WeaviateObject> objects = resp.getBody() == null
       ? null
       : Arrays.asList(resp.getBody().getObjects());
@@ -1,5 +1,6 @@
 package io.weaviate.client.v1.filters;
 
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -39,6 +40,10 @@ public class WhereFilter {
   String[] valueStringArray;
   String valueText;
   String[] valueTextArray;
+  /**
+   * Value given when the prepared query is run, see {@link Variable}
+   */
+  Variable valueVariable;
 
   public static WhereFilterBuilder builder() {
     return new WhereFilterBuilder();
@@ -57,6 +62,7 @@ public class WhereFilter {
     private String[] valueStringArray;
     private String[] valueTextArray;
     private GeoRange valueGeoRange;
+    private Variable valueVariable;
 
     public WhereFilterBuilder operands(WhereFilter... operands) {
       this.operands = operands;
@@ -98,6 +104,10 @@ public class WhereFilter {
       this.valueGeoRange = valueGeoRange;
       return this;
     }
+    public WhereFilterBuilder valueVariable(Variable valueVariable) {
+      this.valueVariable = valueVariable;
+      return this;
+    }
 
     public WhereFilter build() {
       WhereFilter f = new WhereFilter();
@@ -105,6 +115,7 @@ public class WhereFilter {
       f.operator = operator;
       f.path = path;
       f.valueGeoRange = valueGeoRange;
+      f.valueVariable = valueVariable;
       assignSingleOrArray(valueBooleanArray, s -> f.valueBoolean = s, a -> f.valueBooleanArray = a);
       assignSingleOrArray(valueDateArray, s -> f.valueDate = s, a -> f.valueDateArray = a);
       assignSingleOrArray(valueIntArray, s -> f.valueInt = s, a -> f.valueIntArray = a);
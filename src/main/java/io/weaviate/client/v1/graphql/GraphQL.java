@@ -2,7 +2,10 @@ package io.weaviate.client.v1.graphql;
 
 import io.weaviate.client.v1.graphql.query.Aggregate;
 import io.weaviate.client.v1.graphql.query.Explore;
+import io.weaviate.client.v1.graphql.query.FederatedSearch;
 import io.weaviate.client.v1.graphql.query.Get;
+import io.weaviate.client.v1.graphql.query.Multi;
+import io.weaviate.client.v1.graphql.query.MultiSearch;
 import io.weaviate.client.v1.graphql.query.Raw;
 import io.weaviate.client.v1.graphql.query.argument.AskArgument;
 import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
@@ -22,10 +25,12 @@ import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArgument;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SingleFlight;
 
 public class GraphQL {
   private Config config;
   private HttpClient httpClient;
+  private SingleFlight singleFlight;
 
   public static class Arguments {
     public NearTextArgument.NearTextArgumentBuilder nearTextArgBuilder() {
@@ -94,24 +99,41 @@ public class GraphQL {
   }
 
   public GraphQL(HttpClient httpClient, Config config) {
+    this(httpClient, config, null);
+  }
+
+  public GraphQL(HttpClient httpClient, Config config, SingleFlight singleFlight) {
     this.config = config;
     this.httpClient = httpClient;
+    this.singleFlight = singleFlight;
   }
 
   public Get get() {
-    return new Get(httpClient, config);
+    return new Get(httpClient, config, singleFlight);
   }
 
   public Raw raw() {
-    return new Raw(httpClient, config);
+    return new Raw(httpClient, config, singleFlight);
   }
 
   public Explore explore() {
-    return new Explore(httpClient, config);
+    return new Explore(httpClient, config, singleFlight);
   }
 
   public Aggregate aggregate() {
-    return new Aggregate(httpClient, config);
+    return new Aggregate(httpClient, config, singleFlight);
+  }
+
+  public Multi multi() {
+    return new Multi(httpClient, config, singleFlight);
+  }
+
+  public MultiSearch multiSearch() {
+    return new MultiSearch();
+  }
+
+  public FederatedSearch federatedSearch() {
+    return new FederatedSearch(httpClient, config);
   }
 
   public GraphQL.Arguments arguments() {
@@ -0,0 +1,80 @@
+package io.weaviate.client.v1.graphql.model;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Single group of Aggregate query (the only one if query is not grouped).
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AggregateGroup {
+  /**
+   * Property and its value the group is made of, null if query is not grouped.
+   */
+  GroupedBy groupedBy;
+  Meta meta;
+  /**
+   * Aggregations of properties by property name.
+   */
+  Map<String, PropertyAggregation> properties;
+
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  public static class GroupedBy {
+    String[] path;
+    String value;
+  }
+
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  public static class Meta {
+    Long count;
+  }
+
+  /**
+   * Aggregation of a single property, only the requested fields are set.
+   * Median, mode, minimum and maximum are Double for numbers and String for dates.
+   */
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  public static class PropertyAggregation {
+    String type;
+    Long count;
+    Double mean;
+    Object median;
+    Object mode;
+    Object minimum;
+    Object maximum;
+    Double sum;
+    TopOccurrence[] topOccurrences;
+    Long totalTrue;
+    Long totalFalse;
+    Double percentageTrue;
+    Double percentageFalse;
+    String[] pointingTo;
+  }
+
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  public static class TopOccurrence {
+    String value;
+    Long occurs;
+  }
+}
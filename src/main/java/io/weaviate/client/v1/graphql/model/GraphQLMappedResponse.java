@@ -0,0 +1,22 @@
+package io.weaviate.client.v1.graphql.model;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class GraphQLMappedResponse<T> {
+  /**
+   * Objects of the queried class, null if the query failed.
+   */
+  List<T> objects;
+  GraphQLError[] errors;
+}
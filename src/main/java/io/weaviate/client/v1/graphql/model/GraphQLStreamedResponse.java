@@ -0,0 +1,21 @@
+package io.weaviate.client.v1.graphql.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class GraphQLStreamedResponse {
+  /**
+   * Number of results passed to the consumer.
+   */
+  long count;
+  GraphQLError[] errors;
+}
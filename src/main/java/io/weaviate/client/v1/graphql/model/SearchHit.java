@@ -0,0 +1,26 @@
+package io.weaviate.client.v1.graphql.model;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Single object found by federated search, together with the collection (and tenant) it was found in.
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SearchHit {
+  String className;
+  String tenant;
+  String id;
+  Float distance;
+  Float score;
+  Map<String, Object> properties;
+}
@@ -15,20 +15,28 @@ import io.weaviate.client.v1.graphql.query.builder.AggregateBuilder;
 import io.weaviate.client.v1.graphql.query.fields.Field;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
 import io.weaviate.client.Config;
-import io.weaviate.client.base.BaseClient;
+import io.weaviate.client.base.BaseGraphQLClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
+import java.util.function.Consumer;
 
-public class Aggregate extends BaseClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
+public class Aggregate extends BaseGraphQLClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
   private final AggregateBuilder.AggregateBuilderBuilder aggregateBuilder;
 
   public Aggregate(HttpClient httpClient, Config config) {
-    super(httpClient, config);
+    this(httpClient, config, null);
+  }
+
+  public Aggregate(HttpClient httpClient, Config config, SingleFlight singleFlight) {
+    super(httpClient, config, singleFlight);
     aggregateBuilder = AggregateBuilder.builder();
   }
 
@@ -121,7 +129,31 @@ public class Aggregate extends BaseClient<GraphQLResponse> implements ClientResu
   public Result<GraphQLResponse> run() {
     String aggregateQuery = aggregateBuilder.build().buildQuery();
     GraphQLQuery query = GraphQLQuery.builder().query(aggregateQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = sendGraphQLRequest(query, GraphQLResponse.class);
+    return new Result<>(resp);
+  }
+
+  /**
+   * Passes groups of the query (typically grouped by a property of high cardinality) to the consumer one by one,
+   * as the response is read. Groups are not collected, so memory use does not depend on their number.
+   * Example:
+   * <pre>{@code
+   * Result<GraphQLStreamedResponse> result = client.graphQL().aggregate()
+   *   .withClassName("Pizza")
+   *   .withGroupBy("name")
+   *   .withFields(Field.builder().name("meta").fields(Field.builder().name("count").build()).build(),
+   *     Field.builder().name("price").fields(Field.builder().name("mean").build()).build())
+   *   .stream(group -> System.out.println(group.getGroupedBy().getValue() + ": " +
+   *     group.getProperties().get("price").getMean()));
+   * }</pre>
+   *
+   * @param consumer consumer of groups, called on the calling thread
+   * @return Result of GraphQLStreamedResponse with number of consumed groups and errors of the query
+   */
+  public Result<GraphQLStreamedResponse> stream(Consumer<AggregateGroup> consumer) {
+    String aggregateQuery = aggregateBuilder.build().buildQuery();
+    GraphQLQuery query = GraphQLQuery.builder().query(aggregateQuery).build();
+    Response<GraphQLStreamedResponse> resp = sendGraphQLAggregateStreamingRequest(query, consumer, null);
     return new Result<>(resp);
   }
 }
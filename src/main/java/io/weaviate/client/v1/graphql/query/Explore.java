@@ -12,20 +12,25 @@ import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
 import io.weaviate.client.v1.graphql.query.builder.ExploreBuilder;
 import io.weaviate.client.Config;
-import io.weaviate.client.base.BaseClient;
+import io.weaviate.client.base.BaseGraphQLClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.graphql.model.ExploreFields;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
 
-public class Explore extends BaseClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
+public class Explore extends BaseGraphQLClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
   private final ExploreBuilder.ExploreBuilderBuilder exploreBuilder;
 
   public Explore(HttpClient httpClient, Config config) {
-    super(httpClient, config);
+    this(httpClient, config, null);
+  }
+
+  public Explore(HttpClient httpClient, Config config, SingleFlight singleFlight) {
+    super(httpClient, config, singleFlight);
     exploreBuilder = ExploreBuilder.builder();
   }
 
@@ -98,7 +103,7 @@ public class Explore extends BaseClient<GraphQLResponse> implements ClientResult
   public Result<GraphQLResponse> run() {
     String exploreQuery = exploreBuilder.build().buildQuery();
     GraphQLQuery query = GraphQLQuery.builder().query(exploreQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = sendGraphQLRequest(query, GraphQLResponse.class);
     return new Result<>(resp);
   }
 }
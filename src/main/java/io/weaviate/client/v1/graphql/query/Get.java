@@ -6,10 +6,12 @@ import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SingleFlight;
 import io.weaviate.client.v1.filters.WhereFilter;
 import io.weaviate.client.v1.graphql.model.GraphQLGetBaseObject;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
 import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
 import io.weaviate.client.v1.graphql.query.argument.AskArgument;
 import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
@@ -27,17 +29,29 @@ import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArguments;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
 import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
 import io.weaviate.client.v1.graphql.query.fields.Field;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
 import io.weaviate.client.v1.graphql.query.fields.GenerativeSearchBuilder;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
 
 public class Get extends BaseGraphQLClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
   private final GetBuilder.GetBuilderBuilder getBuilder;
+  private final HttpClient httpClient;
+  private final Config config;
+  private final SingleFlight singleFlight;
 
   public Get(HttpClient httpClient, Config config) {
-    super(httpClient, config);
+    this(httpClient, config, null);
+  }
+
+  public Get(HttpClient httpClient, Config config, SingleFlight singleFlight) {
+    super(httpClient, config, singleFlight);
+    this.httpClient = httpClient;
+    this.config = config;
+    this.singleFlight = singleFlight;
     getBuilder = GetBuilder.builder();
   }
 
@@ -66,11 +80,21 @@ public class Get extends BaseGraphQLClient<GraphQLResponse> implements ClientRes
     return this;
   }
 
+  public Get withLimit(Variable limit) {
+    getBuilder.limit(limit);
+    return this;
+  }
+
   public Get withOffset(Integer offset) {
     getBuilder.offset(offset);
     return this;
   }
 
+  public Get withOffset(Variable offset) {
+    getBuilder.offset(offset);
+    return this;
+  }
+
   public Get withAfter(String after) {
     getBuilder.after(after);
     return this;
@@ -173,9 +197,10 @@ public class Get extends BaseGraphQLClient<GraphQLResponse> implements ClientRes
 
   @Override
   public Result<GraphQLResponse> run() {
-    String getQuery = getBuilder.build().buildQuery();
-    GraphQLQuery query = GraphQLQuery.builder().query(getQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    GetBuilder get = getBuilder.build();
+    GraphQLQuery query = GraphQLQuery.builder().query(get.buildQuery()).build();
+    activateTenant(get.getClassName(), get.getTenant());
+    Response<GraphQLResponse> resp = sendGraphQLRequest(query, GraphQLResponse.class, shardHost(get.getClassName(), get.getTenant()));
     return new Result<>(resp);
   }
 
@@ -217,9 +242,62 @@ public class Get extends BaseGraphQLClient<GraphQLResponse> implements ClientRes
    * @see GraphQLGetBaseObject
    */
   public <C> Result<GraphQLTypedResponse<C>> run(Class<C> classOfC) {
-    String getQuery = getBuilder.build().buildQuery();
-    GraphQLQuery query = GraphQLQuery.builder().query(getQuery).build();
-    Response<GraphQLTypedResponse<C>> resp = sendGraphQLTypedRequest(query, classOfC);
+    GetBuilder get = getBuilder.build();
+    GraphQLQuery query = GraphQLQuery.builder().query(get.buildQuery()).build();
+    activateTenant(get.getClassName(), get.getTenant());
+    Response<GraphQLTypedResponse<C>> resp = sendGraphQLTypedRequest(query, classOfC, shardHost(get.getClassName(), get.getTenant()));
+    return new Result<>(resp);
+  }
+
+  /**
+   * Builds the query once, so it can be run many times with different values of its variables.
+   * Example:
+   * <pre>{@code
+   * PreparedGet search = client.graphQL().get()
+   *   .withClassName("Soup")
+   *   .withFields(Field.builder().name("name").build())
+   *   .withNearVector(NearVectorArgument.builder().vector(Variable.vector("vector")).build())
+   *   .withLimit(Variable.integer("limit"))
+   *   .prepare();
+   *
+   * Map<String, Object> variables = new HashMap<>();
+   * variables.put("vector", new float[]{0.1f, 0.2f});
+   * variables.put("limit", 10);
+   * Result<GraphQLResponse> result = search.run(variables);
+   * }</pre>
+   *
+   * @return prepared query
+   * @see Variable
+   */
+  public PreparedGet prepare() {
+    return new PreparedGet(httpClient, config, singleFlight, getBuilder.build());
+  }
+
+  /**
+   * Maps returned objects straight into instances of the given class, without intermediate maps.
+   * Unlike {@link #run(Class)} the class describes a single object, its fields are properties
+   * and additional properties of the object, example:
+   * <pre>{@code
+   * public class Soup {
+   *   String id;
+   *   float distance;
+   *   float[] vector;
+   *   String name;
+   *   Float price;
+   * }
+   * }</pre>
+   *
+   * @param classOfT - class describing Weaviate object, example: Soup class
+   * @param <T>      - Class of T
+   * @return Result of GraphQLMappedResponse with objects of a given class
+   * @see GraphQLResultMapper
+   */
+  public <T> Result<GraphQLMappedResponse<T>> runMapped(Class<T> classOfT) {
+    GetBuilder get = getBuilder.build();
+    GraphQLQuery query = GraphQLQuery.builder().query(get.buildQuery()).build();
+    activateTenant(get.getClassName(), get.getTenant());
+    Response<GraphQLMappedResponse<T>> resp = sendGraphQLMappedRequest(query, GraphQLResultMapper.of(classOfT),
+      shardHost(get.getClassName(), get.getTenant()));
     return new Result<>(resp);
   }
 }
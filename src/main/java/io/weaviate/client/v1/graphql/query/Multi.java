@@ -0,0 +1,138 @@
+package io.weaviate.client.v1.graphql.query;
+
+import com.google.gson.JsonObject;
+import io.weaviate.client.Config;
+import io.weaviate.client.base.BaseGraphQLClient;
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Response;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.base.util.TenantActivityManager;
+import io.weaviate.client.v1.graphql.model.GraphQLQuery;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.builder.AggregateBuilder;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.builder.MultiQueryBuilder;
+import io.weaviate.client.v1.graphql.query.builder.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Sends several Get and Aggregate queries to Weaviate in a single request.
+ * Results are returned in the same order the queries were added.
+ * <p>
+ * Tenants of all queries are activated before the request is sent, if tenant activity is managed.
+ * The request is sent directly to the node holding the shard only if all queries target the same tenant
+ * of the same collection, otherwise it goes to the configured host(s).
+ * <pre>{@code
+ * Result<List<GraphQLResponse>> results = client.graphQL().multi()
+ *   .withGet(GetBuilder.builder().className("Pizza").fields(fields).withNearVectorFilter(nearVector1).build())
+ *   .withGet(GetBuilder.builder().className("Pizza").fields(fields).withNearVectorFilter(nearVector2).build())
+ *   .withAggregate(AggregateBuilder.builder().className("Pizza").fields(metaCount).build())
+ *   .run();
+ * }</pre>
+ */
+public class Multi extends BaseGraphQLClient<GraphQLResponse> implements ClientResult<List<GraphQLResponse>> {
+  private final List<Query> queries;
+  private final List<Pair<String, String>> shards;
+  private final Config config;
+
+  public Multi(HttpClient httpClient, Config config) {
+    this(httpClient, config, null);
+  }
+
+  public Multi(HttpClient httpClient, Config config, SingleFlight singleFlight) {
+    super(httpClient, config, singleFlight);
+    this.config = config;
+    queries = new ArrayList<>();
+    shards = new ArrayList<>();
+  }
+
+  public Multi withGet(GetBuilder get) {
+    queries.add(get);
+    shards.add(Pair.of(get.getClassName(), get.getTenant()));
+    return this;
+  }
+
+  public Multi withAggregate(AggregateBuilder aggregate) {
+    queries.add(aggregate);
+    shards.add(Pair.of(aggregate.getClassName(), aggregate.getTenant()));
+    return this;
+  }
+
+  /**
+   * Responses of every query are shaped as if the query was sent on its own.
+   * GraphQL errors are reported in the errors of the affected query's response,
+   * the returned result holds only errors of the request itself.
+   *
+   * @return Result of list of responses, one per query
+   */
+  @Override
+  public Result<List<GraphQLResponse>> run() {
+    MultiQueryBuilder multiQuery = multiQuery();
+    activateTenants();
+    Response<GraphQLResponse> resp = sendGraphQLRequest(GraphQLQuery.builder().query(multiQuery.buildQuery()).build(), GraphQLResponse.class,
+      commonShardHost());
+    if (resp.getBody() == null) {
+      return new Result<>(resp.getStatusCode(), null, resp.getErrors());
+    }
+    return new Result<>(resp.getStatusCode(), multiQuery.splitResponse(resp.getBody()), null);
+  }
+
+  /**
+   * Same as {@link #run()}, but every response is deserialized into given class.
+   *
+   * @param classOfC class describing Weaviate objects, common for all queries
+   * @param <C>      Class of C
+   * @return Result of list of GraphQLTypedResponse of a given class, one per query
+   * @see Get#run(Class)
+   */
+  public <C> Result<List<GraphQLTypedResponse<C>>> run(Class<C> classOfC) {
+    MultiQueryBuilder multiQuery = multiQuery();
+    activateTenants();
+    // data of every query is deserialized right from its subtree of the parsed response
+    Response<GraphQLResponse<JsonObject>> resp = sendGraphQLTreeRequest(GraphQLQuery.builder().query(multiQuery.buildQuery()).build(),
+      commonShardHost());
+    if (resp.getBody() == null) {
+      return new Result<>(resp.getStatusCode(), null, resp.getErrors());
+    }
+    List<GraphQLTypedResponse<C>> responses = multiQuery.splitTreeResponse(resp.getBody()).stream()
+      .map(response -> serializer.toGraphQLTypedResponse(response, classOfC))
+      .collect(Collectors.toList());
+    return new Result<>(resp.getStatusCode(), responses, null);
+  }
+
+  private MultiQueryBuilder multiQuery() {
+    return MultiQueryBuilder.builder()
+      .queries(queries.toArray(new Query[0]))
+      .build();
+  }
+
+  private void activateTenants() {
+    TenantActivityManager tenantActivityManager = config.getTenantActivityManager();
+    if (tenantActivityManager == null) {
+      return;
+    }
+    // tenants are activated concurrently, so that they can be activated together
+    CompletableFuture<?>[] activations = shards.stream()
+      .filter(shard -> StringUtils.isNotBlank(shard.getRight()))
+      .distinct()
+      .map(shard -> tenantActivityManager.activate(shard.getLeft(), shard.getRight()))
+      .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(activations).join();
+  }
+
+  private String commonShardHost() {
+    // request is sent directly to a node only if all its queries target the same shard
+    if (shards.isEmpty() || shards.stream().distinct().count() > 1) {
+      return null;
+    }
+    return shardHost(shards.get(0).getLeft(), shards.get(0).getRight());
+  }
+}
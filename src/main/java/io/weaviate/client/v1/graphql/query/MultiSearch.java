@@ -0,0 +1,107 @@
+package io.weaviate.client.v1.graphql.query;
+
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.Schedulers;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs many independent searches (e.g. per tenant or per target vector) concurrently, each one as a separate request.
+ * <p>
+ * At most {@code maxConcurrency} searches are run at the same time. Each search blocks a thread while its request
+ * is in flight; by default these are threads of a pool shared by all clients, set a dedicated executor with
+ * {@link #withExecutor(ExecutorService)} to keep searches of this client apart. Each search opens its own HTTP
+ * connection, as every other request of the sync client does. If timeout is set and passes before all searches complete, the method returns partial results: every unfinished
+ * search gets a Result with an error. Results are returned in the order the searches were added.
+ * <pre>{@code
+ * Result<List<Result<GraphQLResponse>>> results = client.graphQL().multiSearch()
+ *   .withSearch(client.graphQL().get().withClassName("Pizza").withTenant("tenantA").withFields(name))
+ *   .withSearch(client.graphQL().get().withClassName("Pizza").withTenant("tenantB").withFields(name))
+ *   .withMaxConcurrency(4)
+ *   .withTimeout(500, TimeUnit.MILLISECONDS)
+ *   .run();
+ * }</pre>
+ *
+ * @see Multi for sending several queries in a single request
+ */
+public class MultiSearch implements ClientResult<List<Result<GraphQLResponse>>> {
+  public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+  private final List<ClientResult<GraphQLResponse>> searches;
+  private int maxConcurrency;
+  private long timeoutMillis;
+  private ExecutorService executor;
+
+  public MultiSearch() {
+    searches = new ArrayList<>();
+    maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    executor = Schedulers.requests();
+  }
+
+  /**
+   * @param search any of graphQL().get(), aggregate(), explore() or raw() (not yet run)
+   */
+  public MultiSearch withSearch(ClientResult<GraphQLResponse> search) {
+    searches.add(search);
+    return this;
+  }
+
+  public MultiSearch withSearches(List<? extends ClientResult<GraphQLResponse>> searches) {
+    this.searches.addAll(searches);
+    return this;
+  }
+
+  public MultiSearch withMaxConcurrency(int maxConcurrency) {
+    Assert.requireGreater(maxConcurrency, 0, "maxConcurrency");
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  /**
+   * Deadline for all searches, counted from the moment multi search is run.
+   */
+  public MultiSearch withTimeout(long timeout, TimeUnit unit) {
+    this.timeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
+
+  /**
+   * Executor the searches are run on, defaults to a pool shared by all clients.
+   * Abandoned searches are interrupted, the executor is not shut down.
+   */
+  public MultiSearch withExecutor(ExecutorService executor) {
+    Assert.requiredNotNull(executor, "executor");
+    this.executor = executor;
+    return this;
+  }
+
+  @Override
+  public Result<List<Result<GraphQLResponse>>> run() {
+    if (searches.isEmpty()) {
+      return new Result<>(200, Collections.emptyList(), null);
+    }
+
+    // searches abandoned due to timeout are interrupted, so they do not hold threads of the executor
+    List<Supplier<CompletableFuture<Result<GraphQLResponse>>>> tasks = searches.stream()
+      .map(search -> (Supplier<CompletableFuture<Result<GraphQLResponse>>>) () -> Futures.supplyInterruptibly(search::run, executor))
+      .collect(Collectors.toList());
+
+    List<Result<GraphQLResponse>> results = FanOut.run(tasks, maxConcurrency, timeoutMillis, this::failed).join();
+    return new Result<>(200, results, null);
+  }
+
+  private Result<GraphQLResponse> failed(Integer index, Throwable throwable) {
+    return FanOut.failedResult("search " + index, throwable, timeoutMillis);
+  }
+}
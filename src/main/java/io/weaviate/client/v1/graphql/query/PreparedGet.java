@@ -0,0 +1,89 @@
+package io.weaviate.client.v1.graphql.query;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.BaseGraphQLClient;
+import io.weaviate.client.base.Response;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SingleFlight;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLQuery;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
+import io.weaviate.client.v1.graphql.query.builder.GetBuilder;
+import io.weaviate.client.v1.graphql.query.util.GraphQLResultMapper;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Get query built once, run with values of its variables (see {@link Variable}).
+ * Query text is neither rebuilt nor escaped again, only values of variables are serialized with every run.
+ * Can be run concurrently.
+ */
+public class PreparedGet extends BaseGraphQLClient<GraphQLResponse> {
+  private final String query;
+  private final Set<String> variables;
+  private final String className;
+  private final String tenant;
+
+  public PreparedGet(HttpClient httpClient, Config config, SingleFlight singleFlight, GetBuilder get) {
+    super(httpClient, config, singleFlight);
+    this.query = get.buildQuery();
+    this.variables = Collections.unmodifiableSet(get.getVariables().keySet());
+    this.className = get.getClassName();
+    this.tenant = get.getTenant();
+  }
+
+  /**
+   * @return query with declared variables
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return names of variables of the query
+   */
+  public Set<String> getVariables() {
+    return variables;
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   */
+  public Result<GraphQLResponse> run(Map<String, Object> variables) {
+    activateTenant(className, tenant);
+    Response<GraphQLResponse> resp = sendGraphQLRequest(toQuery(variables), GraphQLResponse.class, shardHost(className, tenant));
+    return new Result<>(resp);
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   * @see Get#run(Class)
+   */
+  public <C> Result<GraphQLTypedResponse<C>> run(Map<String, Object> variables, Class<C> classOfC) {
+    activateTenant(className, tenant);
+    Response<GraphQLTypedResponse<C>> resp = sendGraphQLTypedRequest(toQuery(variables), classOfC, shardHost(className, tenant));
+    return new Result<>(resp);
+  }
+
+  /**
+   * @param variables values of variables by name, e.g. vector as Float[] or float[]
+   * @see Get#runMapped(Class)
+   */
+  public <T> Result<GraphQLMappedResponse<T>> runMapped(Map<String, Object> variables, Class<T> classOfT) {
+    activateTenant(className, tenant);
+    Response<GraphQLMappedResponse<T>> resp = sendGraphQLMappedRequest(toQuery(variables), GraphQLResultMapper.of(classOfT),
+      shardHost(className, tenant));
+    return new Result<>(resp);
+  }
+
+  private GraphQLQuery toQuery(Map<String, Object> variables) {
+    return GraphQLQuery.builder()
+      .query(query)
+      .variables(variables)
+      .build();
+  }
+}
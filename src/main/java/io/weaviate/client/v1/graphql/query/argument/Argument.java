@@ -2,4 +2,14 @@ package io.weaviate.client.v1.graphql.query.argument;
 
 public interface Argument {
   String build();
+
+  /**
+   * Appends the argument to the query being built, same as {@link #build()}.
+   * Arguments used in hot paths write into the builder directly.
+   *
+   * @param sb builder of the query
+   */
+  default void appendTo(StringBuilder sb) {
+    sb.append(build());
+  }
 }
@@ -1,8 +1,5 @@
 package io.weaviate.client.v1.graphql.query.argument;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
-
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -32,42 +29,53 @@ public class HybridArgument implements Argument {
 
   @Override
   public String build() {
-    Set<String> arg = new LinkedHashSet<>();
+    StringBuilder sb = new StringBuilder(vector != null ? 64 + vector.length * 12 : 64);
+    appendTo(sb);
+    return sb.toString();
+  }
 
-    arg.add(String.format("query:%s", Serializer.quote(query)));
+  @Override
+  public void appendTo(StringBuilder sb) {
+    sb.append("hybrid:{query:").append(Serializer.quote(query));
     if (vector != null) {
-      arg.add(String.format("vector:%s", Serializer.array(vector)));
+      sb.append(" vector:");
+      Serializer.appendArray(sb, vector);
     }
     if (alpha != null) {
-      arg.add(String.format("alpha:%s", alpha));
+      sb.append(" alpha:").append(alpha.floatValue());
     }
     if (maxVectorDistance != null) {
-      arg.add(String.format("maxVectorDistance:%s", maxVectorDistance));
+      sb.append(" maxVectorDistance:").append(maxVectorDistance.floatValue());
     }
     if (ArrayUtils.isNotEmpty(properties)) {
-      arg.add(String.format("properties:%s", Serializer.arrayWithQuotes(properties)));
+      sb.append(" properties:");
+      Serializer.appendArrayWithQuotes(sb, properties);
     }
     if (StringUtils.isNotBlank(fusionType)) {
-      arg.add(String.format("fusionType:%s", fusionType));
+      sb.append(" fusionType:").append(fusionType);
     }
     if (ArrayUtils.isNotEmpty(targetVectors)) {
-      arg.add(String.format("targetVectors:%s", Serializer.arrayWithQuotes(targetVectors)));
+      sb.append(" targetVectors:");
+      Serializer.appendArrayWithQuotes(sb, targetVectors);
     }
     if (searches != null && (searches.nearVector != null || searches.nearText != null)) {
-      Set<String> searchesArgs = new LinkedHashSet<>();
+      sb.append(" searches:{");
       if (searches.nearVector != null) {
-        searchesArgs.add(searches.nearVector.build());
+        searches.nearVector.appendTo(sb);
       }
       if (searches.nearText != null) {
-        searchesArgs.add(searches.nearText.build());
+        if (searches.nearVector != null) {
+          sb.append(' ');
+        }
+        searches.nearText.appendTo(sb);
       }
-      arg.add(String.format("searches:{%s}", String.join(" ", searchesArgs)));
+      sb.append('}');
     }
     if (targets != null) {
-      arg.add(String.format("%s", targets.build()));
+      sb.append(' ');
+      targets.appendTo(sb);
     }
-
-    return String.format("hybrid:{%s}", String.join(" ", arg));
+    sb.append('}');
   }
 
   @Getter
@@ -3,16 +3,15 @@ package io.weaviate.client.v1.graphql.query.argument;
 import io.weaviate.client.v1.graphql.query.util.Serializer;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.Tolerate;
 import org.apache.commons.lang3.ArrayUtils;
 
 @Getter
@@ -27,36 +26,65 @@ public class NearVectorArgument implements Argument {
   String[] targetVectors;
   Map<String, Float[][]> vectorsPerTarget;
   Targets targets;
+  /**
+   * Vector given when the prepared query is run, used instead of vector
+   */
+  Variable vectorVariable;
 
   @Override
   public String build() {
-    Set<String> arg = new LinkedHashSet<>();
+    StringBuilder sb = new StringBuilder(vector != null ? 32 + vector.length * 12 : 64);
+    appendTo(sb);
+    return sb.toString();
+  }
 
+  @Override
+  public void appendTo(StringBuilder sb) {
+    sb.append("nearVector:{");
+    int start = sb.length();
     if (vector != null) {
-      arg.add(String.format("vector:%s", Serializer.array(vector)));
+      sb.append("vector:");
+      Serializer.appendArray(sb, vector);
+    } else if (vectorVariable != null) {
+      sb.append("vector:").append(vectorVariable.reference());
     }
     if (certainty != null) {
-      arg.add(String.format("certainty:%s", certainty));
+      separate(sb, start).append("certainty:").append(certainty.floatValue());
     }
     if (distance != null) {
-      arg.add(String.format("distance:%s", distance));
+      separate(sb, start).append("distance:").append(distance.floatValue());
     }
     if (ArrayUtils.isNotEmpty(targetVectors)) {
-      arg.add(String.format("targetVectors:%s", Serializer.arrayWithQuotes(targetVectors)));
+      separate(sb, start).append("targetVectors:");
+      Serializer.appendArrayWithQuotes(sb, targetVectors);
     }
     if (vectorsPerTarget != null && !vectorsPerTarget.isEmpty()) {
-      Set<String> vectorPerTargetArg = new LinkedHashSet<>();
+      separate(sb, start).append("vectorPerTarget:{");
+      boolean first = true;
       for (Map.Entry<String, Float[][]> e : vectorsPerTarget.entrySet()) {
+        if (!first) {
+          sb.append(' ');
+        }
+        first = false;
         Float[][] vectors = e.getValue();
-        vectorPerTargetArg.add(String.format("%s:%s", e.getKey(), vectors.length == 1 ? Serializer.array(vectors[0]) : Serializer.array(vectors)));
+        sb.append(e.getKey()).append(':');
+        if (vectors.length == 1) {
+          Serializer.appendArray(sb, vectors[0]);
+        } else {
+          Serializer.appendArray(sb, vectors);
+        }
       }
-      arg.add(String.format("vectorPerTarget:{%s}", String.join(" ", vectorPerTargetArg)));
+      sb.append('}');
     }
     if (targets != null) {
-      arg.add(String.format("%s", withValidTargetVectors(this.targets).build()));
+      separate(sb, start);
+      withValidTargetVectors(this.targets).appendTo(sb);
     }
+    sb.append('}');
+  }
 
-    return String.format("nearVector:{%s}", String.join(" ", arg));
+  private static StringBuilder separate(StringBuilder sb, int start) {
+    return sb.length() > start ? sb.append(' ') : sb;
   }
 
   /**
@@ -97,6 +125,13 @@ public class NearVectorArgument implements Argument {
   // Extend Lombok's builder to overload some methods.
   public static class NearVectorArgumentBuilder {
     Map<String, Float[][]> vectorsPerTarget = new LinkedHashMap<>();
+    private Variable vectorVariable;
+
+    @Tolerate
+    public NearVectorArgumentBuilder vector(Variable vector) {
+      this.vectorVariable = vector;
+      return this;
+    }
 
     public NearVectorArgumentBuilder vectorPerTarget(Map<String, Float[]> vectors) {
       this.vectorsPerTarget.clear(); // Overwrite the existing entries each time this is called.
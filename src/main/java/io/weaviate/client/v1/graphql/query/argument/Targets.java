@@ -2,9 +2,7 @@ package io.weaviate.client.v1.graphql.query.argument;
 
 import io.weaviate.client.v1.graphql.query.util.Serializer;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -43,30 +41,46 @@ public class Targets {
   }
 
   String build() {
-    Set<String> arg = new LinkedHashSet<>();
+    StringBuilder sb = new StringBuilder();
+    appendTo(sb);
+    return sb.toString();
+  }
 
+  void appendTo(StringBuilder sb) {
+    sb.append("targets:{");
+    int start = sb.length();
     if (combinationMethod != null) {
-      arg.add(String.format("combinationMethod:%s", combinationMethod.name()));
+      sb.append("combinationMethod:").append(combinationMethod.name());
     }
     if (ArrayUtils.isNotEmpty(targetVectors)) {
-      arg.add(String.format("targetVectors:%s", Serializer.arrayWithQuotes(targetVectors)));
+      if (sb.length() > start) {
+        sb.append(' ');
+      }
+      sb.append("targetVectors:");
+      Serializer.appendArrayWithQuotes(sb, targetVectors);
     }
     if (weights != null && !weights.isEmpty()) {
-      Set<String> weightsArg = new LinkedHashSet<>();
+      if (sb.length() > start) {
+        sb.append(' ');
+      }
+      sb.append("weights:{");
+      boolean first = true;
       for (Map.Entry<String, Float[]> e : weights.entrySet()) {
+        if (!first) {
+          sb.append(' ');
+        }
+        first = false;
         Float[] weightsPerTarget = e.getValue();
-        String target = e.getKey();
-
-        String weight = Serializer.array(weightsPerTarget);
+        sb.append(e.getKey()).append(':');
         if (weightsPerTarget.length == 1) {
-          weight = weightsPerTarget[0].toString();
+          sb.append(weightsPerTarget[0].floatValue());
+        } else {
+          Serializer.appendArray(sb, weightsPerTarget);
         }
-        weightsArg.add(String.format("%s:%s", target, weight));
       }
-      arg.add(String.format("weights:{%s}", String.join(" ", weightsArg)));
+      sb.append('}');
     }
-
-    return String.format("targets:{%s}", String.join(" ", arg));
+    sb.append('}');
   }
 
   // Extend lombok's builder to overload some methods.
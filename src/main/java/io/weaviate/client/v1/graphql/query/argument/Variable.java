@@ -0,0 +1,88 @@
+package io.weaviate.client.v1.graphql.query.argument;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Placeholder of a value given only when a prepared query is run (GraphQL variable).
+ * Query with variables declares them and is built once, values are sent as JSON with every run.
+ * <p>
+ * Variables can be used in place of nearVector's vector, limit and offset of Get query and value of where filter.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class Variable {
+  /**
+   * Name of the variable, without leading $
+   */
+  String name;
+  /**
+   * GraphQL type of the variable, e.g. [Float]
+   */
+  String type;
+  /**
+   * Name of the where filter value the variable stands for, e.g. valueText;
+   * null if the variable can not be used in where filter
+   */
+  String whereValue;
+
+  private Variable(String name, String type, String whereValue) {
+    this.name = name;
+    this.type = type;
+    this.whereValue = whereValue;
+  }
+
+  /**
+   * @return variable of vector (array of floats)
+   */
+  public static Variable vector(String name) {
+    return new Variable(name, "[Float]", null);
+  }
+
+  /**
+   * @return variable of int, e.g. limit or value of valueInt filter
+   */
+  public static Variable integer(String name) {
+    return new Variable(name, "Int", "valueInt");
+  }
+
+  /**
+   * @return variable of number, e.g. value of valueNumber filter
+   */
+  public static Variable number(String name) {
+    return new Variable(name, "Float", "valueNumber");
+  }
+
+  /**
+   * @return variable of boolean, e.g. value of valueBoolean filter
+   */
+  public static Variable bool(String name) {
+    return new Variable(name, "Boolean", "valueBoolean");
+  }
+
+  /**
+   * @return variable of text, e.g. value of valueText filter
+   */
+  public static Variable text(String name) {
+    return new Variable(name, "String", "valueText");
+  }
+
+  /**
+   * @return variable of date given as RFC 3339 string, e.g. value of valueDate filter
+   */
+  public static Variable date(String name) {
+    return new Variable(name, "String", "valueDate");
+  }
+
+  /**
+   * @return $name, as the variable is referenced in the query
+   */
+  public String reference() {
+    return "$" + name;
+  }
+}
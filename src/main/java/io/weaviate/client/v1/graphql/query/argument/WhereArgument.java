@@ -57,6 +57,13 @@ public class WhereArgument implements Argument {
       if (f.getValueGeoRange() != null) {
         args.add(buildArg("valueGeoRange", buildGeoRange(f.getValueGeoRange())));
       }
+      if (f.getValueVariable() != null) {
+        if (f.getValueVariable().getWhereValue() == null) {
+          throw new IllegalArgumentException(String.format("variable %s of type %s can not be used as value of where filter",
+            f.getValueVariable().getName(), f.getValueVariable().getType()));
+        }
+        args.add(buildArg(f.getValueVariable().getWhereValue(), f.getValueVariable().reference()));
+      }
       if (f.getOperator() != null) {
         args.add(buildArg("operator", Serializer.escape(f.getOperator())));
       }
@@ -12,6 +12,7 @@ import io.weaviate.client.v1.graphql.query.argument.NearTextArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearThermalArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
 import io.weaviate.client.v1.graphql.query.util.Serializer;
@@ -23,10 +24,8 @@ import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.LinkedHashSet;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -52,58 +51,95 @@ public class AggregateBuilder implements Query {
   Integer limit;
   String tenant;
 
-  private Stream<Argument> buildableArguments() {
-    return Stream.of(withWhereFilter, withAskArgument, withNearTextFilter, withNearObjectFilter,
+  private Argument[] buildableArguments() {
+    return new Argument[]{withWhereFilter, withAskArgument, withNearTextFilter, withNearObjectFilter,
       withNearVectorFilter, withNearImageFilter, withNearAudioFilter, withNearVideoFilter, withNearDepthFilter,
-      withNearThermalFilter, withNearImuFilter);
+      withNearThermalFilter, withNearImuFilter};
   }
 
-  private Stream<Object> nonStringArguments() {
-    return Stream.of(objectLimit, limit);
+  private void appendFilterClause(StringBuilder sb) {
+    sb.append('(');
+    int start = sb.length();
+    if (StringUtils.isNotBlank(tenant)) {
+      sb.append("tenant:").append(Serializer.quote(tenant));
+    }
+    if (StringUtils.isNotBlank(groupByClausePropertyName)) {
+      GetBuilder.separate(sb, start).append("groupBy:").append(Serializer.quote(groupByClausePropertyName));
+    }
+    for (Argument argument : buildableArguments()) {
+      if (argument != null) {
+        GetBuilder.separate(sb, start);
+        argument.appendTo(sb);
+      }
+    }
+    if (limit != null) {
+      GetBuilder.separate(sb, start).append("limit:").append(limit.intValue());
+    }
+    if (objectLimit != null) {
+      GetBuilder.separate(sb, start).append("objectLimit:").append(objectLimit.intValue());
+    }
+    if (sb.length() == start) {
+      // no filters
+      sb.setLength(start - 1);
+    } else {
+      sb.append(')');
+    }
   }
 
-  private Stream<String> stringArguments() {
-    return Stream.of(groupByClausePropertyName, tenant);
+  private void requireNoVariables() {
+    Map<String, Variable> variables = new LinkedHashMap<>();
+    if (withWhereFilter != null && withWhereFilter.getFilter() != null) {
+      GetBuilder.addVariables(variables, withWhereFilter.getFilter());
+    }
+    if (withNearVectorFilter != null) {
+      GetBuilder.addVariable(variables, withNearVectorFilter.getVectorVariable());
+    }
+    if (!variables.isEmpty()) {
+      // nothing would declare them, the server would reject the query
+      throw new IllegalArgumentException(String.format("variables %s can be used only in prepared Get queries",
+        variables.keySet()));
+    }
   }
 
-  private boolean includesFilterClause() {
-    return buildableArguments().anyMatch(Objects::nonNull)
-      || nonStringArguments().anyMatch(Objects::nonNull)
-      || stringArguments().anyMatch(StringUtils::isNotBlank);
+  @Override
+  public String buildQuery() {
+    StringBuilder sb = new StringBuilder(256);
+    sb.append("{Aggregate{");
+    appendSelection(sb, null);
+    return sb.append("}}").toString();
   }
 
-  private String createFilterClause() {
-    if (includesFilterClause()) {
-      Set<String> filters = new LinkedHashSet<>();
-
-      if (StringUtils.isNotBlank(tenant)) {
-        filters.add(String.format("tenant:%s", Serializer.quote(tenant)));
-      }
-      if (StringUtils.isNotBlank(groupByClausePropertyName)) {
-        filters.add(String.format("groupBy:%s", Serializer.quote(groupByClausePropertyName)));
-      }
-
-      buildableArguments()
-        .filter(Objects::nonNull)
-        .map(Argument::build)
-        .forEach(filters::add);
-
-      if (limit != null) {
-        filters.add(String.format("limit:%s", limit));
-      }
-      if (objectLimit != null) {
-        filters.add(String.format("objectLimit:%s", objectLimit));
-      }
-
-      return String.format("(%s)", String.join(" ", filters));
-    }
-    return "";
+  /**
+   * Builds the class selection only (without surrounding Aggregate operation),
+   * optionally prefixed with alias, so it can be combined with other selections in a single query.
+   *
+   * @param alias alias of the selection, may be null
+   * @return class selection
+   */
+  public String buildSelection(String alias) {
+    StringBuilder sb = new StringBuilder(256);
+    appendSelection(sb, alias);
+    return sb.toString();
   }
 
-  @Override
-  public String buildQuery() {
-    String fieldsClause = fields != null ? fields.build() : "";
-    return String.format("{Aggregate{%s%s{%s}}}", Serializer.escape(className), createFilterClause(), fieldsClause);
+  /**
+   * Appends the class selection to the query being built, same as {@link #buildSelection(String)}.
+   *
+   * @param sb    builder of the query
+   * @param alias alias of the selection, may be null
+   */
+  public void appendSelection(StringBuilder sb, String alias) {
+    requireNoVariables();
+    if (StringUtils.isNotBlank(alias)) {
+      sb.append(alias).append(':');
+    }
+    sb.append(Serializer.escape(className));
+    appendFilterClause(sb);
+    sb.append('{');
+    if (fields != null) {
+      fields.appendTo(sb);
+    }
+    sb.append('}');
   }
 
 
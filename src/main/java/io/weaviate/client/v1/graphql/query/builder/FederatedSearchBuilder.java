@@ -0,0 +1,136 @@
+package io.weaviate.client.v1.graphql.query.builder;
+
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import io.weaviate.client.v1.graphql.query.util.TopKCollector;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Describes a single search (nearVector or hybrid) fanned out to several tenants of a collection
+ * or to several collections. Builds one Get query per target, each limited to the top k objects.
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class FederatedSearchBuilder {
+  public static final int DEFAULT_LIMIT = 10;
+
+  String className;
+  String[] tenants;
+  String[] classNames;
+  Fields fields;
+  NearVectorArgument withNearVectorFilter;
+  HybridArgument withHybridFilter;
+  WhereArgument withWhereFilter;
+  Integer limit;
+  Integer autocut;
+
+  public int targetsCount() {
+    if (ArrayUtils.isNotEmpty(tenants)) {
+      return tenants.length;
+    }
+    if (ArrayUtils.isNotEmpty(classNames)) {
+      return classNames.length;
+    }
+    return className != null ? 1 : 0;
+  }
+
+  public String targetClassName(int target) {
+    if (ArrayUtils.isEmpty(tenants) && ArrayUtils.isNotEmpty(classNames)) {
+      return classNames[target];
+    }
+    return className;
+  }
+
+  public String targetTenant(int target) {
+    return ArrayUtils.isNotEmpty(tenants) ? tenants[target] : null;
+  }
+
+  public int getLimit() {
+    return limit != null ? limit : DEFAULT_LIMIT;
+  }
+
+  /**
+   * Validates the search and creates collector of its hits.
+   *
+   * @return collector merging hits of all targets into global top k
+   * @throws IllegalArgumentException if search arguments are missing or conflicting
+   */
+  public TopKCollector createCollector() {
+    if (withNearVectorFilter == null && withHybridFilter == null) {
+      throw new IllegalArgumentException("either nearVector or hybrid argument has to be given");
+    }
+    if (withNearVectorFilter != null && withHybridFilter != null) {
+      throw new IllegalArgumentException("nearVector and hybrid arguments can not be combined");
+    }
+    if (ArrayUtils.isNotEmpty(tenants) && ArrayUtils.isNotEmpty(classNames)) {
+      throw new IllegalArgumentException("tenants and classNames can not be combined, search either tenants of a single class or several classes");
+    }
+    if (ArrayUtils.isNotEmpty(tenants) && className == null) {
+      throw new IllegalArgumentException("className has to be given to search tenants");
+    }
+    return withNearVectorFilter != null
+      ? TopKCollector.byDistance(getLimit())
+      : TopKCollector.byScore(getLimit());
+  }
+
+  /**
+   * Builds Get query of the given target.
+   *
+   * @param target            index of the target
+   * @param distanceThreshold distance of the current k-th best hit (if any), objects further away are not fetched,
+   *                          as they can not make it to the top k anyway
+   * @return Get query of the target
+   */
+  public GetBuilder buildTarget(int target, Float distanceThreshold) {
+    Field additional = Field.builder()
+      .name("_additional")
+      .fields(Field.builder().name("id").build(), Field.builder().name(withNearVectorFilter != null ? "distance" : "score").build())
+      .build();
+    Field[] allFields = fields != null && fields.getFields() != null
+      ? Stream.concat(Arrays.stream(fields.getFields()), Stream.of(additional)).toArray(Field[]::new)
+      : new Field[]{additional};
+
+    return GetBuilder.builder()
+      .className(targetClassName(target))
+      .tenant(targetTenant(target))
+      .fields(Fields.builder().fields(allFields).build())
+      .withNearVectorFilter(withDistanceThreshold(withNearVectorFilter, distanceThreshold))
+      .withHybridFilter(withHybridFilter)
+      .withWhereFilter(withWhereFilter)
+      .limit(getLimit())
+      .autocut(autocut)
+      .build();
+  }
+
+  private NearVectorArgument withDistanceThreshold(NearVectorArgument nearVector, Float threshold) {
+    // distance and certainty are mutually exclusive, user defined certainty takes precedence
+    if (nearVector == null || threshold == null || nearVector.getCertainty() != null
+      || (nearVector.getDistance() != null && nearVector.getDistance() <= threshold)) {
+      return nearVector;
+    }
+    NearVectorArgument.NearVectorArgumentBuilder builder = NearVectorArgument.builder()
+      .vector(nearVector.getVector())
+      .distance(threshold)
+      .targetVectors(nearVector.getTargetVectors())
+      .targets(nearVector.getTargets());
+    if (nearVector.getVectorsPerTarget() != null) {
+      builder.vectorsPerTarget(nearVector.getVectorsPerTarget());
+    }
+    return builder.build();
+  }
+}
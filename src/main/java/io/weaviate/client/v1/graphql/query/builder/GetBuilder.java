@@ -17,6 +17,7 @@ import io.weaviate.client.v1.graphql.query.argument.NearThermalArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArguments;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
 import io.weaviate.client.v1.graphql.query.fields.Field;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
@@ -28,16 +29,15 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.Tolerate;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -72,69 +72,73 @@ public class GetBuilder implements Query {
   GenerativeSearchBuilder withGenerativeSearch;
   GroupByArgument withGroupByArgument;
   String tenant;
+  /**
+   * Limit given when the prepared query is run, used instead of limit
+   */
+  Variable limitVariable;
+  /**
+   * Offset given when the prepared query is run, used instead of offset
+   */
+  Variable offsetVariable;
 
-  private Stream<Argument> buildableArguments() {
-    return Stream.of(withWhereFilter, withAskArgument, withNearTextFilter, withNearObjectFilter,
+  private Argument[] buildableArguments() {
+    return new Argument[]{withWhereFilter, withAskArgument, withNearTextFilter, withNearObjectFilter,
       withNearVectorFilter, withGroupArgument, withBm25Filter, withHybridFilter, withSortArguments, withGroupByArgument,
       withNearImageFilter, withNearAudioFilter, withNearVideoFilter, withNearDepthFilter, withNearThermalFilter,
-      withNearImuFilter);
+      withNearImuFilter};
   }
 
-  private Stream<Object> nonStringArguments() {
-    return Stream.of(limit, offset, autocut);
-  }
-
-  private Stream<String> stringArguments() {
-    return Stream.of(withConsistencyLevel, after, tenant);
-  }
-
-  private boolean includesFilterClause() {
-    return buildableArguments().anyMatch(Objects::nonNull)
-      || nonStringArguments().anyMatch(Objects::nonNull)
-      || stringArguments().anyMatch(StringUtils::isNotBlank);
-  }
-
-  private String createFilterClause() {
-    if (includesFilterClause()) {
-      Set<String> filters = new LinkedHashSet<>();
-
-      if (StringUtils.isNotBlank(tenant)) {
-        filters.add(String.format("tenant:%s", Serializer.quote(tenant)));
-      }
-
-      buildableArguments()
-        .filter(Objects::nonNull)
-        .map(Argument::build)
-        .forEach(filters::add);
-
-      if (limit != null) {
-        filters.add(String.format("limit:%s", limit));
-      }
-      if (offset != null) {
-        filters.add(String.format("offset:%s", offset));
-      }
-      if (StringUtils.isNotBlank(after)) {
-        filters.add(String.format("after:%s", Serializer.quote(after)));
-      }
-      if (StringUtils.isNotBlank(withConsistencyLevel)) {
-        filters.add(String.format("consistencyLevel:%s", Serializer.escape(withConsistencyLevel)));
-      }
-      if (autocut != null) {
-        filters.add(String.format("autocut:%s", autocut));
+  private void appendFilterClause(StringBuilder sb) {
+    sb.append('(');
+    int start = sb.length();
+    if (StringUtils.isNotBlank(tenant)) {
+      sb.append("tenant:").append(Serializer.quote(tenant));
+    }
+    for (Argument argument : buildableArguments()) {
+      if (argument != null) {
+        separate(sb, start);
+        argument.appendTo(sb);
       }
-
-      return String.format("(%s)", String.join(" ", filters));
     }
-    return "";
+    if (limit != null) {
+      separate(sb, start).append("limit:").append(limit.intValue());
+    } else if (limitVariable != null) {
+      separate(sb, start).append("limit:").append(limitVariable.reference());
+    }
+    if (offset != null) {
+      separate(sb, start).append("offset:").append(offset.intValue());
+    } else if (offsetVariable != null) {
+      separate(sb, start).append("offset:").append(offsetVariable.reference());
+    }
+    if (StringUtils.isNotBlank(after)) {
+      separate(sb, start).append("after:").append(Serializer.quote(after));
+    }
+    if (StringUtils.isNotBlank(withConsistencyLevel)) {
+      separate(sb, start).append("consistencyLevel:").append(Serializer.escape(withConsistencyLevel));
+    }
+    if (autocut != null) {
+      separate(sb, start).append("autocut:").append(autocut.intValue());
+    }
+    if (sb.length() == start) {
+      // no filters
+      sb.setLength(start - 1);
+    } else {
+      sb.append(')');
+    }
   }
 
-  private String createFields() {
+  static StringBuilder separate(StringBuilder sb, int start) {
+    return sb.length() > start ? sb.append(' ') : sb;
+  }
+
+  private void appendFields(StringBuilder sb) {
     if (ObjectUtils.allNull(fields, withGenerativeSearch)) {
-      return "";
+      return;
     }
 
     if (withGenerativeSearch == null) {
-      return fields.build();
+      fields.appendTo(sb);
+      return;
     }
 
     Field generate = withGenerativeSearch.build();
@@ -144,7 +148,8 @@ public class GetBuilder implements Query {
       .build();
 
     if (fields == null) {
-      return generateAdditional.build();
+      generateAdditional.appendTo(sb);
+      return;
     }
 
     // check if _additional field exists. If missing just add new _additional with generate,
@@ -173,15 +178,104 @@ public class GetBuilder implements Query {
       additionals.stream()
     ).toArray(Field[]::new);
 
-    return Fields.builder()
+    Fields.builder()
       .fields(allFields)
       .build()
-      .build();
+      .appendTo(sb);
   }
 
+  /**
+   * Variables used by the query, in order of their first use.
+   *
+   * @return variables by name
+   * @throws IllegalArgumentException if variables of the same name have different types
+   */
+  public Map<String, Variable> getVariables() {
+    Map<String, Variable> variables = new LinkedHashMap<>();
+    if (withWhereFilter != null && withWhereFilter.getFilter() != null) {
+      addVariables(variables, withWhereFilter.getFilter());
+    }
+    if (withNearVectorFilter != null) {
+      addVariable(variables, withNearVectorFilter.getVectorVariable());
+    }
+    addVariable(variables, limitVariable);
+    addVariable(variables, offsetVariable);
+    return variables;
+  }
+
+  static void addVariables(Map<String, Variable> variables, WhereFilter filter) {
+    if (filter.getOperands() != null) {
+      for (WhereFilter operand : filter.getOperands()) {
+        addVariables(variables, operand);
+      }
+    }
+    addVariable(variables, filter.getValueVariable());
+  }
+
+  static void addVariable(Map<String, Variable> variables, Variable variable) {
+    if (variable == null) {
+      return;
+    }
+    Variable existing = variables.putIfAbsent(variable.getName(), variable);
+    if (existing != null && !existing.getType().equals(variable.getType())) {
+      throw new IllegalArgumentException(String.format("variable %s is used both as %s and %s",
+        variable.getName(), existing.getType(), variable.getType()));
+    }
+  }
+
+  /**
+   * Builds the query, declaring variables (if used) so values can be given when it is run.
+   * Example: {@code query($vector:[Float],$limit:Int){Get{Pizza(nearVector:{vector:$vector} limit:$limit){name}}}}
+   */
   @Override
   public String buildQuery() {
-    return String.format("{Get{%s%s{%s}}}", Serializer.escape(className), createFilterClause(), createFields());
+    StringBuilder sb = new StringBuilder(256);
+    Map<String, Variable> variables = getVariables();
+    if (!variables.isEmpty()) {
+      sb.append("query(");
+      boolean first = true;
+      for (Variable variable : variables.values()) {
+        if (!first) {
+          sb.append(',');
+        }
+        first = false;
+        sb.append(variable.reference()).append(':').append(variable.getType());
+      }
+      sb.append(')');
+    }
+    sb.append("{Get{");
+    appendSelection(sb, null);
+    return sb.append("}}").toString();
+  }
+
+  /**
+   * Builds the class selection only (without surrounding Get operation),
+   * optionally prefixed with alias, so it can be combined with other selections in a single query.
+   *
+   * @param alias alias of the selection, may be null
+   * @return class selection
+   */
+  public String buildSelection(String alias) {
+    StringBuilder sb = new StringBuilder(256);
+    appendSelection(sb, alias);
+    return sb.toString();
+  }
+
+  /**
+   * Appends the class selection to the query being built, same as {@link #buildSelection(String)}.
+   *
+   * @param sb    builder of the query
+   * @param alias alias of the selection, may be null
+   */
+  public void appendSelection(StringBuilder sb, String alias) {
+    if (StringUtils.isNotBlank(alias)) {
+      sb.append(alias).append(':');
+    }
+    sb.append(Serializer.escape(className));
+    appendFilterClause(sb);
+    sb.append('{');
+    appendFields(sb);
+    sb.append('}');
   }
 
 
@@ -199,5 +293,20 @@ public class GetBuilder implements Query {
       this.withWhereFilter = whereArgument;
       return this;
     }
+
+    private Variable limitVariable;
+    private Variable offsetVariable;
+
+    @Tolerate
+    public GetBuilderBuilder limit(Variable limit) {
+      this.limitVariable = limit;
+      return this;
+    }
+
+    @Tolerate
+    public GetBuilderBuilder offset(Variable offset) {
+      this.offsetVariable = offset;
+      return this;
+    }
   }
 }
@@ -0,0 +1,165 @@
+package io.weaviate.client.v1.graphql.query.builder;
+
+import com.google.gson.JsonObject;
+import io.weaviate.client.v1.graphql.model.GraphQLError;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combines several Get and Aggregate queries into a single GraphQL query.
+ * Every query is given a generated alias (q0, q1, ...) based on its position,
+ * which allows to split the response back into separate responses, one per query.
+ */
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class MultiQueryBuilder implements Query {
+  private static final String GET = "Get";
+  private static final String AGGREGATE = "Aggregate";
+
+  Query[] queries;
+
+  public static String alias(int index) {
+    return "q" + index;
+  }
+
+  @Override
+  public String buildQuery() {
+    if (queries == null || queries.length == 0) {
+      throw new IllegalArgumentException("at least one query has to be given");
+    }
+
+    StringBuilder gets = new StringBuilder(256);
+    StringBuilder aggregates = new StringBuilder();
+    for (int i = 0; i < queries.length; i++) {
+      Query query = queries[i];
+      if (query instanceof GetBuilder) {
+        if (!((GetBuilder) query).getVariables().isEmpty()) {
+          // variables are declared only by prepared Get queries, nothing would declare them here
+          throw new IllegalArgumentException(String.format("query at position %s uses variables, " +
+            "which can be used only in prepared Get queries", i));
+        }
+        ((GetBuilder) query).appendSelection(separate(gets), alias(i));
+      } else if (query instanceof AggregateBuilder) {
+        ((AggregateBuilder) query).appendSelection(separate(aggregates), alias(i));
+      } else {
+        throw new IllegalArgumentException(String.format("query at position %s is neither Get nor Aggregate", i));
+      }
+    }
+
+    StringBuilder sb = new StringBuilder(gets.length() + aggregates.length() + 32).append('{');
+    if (gets.length() > 0) {
+      sb.append(GET).append('{').append(gets).append('}');
+    }
+    if (aggregates.length() > 0) {
+      if (gets.length() > 0) {
+        sb.append(' ');
+      }
+      sb.append(AGGREGATE).append('{').append(aggregates).append('}');
+    }
+    return sb.append('}').toString();
+  }
+
+  private static StringBuilder separate(StringBuilder selections) {
+    return selections.length() > 0 ? selections.append(' ') : selections;
+  }
+
+  /**
+   * Splits response of the combined query into separate responses, one per each query (in the same order).
+   * Every split response has the same shape as if the query was sent on its own,
+   * i.e. objects of aliased selection are put under the class name.
+   * Errors are assigned to the query based on their path, errors without path are assigned to all queries.
+   *
+   * @param response response of the combined query
+   * @return list of responses
+   */
+  public List<GraphQLResponse> splitResponse(GraphQLResponse<?> response) {
+    Map<?, ?> data = response.getData() instanceof Map
+      ? (Map<?, ?>) response.getData()
+      : null;
+
+    return new ArrayList<>(this.<Map<String, Object>>split(response.getErrors(), (operation, alias, className) -> {
+      if (data == null || !(data.get(operation) instanceof Map)) {
+        return null;
+      }
+      Object selection = ((Map<?, ?>) data.get(operation)).get(alias);
+      return Collections.singletonMap(operation, Collections.singletonMap(className, selection));
+    }));
+  }
+
+  /**
+   * Same as {@link #splitResponse(GraphQLResponse)}, but for response parsed into JSON tree.
+   * Split responses share subtrees of the given response, so they can be deserialized directly, without copying.
+   *
+   * @param response response of the combined query
+   * @return list of responses
+   */
+  public List<GraphQLResponse<JsonObject>> splitTreeResponse(GraphQLResponse<JsonObject> response) {
+    JsonObject data = response.getData();
+
+    return split(response.getErrors(), (operation, alias, className) -> {
+      if (data == null || !data.has(operation) || !data.get(operation).isJsonObject()) {
+        return null;
+      }
+      JsonObject selection = new JsonObject();
+      selection.add(className, data.getAsJsonObject(operation).get(alias));
+      JsonObject queryData = new JsonObject();
+      queryData.add(operation, selection);
+      return queryData;
+    });
+  }
+
+  private <D> List<GraphQLResponse<D>> split(GraphQLError[] errors, QueryData<D> queryData) {
+    List<GraphQLResponse<D>> responses = new ArrayList<>(queries.length);
+    for (int i = 0; i < queries.length; i++) {
+      String alias = alias(i);
+      String operation = queries[i] instanceof GetBuilder ? GET : AGGREGATE;
+      String className = queries[i] instanceof GetBuilder
+        ? ((GetBuilder) queries[i]).getClassName()
+        : ((AggregateBuilder) queries[i]).getClassName();
+
+      responses.add(GraphQLResponse.<D>builder()
+        .data(queryData.of(operation, alias, className))
+        .errors(errorsOf(errors, operation, alias))
+        .build());
+    }
+    return responses;
+  }
+
+  @FunctionalInterface
+  private interface QueryData<D> {
+    /**
+     * @return data of the aliased query shaped as if the query was sent on its own, null if there is no data
+     */
+    D of(String operation, String alias, String className);
+  }
+
+  private GraphQLError[] errorsOf(GraphQLError[] errors, String operation, String alias) {
+    if (errors == null || errors.length == 0) {
+      return null;
+    }
+    GraphQLError[] queryErrors = Arrays.stream(errors)
+      .filter(error -> {
+        String[] path = error.getPath();
+        if (path == null || path.length < 2) {
+          return true;
+        }
+        return operation.equals(path[0]) && alias.equals(path[1]);
+      })
+      .toArray(GraphQLError[]::new);
+    return queryErrors.length > 0 ? queryErrors : null;
+  }
+}
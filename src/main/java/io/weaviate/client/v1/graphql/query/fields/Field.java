@@ -1,9 +1,6 @@
 package io.weaviate.client.v1.graphql.query.fields;
 
 import io.weaviate.client.v1.graphql.query.argument.Argument;
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -25,13 +22,20 @@ public class Field implements Argument {
   @Override
   public String build() {
     StringBuilder s = new StringBuilder();
+    appendTo(s);
+    return s.toString();
+  }
+
+  @Override
+  public void appendTo(StringBuilder sb) {
     if (StringUtils.isNotBlank(name)) {
-      s.append(name);
+      sb.append(name);
     }
     if (ArrayUtils.isNotEmpty(fields)) {
-      s.append(String.format("{%s}", Arrays.stream(fields).map(Field::build).collect(Collectors.joining(" "))));
+      sb.append('{');
+      Fields.appendTo(sb, fields);
+      sb.append('}');
     }
-    return s.toString();
   }
 
 
@@ -9,9 +9,6 @@ import lombok.experimental.FieldDefaults;
 import org.apache.commons.lang3.ObjectUtils;
 import io.weaviate.client.v1.graphql.query.argument.Argument;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 @Getter
 @Builder
 @ToString
@@ -25,9 +22,25 @@ public class Fields implements Argument {
     if (ObjectUtils.isEmpty(fields)) {
       return "";
     }
-    return Arrays.stream(fields)
-      .map(Field::build)
-      .collect(Collectors.joining(" "));
+    StringBuilder sb = new StringBuilder();
+    appendTo(sb, fields);
+    return sb.toString();
+  }
+
+  @Override
+  public void appendTo(StringBuilder sb) {
+    if (ObjectUtils.isNotEmpty(fields)) {
+      appendTo(sb, fields);
+    }
+  }
+
+  static void appendTo(StringBuilder sb, Field[] fields) {
+    for (int i = 0; i < fields.length; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      fields[i].appendTo(sb);
+    }
   }
 
 
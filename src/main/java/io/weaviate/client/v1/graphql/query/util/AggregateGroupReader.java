@@ -0,0 +1,112 @@
+package io.weaviate.client.v1.graphql.query.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
+import io.weaviate.client.v1.graphql.model.GraphQLError;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads groups of Aggregate query one by one, as the response arrives, passing each to the consumer.
+ * Groups are neither collected nor kept as trees, so memory use does not grow with number of groups.
+ */
+public class AggregateGroupReader {
+  private static final String GROUPED_BY = "groupedBy";
+  private static final String META = "meta";
+  private static final Gson GSON = new Gson();
+
+  private AggregateGroupReader() {
+  }
+
+  /**
+   * Reads response of Aggregate query, groups of the (single) queried class are passed to the consumer.
+   */
+  public static GraphQLStreamedResponse read(Reader body, Consumer<AggregateGroup> consumer) {
+    try {
+      JsonReader in = new JsonReader(body);
+      long count = 0;
+      GraphQLError[] errors = null;
+      in.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        if ("data".equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+          count = readData(in, consumer);
+        } else if ("errors".equals(name)) {
+          errors = GSON.fromJson(in, GraphQLError[].class);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return new GraphQLStreamedResponse(count, errors);
+    } catch (IOException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  private static long readData(JsonReader in, Consumer<AggregateGroup> consumer) throws IOException {
+    long count = 0;
+    // {"Aggregate": {"ClassName": [...]}}
+    in.beginObject();
+    while (in.hasNext()) {
+      in.nextName();
+      if (in.peek() != JsonToken.BEGIN_OBJECT) {
+        in.skipValue();
+        continue;
+      }
+      in.beginObject();
+      while (in.hasNext()) {
+        in.nextName();
+        if (count == 0 && in.peek() == JsonToken.BEGIN_ARRAY) {
+          count = readGroups(in, consumer);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+    }
+    in.endObject();
+    return count;
+  }
+
+  private static long readGroups(JsonReader in, Consumer<AggregateGroup> consumer) throws IOException {
+    long count = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      consumer.accept(readGroup(in));
+      count++;
+    }
+    in.endArray();
+    return count;
+  }
+
+  /**
+   * Reads single group.
+   */
+  public static AggregateGroup readGroup(JsonReader in) throws IOException {
+    AggregateGroup.AggregateGroupBuilder group = AggregateGroup.builder();
+    Map<String, AggregateGroup.PropertyAggregation> properties = new LinkedHashMap<>();
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if (in.peek() != JsonToken.BEGIN_OBJECT) {
+        in.skipValue();
+      } else if (GROUPED_BY.equals(name)) {
+        group.groupedBy(GSON.fromJson(in, AggregateGroup.GroupedBy.class));
+      } else if (META.equals(name)) {
+        group.meta(GSON.fromJson(in, AggregateGroup.Meta.class));
+      } else {
+        properties.put(name, GSON.fromJson(in, AggregateGroup.PropertyAggregation.class));
+      }
+    }
+    in.endObject();
+    return group.properties(properties).build();
+  }
+}
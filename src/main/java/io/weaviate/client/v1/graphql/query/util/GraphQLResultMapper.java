@@ -0,0 +1,342 @@
+package io.weaviate.client.v1.graphql.query.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.weaviate.client.base.util.GroupHitDeserializer;
+import io.weaviate.client.v1.graphql.model.GraphQLError;
+import io.weaviate.client.v1.graphql.model.GraphQLGetBaseObject;
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps objects returned by Get query to instances of a class, compiled once per class and cached.
+ * <p>
+ * Response is read as a stream, values are set straight into fields of the instances (primitive fields
+ * without boxing), with no intermediate maps or trees. Fields are matched with properties by name
+ * (or {@link SerializedName}). Unless the class has a field for {@code _additional} (e.g. it extends
+ * {@link GraphQLGetBaseObject}), additional properties are mapped to fields of the same name, so e.g.
+ * {@code id}, {@code distance} and {@code vector} can be read into {@code String id}, {@code float distance}
+ * and {@code float[] vector}. Fields of other types (e.g. nested objects) are read by Gson.
+ * Values not matching any field are skipped.
+ */
+public class GraphQLResultMapper<T> {
+  private static final String ADDITIONAL = "_additional";
+  private static final ConcurrentMap<Class<?>, GraphQLResultMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+  private static final Gson GSON = new GsonBuilder()
+    .disableHtmlEscaping()
+    .registerTypeAdapter(GraphQLGetBaseObject.Additional.Group.GroupHit.class, new GroupHitDeserializer())
+    .create();
+
+  private final Class<T> type;
+  private final MethodHandle constructor;
+  private final Map<String, FieldReader> fields;
+  private final boolean flattenAdditional;
+
+  private GraphQLResultMapper(Class<T> type) {
+    this.type = type;
+    this.constructor = constructor(type);
+    Map<String, FieldReader> readers = new HashMap<>();
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+          continue;
+        }
+        FieldReader reader = reader(field);
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        if (serializedName == null) {
+          readers.putIfAbsent(field.getName(), reader);
+          continue;
+        }
+        readers.putIfAbsent(serializedName.value(), reader);
+        Arrays.stream(serializedName.alternate()).forEach(name -> readers.putIfAbsent(name, reader));
+      }
+    }
+    this.fields = Collections.unmodifiableMap(readers);
+    this.flattenAdditional = !readers.containsKey(ADDITIONAL);
+  }
+
+  /**
+   * @return mapper of the class, created on the first use
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> GraphQLResultMapper<T> of(Class<T> type) {
+    return (GraphQLResultMapper<T>) MAPPERS.computeIfAbsent(type, GraphQLResultMapper::new);
+  }
+
+  /**
+   * Reads response of Get query, objects of the (single) queried class are mapped.
+   */
+  public GraphQLMappedResponse<T> readResponse(String body) {
+    try (JsonReader in = new JsonReader(new StringReader(body))) {
+      List<T> objects = null;
+      GraphQLError[] errors = null;
+      in.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        if ("data".equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+          objects = readData(in);
+        } else if ("errors".equals(name)) {
+          errors = GSON.fromJson(in, GraphQLError[].class);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return new GraphQLMappedResponse<>(objects, errors);
+    } catch (IOException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  private List<T> readData(JsonReader in) throws IOException {
+    List<T> objects = null;
+    // {"Get": {"ClassName": [...]}}
+    in.beginObject();
+    while (in.hasNext()) {
+      in.nextName();
+      if (in.peek() != JsonToken.BEGIN_OBJECT) {
+        in.skipValue();
+        continue;
+      }
+      in.beginObject();
+      while (in.hasNext()) {
+        in.nextName();
+        if (objects == null && in.peek() == JsonToken.BEGIN_ARRAY) {
+          objects = readObjects(in);
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+    }
+    in.endObject();
+    return objects;
+  }
+
+  /**
+   * Reads array of objects.
+   */
+  public List<T> readObjects(JsonReader in) throws IOException {
+    List<T> objects = new ArrayList<>();
+    in.beginArray();
+    while (in.hasNext()) {
+      objects.add(readObject(in));
+    }
+    in.endArray();
+    return objects;
+  }
+
+  /**
+   * Reads single object, null if JSON value is null.
+   */
+  public T readObject(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    T object = newInstance();
+    readFields(in, object, true);
+    return object;
+  }
+
+  private void readFields(JsonReader in, T object, boolean rootLevel) throws IOException {
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if (rootLevel && flattenAdditional && ADDITIONAL.equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+        readFields(in, object, false);
+        continue;
+      }
+      FieldReader reader = fields.get(name);
+      if (reader == null) {
+        in.skipValue();
+      } else if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+      } else {
+        try {
+          reader.read(in, object);
+        } catch (IOException | RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable t) {
+          throw new IllegalStateException(t);
+        }
+      }
+    }
+    in.endObject();
+  }
+
+  @SuppressWarnings("unchecked")
+  private T newInstance() {
+    try {
+      return (T) constructor.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("could not create instance of " + type.getName(), t);
+    }
+  }
+
+  private static MethodHandle constructor(Class<?> type) {
+    try {
+      Constructor<?> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+    } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException(type.getName() + " needs a constructor without arguments", e);
+    }
+  }
+
+  // readers have block bodies, so that invokeExact call sites return void, as the setters do
+  private static FieldReader reader(Field field) {
+    Class<?> type = field.getType();
+    MethodHandle setter = setter(field);
+    if (type == float.class) {
+      MethodHandle set = setter.asType(MethodType.methodType(void.class, Object.class, float.class));
+      return (in, target) -> {
+        set.invokeExact(target, (float) in.nextDouble());
+      };
+    }
+    if (type == double.class) {
+      MethodHandle set = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+      return (in, target) -> {
+        set.invokeExact(target, in.nextDouble());
+      };
+    }
+    if (type == int.class) {
+      MethodHandle set = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+      return (in, target) -> {
+        set.invokeExact(target, (int) in.nextLong());
+      };
+    }
+    if (type == long.class) {
+      MethodHandle set = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+      return (in, target) -> {
+        set.invokeExact(target, in.nextLong());
+      };
+    }
+    if (type == boolean.class) {
+      MethodHandle set = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+      return (in, target) -> {
+        set.invokeExact(target, in.nextBoolean());
+      };
+    }
+
+    MethodHandle set = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    if (type == String.class) {
+      // numbers are returned as strings for some of additional properties (e.g. creationTimeUnix)
+      return (in, target) -> {
+        set.invokeExact(target, (Object) in.nextString());
+      };
+    }
+    if (type == UUID.class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) UUID.fromString(in.nextString()));
+      };
+    }
+    if (type == Float.class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) (float) in.nextDouble());
+      };
+    }
+    if (type == Double.class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) in.nextDouble());
+      };
+    }
+    if (type == Integer.class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) (int) in.nextLong());
+      };
+    }
+    if (type == Long.class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) in.nextLong());
+      };
+    }
+    if (type == Boolean.class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) in.nextBoolean());
+      };
+    }
+    if (type == float[].class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) readFloats(in));
+      };
+    }
+    if (type == double[].class) {
+      return (in, target) -> {
+        set.invokeExact(target, (Object) readDoubles(in));
+      };
+    }
+    TypeAdapter<?> adapter = GSON.getAdapter(TypeToken.get(field.getGenericType()));
+    return (in, target) -> {
+      set.invokeExact(target, (Object) adapter.read(in));
+    };
+  }
+
+  private static MethodHandle setter(Field field) {
+    try {
+      field.setAccessible(true);
+      return MethodHandles.lookup().unreflectSetter(field);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException(String.format("field %s of %s can not be set",
+        field.getName(), field.getDeclaringClass().getName()), e);
+    }
+  }
+
+  private static float[] readFloats(JsonReader in) throws IOException {
+    float[] values = new float[16];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = (float) in.nextDouble();
+    }
+    in.endArray();
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+
+  private static double[] readDoubles(JsonReader in) throws IOException {
+    double[] values = new double[16];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextDouble();
+    }
+    in.endArray();
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+
+  @FunctionalInterface
+  private interface FieldReader {
+    void read(JsonReader in, Object target) throws Throwable;
+  }
+}
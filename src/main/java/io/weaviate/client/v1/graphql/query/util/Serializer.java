@@ -1,8 +1,6 @@
 package io.weaviate.client.v1.graphql.query.util;
 
-import java.util.Arrays;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -73,19 +71,66 @@ public class Serializer {
    * @return array string
    */
   public static <T, R> String array(T[] input, Function<T, R> mapper) {
-    String inner = "";
+    StringBuilder sb = new StringBuilder();
+    appendArray(sb, input, mapper);
+    return sb.toString();
+  }
+
+  /**
+   * Appends array string, same as {@link #array(Object[])}
+   *
+   * @param sb    builder of the query
+   * @param input array of arbitrary elements
+   */
+  public static <T> void appendArray(StringBuilder sb, T[] input) {
+    appendArray(sb, input, null);
+  }
+
+  /**
+   * Appends array string, same as {@link #array(Object[], Function)}
+   * Floats and doubles are written straight into the builder, without intermediate strings
+   *
+   * @param sb     builder of the query
+   * @param input  array of arbitrary elements
+   * @param mapper maps single element before building array, may be null
+   */
+  public static <T, R> void appendArray(StringBuilder sb, T[] input, Function<T, R> mapper) {
+    sb.append('[');
     if (input != null) {
-      inner = Arrays.stream(input)
-        .map(mapper)
-        .map(obj -> {
-          if (obj.getClass().isArray()) {
-            return array((Object[]) obj);
-          }
-          return obj.toString();
-        })
-        .collect(Collectors.joining(","));
+      for (int i = 0; i < input.length; i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        appendValue(sb, mapper != null ? mapper.apply(input[i]) : input[i]);
+      }
     }
+    sb.append(']');
+  }
 
-    return "[" + inner + "]";
+  /**
+   * Appends json safe array string, same as {@link #arrayWithQuotes(String[])}
+   *
+   * @param sb    builder of the query
+   * @param input array of strings
+   */
+  public static void appendArrayWithQuotes(StringBuilder sb, String[] input) {
+    appendArray(sb, input, Serializer::quote);
+  }
+
+  /**
+   * Appends value of a single element of an array.
+   * {@link StringBuilder#append(float)} writes the same digits as {@link Float#toString(float)}
+   * (reading back as the same float), without boxing or creating a string
+   */
+  static void appendValue(StringBuilder sb, Object value) {
+    if (value instanceof Float) {
+      sb.append(((Float) value).floatValue());
+    } else if (value instanceof Double) {
+      sb.append(((Double) value).doubleValue());
+    } else if (value instanceof Object[]) {
+      appendArray(sb, (Object[]) value, null);
+    } else {
+      sb.append(value);
+    }
   }
 }
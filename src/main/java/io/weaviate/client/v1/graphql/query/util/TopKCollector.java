@@ -0,0 +1,133 @@
+package io.weaviate.client.v1.graphql.query.util;
+
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.SearchHit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best k hits out of all hits offered, either by the lowest distance or by the highest score.
+ * Memory is bounded by k regardless of number of hits offered. Thread safe.
+ */
+public class TopKCollector {
+  private static final String ADDITIONAL = "_additional";
+
+  private final int k;
+  private final boolean byDistance;
+  private final Comparator<SearchHit> better;
+  // the worst of the best hits is kept at the head
+  private final PriorityQueue<SearchHit> heap;
+
+  private TopKCollector(int k, boolean byDistance) {
+    this.k = k;
+    this.byDistance = byDistance;
+    this.better = byDistance
+      ? Comparator.comparing(SearchHit::getDistance, Comparator.nullsLast(Comparator.naturalOrder()))
+      : Comparator.comparing(SearchHit::getScore, Comparator.nullsLast(Comparator.reverseOrder()));
+    this.heap = new PriorityQueue<>(k, better.reversed());
+  }
+
+  public static TopKCollector byDistance(int k) {
+    return new TopKCollector(k, true);
+  }
+
+  public static TopKCollector byScore(int k) {
+    return new TopKCollector(k, false);
+  }
+
+  public synchronized void offer(List<SearchHit> hits) {
+    for (SearchHit hit : hits) {
+      if (heap.size() < k) {
+        heap.add(hit);
+      } else if (better.compare(hit, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(hit);
+      }
+    }
+  }
+
+  /**
+   * @return distance of the k-th best hit, hits further away can not make it to the top k anymore;
+   * null if fewer than k hits were collected so far or hits are collected by score
+   */
+  public synchronized Float distanceThreshold() {
+    if (!byDistance || heap.size() < k) {
+      return null;
+    }
+    return heap.peek().getDistance();
+  }
+
+  /**
+   * @return collected hits, the best one first
+   */
+  public synchronized List<SearchHit> getHits() {
+    List<SearchHit> hits = new ArrayList<>(heap);
+    hits.sort(better);
+    return hits;
+  }
+
+  /**
+   * Extracts hits of the given collection from the Get response.
+   * Objects are expected to contain _additional id and distance or score.
+   */
+  public static List<SearchHit> toHits(GraphQLResponse<?> response, String className, String tenant) {
+    if (!(response.getData() instanceof Map)) {
+      return Collections.emptyList();
+    }
+    Object get = ((Map<?, ?>) response.getData()).get("Get");
+    if (!(get instanceof Map)) {
+      return Collections.emptyList();
+    }
+    Object objects = ((Map<?, ?>) get).get(className);
+    if (!(objects instanceof List)) {
+      return Collections.emptyList();
+    }
+
+    List<SearchHit> hits = new ArrayList<>(((List<?>) objects).size());
+    for (Object object : (List<?>) objects) {
+      if (!(object instanceof Map)) {
+        continue;
+      }
+      Map<String, Object> properties = new LinkedHashMap<>();
+      Map<?, ?> additional = Collections.emptyMap();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+        if (ADDITIONAL.equals(entry.getKey())) {
+          if (entry.getValue() instanceof Map) {
+            additional = (Map<?, ?>) entry.getValue();
+          }
+        } else {
+          properties.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+      }
+      hits.add(SearchHit.builder()
+        .className(className)
+        .tenant(tenant)
+        .id(additional.get("id") != null ? String.valueOf(additional.get("id")) : null)
+        .distance(toFloat(additional.get("distance")))
+        .score(toFloat(additional.get("score")))
+        .properties(properties)
+        .build());
+    }
+    return hits;
+  }
+
+  private static Float toFloat(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).floatValue();
+    }
+    if (value instanceof String) {
+      // score is returned as string
+      try {
+        return Float.parseFloat((String) value);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+}
@@ -24,6 +24,7 @@ public class ClassCreator extends BaseClient<WeaviateClass> implements ClientRes
   @Override
   public Result<Boolean> run() {
     Response<WeaviateClass> resp = sendPostRequest("/schema", clazz, WeaviateClass.class);
+    invalidateSchema();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
   }
 }
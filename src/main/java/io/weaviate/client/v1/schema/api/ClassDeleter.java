@@ -36,6 +36,7 @@ public class ClassDeleter extends BaseClient<String> implements ClientResult<Boo
     }
     String path = String.format("/schema/%s", this.className);
     Response<String> resp = sendDeleteRequest(path, null, String.class);
+    invalidateSchema();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
   }
 }
@@ -12,6 +12,8 @@ import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SchemaCache;
+import org.apache.hc.core5.http.HttpStatus;
 
 public class ClassGetter extends BaseClient<WeaviateClass> implements ClientResult<WeaviateClass> {
 
@@ -35,6 +37,11 @@ public class ClassGetter extends BaseClient<WeaviateClass> implements ClientResu
               .error(Stream.of(errorMessage).collect(Collectors.toList())).build();
       return new Result<>(500, null, errors);
     }
+    SchemaCache schemaCache = schemaCache();
+    WeaviateClass cached = schemaCache != null ? schemaCache.getClass(this.className) : null;
+    if (cached != null) {
+      return new Result<>(HttpStatus.SC_OK, cached, null);
+    }
     String path = String.format("/schema/%s", this.className);
     Response<WeaviateClass> resp = sendGetRequest(path, WeaviateClass.class);
     return new Result<>(resp);
@@ -26,6 +26,7 @@ public class ClassUpdater extends BaseClient<WeaviateClass> implements ClientRes
   public Result<Boolean> run() {
     String path = String.format("/schema/%s", UrlEncoder.encodePathParam(clazz.getClassName()));
     Response<WeaviateClass> resp = sendPutRequest(path, clazz, WeaviateClass.class);
+    invalidateSchema();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
   }
 }
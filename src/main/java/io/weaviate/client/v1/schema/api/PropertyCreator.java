@@ -43,6 +43,7 @@ public class PropertyCreator extends BaseClient<Property> implements ClientResul
     }
     String path = String.format("/schema/%s/properties", this.className);
     Response<Property> resp = sendPostRequest(path, property, Property.class);
+    invalidateSchema();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
   }
 }
@@ -18,7 +18,7 @@ public class SchemaDeleter {
   }
 
   public Result<Boolean> run() {
-    Result<Schema> schema = schemaGetter.run();
+    Result<Schema> schema = schemaGetter.withoutCache().run();
     if (schema.getError() != null) {
       List<WeaviateErrorMessage> errorMessages = schema.getError().getMessages().stream().map(err ->
               WeaviateErrorMessage.builder().message(err.getMessage()).build()
@@ -7,15 +7,31 @@ import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.SchemaCache;
+import org.apache.hc.core5.http.HttpStatus;
 
 public class SchemaGetter extends BaseClient<Schema> implements ClientResult<Schema> {
+  private boolean useCache = true;
 
   public SchemaGetter(HttpClient httpClient, Config config) {
     super(httpClient, config);
   }
 
+  /**
+   * Fetches the schema from Weaviate even if the schema cache is enabled.
+   */
+  public SchemaGetter withoutCache() {
+    this.useCache = false;
+    return this;
+  }
+
   @Override
   public Result<Schema> run() {
+    SchemaCache schemaCache = useCache ? schemaCache() : null;
+    Schema cached = schemaCache != null ? schemaCache.getSchema() : null;
+    if (cached != null) {
+      return new Result<>(HttpStatus.SC_OK, cached, null);
+    }
     Response<Schema> resp = sendGetRequest("/schema", Schema.class);
     return new Result<>(resp);
   }
@@ -0,0 +1,68 @@
+package io.weaviate.client.v1.schema.api;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.v1.schema.model.Shard;
+import io.weaviate.client.v1.schema.model.ShardStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * Common parts of updating statuses of all shards of a class, shared by sync and async {@code ShardsUpdater}.
+ */
+public class ShardStatusUpdates {
+  public static final int DEFAULT_PARALLELISM = 8;
+  public static final int DEFAULT_MAX_RETRIES = 2;
+  public static final long RETRY_DELAY_MILLIS = 250;
+
+  private ShardStatusUpdates() {
+  }
+
+  public static Result<ShardStatus> failed(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(cause.getMessage()).throwable(cause).build();
+    return new Result<>(0, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+
+  /**
+   * Combines updates of the shards into a single result. Statuses are returned in the order of shards,
+   * status of a shard that failed to be updated is null. Errors of all failed shards are returned
+   * (each prefixed with the name of the shard) with the status code of the first failed shard.
+   *
+   * @param shards  updated shards
+   * @param updates results of updates, in the order of shards
+   */
+  public static Result<ShardStatus[]> aggregate(Shard[] shards, List<Result<ShardStatus>> updates) {
+    ShardStatus[] statuses = new ShardStatus[shards.length];
+    List<WeaviateErrorMessage> errors = new ArrayList<>();
+    int statusCode = HttpStatus.SC_OK;
+    for (int i = 0; i < shards.length; i++) {
+      Result<ShardStatus> update = updates.get(i);
+      if (!update.hasErrors()) {
+        statuses[i] = update.getResult();
+        continue;
+      }
+      if (errors.isEmpty()) {
+        statusCode = update.getError().getStatusCode();
+      }
+      List<WeaviateErrorMessage> messages = update.getError().getMessages();
+      if (messages == null || messages.isEmpty()) {
+        messages = Collections.singletonList(WeaviateErrorMessage.builder().message("update failed").build());
+      }
+      for (WeaviateErrorMessage message : messages) {
+        errors.add(WeaviateErrorMessage.builder()
+          .message(String.format("shard %s: %s", shards[i].getName(), message.getMessage()))
+          .throwable(message.getThrowable())
+          .build());
+      }
+    }
+    WeaviateErrorResponse errorResponse = errors.isEmpty() ? null : WeaviateErrorResponse.builder().error(errors).build();
+    return new Result<>(statusCode, statuses, errorResponse);
+  }
+}
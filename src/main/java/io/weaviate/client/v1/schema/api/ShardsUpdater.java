@@ -1,10 +1,20 @@
 package io.weaviate.client.v1.schema.api;
 
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.Schedulers;
+import io.weaviate.client.base.util.TransientErrors;
 import io.weaviate.client.v1.schema.model.Shard;
 import io.weaviate.client.v1.schema.model.ShardStatus;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpStatus;
 import io.weaviate.client.Config;
@@ -15,16 +25,25 @@ import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
 import io.weaviate.client.base.http.HttpClient;
 
+/**
+ * Updates status of all shards of a class. Shards are updated concurrently, transient failures are retried
+ * per shard, and a failure of one shard does not stop updates of the others.
+ * See {@link ShardStatusUpdates#aggregate} for the shape of the result.
+ */
 public class ShardsUpdater implements ClientResult<ShardStatus[]> {
+  private final HttpClient httpClient;
+  private final Config config;
   private final ShardsGetter shardsGetter;
-  private final ShardUpdater shardUpdater;
 
   private String className;
   private String status;
+  private int parallelism = ShardStatusUpdates.DEFAULT_PARALLELISM;
+  private int maxRetries = ShardStatusUpdates.DEFAULT_MAX_RETRIES;
 
   public ShardsUpdater(HttpClient httpClient, Config config) {
+    this.httpClient = httpClient;
+    this.config = config;
     this.shardsGetter = new ShardsGetter(httpClient, config);
-    this.shardUpdater = new ShardUpdater(httpClient, config);
   }
 
   public ShardsUpdater withClassName(String className) {
@@ -37,6 +56,24 @@ public class ShardsUpdater implements ClientResult<ShardStatus[]> {
     return this;
   }
 
+  /**
+   * Max number of shards updated at the same time.
+   */
+  public ShardsUpdater withParallelism(int parallelism) {
+    Assert.requireGreater(parallelism, 0, "parallelism");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Max number of retries of a shard update failed due to a transient error.
+   */
+  public ShardsUpdater withMaxRetries(int maxRetries) {
+    Assert.requireGreaterEqual(maxRetries, 0, "maxRetries");
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
   private Result<ShardStatus[]> toResult(WeaviateError error) {
     return new Result<>(error.getStatusCode(), null, WeaviateErrorResponse.builder().error(error.getMessages()).build());
   }
@@ -63,19 +100,29 @@ public class ShardsUpdater implements ClientResult<ShardStatus[]> {
       return toResult(shards.getError());
     }
 
-    List<ShardStatus> shardStatuses = new ArrayList<>();
-    for (Shard shard : shards.getResult()) {
-      Result<ShardStatus> update = this.shardUpdater
-              .withClassName(this.className)
-              .withShardName(shard.getName())
-              .withStatus(this.status)
-              .run();
-      if (update.hasErrors()) {
-        return toResult(update.getError());
-      }
-      shardStatuses.add(update.getResult());
+    Shard[] shardsToUpdate = shards.getResult();
+    if (shardsToUpdate.length == 0) {
+      return new Result<>(HttpStatus.SC_OK, new ShardStatus[0], null);
     }
 
-    return new Result<>(HttpStatus.SC_OK, shardStatuses.toArray(new ShardStatus[shardStatuses.size()]), null);
+    // at most parallelism updates run at the same time, FanOut bounds them on the shared pool
+    ExecutorService executor = Schedulers.requests();
+    List<Supplier<CompletableFuture<Result<ShardStatus>>>> updates = Stream.of(shardsToUpdate)
+      .map(shard -> (Supplier<CompletableFuture<Result<ShardStatus>>>) () -> Futures.retrying(
+        () -> CompletableFuture.supplyAsync(() -> updateShard(shard.getName()), executor),
+        TransientErrors::isTransient, maxRetries, ShardStatusUpdates.RETRY_DELAY_MILLIS, executor))
+      .collect(Collectors.toList());
+
+    List<Result<ShardStatus>> results = FanOut.run(updates, parallelism, 0,
+      (index, throwable) -> ShardStatusUpdates.failed(throwable)).join();
+    return ShardStatusUpdates.aggregate(shardsToUpdate, results);
+  }
+
+  private Result<ShardStatus> updateShard(String shardName) {
+    return new ShardUpdater(this.httpClient, this.config)
+      .withClassName(this.className)
+      .withShardName(shardName)
+      .withStatus(this.status)
+      .run();
   }
 }
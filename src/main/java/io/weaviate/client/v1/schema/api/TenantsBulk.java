@@ -0,0 +1,264 @@
+package io.weaviate.client.v1.schema.api;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.base.util.FanOut;
+import io.weaviate.client.base.util.Futures;
+import io.weaviate.client.base.util.Schedulers;
+import io.weaviate.client.base.util.TransientErrors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * Creates, updates or deletes large number of tenants in chunks, shared by sync and async tenants clients.
+ * <p>
+ * Chunks are sent concurrently (up to configured parallelism), each chunk is retried on transient errors
+ * (connection failures, 429, 5xx), and a failed chunk does not stop the remaining ones. Creating tenants is not
+ * idempotent: if a retry finds the tenants already existing, the failed attempt was applied and the chunk succeeded. The result is true
+ * only if all chunks succeeded, otherwise it carries the errors of all failed chunks.
+ */
+public class TenantsBulk {
+
+  private TenantsBulk() {
+  }
+
+  /**
+   * Sends the chunks without blocking, chunk requests are started by the send function.
+   *
+   * @param tenants      tenants (or their names) to send
+   * @param config       bulk configuration
+   * @param maxChunkSize max number of tenants the server accepts in one request
+   * @param send         sends a single chunk
+   */
+  public static <T> CompletableFuture<Result<Boolean>> run(T[] tenants, BulkConfig config, int maxChunkSize,
+                                                           Function<List<T>, CompletableFuture<Result<Boolean>>> send) {
+    return run(tenants, config, maxChunkSize, send, null, null);
+  }
+
+  /**
+   * Same as {@link #run(Object[], BulkConfig, int, Function)}, for requests which are not idempotent.
+   *
+   * @param appliedBefore tells whether result of a retried chunk means an earlier attempt was applied
+   *                      (e.g. tenants already exist), such chunk is considered successful
+   */
+  public static <T> CompletableFuture<Result<Boolean>> run(T[] tenants, BulkConfig config, int maxChunkSize,
+                                                           Function<List<T>, CompletableFuture<Result<Boolean>>> send,
+                                                           Predicate<Result<Boolean>> appliedBefore) {
+    return run(tenants, config, maxChunkSize, send, null, appliedBefore);
+  }
+
+  /**
+   * Sends the chunks on the calling thread and the shared pool of request threads, blocks until all chunks are done.
+   *
+   * @param tenants      tenants (or their names) to send
+   * @param config       bulk configuration
+   * @param maxChunkSize max number of tenants the server accepts in one request
+   * @param send         sends a single chunk, blocking
+   */
+  public static <T> Result<Boolean> runBlocking(T[] tenants, BulkConfig config, int maxChunkSize,
+                                                Function<List<T>, Result<Boolean>> send) {
+    return runBlocking(tenants, config, maxChunkSize, send, null);
+  }
+
+  /**
+   * Same as {@link #runBlocking(Object[], BulkConfig, int, Function)}, for requests which are not idempotent.
+   *
+   * @param appliedBefore tells whether result of a retried chunk means an earlier attempt was applied
+   *                      (e.g. tenants already exist), such chunk is considered successful
+   */
+  public static <T> Result<Boolean> runBlocking(T[] tenants, BulkConfig config, int maxChunkSize,
+                                                Function<List<T>, Result<Boolean>> send,
+                                                Predicate<Result<Boolean>> appliedBefore) {
+    int chunkSize = chunkSize(config, maxChunkSize);
+    int chunks = (tenants.length + chunkSize - 1) / chunkSize;
+    if (chunks <= 1) {
+      return run(tenants, config, maxChunkSize, chunk -> CompletableFuture.completedFuture(send.apply(chunk)), null,
+        appliedBefore).join();
+    }
+
+    // concurrency is limited by the fan-out, the pool is shared with other calls
+    Executor executor = Schedulers.requests();
+    return run(tenants, config, maxChunkSize, chunk -> CompletableFuture.supplyAsync(() -> send.apply(chunk), executor),
+      executor, appliedBefore).join();
+  }
+
+  /**
+   * @return whether the tenants being created already exist, i.e. an earlier attempt of a retried chunk was applied
+   */
+  public static boolean alreadyExists(Result<Boolean> result) {
+    return result.hasErrors() && result.getError().getStatusCode() == HttpStatus.SC_UNPROCESSABLE_ENTITY;
+  }
+
+  private static <T> CompletableFuture<Result<Boolean>> run(T[] tenants, BulkConfig config, int maxChunkSize,
+                                                            Function<List<T>, CompletableFuture<Result<Boolean>>> send,
+                                                            Executor executor, Predicate<Result<Boolean>> appliedBefore) {
+    int chunkSize = chunkSize(config, maxChunkSize);
+    List<List<T>> chunks = new ArrayList<>();
+    for (int from = 0; from < tenants.length; from += chunkSize) {
+      chunks.add(Arrays.asList(tenants).subList(from, Math.min(from + chunkSize, tenants.length)));
+    }
+
+    AtomicInteger completed = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    List<Supplier<CompletableFuture<Result<Boolean>>>> tasks = chunks.stream()
+      .map(chunk -> (Supplier<CompletableFuture<Result<Boolean>>>) () -> Futures.retrying(attempt(chunk, send, appliedBefore),
+          TransientErrors::isTransient, config.getMaxRetries(), config.getRetriesIntervalMs(), executor)
+        .handle((result, throwable) -> throwable != null ? failed(throwable) : result)
+        .thenApply(result -> {
+          if (config.getProgressCallback() != null) {
+            int failedTenants = result.hasErrors() ? failed.addAndGet(chunk.size()) : failed.get();
+            int completedTenants = result.hasErrors() ? completed.get() : completed.addAndGet(chunk.size());
+            config.getProgressCallback().accept(new Progress(completedTenants, failedTenants, tenants.length, result));
+          }
+          return result;
+        }))
+      .collect(Collectors.toList());
+
+    return FanOut.run(tasks, config.getParallelism(), 0, (index, throwable) -> failed(throwable))
+      .thenApply(results -> aggregate(chunks, chunkSize, results));
+  }
+
+  private static <T> Supplier<CompletableFuture<Result<Boolean>>> attempt(List<T> chunk,
+                                                                         Function<List<T>, CompletableFuture<Result<Boolean>>> send,
+                                                                         Predicate<Result<Boolean>> appliedBefore) {
+    if (appliedBefore == null) {
+      return () -> send.apply(chunk);
+    }
+    AtomicInteger attempts = new AtomicInteger();
+    return () -> {
+      // failed attempt might have been applied by the server nevertheless, a retry then fails on a conflict
+      boolean retry = attempts.getAndIncrement() > 0;
+      return send.apply(chunk).thenApply(result -> retry && appliedBefore.test(result)
+        ? new Result<>(HttpStatus.SC_OK, true, null)
+        : result);
+    };
+  }
+
+  private static int chunkSize(BulkConfig config, int maxChunkSize) {
+    return Math.min(config.getChunkSize(), maxChunkSize);
+  }
+
+  private static <T> Result<Boolean> aggregate(List<List<T>> chunks, int chunkSize, List<Result<Boolean>> results) {
+    List<WeaviateErrorMessage> errors = new ArrayList<>();
+    int statusCode = HttpStatus.SC_OK;
+    for (int i = 0; i < results.size(); i++) {
+      Result<Boolean> result = results.get(i);
+      if (!result.hasErrors()) {
+        continue;
+      }
+      if (errors.isEmpty()) {
+        statusCode = result.getError().getStatusCode();
+      }
+      int from = i * chunkSize;
+      String chunk = String.format("tenants %d-%d", from, from + chunks.get(i).size() - 1);
+      List<WeaviateErrorMessage> messages = result.getError().getMessages();
+      if (messages == null || messages.isEmpty()) {
+        messages = Collections.singletonList(WeaviateErrorMessage.builder().message("request failed").build());
+      }
+      for (WeaviateErrorMessage message : messages) {
+        errors.add(WeaviateErrorMessage.builder()
+          .message(String.format("%s: %s", chunk, message.getMessage()))
+          .throwable(message.getThrowable())
+          .build());
+      }
+    }
+    if (errors.isEmpty()) {
+      return new Result<>(HttpStatus.SC_OK, true, null);
+    }
+    return new Result<>(statusCode, false, WeaviateErrorResponse.builder().error(errors).build());
+  }
+
+  private static Result<Boolean> failed(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+      ? throwable.getCause()
+      : throwable;
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(cause.getMessage()).throwable(cause).build();
+    return new Result<>(0, false, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+
+  @Getter
+  @Builder
+  @ToString
+  @EqualsAndHashCode
+  @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+  public static class BulkConfig {
+
+    public static final int CHUNK_SIZE = 100;
+    public static final int PARALLELISM = 4;
+    public static final int MAX_RETRIES = 2;
+    public static final int RETRIES_INTERVAL = 250;
+
+    int chunkSize;
+    int parallelism;
+    int maxRetries;
+    int retriesIntervalMs;
+    /**
+     * Called once every chunk is done (successfully or not), possibly from multiple threads at once.
+     */
+    Consumer<Progress> progressCallback;
+
+    private BulkConfig(int chunkSize, int parallelism, int maxRetries, int retriesIntervalMs,
+                       Consumer<Progress> progressCallback) {
+      Assert.requireGreaterEqual(chunkSize, 1, "chunkSize");
+      Assert.requireGreaterEqual(parallelism, 1, "parallelism");
+      Assert.requireGreaterEqual(maxRetries, 0, "maxRetries");
+      Assert.requireGreater(retriesIntervalMs, 0, "retriesIntervalMs");
+
+      this.chunkSize = chunkSize;
+      this.parallelism = parallelism;
+      this.maxRetries = maxRetries;
+      this.retriesIntervalMs = retriesIntervalMs;
+      this.progressCallback = progressCallback;
+    }
+
+    public static BulkConfigBuilder defaultConfig() {
+      return BulkConfig.builder()
+        .chunkSize(CHUNK_SIZE)
+        .parallelism(PARALLELISM)
+        .maxRetries(MAX_RETRIES)
+        .retriesIntervalMs(RETRIES_INTERVAL)
+        .progressCallback(null);
+    }
+  }
+
+  @Getter
+  @ToString
+  @AllArgsConstructor
+  @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+  public static class Progress {
+    /**
+     * Number of tenants in chunks done successfully so far.
+     */
+    int completedTenants;
+    /**
+     * Number of tenants in chunks failed so far.
+     */
+    int failedTenants;
+    int totalTenants;
+    /**
+     * Result of the chunk just done.
+     */
+    Result<Boolean> chunkResult;
+  }
+}
@@ -15,6 +15,7 @@ public class TenantsCreator extends BaseClient<Tenant[]> implements ClientResult
 
   private String className;
   private Tenant[] tenants;
+  private TenantsBulk.BulkConfig bulkConfig;
 
   public TenantsCreator(HttpClient httpClient, Config config) {
     super(httpClient, config);
@@ -30,8 +31,20 @@ public class TenantsCreator extends BaseClient<Tenant[]> implements ClientResult
     return this;
   }
 
+  /**
+   * Sends tenants in chunks, concurrently, retrying chunks failed due to transient errors.
+   */
+  public TenantsCreator withBulkConfig(TenantsBulk.BulkConfig bulkConfig) {
+    this.bulkConfig = bulkConfig;
+    return this;
+  }
+
   @Override
   public Result<Boolean> run() {
+    if (bulkConfig != null && tenants != null) {
+      return TenantsBulk.runBlocking(tenants, bulkConfig, Integer.MAX_VALUE, chunk -> createTenants(chunk.toArray(new Tenant[0])),
+        TenantsBulk::alreadyExists);
+    }
     return createTenants(tenants);
   }
 
@@ -13,6 +13,7 @@ public class TenantsDeleter extends BaseClient<Object> implements ClientResult<B
 
   private String className;
   private String[] tenants;
+  private TenantsBulk.BulkConfig bulkConfig;
 
   public TenantsDeleter(HttpClient httpClient, Config config) {
     super(httpClient, config);
@@ -28,8 +29,23 @@ public class TenantsDeleter extends BaseClient<Object> implements ClientResult<B
     return this;
   }
 
+  /**
+   * Sends tenants in chunks, concurrently, retrying chunks failed due to transient errors.
+   */
+  public TenantsDeleter withBulkConfig(TenantsBulk.BulkConfig bulkConfig) {
+    this.bulkConfig = bulkConfig;
+    return this;
+  }
+
   @Override
   public Result<Boolean> run() {
+    if (bulkConfig != null && tenants != null) {
+      return TenantsBulk.runBlocking(tenants, bulkConfig, Integer.MAX_VALUE, chunk -> deleteTenants(chunk.toArray(new String[0])));
+    }
+    return deleteTenants(tenants);
+  }
+
+  private Result<Boolean> deleteTenants(String[] tenants) {
     String path = String.format("/schema/%s/tenants", UrlEncoder.encodePathParam(className));
     Response<Object> resp = sendDeleteRequest(path, tenants, Object.class);
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == HttpStatus.SC_OK, resp.getErrors());
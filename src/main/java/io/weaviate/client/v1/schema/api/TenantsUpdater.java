@@ -22,6 +22,7 @@ public class TenantsUpdater extends BaseClient<Tenant[]> implements ClientResult
   private final DbVersionSupport dbVersionSupport;
   private String className;
   private Tenant[] tenants;
+  private TenantsBulk.BulkConfig bulkConfig;
 
   public TenantsUpdater(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport) {
     super(httpClient, config);
@@ -38,8 +39,20 @@ public class TenantsUpdater extends BaseClient<Tenant[]> implements ClientResult
     return this;
   }
 
+  /**
+   * Sends tenants in chunks, concurrently, retrying chunks failed due to transient errors.
+   */
+  public TenantsUpdater withBulkConfig(TenantsBulk.BulkConfig bulkConfig) {
+    this.bulkConfig = bulkConfig;
+    return this;
+  }
+
   @Override
   public Result<Boolean> run() {
+    if (bulkConfig != null && tenants != null) {
+      int maxChunkSize = dbVersionSupport.supportsOnly100TenantsInOneRequest() ? BATCH_SIZE : Integer.MAX_VALUE;
+      return TenantsBulk.runBlocking(tenants, bulkConfig, maxChunkSize, chunk -> updateTenants(chunk.toArray(new Tenant[0])));
+    }
     if (dbVersionSupport.supportsOnly100TenantsInOneRequest() && tenants != null && tenants.length > BATCH_SIZE) {
       for (List<Tenant> batch : chunkTenants(tenants, BATCH_SIZE)) {
         Result<Boolean> resp = updateTenants(batch.toArray(new Tenant[0]));
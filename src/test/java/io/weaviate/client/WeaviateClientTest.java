@@ -0,0 +1,93 @@
+package io.weaviate.client;
+
+import io.weaviate.client.base.util.SchemaCache;
+import io.weaviate.client.v1.async.WeaviateAsyncClient;
+import io.weaviate.client.v1.schema.model.Schema;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WeaviateClientTest {
+
+  @Test
+  public void shouldCreateOwnedAsyncClientOnEachCall() throws Exception {
+    WeaviateClient client = new WeaviateClient(new Config("http", "localhost:8080"));
+
+    WeaviateAsyncClient first = client.async();
+    WeaviateAsyncClient second = client.async();
+    first.close();
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.isClosed()).isTrue();
+    assertThat(second.isClosed()).isFalse();
+    second.close();
+  }
+
+  @Test
+  public void shouldKeepSharedAsyncClientOpenForOverlappingUsers() throws Exception {
+    WeaviateClient client = new WeaviateClient(new Config("http", "localhost:8080"));
+    CountDownLatch bothOpened = new CountDownLatch(2);
+    CountDownLatch firstClosed = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<WeaviateAsyncClient> first = executor.submit(() -> {
+        try (WeaviateAsyncClient asyncClient = client.sharedAsync()) {
+          bothOpened.countDown();
+          bothOpened.await(5, TimeUnit.SECONDS);
+          return asyncClient;
+        } finally {
+          firstClosed.countDown();
+        }
+      });
+      Future<Boolean> second = executor.submit(() -> {
+        try (WeaviateAsyncClient asyncClient = client.sharedAsync()) {
+          bothOpened.countDown();
+          firstClosed.await(5, TimeUnit.SECONDS);
+          // still in use here, after the other user left its try block
+          return asyncClient.isClosed();
+        }
+      });
+
+      assertThat(second.get(5, TimeUnit.SECONDS)).isFalse();
+      assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(client.sharedAsync());
+      assertThat(client.sharedAsync().isClosed()).isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldCloseSharedAsyncClientOnClose() throws Exception {
+    WeaviateClient client = new WeaviateClient(new Config("http", "localhost:8080"));
+    WeaviateAsyncClient shared = client.sharedAsync();
+
+    client.close();
+
+    assertThat(shared.isClosed()).isTrue();
+  }
+
+  @Test
+  public void shouldKeepSourcesSetByOtherClientsOnClose() throws Exception {
+    Config config = new Config("http", "localhost:8080");
+    SchemaCache schemaCache = new SchemaCache();
+    config.setSchemaCache(schemaCache);
+    WeaviateClient client = new WeaviateClient(config);
+    AtomicInteger fetches = new AtomicInteger();
+    schemaCache.setSchemaSource(() -> {
+      fetches.incrementAndGet();
+      return Schema.builder().build();
+    });
+
+    client.close();
+
+    assertThat(schemaCache.getSchema()).isNotNull();
+    assertThat(fetches.get()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,50 @@
+package io.weaviate.client.base.grpc.base;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HostsNameResolverTest {
+
+  @Test
+  public void shouldUseOwnHostAsAuthorityOfEveryAddress() {
+    NameResolver resolver = new HostsNameResolver.Provider(Arrays.asList("localhost:50051", "127.0.0.1:50052"))
+      .newNameResolver(URI.create(HostsNameResolver.SCHEME + ":///"), NameResolver.Args.newBuilder()
+        .setDefaultPort(50051)
+        .setProxyDetector(address -> null)
+        .setSynchronizationContext(new SynchronizationContext((thread, throwable) -> {
+        }))
+        .setServiceConfigParser(new NameResolver.ServiceConfigParser() {
+          @Override
+          public NameResolver.ConfigOrError parseServiceConfig(Map<String, ?> rawServiceConfig) {
+            return NameResolver.ConfigOrError.fromConfig(rawServiceConfig);
+          }
+        })
+        .setOffloadExecutor(Runnable::run)
+        .build());
+
+    List<EquivalentAddressGroup> resolved = new ArrayList<>();
+    resolver.start(new NameResolver.Listener2() {
+      @Override
+      public void onResult(NameResolver.ResolutionResult resolutionResult) {
+        resolved.addAll(resolutionResult.getAddresses());
+      }
+
+      @Override
+      public void onError(Status error) {
+      }
+    });
+
+    assertThat(resolved).extracting(group -> group.getAttributes().get(EquivalentAddressGroup.ATTR_AUTHORITY_OVERRIDE))
+      .containsExactly("localhost:50051", "127.0.0.1:50052");
+  }
+}
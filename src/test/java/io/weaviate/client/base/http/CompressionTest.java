@@ -0,0 +1,57 @@
+package io.weaviate.client.base.http;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompressionTest {
+
+  private static final byte[] BODY = ("{\"objects\":[" + StringUtils.repeat("{\"class\":\"Pizza\"}", ",", 200) + "]}")
+    .getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void shouldRoundTripGzip() throws Exception {
+    Compression compression = new Compression(Compression.GZIP);
+
+    byte[] compressed = compression.compress(BODY);
+
+    assertThat(compressed.length).isLessThan(BODY.length);
+    assertThat(Compression.decompress(compressed, "gzip")).isEqualTo(BODY);
+    assertThat(Compression.decompress(compressed, "x-gzip")).isEqualTo(BODY);
+  }
+
+  @Test
+  public void shouldRoundTripDeflate() throws Exception {
+    Compression compression = new Compression(Compression.DEFLATE);
+
+    byte[] compressed = compression.compress(BODY);
+
+    assertThat(compressed.length).isLessThan(BODY.length);
+    assertThat(Compression.decompress(compressed, "Deflate")).isEqualTo(BODY);
+  }
+
+  @Test
+  public void shouldNotDecompressUnknownEncoding() throws Exception {
+    assertThat(Compression.decompress(BODY, null)).isSameAs(BODY);
+    assertThat(Compression.decompress(BODY, "identity")).isSameAs(BODY);
+  }
+
+  @Test
+  public void shouldCompressOnlyAboveThreshold() {
+    Compression compression = new Compression(Compression.GZIP, 100);
+
+    assertThat(compression.shouldCompress(new byte[99])).isFalse();
+    assertThat(compression.shouldCompress(new byte[100])).isTrue();
+    assertThat(compression.shouldCompress(null)).isFalse();
+  }
+
+  @Test
+  public void shouldRejectUnsupportedEncoding() {
+    assertThatThrownBy(() -> new Compression("zstd"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("zstd");
+  }
+}
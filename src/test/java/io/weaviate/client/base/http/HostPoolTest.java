@@ -0,0 +1,101 @@
+package io.weaviate.client.base.http;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HostPoolTest {
+
+  @Test
+  public void shouldPreferLessLoadedHost() {
+    HostPool hostPool = new HostPool(Arrays.asList("node1:8080", "node2:8080"), host -> "http://" + host + "/v1");
+
+    HostPool.Host busy = hostPool.acquire();
+    for (int i = 0; i < 10; i++) {
+      HostPool.Host host = hostPool.acquire();
+      assertThat(host).isNotSameAs(busy);
+      hostPool.release(host, true);
+    }
+
+    assertThat(busy.getOutstandingRequests()).isEqualTo(1);
+    assertThat(busy.getBaseURL()).startsWith("http://node").endsWith(":8080/v1");
+  }
+
+  @Test
+  public void shouldEjectFailingHost() {
+    HostPool hostPool = new HostPool(Arrays.asList("node1:8080", "node2:8080"), host -> host, 2, 60_000);
+    HostPool.Host failing = hostPool.getHosts().get(0);
+
+    acquireAndRelease(hostPool, failing, false);
+    assertThat(failing.isEjected()).isFalse();
+    acquireAndRelease(hostPool, failing, false);
+    assertThat(failing.isEjected()).isTrue();
+
+    for (int i = 0; i < 10; i++) {
+      HostPool.Host host = hostPool.acquire();
+      assertThat(host).isNotSameAs(failing);
+      hostPool.release(host, true);
+    }
+  }
+
+  @Test
+  public void shouldResetFailuresOnSuccess() {
+    HostPool hostPool = new HostPool(Arrays.asList("node1:8080", "node2:8080"), host -> host, 2, 60_000);
+    HostPool.Host host = hostPool.getHosts().get(0);
+
+    acquireAndRelease(hostPool, host, false);
+    acquireAndRelease(hostPool, host, true);
+    acquireAndRelease(hostPool, host, false);
+
+    assertThat(host.isEjected()).isFalse();
+  }
+
+  @Test
+  public void shouldReadmitHostOnceReady() throws Exception {
+    HostPool hostPool = new HostPool(Arrays.asList("node1:8080", "node2:8080"), host -> host, 1, 10);
+    HostPool.Host failing = hostPool.getHosts().get(0);
+    CountDownLatch probed = new CountDownLatch(2);
+    hostPool.setReadyProbe(host -> {
+      probed.countDown();
+      // not ready on the first probe
+      return probed.getCount() == 0;
+    });
+
+    acquireAndRelease(hostPool, failing, false);
+    assertThat(failing.isEjected()).isTrue();
+
+    assertThat(probed.await(5, TimeUnit.SECONDS)).isTrue();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (failing.isEjected() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(failing.isEjected()).isFalse();
+  }
+
+  @Test
+  public void shouldNotEjectSingleHost() {
+    HostPool hostPool = new HostPool(Collections.singletonList("node1:8080"), host -> host, 1, 60_000);
+
+    HostPool.Host host = hostPool.acquire();
+    hostPool.release(host, false);
+
+    assertThat(host.isEjected()).isFalse();
+    assertThat(hostPool.acquire()).isSameAs(host);
+  }
+
+  private static void acquireAndRelease(HostPool hostPool, HostPool.Host host, boolean success) {
+    // acquire hosts until the given one is chosen
+    while (true) {
+      HostPool.Host acquired = hostPool.acquire();
+      if (acquired == host) {
+        hostPool.release(acquired, success);
+        return;
+      }
+      hostPool.release(acquired);
+    }
+  }
+}
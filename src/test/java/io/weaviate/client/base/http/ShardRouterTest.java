@@ -0,0 +1,64 @@
+package io.weaviate.client.base.http;
+
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.cluster.model.NodesStatusResponse;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardRouterTest {
+
+  private static final String NODES_STATUS = "{\"nodes\":[" +
+    "{\"name\":\"node1\",\"status\":\"HEALTHY\",\"shards\":[" +
+    "{\"name\":\"tenantA\",\"class\":\"Pizza\",\"objectCount\":10}," +
+    "{\"name\":\"abcd\",\"class\":\"Soup\",\"objectCount\":10}]}," +
+    "{\"name\":\"node2\",\"status\":\"HEALTHY\",\"shards\":[" +
+    "{\"name\":\"tenantB\",\"class\":\"Pizza\",\"objectCount\":10}," +
+    "{\"name\":\"efgh\",\"class\":\"Wine\",\"objectCount\":10}]}," +
+    "{\"name\":\"node3\",\"status\":\"HEALTHY\",\"shards\":[" +
+    "{\"name\":\"ijkl\",\"class\":\"Wine\",\"objectCount\":10}]}," +
+    "{\"name\":\"node4\",\"status\":\"UNHEALTHY\",\"shards\":[" +
+    "{\"name\":\"tenantC\",\"class\":\"Pizza\",\"objectCount\":10}]}" +
+    "]}";
+
+  private ShardRouter shardRouter;
+
+  @Before
+  public void before() {
+    Map<String, String> nodeHosts = new HashMap<>();
+    nodeHosts.put("node1", "node1:8080");
+    nodeHosts.put("node2", "node2:8080");
+    nodeHosts.put("node3", "node3:8080");
+    nodeHosts.put("node4", "node4:8080");
+    shardRouter = new ShardRouter(nodeHosts);
+    shardRouter.update(new Serializer().toResponse(NODES_STATUS, NodesStatusResponse.class));
+  }
+
+  @Test
+  public void shouldRouteTenantToNodeHoldingIt() {
+    assertThat(shardRouter.hostOf("Pizza", "tenantA")).isEqualTo("node1:8080");
+    assertThat(shardRouter.hostOf("Pizza", "tenantB")).isEqualTo("node2:8080");
+    assertThat(shardRouter.hostOf("pizza", "tenantB")).isEqualTo("node2:8080");
+  }
+
+  @Test
+  public void shouldRouteSingleShardClass() {
+    assertThat(shardRouter.hostOf("Soup", null)).isEqualTo("node1:8080");
+  }
+
+  @Test
+  public void shouldNotRouteMultiShardClass() {
+    assertThat(shardRouter.hostOf("Wine", null)).isNull();
+  }
+
+  @Test
+  public void shouldNotRouteToUnhealthyOrUnknownNodes() {
+    assertThat(shardRouter.hostOf("Pizza", "tenantC")).isNull();
+    assertThat(shardRouter.hostOf("Pizza", "tenantD")).isNull();
+    assertThat(shardRouter.hostOf("Unknown", null)).isNull();
+    assertThat(shardRouter.hostOf(null, "tenantA")).isNull();
+  }
+}
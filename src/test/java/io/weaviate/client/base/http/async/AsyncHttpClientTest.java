@@ -0,0 +1,123 @@
+package io.weaviate.client.base.http.async;
+
+import io.weaviate.client.Config;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class AsyncHttpClientTest {
+
+  private ClientAndServer mockServer;
+
+  @Before
+  public void before() {
+    mockServer = startClientAndServer();
+    new MockServerClient("localhost", mockServer.getPort())
+      .when(request().withMethod("GET").withPath("/v1/meta"))
+      .respond(response().withStatusCode(200).withBody("{}"));
+  }
+
+  @After
+  public void after() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void shouldCreateHttp1ClientByDefault() throws Exception {
+    assertServesRequests(new Config("http", "localhost:8080"));
+  }
+
+  @Test
+  public void shouldCreateTunedHttp1Client() throws Exception {
+    Config config = new Config("http", "localhost:8080", null, 5, 5, 30);
+    AsyncHttpClientConfig clientConfig = AsyncHttpClientConfig.builder()
+      .maxConnectionsPerRoute(1000)
+      .maxConnectionsTotal(2000)
+      .connectionTimeToLiveMillis(60_000)
+      .validateAfterInactivityMillis(-1)
+      .tcpNoDelay(false)
+      .build();
+    config.setAsyncHttpClientConfig(clientConfig);
+
+    PoolingAsyncClientConnectionManager connectionManager = AsyncHttpClient.connectionManager(config, clientConfig);
+    try {
+      assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(1000);
+      assertThat(connectionManager.getMaxTotal()).isEqualTo(2000);
+    } finally {
+      connectionManager.close(CloseMode.IMMEDIATE);
+    }
+
+    ConnectionConfig connectionConfig = AsyncHttpClient.connectionConfig(config, clientConfig);
+    assertThat(connectionConfig.getConnectTimeout()).isEqualTo(Timeout.ofSeconds(5));
+    assertThat(connectionConfig.getSocketTimeout()).isEqualTo(Timeout.ofSeconds(30));
+    assertThat(connectionConfig.getTimeToLive()).isEqualTo(TimeValue.ofMilliseconds(60_000));
+    assertThat(connectionConfig.getValidateAfterInactivity()).isEqualTo(TimeValue.ofMilliseconds(-1));
+
+    IOReactorConfig ioReactorConfig = AsyncHttpClient.ioReactorConfig(config, clientConfig);
+    assertThat(ioReactorConfig.getSoTimeout()).isEqualTo(Timeout.ofSeconds(30));
+    assertThat(ioReactorConfig.isTcpNoDelay()).isFalse();
+
+    assertServesRequests(config);
+  }
+
+  @Test
+  public void shouldCreateHttp2Client() throws Exception {
+    Config config = new Config("http", "localhost:8080");
+    AsyncHttpClientConfig clientConfig = AsyncHttpClientConfig.builder()
+      .http2(true)
+      .http2MaxConcurrentStreams(1000)
+      .maxConnectionsPerRoute(50)
+      .ioThreadCount(2)
+      .sendBufferSize(64 * 1024)
+      .receiveBufferSize(64 * 1024)
+      .build();
+    config.setAsyncHttpClientConfig(clientConfig);
+
+    IOReactorConfig ioReactorConfig = AsyncHttpClient.ioReactorConfig(config, clientConfig);
+    assertThat(ioReactorConfig.getIoThreadCount()).isEqualTo(2);
+    assertThat(ioReactorConfig.getSndBufSize()).isEqualTo(64 * 1024);
+    assertThat(ioReactorConfig.getRcvBufSize()).isEqualTo(64 * 1024);
+    H2Config h2Config = AsyncHttpClient.h2Config(clientConfig);
+    assertThat(h2Config.getMaxConcurrentStreams()).isEqualTo(1000);
+    assertThat(h2Config.isPushEnabled()).isFalse();
+    PoolingAsyncClientConnectionManager connectionManager = AsyncHttpClient.connectionManager(config, clientConfig);
+    try {
+      assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(50);
+    } finally {
+      connectionManager.close(CloseMode.IMMEDIATE);
+    }
+
+    assertServesRequests(config);
+  }
+
+  // reactor starts asynchronously, a served request shows that the client is up and usable
+  private void assertServesRequests(Config config) throws Exception {
+    CloseableHttpAsyncClient client = AsyncHttpClient.create(config);
+    try {
+      client.start();
+      SimpleHttpResponse response = client.execute(SimpleRequestBuilder.get("http://localhost:" + mockServer.getPort() + "/v1/meta").build(), null)
+        .get(5, TimeUnit.SECONDS);
+      assertThat(response.getCode()).isEqualTo(200);
+    } finally {
+      client.close(CloseMode.IMMEDIATE);
+    }
+  }
+}
@@ -8,6 +8,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -69,4 +72,25 @@ public class DbVersionProviderTest {
     Mockito.verify(versionGetterMock, Mockito.times(3)).get();
   }
 
+  @Test
+  public void shouldShareVersionFetchBetweenConcurrentCallers() throws Exception {
+    CountDownLatch fetching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.when(versionGetterMock.get()).thenAnswer(invocation -> {
+      fetching.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.of(VERSION_1);
+    });
+
+    CompletableFuture<String> first = CompletableFuture.supplyAsync(dbVersionProvider::getVersion);
+    assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> second = CompletableFuture.supplyAsync(dbVersionProvider::getVersion);
+    // give the second caller time to join the running fetch
+    Thread.sleep(50);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(VERSION_1);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(VERSION_1);
+    Mockito.verify(versionGetterMock, Mockito.times(1)).get();
+  }
 }
@@ -0,0 +1,112 @@
+package io.weaviate.client.base.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FanOutTest {
+
+  @Test
+  public void shouldReturnResultsInOrderOfTasks() {
+    List<CompletableFuture<String>> calls = Arrays.asList(new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>());
+    List<Supplier<CompletableFuture<String>>> tasks = new ArrayList<>();
+    for (CompletableFuture<String> call : calls) {
+      tasks.add(() -> call);
+    }
+
+    CompletableFuture<List<String>> results = FanOut.run(tasks, 3, 0, (i, t) -> "failed");
+    calls.get(2).complete("c");
+    calls.get(0).complete("a");
+    calls.get(1).complete("b");
+
+    assertThat(results.join()).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void shouldNotExceedParallelism() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<CompletableFuture<Integer>> calls = new ArrayList<>();
+    List<Supplier<CompletableFuture<Integer>>> tasks = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      CompletableFuture<Integer> call = new CompletableFuture<>();
+      calls.add(call);
+      int value = i;
+      tasks.add(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        return call.thenApply(v -> {
+          running.decrementAndGet();
+          return value;
+        });
+      });
+    }
+
+    CompletableFuture<List<Integer>> results = FanOut.run(tasks, 3, 0, (i, t) -> -1);
+    assertThat(running.get()).isEqualTo(3);
+    for (CompletableFuture<Integer> call : calls) {
+      call.complete(0);
+    }
+
+    assertThat(results.join()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(maxRunning.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldUseFallbackForFailedTasks() {
+    List<Supplier<CompletableFuture<String>>> tasks = Arrays.asList(
+      () -> CompletableFuture.completedFuture("a"),
+      () -> {
+        throw new IllegalStateException("boom");
+      },
+      () -> {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalArgumentException("bang"));
+        return failed;
+      }
+    );
+
+    List<String> results = FanOut.run(tasks, 1, 0, (i, t) -> "failed " + i).join();
+
+    assertThat(results).containsExactly("a", "failed 1", "failed 2");
+  }
+
+  @Test
+  public void shouldReturnPartialResultsOnTimeout() throws Exception {
+    CompletableFuture<String> hanging = new CompletableFuture<>();
+    List<Throwable> causes = new ArrayList<>();
+    List<Supplier<CompletableFuture<String>>> tasks = Arrays.asList(
+      () -> CompletableFuture.completedFuture("a"),
+      () -> hanging,
+      () -> CompletableFuture.completedFuture("never started")
+    );
+
+    List<String> results = FanOut.run(tasks, 1, 100, (i, t) -> {
+      causes.add(t);
+      return "timeout " + i;
+    }).get(5, TimeUnit.SECONDS);
+
+    assertThat(results).containsExactly("a", "timeout 1", "timeout 2");
+    assertThat(causes).allMatch(t -> t instanceof TimeoutException);
+    assertThat(hanging.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void shouldCompleteImmediatelyWithoutTasks() {
+    assertThat(FanOut.<String>run(new ArrayList<>(), 1, 0, (i, t) -> null).join()).isEmpty();
+  }
+
+  @Test
+  public void shouldRequirePositiveParallelism() {
+    assertThatThrownBy(() -> FanOut.<String>run(new ArrayList<>(), 0, 0, (i, t) -> null))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
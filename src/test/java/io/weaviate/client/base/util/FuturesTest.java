@@ -0,0 +1,115 @@
+package io.weaviate.client.base.util;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FuturesTest {
+
+  @Test
+  public void shouldSupplyDelayedWithoutBlockingCaller() {
+    long start = System.nanoTime();
+    CompletableFuture<String> delayed = Futures.supplyDelayed(() -> CompletableFuture.completedFuture("done"), 200, null);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertThat(elapsedMillis).isLessThan(200);
+    assertThat(delayed).isNotDone();
+    assertThat(delayed.join()).isEqualTo("done");
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+  }
+
+  @Test
+  public void shouldBridgeListenableFuture() {
+    SettableFuture<String> listenable = SettableFuture.create();
+    CompletableFuture<String> future = Futures.fromListenable(listenable);
+    assertThat(future).isNotDone();
+
+    listenable.set("reply");
+
+    assertThat(future.join()).isEqualTo("reply");
+  }
+
+  @Test
+  public void shouldBridgeFailedListenableFuture() {
+    SettableFuture<String> listenable = SettableFuture.create();
+    CompletableFuture<String> future = Futures.fromListenable(listenable);
+
+    listenable.setException(new IOException("unavailable"));
+
+    assertThatThrownBy(future::join)
+      .isInstanceOf(CompletionException.class)
+      .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void shouldCancelListenableFuture() {
+    SettableFuture<String> listenable = SettableFuture.create();
+    CompletableFuture<String> future = Futures.fromListenable(listenable);
+
+    future.cancel(true);
+
+    assertThat(listenable.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void shouldRetryUntilResultIsAccepted() {
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<Integer> future = Futures.retrying(() -> {
+      int attempt = attempts.incrementAndGet();
+      if (attempt == 1) {
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("unavailable"));
+        return failed;
+      }
+      return CompletableFuture.completedFuture(attempt);
+    }, attempt -> attempt < 3, 5, 10, null);
+
+    assertThat(future.join()).isEqualTo(3);
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldReturnLastOutcomeOnceRetriesAreExhausted() {
+    AtomicInteger attempts = new AtomicInteger();
+    CompletableFuture<Integer> future = Futures.retrying(() -> {
+      attempts.incrementAndGet();
+      CompletableFuture<Integer> failed = new CompletableFuture<>();
+      failed.completeExceptionally(new IOException("unavailable"));
+      return failed;
+    }, attempt -> false, 2, 10, null);
+
+    assertThatThrownBy(future::join)
+      .isInstanceOf(CompletionException.class)
+      .hasCauseInstanceOf(IOException.class);
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldInterruptSupplierWhenCancelled() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<String> future = Futures.supplyInterruptibly(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(10_000);
+        return "done";
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        throw new IllegalStateException(e);
+      }
+    }, Schedulers.requests());
+
+    assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+    future.cancel(true);
+
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,161 @@
+package io.weaviate.client.base.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HedgingPolicyTest {
+
+  @Test
+  public void shouldNotHedgeFastRequest() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1000, 100);
+    AtomicInteger requests = new AtomicInteger();
+
+    CompletableFuture<String> response = policy.execute(() -> {
+      requests.incrementAndGet();
+      return CompletableFuture.completedFuture("fast");
+    });
+
+    assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("fast");
+    assertThat(requests.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldUseHedgedResponseAndCancelSlowRequest() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 10, 100);
+    List<CompletableFuture<String>> requests = new ArrayList<>();
+
+    CompletableFuture<String> response = policy.execute(() -> {
+      CompletableFuture<String> request = new CompletableFuture<>();
+      synchronized (requests) {
+        requests.add(request);
+        if (requests.size() == 2) {
+          request.complete("hedged");
+        }
+      }
+      return request;
+    });
+
+    assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("hedged");
+    assertThat(requests).hasSize(2);
+    assertThat(requests.get(0).isCancelled()).isTrue();
+  }
+
+  @Test
+  public void shouldNotExceedBudget() throws Exception {
+    // 10% budget, requests never respond on their own
+    HedgingPolicy policy = new HedgingPolicy(95, 0, 10);
+    AtomicInteger requests = new AtomicInteger();
+    List<CompletableFuture<String>> responses = new ArrayList<>();
+
+    for (int i = 0; i < 30; i++) {
+      responses.add(policy.execute(() -> {
+        requests.incrementAndGet();
+        return new CompletableFuture<>();
+      }));
+      Thread.sleep(5);
+    }
+    Thread.sleep(100);
+
+    assertThat(requests.get()).isEqualTo(33);
+    responses.forEach(response -> response.cancel(true));
+  }
+
+  @Test
+  public void shouldWaitForHedgedRequestWhenFirstFails() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 10, 100);
+    AtomicInteger requests = new AtomicInteger();
+    CompletableFuture<String> first = new CompletableFuture<>();
+
+    CompletableFuture<String> response = policy.execute(() -> {
+      if (requests.incrementAndGet() == 1) {
+        return first;
+      }
+      first.completeExceptionally(new IllegalStateException("failed"));
+      return CompletableFuture.supplyAsync(() -> "hedged");
+    });
+
+    assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("hedged");
+  }
+
+  @Test
+  public void shouldFailWhenOnlyRequestFails() {
+    HedgingPolicy policy = new HedgingPolicy();
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("failed"));
+
+    CompletableFuture<String> response = policy.execute(() -> failed);
+
+    assertThat(response.isCompletedExceptionally()).isTrue();
+  }
+
+  @Test
+  public void shouldWaitForHedgedRequestWhenFirstRespondsWithFailure() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 10, 100);
+    AtomicInteger requests = new AtomicInteger();
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+
+    CompletableFuture<String> response = policy.execute(() -> {
+      if (requests.incrementAndGet() == 1) {
+        return first;
+      }
+      return second;
+    }, "error"::equals);
+    while (requests.get() < 2) {
+      Thread.sleep(5);
+    }
+    first.complete("error");
+
+    assertThat(response.isDone()).isFalse();
+    second.complete("hedged");
+    assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("hedged");
+  }
+
+  @Test
+  public void shouldRespondWithFailureWhenNoOtherRequestRuns() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(95, 1000, 100);
+
+    CompletableFuture<String> response = policy.execute(() -> CompletableFuture.completedFuture("error"), "error"::equals);
+
+    assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("error");
+  }
+
+  @Test
+  public void shouldRecordLatencyOfCancelledRequests() throws Exception {
+    // every request but the hedged one hangs, so only cancelled requests tell how slow they are
+    HedgingPolicy policy = new HedgingPolicy(95, 20, 100);
+
+    for (int i = 0; i < 50; i++) {
+      AtomicInteger requests = new AtomicInteger();
+      policy.execute(() -> requests.incrementAndGet() == 1
+        ? new CompletableFuture<>()
+        : CompletableFuture.completedFuture("hedged")).get(5, TimeUnit.SECONDS);
+    }
+
+    // hedged requests respond immediately, without the cancelled ones the delay would drop to 0
+    assertThat(policy.getDelayMillis()).isGreaterThanOrEqualTo(10);
+  }
+
+  @Test
+  public void shouldFollowObservedLatencies() {
+    HedgingPolicy policy = new HedgingPolicy(50, 1000, 10);
+
+    for (int i = 0; i < 100; i++) {
+      policy.execute(() -> CompletableFuture.completedFuture("fast")).join();
+    }
+
+    assertThat(policy.getDelayMillis()).isLessThan(1000);
+  }
+
+  @Test
+  public void shouldValidatePercentile() {
+    assertThatThrownBy(() -> new HedgingPolicy(0, 10, 10)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,196 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.v1.schema.model.DataType;
+import io.weaviate.client.v1.schema.model.Property;
+import io.weaviate.client.v1.schema.model.Schema;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaCacheTest {
+
+  private AtomicInteger fetches;
+  private SchemaCache cache;
+
+  @Before
+  public void before() {
+    fetches = new AtomicInteger();
+    cache = new SchemaCache(60_000, 0);
+    cache.setSchemaSource(() -> {
+      fetches.incrementAndGet();
+      return schema();
+    });
+  }
+
+  @Test
+  public void shouldFetchSchemaOnceWithinTtl() {
+    assertThat(cache.getFreshSchema()).isNull();
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(cache.getClass("pizza")).isNotNull();
+      assertThat(cache.getSchema().getClasses()).hasSize(1);
+    }
+
+    assertThat(fetches.get()).isEqualTo(1);
+    assertThat(cache.getFreshClass("Pizza")).isNotNull();
+    assertThat(cache.getClass("Soup")).isNull();
+  }
+
+  @Test
+  public void shouldFetchSchemaAgainOnceInvalidated() {
+    cache.getSchema();
+    cache.invalidate();
+
+    assertThat(cache.getFreshSchema()).isNull();
+    assertThat(cache.getSchema()).isNotNull();
+    assertThat(fetches.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldFetchSchemaAgainOnceExpired() throws InterruptedException {
+    SchemaCache expiring = new SchemaCache(10, 0);
+    expiring.setSchemaSource(() -> {
+      fetches.incrementAndGet();
+      return schema();
+    });
+
+    expiring.getSchema();
+    Thread.sleep(20);
+    expiring.getSchema();
+
+    assertThat(fetches.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotConsiderSchemaFetchedBeforeInvalidationFresh() {
+    SchemaCache racing = new SchemaCache(60_000, 0);
+    racing.setSchemaSource(() -> {
+      fetches.incrementAndGet();
+      // schema changed while it was being fetched
+      racing.invalidate();
+      return schema();
+    });
+
+    racing.getSchema();
+
+    assertThat(racing.getFreshSchema()).isNull();
+    racing.getSchema();
+    assertThat(fetches.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotJoinFetchStartedBeforeInvalidation() throws Exception {
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch releaseFetch = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    SchemaCache racing = new SchemaCache(60_000, 0);
+    racing.setSchemaSource(() -> {
+      if (calls.incrementAndGet() == 1) {
+        // background fetch, returns the schema from before the update
+        fetchStarted.countDown();
+        await(releaseFetch);
+        return schema();
+      }
+      return Schema.builder().classes(Collections.emptyList()).build();
+    });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Schema> stale = executor.submit(racing::getSchema);
+      assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // class updated (and cache invalidated) while the fetch is in flight
+      racing.invalidate();
+      Future<Schema> fresh = CompletableFuture.supplyAsync(racing::getSchema);
+      assertThat(fresh.get(5, TimeUnit.SECONDS).getClasses()).isEmpty();
+
+      releaseFetch.countDown();
+      assertThat(stale.get(5, TimeUnit.SECONDS).getClasses()).hasSize(1);
+      assertThat(racing.getSchema().getClasses()).isEmpty();
+    } finally {
+      releaseFetch.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldKeepSchemaUnknownIfNotFetched() {
+    SchemaCache failing = new SchemaCache(60_000, 0);
+    failing.setSchemaSource(() -> null);
+
+    assertThat(failing.getSchema()).isNull();
+    assertThat(failing.getClass("Pizza")).isNull();
+    assertThat(failing.getDataType("Pizza", "prices")).isNull();
+  }
+
+  @Test
+  public void shouldReturnDataTypeOfProperty() {
+    assertThat(cache.getDataType("Pizza", "prices")).isEqualTo(DataType.NUMBER_ARRAY);
+    assertThat(cache.getDataType("Pizza", "slices")).isEqualTo(DataType.INT_ARRAY);
+    assertThat(cache.getDataType("Pizza", "toppings")).isNull();
+    assertThat(cache.getDataType("Soup", "prices")).isNull();
+  }
+
+  @Test
+  public void shouldKeepSourceSetByAnotherClientWhenRemovingSource() {
+    Supplier<Schema> closed = () -> null;
+    SchemaCache shared = new SchemaCache(60_000, 0);
+    shared.setSchemaSource(closed);
+    shared.setSchemaSource(() -> {
+      fetches.incrementAndGet();
+      return schema();
+    });
+
+    shared.removeSchemaSource(closed);
+
+    assertThat(shared.getClass("Pizza")).isNotNull();
+    assertThat(fetches.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotFetchOnceSourceRemoved() {
+    Supplier<Schema> source = () -> {
+      fetches.incrementAndGet();
+      return schema();
+    };
+    SchemaCache removed = new SchemaCache(60_000, 0);
+    removed.setSchemaSource(source);
+
+    removed.removeSchemaSource(source);
+
+    assertThat(removed.getSchema()).isNull();
+    assertThat(fetches.get()).isZero();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Schema schema() {
+    return Schema.builder()
+      .classes(Collections.singletonList(WeaviateClass.builder()
+        .className("Pizza")
+        .properties(Arrays.asList(
+          Property.builder().name("prices").dataType(Collections.singletonList(DataType.NUMBER_ARRAY)).build(),
+          Property.builder().name("slices").dataType(Collections.singletonList(DataType.INT_ARRAY)).build()
+        ))
+        .build()))
+      .build();
+  }
+}
@@ -0,0 +1,142 @@
+package io.weaviate.client.base.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingleFlightTest {
+
+  @Test
+  public void shouldExecuteConcurrentCallsWithSameKeyOnce() throws Exception {
+    SingleFlight singleFlight = new SingleFlight();
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+        executions.incrementAndGet();
+        started.countDown();
+        await(release);
+        return "result";
+      }));
+      started.await(5, TimeUnit.SECONDS);
+
+      List<Future<String>> followers = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+          executions.incrementAndGet();
+          return "other";
+        })));
+      }
+      // let followers register themselves
+      Thread.sleep(100);
+      release.countDown();
+
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+      for (Future<String> follower : followers) {
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+      }
+      assertThat(executions.get()).isEqualTo(1);
+      assertThat(singleFlight.size()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldExecuteAgainOnceCallCompleted() {
+    SingleFlight singleFlight = new SingleFlight();
+    AtomicInteger executions = new AtomicInteger();
+
+    singleFlight.execute("key", executions::incrementAndGet);
+    singleFlight.execute("key", executions::incrementAndGet);
+
+    assertThat(executions.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotCoalesceDifferentKeys() {
+    SingleFlight singleFlight = new SingleFlight();
+
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+    CompletableFuture<String> firstResult = singleFlight.executeAsync("first", () -> first);
+    CompletableFuture<String> secondResult = singleFlight.executeAsync("second", () -> second);
+    first.complete("1");
+    second.complete("2");
+
+    assertThat(firstResult.join()).isEqualTo("1");
+    assertThat(secondResult.join()).isEqualTo("2");
+  }
+
+  @Test
+  public void shouldShareAsyncCall() {
+    SingleFlight singleFlight = new SingleFlight();
+    AtomicInteger executions = new AtomicInteger();
+    CompletableFuture<String> call = new CompletableFuture<>();
+
+    CompletableFuture<String> leader = singleFlight.executeAsync("key", () -> {
+      executions.incrementAndGet();
+      return call;
+    });
+    CompletableFuture<String> follower = singleFlight.executeAsync("key", () -> {
+      executions.incrementAndGet();
+      return CompletableFuture.completedFuture("other");
+    });
+    assertThat(singleFlight.size()).isEqualTo(1);
+
+    call.complete("result");
+
+    assertThat(leader.join()).isEqualTo("result");
+    assertThat(follower.join()).isEqualTo("result");
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(singleFlight.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotCancelSharedCallWhenFollowerCancels() {
+    SingleFlight singleFlight = new SingleFlight();
+    CompletableFuture<String> call = new CompletableFuture<>();
+
+    CompletableFuture<String> leader = singleFlight.executeAsync("key", () -> call);
+    CompletableFuture<String> follower = singleFlight.executeAsync("key", () -> call);
+    follower.cancel(true);
+    call.complete("result");
+
+    assertThat(follower.isCancelled()).isTrue();
+    assertThat(leader.join()).isEqualTo("result");
+  }
+
+  @Test
+  public void shouldPropagateFailureToAllCallers() {
+    SingleFlight singleFlight = new SingleFlight();
+    CompletableFuture<String> call = new CompletableFuture<>();
+
+    CompletableFuture<String> leader = singleFlight.executeAsync("key", () -> call);
+    CompletableFuture<String> follower = singleFlight.executeAsync("key", () -> call);
+    call.completeExceptionally(new IllegalStateException("failed"));
+
+    assertThat(leader.isCompletedExceptionally()).isTrue();
+    assertThat(follower.isCompletedExceptionally()).isTrue();
+    assertThat(singleFlight.size()).isZero();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
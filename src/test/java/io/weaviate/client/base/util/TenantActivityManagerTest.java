@@ -0,0 +1,158 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.v1.schema.model.ActivityStatus;
+import io.weaviate.client.v1.schema.model.Tenant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TenantActivityManagerTest {
+
+  private AtomicInteger fetches;
+  private List<Tenant[]> updates;
+  private TenantActivityManager manager;
+
+  @Before
+  public void before() {
+    fetches = new AtomicInteger();
+    updates = new CopyOnWriteArrayList<>();
+    manager = new TenantActivityManager(5, 20);
+    manager.setTenantsSource(new TenantActivityManager.TenantsSource() {
+      @Override
+      public Tenant[] getTenants(String className) {
+        fetches.incrementAndGet();
+        return new Tenant[]{
+          tenant("tenantA", ActivityStatus.COLD),
+          tenant("tenantB", ActivityStatus.FROZEN),
+          tenant("tenantC", ActivityStatus.HOT),
+        };
+      }
+
+      @Override
+      public boolean updateTenants(String className, Tenant[] tenants) {
+        updates.add(tenants);
+        return true;
+      }
+    });
+  }
+
+  @Test
+  public void shouldActivateInactiveTenantsOnceWithSingleRequest() {
+    List<CompletableFuture<Void>> activations = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      activations.add(manager.activate("Pizza", "tenantA"));
+      activations.add(manager.activate("Pizza", "tenantB"));
+      activations.add(manager.activate("pizza", "tenantC"));
+    }
+    CompletableFuture.allOf(activations.toArray(new CompletableFuture[0])).join();
+
+    assertThat(fetches.get()).isEqualTo(1);
+    assertThat(updates).hasSize(1);
+    assertThat(updates.get(0)).containsExactlyInAnyOrder(
+      tenant("tenantA", ActivityStatus.HOT),
+      tenant("tenantB", ActivityStatus.HOT)
+    );
+    assertThat(manager.statuses("Pizza"))
+      .containsEntry("tenantA", ActivityStatus.HOT)
+      .containsEntry("tenantB", ActivityStatus.HOT);
+  }
+
+  @Test
+  public void shouldNotActivateActiveTenant() {
+    manager.activate("Pizza", "tenantC").join();
+    manager.activate("Pizza", "tenantD").join();
+
+    assertThat(updates).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreRequestsNotTargetingTenant() {
+    manager.activate("Pizza", null).join();
+    manager.activate(null, "tenantA").join();
+
+    assertThat(fetches.get()).isZero();
+  }
+
+  @Test
+  public void shouldDeactivateIdleTenantsUsedByClient() throws Exception {
+    manager.activate("Pizza", "tenantC").join();
+    Thread.sleep(20);
+
+    manager.deactivateIdle();
+
+    assertThat(updates).hasSize(1);
+    assertThat(updates.get(0)).containsExactly(tenant("tenantC", ActivityStatus.COLD));
+    assertThat(manager.statuses("Pizza")).containsEntry("tenantC", ActivityStatus.COLD);
+
+    manager.activate("Pizza", "tenantC").join();
+
+    assertThat(updates).hasSize(2);
+    assertThat(updates.get(1)).containsExactly(tenant("tenantC", ActivityStatus.HOT));
+  }
+
+  @Test
+  public void shouldActivateTenantUsedWhileBeingDeactivatedAfterDeactivation() throws Exception {
+    List<CompletableFuture<Void>> activations = new ArrayList<>();
+    TenantActivityManager racing = new TenantActivityManager(5, 20);
+    racing.setTenantsSource(new TenantActivityManager.TenantsSource() {
+      @Override
+      public Tenant[] getTenants(String className) {
+        return new Tenant[]{tenant("tenantC", ActivityStatus.HOT)};
+      }
+
+      @Override
+      public boolean updateTenants(String className, Tenant[] tenants) {
+        if (activations.isEmpty()) {
+          // query arriving while the deactivation is on its way
+          activations.add(racing.activate("Pizza", "tenantC"));
+        }
+        updates.add(tenants);
+        return true;
+      }
+    });
+    racing.activate("Pizza", "tenantC").join();
+    Thread.sleep(20);
+
+    racing.deactivateIdle();
+    activations.get(0).join();
+
+    assertThat(updates).hasSize(2);
+    assertThat(updates.get(0)).containsExactly(tenant("tenantC", ActivityStatus.COLD));
+    assertThat(updates.get(1)).containsExactly(tenant("tenantC", ActivityStatus.HOT));
+    assertThat(racing.statuses("Pizza")).containsEntry("tenantC", ActivityStatus.HOT);
+  }
+
+  @Test
+  public void shouldNotDeactivateTenantsByDefault() throws Exception {
+    TenantActivityManager defaults = new TenantActivityManager();
+    defaults.setTenantsSource(new TenantActivityManager.TenantsSource() {
+      @Override
+      public Tenant[] getTenants(String className) {
+        return new Tenant[]{tenant("tenantC", ActivityStatus.HOT)};
+      }
+
+      @Override
+      public boolean updateTenants(String className, Tenant[] tenants) {
+        updates.add(tenants);
+        return true;
+      }
+    });
+    defaults.activate("Pizza", "tenantC").join();
+    Thread.sleep(20);
+
+    defaults.deactivateIdle();
+
+    assertThat(updates).isEmpty();
+    defaults.shutdown();
+  }
+
+  private static Tenant tenant(String name, String activityStatus) {
+    return Tenant.builder().name(name).activityStatus(activityStatus).build();
+  }
+}
@@ -0,0 +1,38 @@
+package io.weaviate.client.base.util;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransientErrorsTest {
+
+  @Test
+  public void shouldRetryOnlyTransientErrors() {
+    assertThat(TransientErrors.isTransient(new Result<>(200, true, null))).isFalse();
+    assertThat(TransientErrors.isTransient(error(422, "invalid status"))).isFalse();
+    assertThat(TransientErrors.isTransient(error(0, "connection refused"))).isTrue();
+    assertThat(TransientErrors.isTransient(error(429, "too many requests"))).isTrue();
+    assertThat(TransientErrors.isTransient(error(503, "unavailable"))).isTrue();
+  }
+
+  @Test
+  public void shouldRecognizeFailuresToConnect() {
+    assertThat(TransientErrors.isConnectionFailure(new ConnectException("connection refused"))).isTrue();
+    assertThat(TransientErrors.isConnectionFailure(new IOException(new UnknownHostException("weaviate-2")))).isTrue();
+    assertThat(TransientErrors.isConnectionFailure(new SocketTimeoutException("read timed out"))).isFalse();
+    assertThat(TransientErrors.isConnectionFailure(new IOException("connection reset"))).isFalse();
+  }
+
+  private static Result<Boolean> error(int statusCode, String message) {
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(message).build();
+    return new Result<>(statusCode, false, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+}
@@ -0,0 +1,133 @@
+package io.weaviate.client.v1.async.reactive;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CursorPublisherTest {
+
+  @Test
+  public void shouldFetchNextPageOnlyOnDemand() {
+    List<String> fetchedAfter = new ArrayList<>();
+    CursorPublisher publisher = new CursorPublisher(after -> {
+      fetchedAfter.add(after);
+      return CompletableFuture.completedFuture(page(after));
+    });
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+    assertThat(subscriber.ids()).containsExactly("1", "2");
+    assertThat(fetchedAfter).containsExactly((String) null);
+
+    subscriber.subscription.request(3);
+    assertThat(subscriber.ids()).containsExactly("1", "2", "3", "4", "5");
+    assertThat(fetchedAfter).containsExactly(null, "3");
+    assertThat(subscriber.completed).isFalse();
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertThat(subscriber.ids()).containsExactly("1", "2", "3", "4", "5", "6", "7");
+    assertThat(fetchedAfter).containsExactly(null, "3", "6", "7");
+    assertThat(subscriber.completed).isTrue();
+    assertThat(subscriber.error).isNull();
+  }
+
+  @Test
+  public void shouldSignalErrorResult() {
+    CursorPublisher publisher = new CursorPublisher(after -> CompletableFuture.completedFuture(
+      new Result<>(500, null, WeaviateErrorResponse.builder()
+        .error(Collections.singletonList(WeaviateErrorMessage.builder().message("boom").build()))
+        .build())));
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.error).isInstanceOf(WeaviateErrorException.class).hasMessageContaining("boom");
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  public void shouldStopOnCancel() {
+    List<String> fetchedAfter = new ArrayList<>();
+    CursorPublisher publisher = new CursorPublisher(after -> {
+      fetchedAfter.add(after);
+      return CompletableFuture.completedFuture(page(after));
+    });
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(10);
+
+    assertThat(subscriber.ids()).containsExactly("1");
+    assertThat(fetchedAfter).containsExactly((String) null);
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  public void shouldRejectNonPositiveRequest() {
+    CursorPublisher publisher = new CursorPublisher(after -> CompletableFuture.completedFuture(page(after)));
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // 7 objects with ids 1..7, in pages of 3
+  private static Result<List<WeaviateObject>> page(String after) {
+    int first = after == null ? 1 : Integer.parseInt(after) + 1;
+    List<WeaviateObject> objects = Arrays.asList(1, 2, 3, 4, 5, 6, 7).stream()
+      .filter(id -> id >= first)
+      .limit(3)
+      .map(id -> WeaviateObject.builder().id(String.valueOf(id)).className("Pizza").build())
+      .collect(Collectors.toList());
+    return new Result<>(200, objects, null);
+  }
+
+  private static class RecordingSubscriber implements Subscriber<WeaviateObject> {
+    private final List<WeaviateObject> objects = new ArrayList<>();
+    private Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(WeaviateObject object) {
+      objects.add(object);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+
+    private List<String> ids() {
+      return objects.stream().map(WeaviateObject::getId).collect(Collectors.toList());
+    }
+  }
+}
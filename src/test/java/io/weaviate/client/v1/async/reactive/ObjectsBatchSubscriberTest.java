@@ -0,0 +1,161 @@
+package io.weaviate.client.v1.async.reactive;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ObjectsBatchSubscriberTest {
+
+  private List<List<WeaviateObject>> batches;
+  private List<CompletableFuture<Result<ObjectGetResponse[]>>> imports;
+  private List<Result<ObjectGetResponse[]>> results;
+  private AtomicLong requested;
+  private boolean[] cancelled;
+  private ObjectsBatchSubscriber subscriber;
+
+  @Before
+  public void before() {
+    batches = new ArrayList<>();
+    imports = new ArrayList<>();
+    results = new ArrayList<>();
+    requested = new AtomicLong();
+    cancelled = new boolean[1];
+    subscriber = new ObjectsBatchSubscriber(batch -> {
+      CompletableFuture<Result<ObjectGetResponse[]>> future = new CompletableFuture<>();
+      batches.add(batch);
+      imports.add(future);
+      return future;
+    }, 2, 2, results::add);
+    subscriber.onSubscribe(new Subscription() {
+      @Override
+      public void request(long n) {
+        requested.addAndGet(n);
+      }
+
+      @Override
+      public void cancel() {
+        cancelled[0] = true;
+      }
+    });
+  }
+
+  @Test
+  public void shouldRequestMoreOnlyOnceBatchIsImported() {
+    assertThat(requested.get()).isEqualTo(4);
+
+    for (int i = 0; i < 4; i++) {
+      subscriber.onNext(object(i));
+    }
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(0)).extracting(WeaviateObject::getId).containsExactly("0", "1");
+    assertThat(requested.get()).isEqualTo(4);
+
+    imports.get(0).complete(new Result<>(200, new ObjectGetResponse[0], null));
+    assertThat(requested.get()).isEqualTo(6);
+    assertThat(results).hasSize(1);
+  }
+
+  @Test
+  public void shouldCompleteOnceAllBatchesAreImported() {
+    subscriber.onNext(object(0));
+    subscriber.onNext(object(1));
+    subscriber.onNext(object(2));
+    subscriber.onComplete();
+
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(1)).extracting(WeaviateObject::getId).containsExactly("2");
+    assertThat(subscriber.getCompletion()).isNotDone();
+
+    imports.get(1).complete(new Result<>(200, new ObjectGetResponse[0], null));
+    assertThat(subscriber.getCompletion()).isNotDone();
+    imports.get(0).complete(new Result<>(200, new ObjectGetResponse[0], null));
+    assertThat(subscriber.getCompletion()).isCompleted();
+    assertThat(results).hasSize(2);
+  }
+
+  @Test
+  public void shouldCancelOnFailedImport() {
+    subscriber.onNext(object(0));
+    subscriber.onNext(object(1));
+
+    imports.get(0).completeExceptionally(new IllegalStateException("connection refused"));
+
+    assertThat(cancelled[0]).isTrue();
+    assertThat(subscriber.getCompletion()).isCompletedExceptionally();
+    assertThat(requested.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldRunCallbackOfLastBatchBeforeCompletion() {
+    List<Boolean> completedBeforeCallback = new ArrayList<>();
+    ObjectsBatchSubscriber[] holder = new ObjectsBatchSubscriber[1];
+    AtomicLong requestedAfterCompletion = new AtomicLong();
+    holder[0] = new ObjectsBatchSubscriber(batch -> {
+      CompletableFuture<Result<ObjectGetResponse[]>> future = new CompletableFuture<>();
+      imports.add(future);
+      return future;
+    }, 2, 2, result -> completedBeforeCallback.add(holder[0].getCompletion().isDone()));
+    holder[0].onSubscribe(new Subscription() {
+      @Override
+      public void request(long n) {
+        if (holder[0].getCompletion().isDone()) {
+          requestedAfterCompletion.addAndGet(n);
+        }
+      }
+
+      @Override
+      public void cancel() {
+      }
+    });
+    holder[0].onNext(object(0));
+    holder[0].onComplete();
+
+    imports.get(0).complete(new Result<>(200, new ObjectGetResponse[0], null));
+
+    assertThat(completedBeforeCallback).containsExactly(false);
+    assertThat(holder[0].getCompletion()).isCompleted();
+    assertThat(requestedAfterCompletion.get()).isZero();
+  }
+
+  @Test
+  public void shouldFailCompletionWhenCallbackThrows() {
+    ObjectsBatchSubscriber subscriber = new ObjectsBatchSubscriber(batch -> {
+      CompletableFuture<Result<ObjectGetResponse[]>> future = new CompletableFuture<>();
+      imports.add(future);
+      return future;
+    }, 2, 2, result -> {
+      throw new IllegalStateException("callback failed");
+    });
+    subscriber.onSubscribe(new Subscription() {
+      @Override
+      public void request(long n) {
+        requested.addAndGet(n);
+      }
+
+      @Override
+      public void cancel() {
+        cancelled[0] = true;
+      }
+    });
+    subscriber.onNext(object(0));
+    subscriber.onNext(object(1));
+
+    imports.get(0).complete(new Result<>(200, new ObjectGetResponse[0], null));
+
+    assertThat(subscriber.getCompletion()).isCompletedExceptionally();
+    assertThat(cancelled[0]).isTrue();
+  }
+
+  private static WeaviateObject object(int id) {
+    return WeaviateObject.builder().id(String.valueOf(id)).className("Pizza").build();
+  }
+}
@@ -0,0 +1,64 @@
+package io.weaviate.client.v1.auth.provider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenRefresherTest {
+
+  @Test
+  public void shouldRenewBeforeExpiryWithJitter() {
+    TokenRefresher tokenRefresher = new TokenRefresher("token", 100, 0.8, () -> "new-token");
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(tokenRefresher.refreshDelayMillis()).isBetween(72_000L, 80_000L);
+    }
+  }
+
+  @Test
+  public void shouldUseDefaultFractionIfInvalid() {
+    TokenRefresher tokenRefresher = new TokenRefresher("token", 100, 0, () -> "new-token");
+
+    assertThat(tokenRefresher.refreshDelayMillis()).isBetween(72_000L, 80_000L);
+  }
+
+  @Test
+  public void shouldRenewToken() throws Exception {
+    AtomicInteger renewals = new AtomicInteger();
+    TokenRefresher tokenRefresher = new TokenRefresher("token", 1, 0.2, () -> "token-" + renewals.incrementAndGet());
+    tokenRefresher.start();
+    try {
+      assertThat(tokenRefresher.getAccessToken()).isEqualTo("token");
+      awaitToken(tokenRefresher, "token-1");
+    } finally {
+      tokenRefresher.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldRetryFailedRenewal() throws Exception {
+    AtomicInteger attempts = new AtomicInteger();
+    TokenRefresher tokenRefresher = new TokenRefresher("token", 10, 0.01, () -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new RuntimeException("identity provider unavailable");
+      }
+      return "new-token";
+    });
+    tokenRefresher.start();
+    try {
+      awaitToken(tokenRefresher, "new-token");
+      assertThat(attempts.get()).isGreaterThanOrEqualTo(2);
+    } finally {
+      tokenRefresher.shutdown();
+    }
+  }
+
+  private static void awaitToken(TokenRefresher tokenRefresher, String expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!expected.equals(tokenRefresher.getAccessToken()) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(tokenRefresher.getAccessToken()).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,147 @@
+package io.weaviate.client.v1.batch.grpc;
+
+import io.weaviate.client.base.util.DbVersionProvider;
+import io.weaviate.client.base.util.GrpcVersionSupport;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.schema.model.DataType;
+import io.weaviate.client.v1.schema.model.Property;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyEncodersTest {
+
+  private static final String BEACON = "weaviate://localhost/Topping/00000000-0000-0000-0000-000000000001";
+
+  @Test
+  public void shouldEncodePropertiesSameAsGenericConversion() {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("name", "Margherita");
+    properties.put("price", 9.5);
+    properties.put("vegetarian", true);
+    properties.put("tags", new String[]{"classic", "cheese"});
+    properties.put("slices", new Integer[]{4, 8});
+    properties.put("toppings", Collections.singletonList(Collections.singletonMap("beacon", BEACON)));
+    Map<String, Object> dough = new HashMap<>();
+    dough.put("flour", "00");
+    dough.put("hydration", 65);
+    properties.put("dough", dough);
+
+    assertThat(encode("1.21.0", properties)).isEqualTo(convert("1.21.0", properties));
+  }
+
+  @Test
+  public void shouldEncodeNumbersAsDataTypeOfProperty() {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("prices", new Integer[]{10, 12});
+    properties.put("slices", new Long[]{4L, 8L});
+
+    WeaviateProtoBatch.BatchObject.Properties encoded = encode("1.21.0", properties);
+
+    assertThat(encoded.getNumberArrayPropertiesList()).singleElement()
+      .satisfies(prop -> {
+        assertThat(prop.getPropName()).isEqualTo("prices");
+        assertThat(prop.getValuesList()).containsExactly(10.0, 12.0);
+      });
+    assertThat(encoded.getIntArrayPropertiesList()).singleElement()
+      .satisfies(prop -> {
+        assertThat(prop.getPropName()).isEqualTo("slices");
+        assertThat(prop.getValuesList()).containsExactly(4L, 8L);
+      });
+  }
+
+  @Test
+  public void shouldEncodeNumberArraysAsBytesIfSupported() {
+    Map<String, Object> properties = Collections.singletonMap("prices", new Double[]{1.5, 2.5});
+
+    WeaviateProtoBase.NumberArrayProperties prices = encode("1.25.0", properties).getNumberArrayProperties(0);
+
+    ByteBuffer expected = ByteBuffer.allocate(2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).putDouble(1.5).putDouble(2.5);
+    assertThat(prices.getValuesBytes().toByteArray()).isEqualTo(expected.array());
+    assertThat(prices.getValuesList()).isEmpty();
+  }
+
+  @Test
+  public void shouldConvertPropertiesNotMatchingSchemaGenerically() {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("name", "Margherita");
+    // not defined in the schema
+    properties.put("origin", "Naples");
+    // does not match data type
+    properties.put("price", "cheap");
+    Map<String, Object> dough = new HashMap<>();
+    dough.put("flour", "00");
+    // not defined in the schema of nested object
+    dough.put("yeast", "fresh");
+    properties.put("dough", dough);
+
+    assertThat(encode("1.21.0", properties)).isEqualTo(convert("1.21.0", properties));
+  }
+
+  @Test
+  public void shouldConvertFractionsOfIntPropertiesGenerically() {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("slices", new Double[]{1.7, 8.0});
+    properties.put("dough", Collections.singletonMap("hydration", 65.5f));
+
+    WeaviateProtoBatch.BatchObject.Properties encoded = encode("1.21.0", properties);
+
+    assertThat(encoded.getIntArrayPropertiesList()).isEmpty();
+    assertThat(encoded).isEqualTo(convert("1.21.0", properties));
+  }
+
+  private static WeaviateProtoBatch.BatchObject.Properties encode(String version, Map<String, Object> properties) {
+    PropertyEncoders encoders = new PropertyEncoders(null);
+    encoders.register(pizza());
+    return new BatchObjectConverter(grpcVersionSupport(version), encoders).toBatchObject(object(properties)).getProperties();
+  }
+
+  private static WeaviateProtoBatch.BatchObject.Properties convert(String version, Map<String, Object> properties) {
+    return new BatchObjectConverter(grpcVersionSupport(version)).toBatchObject(object(properties)).getProperties();
+  }
+
+  private static WeaviateObject object(Map<String, Object> properties) {
+    return WeaviateObject.builder().className("Pizza").properties(properties).build();
+  }
+
+  private static GrpcVersionSupport grpcVersionSupport(String version) {
+    return new GrpcVersionSupport(new DbVersionProvider(() -> Optional.of(version)));
+  }
+
+  private static WeaviateClass pizza() {
+    return WeaviateClass.builder()
+      .className("Pizza")
+      .properties(Arrays.asList(
+        property("name", DataType.TEXT),
+        property("price", DataType.NUMBER),
+        property("vegetarian", DataType.BOOLEAN),
+        property("tags", DataType.TEXT_ARRAY),
+        property("slices", DataType.INT_ARRAY),
+        property("prices", DataType.NUMBER_ARRAY),
+        property("toppings", "Topping"),
+        Property.builder()
+          .name("dough")
+          .dataType(Collections.singletonList(DataType.OBJECT))
+          .nestedProperties(Arrays.asList(
+            Property.NestedProperty.builder().name("flour").dataType(Collections.singletonList(DataType.TEXT)).build(),
+            Property.NestedProperty.builder().name("hydration").dataType(Collections.singletonList(DataType.INT)).build()
+          ))
+          .build()
+      ))
+      .build();
+  }
+
+  private static Property property(String name, String dataType) {
+    return Property.builder().name(name).dataType(Collections.singletonList(dataType)).build();
+  }
+}
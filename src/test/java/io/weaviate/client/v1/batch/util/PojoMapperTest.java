@@ -0,0 +1,88 @@
+package io.weaviate.client.v1.batch.util;
+
+import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+public class PojoMapperTest {
+
+  @Test
+  public void shouldMapFieldsToProperties() {
+    Pizza pizza = new Pizza();
+
+    WeaviateObject object = PojoMapper.of(Pizza.class).toObject("Pizza", pizza);
+
+    assertThat(object.getClassName()).isEqualTo("Pizza");
+    assertThat(object.getId()).isEqualTo("00000000-0000-0000-0000-000000000001");
+    Map<String, Object> properties = object.getProperties();
+    assertThat(properties).containsOnlyKeys("title", "price", "vegetarian", "slices", "tags", "prices",
+      "size", "baked", "dough", "doughs");
+    assertThat(properties)
+      .containsEntry("title", "Margherita")
+      .containsEntry("price", 9.5)
+      .containsEntry("vegetarian", true)
+      .containsEntry("size", "LARGE")
+      .containsEntry("baked", "1970-01-01T00:00:00Z");
+    assertThat(properties.get("slices")).isEqualTo(new Integer[]{4, 8});
+    assertThat(properties.get("tags")).isEqualTo(new String[]{"classic", "cheese"});
+    assertThat(properties.get("prices")).isEqualTo(new Double[]{9.5, 11.0});
+    assertThat(properties.get("dough")).asInstanceOf(MAP)
+      .containsEntry("flour", "00")
+      .containsEntry("hydration", 65);
+    assertThat((List<?>) properties.get("doughs")).hasSize(2);
+  }
+
+  @Test
+  public void shouldReadCurrentValuesOfFields() {
+    Pizza pizza = new Pizza();
+    Map<String, Object> properties = PojoMapper.of(Pizza.class).properties(pizza);
+
+    pizza.name = "Marinara";
+    pizza.dough = null;
+
+    assertThat(properties).containsEntry("title", "Marinara").doesNotContainKey("dough");
+  }
+
+  @Test
+  public void shouldCacheMapperOfClass() {
+    assertThat(PojoMapper.of(Pizza.class)).isSameAs(PojoMapper.of(Pizza.class));
+  }
+
+  private enum Size {
+    SMALL, LARGE
+  }
+
+  private static class Dough {
+    String flour = "00";
+    int hydration = 65;
+  }
+
+  private static class Identified {
+    UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  }
+
+  private static class Pizza extends Identified {
+    static int instances;
+    transient String cached = "ignored";
+    @SerializedName("title")
+    String name = "Margherita";
+    double price = 9.5;
+    boolean vegetarian = true;
+    int[] slices = {4, 8};
+    List<String> tags = Arrays.asList("classic", "cheese");
+    List<Double> prices = Arrays.asList(9.5, 11.0);
+    Size size = Size.LARGE;
+    Date baked = new Date(0);
+    Dough dough = new Dough();
+    List<Dough> doughs = Arrays.asList(new Dough(), new Dough());
+    String description;
+  }
+}
@@ -0,0 +1,26 @@
+package io.weaviate.client.v1.graphql.query;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.graphql.model.SearchHit;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import java.util.List;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FederatedSearchTest {
+
+  @Test
+  public void shouldReportInvalidSearchAsError() {
+    Result<List<SearchHit>> result = new FederatedSearch(null, new Config("http", "localhost:8080"))
+      .withTenants("tenantA", "tenantB")
+      .withNearVector(NearVectorArgument.builder().vector(new Float[]{1f}).build())
+      .run();
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getResult()).isNull();
+    assertThat(result.getError().getMessages()).extracting("message")
+      .containsExactly("className has to be given to search tenants");
+  }
+}
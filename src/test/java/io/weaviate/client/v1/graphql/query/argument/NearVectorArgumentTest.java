@@ -1,7 +1,9 @@
 package io.weaviate.client.v1.graphql.query.argument;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import org.junit.Test;
@@ -91,4 +93,21 @@ public class NearVectorArgumentTest {
 
     assertEquals("nearVector:{vectorPerTarget:{t1:[[1.0,2.0,3.0],[4.0,5.0,6.0]] t2:[0.1,0.2,0.3]} targets:{targetVectors:[\"t1\",\"t1\",\"t2\"]}}", got);
   }
+
+  @Test
+  public void testAppendToQueryBeingBuilt() {
+    // given
+    Float[] vector = new Float[1536];
+    for (int i = 0; i < vector.length; i++) {
+      vector[i] = i / 1536f;
+    }
+    NearVectorArgument nearVector = NearVectorArgument.builder().vector(vector).certainty(0.8f).build();
+    StringBuilder sb = new StringBuilder("{Get{Pizza(");
+    // when
+    nearVector.appendTo(sb);
+    // then
+    String expectedVector = Arrays.stream(vector).map(String::valueOf).collect(Collectors.joining(","));
+    assertEquals("{Get{Pizza(nearVector:{vector:[" + expectedVector + "] certainty:0.8}", sb.toString());
+    assertEquals(sb.substring("{Get{Pizza(".length()), nearVector.build());
+  }
 }
@@ -12,6 +12,7 @@ import java.util.Calendar;
 import java.util.TimeZone;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @RunWith(JParamsTestRunner.class)
 public class WhereArgumentTest {
@@ -434,4 +435,30 @@ public class WhereArgumentTest {
       },
     };
   }
+
+  @Test
+  public void testValueVariable() {
+    WhereArgument where = WhereArgument.builder()
+      .filter(WhereFilter.builder()
+        .path("price")
+        .operator(Operator.LessThan)
+        .valueVariable(Variable.number("price"))
+        .build())
+      .build();
+
+    assertThat(where.build()).isEqualTo("where:{path:[\"price\"] valueNumber:$price operator:LessThan}");
+  }
+
+  @Test
+  public void testVectorVariableRejected() {
+    WhereArgument where = WhereArgument.builder()
+      .filter(WhereFilter.builder()
+        .path("price")
+        .operator(Operator.Equal)
+        .valueVariable(Variable.vector("vector"))
+        .build())
+      .build();
+
+    assertThatThrownBy(where::build).isInstanceOf(IllegalArgumentException.class);
+  }
 }
@@ -11,12 +11,14 @@ import io.weaviate.client.v1.graphql.query.argument.NearObjectArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearThermalArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
 import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
 import io.weaviate.client.v1.graphql.query.fields.Field;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -458,4 +460,17 @@ public class AggregateBuilderTest {
 
     assertThat(query).isEqualTo("{Aggregate{PizzaImu(nearIMU:{imu:\"iVBORw0KGgoAAAANS\" distance:0.1}){meta{count}}}}");
   }
+
+  @Test
+  public void shouldRejectWhereFilterWithVariable() {
+    AggregateBuilder aggregate = AggregateBuilder.builder()
+      .className("Pizza")
+      .fields(Fields.builder().fields(Field.builder().name("meta").fields(Field.builder().name("count").build()).build()).build())
+      .withWhereFilter(WhereFilter.builder().path("name").operator(Operator.Equal).valueVariable(Variable.text("name")).build())
+      .build();
+
+    assertThatThrownBy(aggregate::buildQuery)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("name");
+  }
 }
@@ -0,0 +1,95 @@
+package io.weaviate.client.v1.graphql.query.builder;
+
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FederatedSearchBuilderTest {
+
+  private static final Fields NAME = Fields.builder()
+    .fields(new Field[]{Field.builder().name("name").build()})
+    .build();
+
+  @Test
+  public void shouldBuildQueryPerTenant() {
+    FederatedSearchBuilder search = FederatedSearchBuilder.builder()
+      .className("Pizza")
+      .tenants(new String[]{"tenantA", "tenantB"})
+      .fields(NAME)
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).build())
+      .limit(5)
+      .build();
+
+    assertThat(search.targetsCount()).isEqualTo(2);
+    assertThat(search.buildTarget(1, null).buildQuery())
+      .isEqualTo("{Get{Pizza(tenant:\"tenantB\" nearVector:{vector:[1.0,2.0]} limit:5){name _additional{id distance}}}}");
+  }
+
+  @Test
+  public void shouldBuildQueryPerClass() {
+    FederatedSearchBuilder search = FederatedSearchBuilder.builder()
+      .classNames(new String[]{"Pizza", "Soup"})
+      .fields(NAME)
+      .withHybridFilter(HybridArgument.builder().query("hot").build())
+      .build();
+
+    assertThat(search.targetsCount()).isEqualTo(2);
+    assertThat(search.targetClassName(1)).isEqualTo("Soup");
+    assertThat(search.targetTenant(1)).isNull();
+    assertThat(search.buildTarget(1, null).buildQuery())
+      .isEqualTo("{Get{Soup(hybrid:{query:\"hot\"} limit:10){name _additional{id score}}}}");
+  }
+
+  @Test
+  public void shouldApplyDistanceThreshold() {
+    FederatedSearchBuilder search = FederatedSearchBuilder.builder()
+      .className("Pizza")
+      .tenants(new String[]{"tenantA"})
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f}).distance(0.8f).build())
+      .limit(1)
+      .build();
+
+    assertThat(search.buildTarget(0, 0.3f).buildQuery())
+      .isEqualTo("{Get{Pizza(tenant:\"tenantA\" nearVector:{vector:[1.0] distance:0.3} limit:1){_additional{id distance}}}}");
+    assertThat(search.buildTarget(0, 0.9f).buildQuery())
+      .isEqualTo("{Get{Pizza(tenant:\"tenantA\" nearVector:{vector:[1.0] distance:0.8} limit:1){_additional{id distance}}}}");
+  }
+
+  @Test
+  public void shouldRequireSearchArgument() {
+    FederatedSearchBuilder search = FederatedSearchBuilder.builder().className("Pizza").build();
+
+    assertThatThrownBy(search::createCollector).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldRejectTenantsCombinedWithClassNames() {
+    FederatedSearchBuilder search = FederatedSearchBuilder.builder()
+      .className("Pizza")
+      .tenants(new String[]{"tenantA"})
+      .classNames(new String[]{"Pizza", "Soup"})
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f}).build())
+      .build();
+
+    assertThatThrownBy(search::createCollector)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("tenants and classNames");
+  }
+
+  @Test
+  public void shouldRequireClassNameOfTenants() {
+    FederatedSearchBuilder search = FederatedSearchBuilder.builder()
+      .tenants(new String[]{"tenantA"})
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f}).build())
+      .build();
+
+    assertThatThrownBy(search::createCollector)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("className");
+  }
+}
@@ -18,6 +18,7 @@ import io.weaviate.client.v1.graphql.query.argument.NearVideoArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArgument;
 import io.weaviate.client.v1.graphql.query.argument.SortArguments;
 import io.weaviate.client.v1.graphql.query.argument.SortOrder;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
 import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
 import io.weaviate.client.v1.graphql.query.fields.Field;
 import io.weaviate.client.v1.graphql.query.fields.Fields;
@@ -32,6 +33,7 @@ import java.io.InputStreamReader;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -781,4 +783,67 @@ public class GetBuilderTest {
 
     assertThat(query).isEqualTo("{Get{PizzaImu(nearIMU:{imu:\"iVBORw0KGgoAAAANS\" distance:0.1}){name}}}");
   }
+
+  @Test
+  public void testAppendSelectionSameAsBuildSelection() {
+    // given
+    Field name = Field.builder().name("name").build();
+    Field additional = Field.builder().name("_additional").fields(Field.builder().name("distance").build()).build();
+    GetBuilder get = GetBuilder.builder()
+      .className("Pizza")
+      .fields(Fields.builder().fields(name, additional).build())
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f, 2f, 3f}).build())
+      .limit(2)
+      .tenant("TenantA")
+      .build();
+    StringBuilder sb = new StringBuilder();
+    // when
+    get.appendSelection(sb, "q0");
+    // then
+    assertEquals("q0:Pizza(tenant:\"TenantA\" nearVector:{vector:[1.0,2.0,3.0]} limit:2){name _additional{distance}}", sb.toString());
+    assertEquals(get.buildSelection("q0"), sb.toString());
+    assertEquals("{Get{" + get.buildSelection(null) + "}}", get.buildQuery());
+  }
+
+  @Test
+  public void testBuildWithVariables() {
+    // given
+    WhereFilter where = WhereFilter.builder()
+      .operator(Operator.And)
+      .operands(
+        WhereFilter.builder().path("name").operator(Operator.Equal).valueVariable(Variable.text("name")).build(),
+        WhereFilter.builder().path("price").operator(Operator.LessThan).valueVariable(Variable.number("price")).build()
+      )
+      .build();
+    GetBuilder get = GetBuilder.builder()
+      .className("Pizza")
+      .fields(Fields.builder().fields(Field.builder().name("name").build()).build())
+      .withWhereFilter(WhereArgument.builder().filter(where).build())
+      .withNearVectorFilter(NearVectorArgument.builder().vector(Variable.vector("vector")).build())
+      .limit(Variable.integer("limit"))
+      .build();
+    // when
+    String query = get.buildQuery();
+    // then
+    assertThat(get.getVariables()).containsOnlyKeys("name", "price", "vector", "limit");
+    assertEquals("query($name:String,$price:Float,$vector:[Float],$limit:Int)" +
+      "{Get{Pizza(where:{operator:And operands:[" +
+      "{path:[\"name\"] valueText:$name operator:Equal}," +
+      "{path:[\"price\"] valueNumber:$price operator:LessThan}]} " +
+      "nearVector:{vector:$vector} limit:$limit){name}}}", query);
+  }
+
+  @Test
+  public void testBuildWithVariablesOfDifferentTypes() {
+    // given
+    GetBuilder get = GetBuilder.builder()
+      .className("Pizza")
+      .withNearVectorFilter(NearVectorArgument.builder().vector(Variable.vector("value")).build())
+      .limit(Variable.integer("value"))
+      .build();
+    // when
+    Throwable thrown = catchThrowable(get::buildQuery);
+    // then
+    assertThat(thrown).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("value");
+  }
 }
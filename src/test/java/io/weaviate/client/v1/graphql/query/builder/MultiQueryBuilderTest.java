@@ -0,0 +1,176 @@
+package io.weaviate.client.v1.graphql.query.builder;
+
+import com.google.gson.JsonObject;
+import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.graphql.model.GraphQLError;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLTypedResponse;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.Variable;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MultiQueryBuilderTest {
+
+  private static final Fields NAME = Fields.builder()
+    .fields(new Field[]{Field.builder().name("name").build()})
+    .build();
+  private static final Fields META_COUNT = Fields.builder()
+    .fields(new Field[]{Field.builder().name("meta").fields(new Field[]{Field.builder().name("count").build()}).build()})
+    .build();
+
+  @Test
+  public void shouldBuildAliasedQuery() {
+    // given
+    GetBuilder first = GetBuilder.builder().className("Pizza").fields(NAME).limit(2).build();
+    AggregateBuilder second = AggregateBuilder.builder().className("Pizza").fields(META_COUNT).build();
+    GetBuilder third = GetBuilder.builder().className("Soup").fields(NAME)
+      .withNearVectorFilter(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).build())
+      .build();
+
+    // when
+    String query = MultiQueryBuilder.builder()
+      .queries(new Query[]{first, second, third})
+      .build()
+      .buildQuery();
+
+    // then
+    assertThat(query).isEqualTo("{Get{q0:Pizza(limit:2){name} q2:Soup(nearVector:{vector:[1.0,2.0]}){name}} " +
+      "Aggregate{q1:Pizza{meta{count}}}}");
+  }
+
+  @Test
+  public void shouldBuildSameSelectionAsSingleQuery() {
+    GetBuilder get = GetBuilder.builder().className("Pizza").fields(NAME).limit(2).build();
+
+    assertThat(get.buildQuery()).isEqualTo(String.format("{Get{%s}}", get.buildSelection(null)));
+  }
+
+  @Test
+  public void shouldFailOnEmptyQueries() {
+    MultiQueryBuilder multiQuery = MultiQueryBuilder.builder().queries(new Query[0]).build();
+
+    assertThatThrownBy(multiQuery::buildQuery).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldSplitResponse() {
+    // given
+    MultiQueryBuilder multiQuery = MultiQueryBuilder.builder()
+      .queries(new Query[]{
+        GetBuilder.builder().className("Pizza").fields(NAME).build(),
+        AggregateBuilder.builder().className("Pizza").fields(META_COUNT).build(),
+        GetBuilder.builder().className("Soup").fields(NAME).build(),
+      })
+      .build();
+
+    List<Map<String, Object>> pizzas = Collections.singletonList(Collections.singletonMap("name", "Hawaii"));
+    List<Map<String, Object>> count = Collections.singletonList(Collections.singletonMap("meta", Collections.singletonMap("count", 4.0)));
+    Map<String, Object> gets = new HashMap<>();
+    gets.put("q0", pizzas);
+    gets.put("q2", null);
+    Map<String, Object> data = new HashMap<>();
+    data.put("Get", gets);
+    data.put("Aggregate", Collections.singletonMap("q1", count));
+    GraphQLError soupError = GraphQLError.builder().message("no such class").path(new String[]{"Get", "q2"}).build();
+
+    // when
+    List<GraphQLResponse> responses = multiQuery.splitResponse(GraphQLResponse.builder()
+      .data(data)
+      .errors(new GraphQLError[]{soupError})
+      .build());
+
+    // then
+    assertThat(responses).hasSize(3);
+    assertThat(responses.get(0).getData())
+      .isEqualTo(Collections.singletonMap("Get", Collections.singletonMap("Pizza", pizzas)));
+    assertThat(responses.get(0).getErrors()).isNull();
+    assertThat(responses.get(1).getData())
+      .isEqualTo(Collections.singletonMap("Aggregate", Collections.singletonMap("Pizza", count)));
+    assertThat(responses.get(1).getErrors()).isNull();
+    assertThat(responses.get(2).getData())
+      .isEqualTo(Collections.singletonMap("Get", Collections.singletonMap("Soup", null)));
+    assertThat(responses.get(2).getErrors()).containsExactly(soupError);
+  }
+
+  @Test
+  public void shouldSplitTreeResponseIntoTypedResponses() {
+    // given
+    MultiQueryBuilder multiQuery = MultiQueryBuilder.builder()
+      .queries(new Query[]{
+        GetBuilder.builder().className("Pizza").fields(NAME).build(),
+        GetBuilder.builder().className("Soup").fields(NAME).build(),
+      })
+      .build();
+    Serializer serializer = new Serializer();
+    GraphQLResponse<JsonObject> response = serializer.toGraphQLTreeResponse("{\"data\":{\"Get\":{" +
+      "\"q0\":[{\"name\":\"Hawaii\"}],\"q1\":null}}," +
+      "\"errors\":[{\"message\":\"no such class\",\"path\":[\"Get\",\"q1\"]}]}");
+
+    // when
+    List<GraphQLResponse<JsonObject>> responses = multiQuery.splitTreeResponse(response);
+    GraphQLTypedResponse<Foods> pizzas = serializer.toGraphQLTypedResponse(responses.get(0), Foods.class);
+    GraphQLTypedResponse<Foods> soups = serializer.toGraphQLTypedResponse(responses.get(1), Foods.class);
+
+    // then
+    assertThat(pizzas.getData().getObjects().pizzas).extracting(food -> food.name).containsExactly("Hawaii");
+    assertThat(pizzas.getErrors()).isNull();
+    assertThat(soups.getData().getObjects().soups).isNull();
+    assertThat(soups.getErrors()).extracting(GraphQLError::getMessage).containsExactly("no such class");
+  }
+
+  @Test
+  public void shouldAssignErrorsWithoutPathToAllQueries() {
+    MultiQueryBuilder multiQuery = MultiQueryBuilder.builder()
+      .queries(new Query[]{
+        GetBuilder.builder().className("Pizza").fields(NAME).build(),
+        GetBuilder.builder().className("Soup").fields(NAME).build(),
+      })
+      .build();
+    GraphQLError error = GraphQLError.builder().message("syntax error").build();
+
+    List<GraphQLResponse> responses = multiQuery.splitResponse(GraphQLResponse.builder()
+      .errors(new GraphQLError[]{error})
+      .build());
+
+    assertThat(responses).hasSize(2);
+    assertThat(responses).allSatisfy(response -> {
+      assertThat(response.getData()).isNull();
+      assertThat(response.getErrors()).containsExactly(error);
+    });
+  }
+
+  @Test
+  public void shouldRejectQueriesWithVariables() {
+    MultiQueryBuilder multiQuery = MultiQueryBuilder.builder()
+      .queries(new Query[]{
+        GetBuilder.builder().className("Pizza").fields(NAME).build(),
+        GetBuilder.builder().className("Soup").fields(NAME).limit(Variable.integer("limit")).build(),
+      })
+      .build();
+
+    assertThatThrownBy(multiQuery::buildQuery)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("position 1");
+  }
+
+  private static class Foods {
+    @SerializedName("Pizza")
+    List<Food> pizzas;
+    @SerializedName("Soup")
+    List<Food> soups;
+  }
+
+  private static class Food {
+    String name;
+  }
+}
@@ -0,0 +1,65 @@
+package io.weaviate.client.v1.graphql.query.util;
+
+import io.weaviate.client.v1.graphql.model.AggregateGroup;
+import io.weaviate.client.v1.graphql.model.GraphQLStreamedResponse;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AggregateGroupReaderTest {
+
+  @Test
+  public void shouldPassGroupsToConsumer() {
+    String body = "{\"data\":{\"Aggregate\":{\"Pizza\":[" +
+      "{\"groupedBy\":{\"path\":[\"name\"],\"value\":\"Margherita\"},\"meta\":{\"count\":2}," +
+      "\"price\":{\"mean\":9.5,\"maximum\":10,\"count\":2}," +
+      "\"description\":{\"topOccurrences\":[{\"value\":\"classic\",\"occurs\":2}],\"count\":2}," +
+      "\"baked\":{\"minimum\":\"2024-01-01T00:00:00Z\"}}," +
+      "{\"groupedBy\":{\"path\":[\"name\"],\"value\":\"Marinara\"},\"meta\":{\"count\":1}," +
+      "\"price\":{\"mean\":8,\"maximum\":8,\"count\":1},\"vegetarian\":{\"totalTrue\":1,\"percentageTrue\":1}}" +
+      "]}}}";
+    List<AggregateGroup> groups = new ArrayList<>();
+
+    GraphQLStreamedResponse response = AggregateGroupReader.read(new StringReader(body), groups::add);
+
+    assertThat(response.getCount()).isEqualTo(2);
+    assertThat(response.getErrors()).isNull();
+    assertThat(groups).hasSize(2);
+
+    AggregateGroup margherita = groups.get(0);
+    assertThat(margherita.getGroupedBy().getPath()).containsExactly("name");
+    assertThat(margherita.getGroupedBy().getValue()).isEqualTo("Margherita");
+    assertThat(margherita.getMeta().getCount()).isEqualTo(2L);
+    assertThat(margherita.getProperties()).containsOnlyKeys("price", "description", "baked");
+    assertThat(margherita.getProperties().get("price").getMean()).isEqualTo(9.5);
+    assertThat(margherita.getProperties().get("price").getMaximum()).isEqualTo(10.0);
+    assertThat(margherita.getProperties().get("description").getTopOccurrences()).singleElement()
+      .satisfies(top -> {
+        assertThat(top.getValue()).isEqualTo("classic");
+        assertThat(top.getOccurs()).isEqualTo(2L);
+      });
+    assertThat(margherita.getProperties().get("baked").getMinimum()).isEqualTo("2024-01-01T00:00:00Z");
+
+    AggregateGroup marinara = groups.get(1);
+    assertThat(marinara.getGroupedBy().getValue()).isEqualTo("Marinara");
+    assertThat(marinara.getProperties().get("vegetarian").getTotalTrue()).isEqualTo(1L);
+    assertThat(marinara.getProperties().get("vegetarian").getPercentageTrue()).isEqualTo(1.0);
+  }
+
+  @Test
+  public void shouldReadErrors() {
+    String body = "{\"errors\":[{\"message\":\"Cannot query field \\\"unknown\\\" on type \\\"AggregatePizza\\\".\"," +
+      "\"locations\":[{\"line\":1,\"column\":21}],\"path\":null}],\"data\":null}";
+    List<AggregateGroup> groups = new ArrayList<>();
+
+    GraphQLStreamedResponse response = AggregateGroupReader.read(new StringReader(body), groups::add);
+
+    assertThat(response.getCount()).isZero();
+    assertThat(response.getErrors()).hasSize(1);
+    assertThat(response.getErrors()[0].getMessage()).isEqualTo("Cannot query field \"unknown\" on type \"AggregatePizza\".");
+    assertThat(groups).isEmpty();
+  }
+}
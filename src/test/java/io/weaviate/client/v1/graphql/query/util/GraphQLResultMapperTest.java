@@ -0,0 +1,66 @@
+package io.weaviate.client.v1.graphql.query.util;
+
+import io.weaviate.client.v1.graphql.model.GraphQLMappedResponse;
+import java.util.List;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GraphQLResultMapperTest {
+
+  @Test
+  public void shouldMapObjectsWithAdditionalProperties() {
+    String body = "{\"data\":{\"Get\":{\"Soup\":[" +
+      "{\"name\":\"ChickenSoup\",\"price\":2.5,\"servings\":3,\"spicy\":false,\"origin\":\"unknown\"," +
+      "\"_additional\":{\"id\":\"00000000-0000-0000-0000-000000000001\",\"distance\":0.25,\"vector\":[0.1,0.2,0.3],\"certainty\":0.9}}," +
+      "{\"name\":\"Gazpacho\",\"price\":null,\"servings\":1,\"spicy\":true}" +
+      "]}}}";
+
+    GraphQLMappedResponse<Soup> response = GraphQLResultMapper.of(Soup.class).readResponse(body);
+
+    assertThat(response.getErrors()).isNull();
+    List<Soup> soups = response.getObjects();
+    assertThat(soups).hasSize(2);
+    Soup chickenSoup = soups.get(0);
+    assertThat(chickenSoup.name).isEqualTo("ChickenSoup");
+    assertThat(chickenSoup.price).isEqualTo(2.5f);
+    assertThat(chickenSoup.servings).isEqualTo(3);
+    assertThat(chickenSoup.spicy).isFalse();
+    assertThat(chickenSoup.id).isEqualTo("00000000-0000-0000-0000-000000000001");
+    assertThat(chickenSoup.distance).isEqualTo(0.25f);
+    assertThat(chickenSoup.vector).containsExactly(0.1f, 0.2f, 0.3f);
+    Soup gazpacho = soups.get(1);
+    assertThat(gazpacho.name).isEqualTo("Gazpacho");
+    assertThat(gazpacho.price).isNull();
+    assertThat(gazpacho.spicy).isTrue();
+    assertThat(gazpacho.id).isNull();
+    assertThat(gazpacho.vector).isNull();
+  }
+
+  @Test
+  public void shouldReadErrors() {
+    String body = "{\"errors\":[{\"message\":\"Cannot query field \\\"unknown\\\" on type \\\"Soup\\\".\"," +
+      "\"locations\":[{\"line\":1,\"column\":14}],\"path\":null}],\"data\":null}";
+
+    GraphQLMappedResponse<Soup> response = GraphQLResultMapper.of(Soup.class).readResponse(body);
+
+    assertThat(response.getObjects()).isNull();
+    assertThat(response.getErrors()).hasSize(1);
+    assertThat(response.getErrors()[0].getMessage()).isEqualTo("Cannot query field \"unknown\" on type \"Soup\".");
+  }
+
+  @Test
+  public void shouldCacheMapperOfClass() {
+    assertThat(GraphQLResultMapper.of(Soup.class)).isSameAs(GraphQLResultMapper.of(Soup.class));
+  }
+
+  private static class Soup {
+    String id;
+    float distance;
+    float[] vector;
+    String name;
+    Float price;
+    int servings;
+    boolean spicy;
+  }
+}
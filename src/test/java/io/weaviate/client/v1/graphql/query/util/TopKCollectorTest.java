@@ -0,0 +1,81 @@
+package io.weaviate.client.v1.graphql.query.util;
+
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.SearchHit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TopKCollectorTest {
+
+  @Test
+  public void shouldKeepClosestHits() {
+    TopKCollector collector = TopKCollector.byDistance(3);
+
+    collector.offer(Arrays.asList(byDistance("a", 0.5f), byDistance("b", 0.1f)));
+    assertThat(collector.distanceThreshold()).isNull();
+    collector.offer(Arrays.asList(byDistance("c", 0.9f), byDistance("d", 0.3f)));
+    collector.offer(Collections.singletonList(byDistance("e", 0.05f)));
+
+    assertThat(ids(collector.getHits())).containsExactly("e", "b", "d");
+    assertThat(collector.distanceThreshold()).isEqualTo(0.3f);
+  }
+
+  @Test
+  public void shouldKeepHighestScores() {
+    TopKCollector collector = TopKCollector.byScore(2);
+
+    collector.offer(Arrays.asList(byScore("a", 0.5f), byScore("b", 0.1f), byScore("c", 0.9f)));
+    collector.offer(Collections.singletonList(byScore("d", 0.7f)));
+
+    assertThat(ids(collector.getHits())).containsExactly("c", "d");
+    assertThat(collector.distanceThreshold()).isNull();
+  }
+
+  @Test
+  public void shouldExtractHitsFromResponse() {
+    Map<String, Object> additional = new HashMap<>();
+    additional.put("id", "00000000-0000-0000-0000-000000000001");
+    additional.put("distance", 0.25);
+    additional.put("score", "0.75");
+    Map<String, Object> object = new HashMap<>();
+    object.put("name", "Hawaii");
+    object.put("_additional", additional);
+    Map<String, Object> data = Collections.singletonMap("Get",
+      Collections.singletonMap("Pizza", Collections.singletonList(object)));
+
+    List<SearchHit> hits = TopKCollector.toHits(GraphQLResponse.builder().data(data).build(), "Pizza", "tenantA");
+
+    assertThat(hits).containsExactly(SearchHit.builder()
+      .className("Pizza")
+      .tenant("tenantA")
+      .id("00000000-0000-0000-0000-000000000001")
+      .distance(0.25f)
+      .score(0.75f)
+      .properties(Collections.singletonMap("name", "Hawaii"))
+      .build());
+  }
+
+  @Test
+  public void shouldExtractNoHitsFromEmptyResponse() {
+    assertThat(TopKCollector.toHits(GraphQLResponse.builder().build(), "Pizza", null)).isEmpty();
+  }
+
+  private static SearchHit byDistance(String id, float distance) {
+    return SearchHit.builder().id(id).distance(distance).build();
+  }
+
+  private static SearchHit byScore(String id, float score) {
+    return SearchHit.builder().id(id).score(score).build();
+  }
+
+  private static List<String> ids(List<SearchHit> hits) {
+    return hits.stream().map(SearchHit::getId).collect(Collectors.toList());
+  }
+}
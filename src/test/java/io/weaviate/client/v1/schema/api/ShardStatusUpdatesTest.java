@@ -0,0 +1,56 @@
+package io.weaviate.client.v1.schema.api;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.v1.schema.model.Shard;
+import io.weaviate.client.v1.schema.model.ShardStatus;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardStatusUpdatesTest {
+
+  private static final ShardStatus READONLY = ShardStatus.builder().status("READONLY").build();
+
+  @Test
+  public void shouldAggregateAllShards() {
+    Shard[] shards = {shard("s1"), shard("s2"), shard("s3")};
+
+    Result<ShardStatus[]> result = ShardStatusUpdates.aggregate(shards, Arrays.asList(
+      new Result<>(200, READONLY, null),
+      error(500, "internal error"),
+      ShardStatusUpdates.failed(new IOException("connection reset"))
+    ));
+
+    assertThat(result.getResult()).containsExactly(READONLY, null, null);
+    assertThat(result.getError().getStatusCode()).isEqualTo(500);
+    assertThat(result.getError().getMessages()).extracting(WeaviateErrorMessage::getMessage)
+      .containsExactly("shard s2: internal error", "shard s3: connection reset");
+  }
+
+  @Test
+  public void shouldSucceedIfAllShardsWereUpdated() {
+    Shard[] shards = {shard("s1"), shard("s2")};
+
+    Result<ShardStatus[]> result = ShardStatusUpdates.aggregate(shards, Arrays.asList(
+      new Result<>(200, READONLY, null),
+      new Result<>(200, READONLY, null)
+    ));
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult()).containsExactly(READONLY, READONLY);
+  }
+
+  private static Shard shard(String name) {
+    return Shard.builder().name(name).build();
+  }
+
+  private static Result<ShardStatus> error(int statusCode, String message) {
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(message).build();
+    return new Result<>(statusCode, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+}
@@ -0,0 +1,130 @@
+package io.weaviate.client.v1.schema.api;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TenantsBulkTest {
+
+  private static final String[] TENANTS = IntStream.range(0, 25).mapToObj(i -> "tenant" + i).toArray(String[]::new);
+
+  @Test
+  public void shouldSendChunksConcurrently() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+    TenantsBulk.BulkConfig config = TenantsBulk.BulkConfig.defaultConfig().chunkSize(10).parallelism(2).build();
+
+    Result<Boolean> result = TenantsBulk.runBlocking(TENANTS, config, Integer.MAX_VALUE, chunk -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      chunkSizes.add(chunk.size());
+      running.decrementAndGet();
+      return new Result<>(200, true, null);
+    });
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult()).isTrue();
+    assertThat(chunkSizes).containsExactlyInAnyOrder(10, 10, 5);
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldLimitChunkSizeToServerMax() {
+    List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+    TenantsBulk.BulkConfig config = TenantsBulk.BulkConfig.defaultConfig().chunkSize(1000).build();
+
+    TenantsBulk.run(TENANTS, config, 20, chunk -> {
+      chunkSizes.add(chunk.size());
+      return CompletableFuture.completedFuture(new Result<>(200, true, null));
+    }).join();
+
+    assertThat(chunkSizes).containsExactlyInAnyOrder(20, 5);
+  }
+
+  @Test
+  public void shouldRetryTransientErrorsAndAggregateFailures() {
+    AtomicInteger firstChunkAttempts = new AtomicInteger();
+    List<TenantsBulk.Progress> progress = new CopyOnWriteArrayList<>();
+    TenantsBulk.BulkConfig config = TenantsBulk.BulkConfig.defaultConfig()
+      .chunkSize(10).retriesIntervalMs(1).progressCallback(progress::add).build();
+
+    Result<Boolean> result = TenantsBulk.run(TENANTS, config, Integer.MAX_VALUE, chunk -> {
+      if (chunk.get(0).equals("tenant0")) {
+        // succeeds on retry
+        return CompletableFuture.completedFuture(firstChunkAttempts.incrementAndGet() == 1
+          ? error(503, "unavailable")
+          : new Result<>(200, true, null));
+      }
+      if (chunk.get(0).equals("tenant10")) {
+        return CompletableFuture.completedFuture(error(422, "tenant already exists"));
+      }
+      return CompletableFuture.completedFuture(new Result<>(200, true, null));
+    }).join();
+
+    assertThat(firstChunkAttempts.get()).isEqualTo(2);
+    assertThat(result.getResult()).isFalse();
+    assertThat(result.getError().getStatusCode()).isEqualTo(422);
+    assertThat(result.getError().getMessages()).extracting(WeaviateErrorMessage::getMessage)
+      .containsExactly("tenants 10-19: tenant already exists");
+
+    assertThat(progress).hasSize(3);
+    List<Integer> totals = progress.stream().map(TenantsBulk.Progress::getTotalTenants).collect(Collectors.toList());
+    assertThat(totals).containsOnly(25);
+    TenantsBulk.Progress last = Collections.max(new ArrayList<>(progress),
+      (p1, p2) -> Integer.compare(p1.getCompletedTenants() + p1.getFailedTenants(), p2.getCompletedTenants() + p2.getFailedTenants()));
+    assertThat(last.getCompletedTenants()).isEqualTo(15);
+    assertThat(last.getFailedTenants()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldConsiderConflictOnRetryOfCreateSuccessful() {
+    AtomicInteger attempts = new AtomicInteger();
+    TenantsBulk.BulkConfig config = TenantsBulk.BulkConfig.defaultConfig().chunkSize(10).retriesIntervalMs(1).build();
+
+    Result<Boolean> result = TenantsBulk.runBlocking(TENANTS, config, Integer.MAX_VALUE, chunk -> {
+      if (!chunk.get(0).equals("tenant0")) {
+        return new Result<>(200, true, null);
+      }
+      // first attempt timed out but was applied by the server
+      return attempts.incrementAndGet() == 1
+        ? error(504, "gateway timeout")
+        : error(422, "tenant already exists");
+    }, TenantsBulk::alreadyExists);
+
+    assertThat(attempts.get()).isEqualTo(2);
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult()).isTrue();
+  }
+
+  @Test
+  public void shouldNotConsiderConflictOnFirstAttemptOfCreateSuccessful() {
+    TenantsBulk.BulkConfig config = TenantsBulk.BulkConfig.defaultConfig().chunkSize(10).build();
+
+    Result<Boolean> result = TenantsBulk.run(TENANTS, config, Integer.MAX_VALUE,
+      chunk -> CompletableFuture.completedFuture(error(422, "tenant already exists")), TenantsBulk::alreadyExists).join();
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getError().getStatusCode()).isEqualTo(422);
+  }
+
+  private static Result<Boolean> error(int statusCode, String message) {
+    WeaviateErrorMessage error = WeaviateErrorMessage.builder().message(message).build();
+    return new Result<>(statusCode, false, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+  }
+}
@@ -18,9 +18,14 @@ import io.weaviate.client.base.Result;
 import io.weaviate.client.base.Serializer;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.api.ReferencesBatcher;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.model.BatchReferenceResponse;
 import io.weaviate.client.v1.batch.model.ObjectGetResponse;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.time.ZonedDateTime;
@@ -30,6 +35,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
@@ -155,6 +162,174 @@ public class ClientBatchCreateMockServerTest {
     }
   }
 
+  @Test
+  public void shouldRunObjectsAutoBatchOnThreadsOfGivenFactory() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withDelay(Delay.milliseconds(200)).withStatusCode(200).withBody("[]")
+    );
+
+    List<String> callbackThreads = Collections.synchronizedList(new ArrayList<>());
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(2)
+      .poolSize(2)
+      .callback(result -> callbackThreads.add(Thread.currentThread().getName()))
+      .threadFactory(namedThreads("objects-batch-"))
+      .build();
+
+    client.batch().objectsAutoBatcher(autoBatchConfig)
+      .withObjects(
+        WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).properties(PIZZA_1_PROPS).build(),
+        WeaviateObject.builder().className("Pizza").id(PIZZA_2_ID).properties(PIZZA_2_PROPS).build(),
+        WeaviateObject.builder().className("Soup").id(SOUP_1_ID).properties(SOUP_1_PROPS).build()
+      )
+      .flush();
+
+    assertThat(callbackThreads).hasSize(2).allSatisfy(name -> assertThat(name).startsWith("objects-batch-"));
+  }
+
+  @Test
+  public void shouldRunReferencesAutoBatchOnThreadsOfGivenFactory() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/references")
+    ).respond(
+      response().withDelay(Delay.milliseconds(200)).withStatusCode(200).withBody("[]")
+    );
+
+    List<String> callbackThreads = Collections.synchronizedList(new ArrayList<>());
+    ReferencesBatcher.AutoBatchConfig autoBatchConfig = ReferencesBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .poolSize(1)
+      .callback(result -> callbackThreads.add(Thread.currentThread().getName()))
+      .threadFactory(namedThreads("references-batch-"))
+      .build();
+
+    client.batch().referencesAutoBatcher(autoBatchConfig)
+      .withReferences(
+        BatchReference.builder()
+          .from(String.format("weaviate://localhost/Pizza/%s/otherFoods", PIZZA_1_ID))
+          .to(String.format("weaviate://localhost/Soup/%s", SOUP_1_ID))
+          .build()
+      )
+      .flush();
+
+    assertThat(callbackThreads).hasSize(1).allSatisfy(name -> assertThat(name).startsWith("references-batch-"));
+  }
+
+  @Test
+  public void shouldCompleteObjectsAutoBatchWithoutHoldingMonitorsWhileBlocked() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/objects")
+    ).respond(
+      response().withDelay(Delay.milliseconds(600)).withStatusCode(200).withBody("[]")
+    );
+
+    List<Thread> batchThreads = Collections.synchronizedList(new ArrayList<>());
+    List<Result<ObjectGetResponse[]>> results = Collections.synchronizedList(new ArrayList<>());
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .poolSize(2)
+      .callback(results::add)
+      .threadFactory(virtualStyleThreads(batchThreads))
+      .build();
+
+    ObjectsBatcher batcher = client.batch().objectsAutoBatcher(autoBatchConfig)
+      .withObjects(
+        WeaviateObject.builder().className("Pizza").id(PIZZA_1_ID).properties(PIZZA_1_PROPS).build(),
+        WeaviateObject.builder().className("Soup").id(SOUP_1_ID).properties(SOUP_1_PROPS).build()
+      );
+    awaitRecordedRequests("/v1/batch/objects", 2);
+    assertHoldNoMonitors(batchThreads);
+    batcher.flush();
+
+    assertThat(results).hasSize(2).allSatisfy(result -> assertThat(result.hasErrors()).isFalse());
+  }
+
+  @Test
+  public void shouldCompleteReferencesAutoBatchWithoutHoldingMonitorsWhileBlocked() {
+    mockServerClient.when(
+      request().withMethod("POST").withPath("/v1/batch/references")
+    ).respond(
+      response().withDelay(Delay.milliseconds(600)).withStatusCode(200).withBody("[]")
+    );
+
+    List<Thread> batchThreads = Collections.synchronizedList(new ArrayList<>());
+    List<Result<BatchReferenceResponse[]>> results = Collections.synchronizedList(new ArrayList<>());
+    ReferencesBatcher.AutoBatchConfig autoBatchConfig = ReferencesBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .poolSize(2)
+      .callback(results::add)
+      .threadFactory(virtualStyleThreads(batchThreads))
+      .build();
+
+    ReferencesBatcher batcher = client.batch().referencesAutoBatcher(autoBatchConfig)
+      .withReferences(
+        BatchReference.builder()
+          .from(String.format("weaviate://localhost/Pizza/%s/otherFoods", PIZZA_1_ID))
+          .to(String.format("weaviate://localhost/Soup/%s", SOUP_1_ID))
+          .build(),
+        BatchReference.builder()
+          .from(String.format("weaviate://localhost/Pizza/%s/otherFoods", PIZZA_2_ID))
+          .to(String.format("weaviate://localhost/Soup/%s", SOUP_2_ID))
+          .build()
+      );
+    awaitRecordedRequests("/v1/batch/references", 2);
+    assertHoldNoMonitors(batchThreads);
+    batcher.flush();
+
+    assertThat(results).hasSize(2).allSatisfy(result -> assertThat(result.hasErrors()).isFalse());
+  }
+
+  /**
+   * Unnamed daemon threads, one per task, as virtual threads are (these run on JDKs without virtual threads too).
+   */
+  private static ThreadFactory virtualStyleThreads(List<Thread> created) {
+    return runnable -> {
+      Thread thread = new Thread(runnable);
+      thread.setDaemon(true);
+      created.add(thread);
+      return thread;
+    };
+  }
+
+  private void awaitRecordedRequests(String path, int count) {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (mockServerClient.retrieveRecordedRequests(request().withMethod("POST").withPath(path)).length < count) {
+      assertThat(System.currentTimeMillis()).as("requests sent in time").isLessThan(deadline);
+      sleep(10);
+    }
+  }
+
+  /**
+   * A virtual thread blocked while holding a monitor stays pinned to its carrier thread.
+   */
+  private static void assertHoldNoMonitors(List<Thread> threads) {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    long[] ids = threads.stream().mapToLong(Thread::getId).toArray();
+    assertThat(threadMXBean.getThreadInfo(ids, true, false))
+      .isNotEmpty()
+      .allSatisfy(info -> assertThat(info.getLockedMonitors()).as("monitors held by %s", info.getThreadName()).isEmpty());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static ThreadFactory namedThreads(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
   public static Object[][] provideForNotCreateBatchDueToConnectionIssue() {
     return new Object[][]{
       new Object[]{